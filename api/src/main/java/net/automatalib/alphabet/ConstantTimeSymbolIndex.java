@@ -0,0 +1,30 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.alphabet;
+
+/**
+ * Marker interface for {@link Alphabet}s whose {@link Alphabet#getSymbolIndex(Object) symbol-to-index} look-ups run in
+ * constant time and do not allocate any objects, e.g., because the index is stored in the symbol itself or can be
+ * computed arithmetically from the symbol.
+ * <p>
+ * Similar to {@link java.util.RandomAccess}, this interface declares no methods but allows performance-critical code
+ * (such as the transition look-ups of compact automata) to decide whether to query the alphabet directly or to
+ * maintain an own index structure for alphabets with linear look-ups.
+ *
+ * @param <I>
+ *         input symbol type
+ */
+public interface ConstantTimeSymbolIndex<I> extends Alphabet<I> {}
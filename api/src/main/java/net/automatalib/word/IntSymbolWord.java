@@ -0,0 +1,80 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.word;
+
+import java.util.function.ToIntFunction;
+
+import net.automatalib.alphabet.Alphabet;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link Word} view on an {@link IntWord}, which maps the symbol indices of the {@link IntWord} to symbols via an
+ * {@link Alphabet}.
+ *
+ * @param <I>
+ *         symbol type
+ */
+final class IntSymbolWord<I> extends Word<I> {
+
+    private final IntWord word;
+    private final Alphabet<I> alphabet;
+
+    IntSymbolWord(IntWord word, Alphabet<I> alphabet) {
+        this.word = word;
+        this.alphabet = alphabet;
+    }
+
+    IntWord getIntWord() {
+        return word;
+    }
+
+    Alphabet<I> getAlphabet() {
+        return alphabet;
+    }
+
+    @Override
+    public int length() {
+        return word.length();
+    }
+
+    @Override
+    public I getSymbol(int index) {
+        return alphabet.getSymbol(word.getSymbol(index));
+    }
+
+    @Override
+    protected Word<I> subWordInternal(int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return Word.epsilon();
+        }
+        return new IntSymbolWord<>(word.subWord(fromIndex, toIndex), alphabet);
+    }
+
+    @Override
+    public void writeToArray(int offset, @Nullable Object[] array, int tgtOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            array[tgtOffset + i] = alphabet.getSymbol(word.getSymbol(offset + i));
+        }
+    }
+
+    @Override
+    public int[] toIntArray(ToIntFunction<? super I> toInt) {
+        if (toInt == alphabet) {
+            return word.toIntArray();
+        }
+        return super.toIntArray(toInt);
+    }
+}
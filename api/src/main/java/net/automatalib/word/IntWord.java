@@ -0,0 +1,423 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.word;
+
+import java.util.Arrays;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.common.smartcollection.IntSeq;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An immutable word of primitive {@code int} symbols, e.g., the indices of the symbols of an {@link Alphabet}. Similar
+ * to the array-based {@link Word} implementation, instances of this class may share a common array storage, which
+ * allows a very efficient creation of subwords (e.g., prefixes and suffixes).
+ * <p>
+ * Words of this class can be converted from and to regular {@link Word}s via {@link #fromWord(Word, Alphabet)} and
+ * {@link #asWord(Alphabet)}. The latter returns a view that does not copy the symbol indices, and converting such a
+ * view back to an {@link IntWord} (using the same alphabet) again does not require any copying.
+ *
+ * @see IntWordBuilder
+ */
+public final class IntWord implements IntSeq {
+
+    private static final IntWord EPSILON = new IntWord(new int[0], 0, 0);
+
+    private final int[] storage;
+    private final int offset;
+    private final int length;
+
+    IntWord(int[] storage, int offset, int length) {
+        this.storage = storage;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Retrieves the empty word.
+     *
+     * @return the empty word
+     */
+    public static IntWord epsilon() {
+        return EPSILON;
+    }
+
+    /**
+     * Creates a word from the given symbols. The given symbols are copied.
+     *
+     * @param symbols
+     *         the symbols
+     *
+     * @return the word consisting of the given symbols
+     */
+    public static IntWord of(int... symbols) {
+        return fromArray(symbols, 0, symbols.length);
+    }
+
+    /**
+     * Creates a word from a subrange of an array of symbols. The symbols are copied.
+     *
+     * @param symbols
+     *         the symbol array
+     * @param offset
+     *         the starting index in the array
+     * @param length
+     *         the length of the resulting word
+     *
+     * @return the word consisting of the symbols in the specified range
+     */
+    public static IntWord fromArray(int[] symbols, int offset, int length) {
+        if (length == 0) {
+            return EPSILON;
+        }
+        return new IntWord(Arrays.copyOfRange(symbols, offset, offset + length), 0, length);
+    }
+
+    /**
+     * Creates a word from the given {@link IntSeq}. The symbols are copied.
+     *
+     * @param seq
+     *         the sequence of symbols
+     *
+     * @return the word consisting of the symbols of the given sequence
+     */
+    public static IntWord fromIntSeq(IntSeq seq) {
+        if (seq instanceof IntWord) {
+            return (IntWord) seq;
+        }
+
+        final int len = seq.size();
+        if (len == 0) {
+            return EPSILON;
+        }
+
+        final int[] array = new int[len];
+        for (int i = 0; i < len; i++) {
+            array[i] = seq.get(i);
+        }
+        return new IntWord(array, 0, len);
+    }
+
+    /**
+     * Creates a word from the given {@link Word} by replacing each symbol with its index in the given alphabet. If the
+     * given word is a view {@link #asWord(Alphabet) created from} an {@link IntWord} with the same alphabet, the
+     * underlying {@link IntWord} is returned without any copying.
+     *
+     * @param word
+     *         the word
+     * @param alphabet
+     *         the alphabet used for determining the symbol indices
+     * @param <I>
+     *         symbol type
+     *
+     * @return the word consisting of the symbol indices of the given word
+     */
+    public static <I> IntWord fromWord(Word<? extends I> word, Alphabet<I> alphabet) {
+        if (word instanceof IntSymbolWord) {
+            final IntSymbolWord<?> symbolWord = (IntSymbolWord<?>) word;
+            if (symbolWord.getAlphabet() == alphabet) {
+                return symbolWord.getIntWord();
+            }
+        }
+
+        if (word.isEmpty()) {
+            return EPSILON;
+        }
+
+        return new IntWord(word.toIntArray(alphabet), 0, word.length());
+    }
+
+    /**
+     * Returns a {@link Word} view on this word, where each symbol index is mapped to the respective symbol of the given
+     * alphabet. The view does not copy the symbol indices of this word.
+     *
+     * @param alphabet
+     *         the alphabet used for determining the symbols
+     * @param <I>
+     *         symbol type
+     *
+     * @return a {@link Word} view on this word
+     */
+    public <I> Word<I> asWord(Alphabet<I> alphabet) {
+        if (length == 0) {
+            return Word.epsilon();
+        }
+        return new IntSymbolWord<>(this, alphabet);
+    }
+
+    /**
+     * Retrieves the length of this word.
+     *
+     * @return the length of this word
+     */
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public int size() {
+        return length;
+    }
+
+    /**
+     * Checks if this word is empty, i.e., contains no symbols.
+     *
+     * @return {@code true} if this word is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    @Override
+    public int get(int index) {
+        return getSymbol(index);
+    }
+
+    /**
+     * Retrieves the symbol at the given index.
+     *
+     * @param index
+     *         the index of the symbol
+     *
+     * @return the symbol at the given index
+     *
+     * @throws IndexOutOfBoundsException
+     *         if the index is out of bounds
+     */
+    public int getSymbol(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+        return storage[offset + index];
+    }
+
+    /**
+     * Retrieves the first symbol of this word.
+     *
+     * @return the first symbol of this word
+     */
+    public int firstSymbol() {
+        return getSymbol(0);
+    }
+
+    /**
+     * Retrieves the last symbol of this word.
+     *
+     * @return the last symbol of this word
+     */
+    public int lastSymbol() {
+        return getSymbol(length - 1);
+    }
+
+    /**
+     * Retrieves the subword of this word starting at the given index and extending until the end of this word.
+     *
+     * @param fromIndex
+     *         the first index, inclusive
+     *
+     * @return the word representing the specified subrange
+     */
+    public IntWord subWord(int fromIndex) {
+        return subWord(fromIndex, length);
+    }
+
+    /**
+     * Retrieves a subword of this word. The returned word shares the storage of this word.
+     *
+     * @param fromIndex
+     *         the first index, inclusive
+     * @param toIndex
+     *         the last index, exclusive
+     *
+     * @return the word representing the specified subrange
+     */
+    public IntWord subWord(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex < fromIndex || toIndex > length) {
+            throw new IndexOutOfBoundsException("Invalid subword range [" + fromIndex + ", " + toIndex + ")");
+        }
+        if (fromIndex == toIndex) {
+            return EPSILON;
+        }
+        if (fromIndex == 0 && toIndex == length) {
+            return this;
+        }
+        return new IntWord(storage, offset + fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Retrieves the prefix of the given length.
+     *
+     * @param prefixLen
+     *         the length of the prefix
+     *
+     * @return the prefix of the given length
+     */
+    public IntWord prefix(int prefixLen) {
+        return subWord(0, prefixLen);
+    }
+
+    /**
+     * Retrieves the suffix of the given length.
+     *
+     * @param suffixLen
+     *         the length of the suffix
+     *
+     * @return the suffix of the given length
+     */
+    public IntWord suffix(int suffixLen) {
+        return subWord(length - suffixLen, length);
+    }
+
+    /**
+     * Creates a word by appending the given symbol to this word.
+     *
+     * @param symbol
+     *         the symbol to append
+     *
+     * @return the word consisting of this word followed by the given symbol
+     */
+    public IntWord append(int symbol) {
+        final int[] array = new int[length + 1];
+        System.arraycopy(storage, offset, array, 0, length);
+        array[length] = symbol;
+        return new IntWord(array, 0, array.length);
+    }
+
+    /**
+     * Creates a word by prepending the given symbol to this word.
+     *
+     * @param symbol
+     *         the symbol to prepend
+     *
+     * @return the word consisting of the given symbol followed by this word
+     */
+    public IntWord prepend(int symbol) {
+        final int[] array = new int[length + 1];
+        array[0] = symbol;
+        System.arraycopy(storage, offset, array, 1, length);
+        return new IntWord(array, 0, array.length);
+    }
+
+    /**
+     * Concatenates this word with the given word.
+     *
+     * @param other
+     *         the word to append
+     *
+     * @return the concatenation of this word and the given word
+     */
+    public IntWord concat(IntWord other) {
+        if (other.length == 0) {
+            return this;
+        } else if (length == 0) {
+            return other;
+        }
+
+        final int[] array = new int[length + other.length];
+        System.arraycopy(storage, offset, array, 0, length);
+        System.arraycopy(other.storage, other.offset, array, length, other.length);
+        return new IntWord(array, 0, array.length);
+    }
+
+    /**
+     * Checks whether this word is a prefix of the given word.
+     *
+     * @param other
+     *         the other word
+     *
+     * @return {@code true} if this word is a prefix of the given word, {@code false} otherwise
+     */
+    public boolean isPrefixOf(IntWord other) {
+        if (length > other.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (storage[offset + i] != other.storage[other.offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes a subrange of this word to the given array.
+     *
+     * @param offset
+     *         the starting index in this word
+     * @param array
+     *         the target array
+     * @param tgtOffset
+     *         the starting index in the target array
+     * @param num
+     *         the number of symbols to write
+     */
+    public void writeToArray(int offset, int[] array, int tgtOffset, int num) {
+        System.arraycopy(storage, this.offset + offset, array, tgtOffset, num);
+    }
+
+    /**
+     * Returns the symbols of this word as a (fresh) array.
+     *
+     * @return an array containing the symbols of this word
+     */
+    public int[] toIntArray() {
+        return Arrays.copyOfRange(storage, offset, offset + length);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + storage[i];
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof IntWord)) {
+            return false;
+        }
+
+        final IntWord other = (IntWord) obj;
+        if (length != other.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (storage[offset + i] != other.storage[other.offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(storage[offset + i]);
+        }
+        sb.append(']');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,281 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.word;
+
+import java.util.Arrays;
+
+import net.automatalib.common.smartcollection.IntSeq;
+import net.automatalib.common.util.array.ArrayUtil;
+import net.automatalib.common.util.array.ResizingArrayStorage;
+
+/**
+ * A class for dynamically building {@link IntWord}s. This is the primitive counterpart to the {@link WordBuilder}
+ * and follows the same storage management: after an invocation of {@link #toIntWord()} the internal storage does not
+ * have to be duplicated unless it either is required due to capacity adjustment <i>or</i> a non-appending change (such
+ * as {@link #setSymbol(int, int)} or {@link #truncate(int)}) is made.
+ * <p>
+ * Nearly all modification methods of this class return a {@code this}-reference, allowing constructs such as {@code
+ * builder.append(foo).append(bar).append(baz)}.
+ */
+public final class IntWordBuilder implements IntSeq {
+
+    private int[] array;
+    private int length;
+    private boolean lock;
+
+    /**
+     * Constructor. Initializes the builder with a default capacity.
+     */
+    public IntWordBuilder() {
+        this.array = new int[ResizingArrayStorage.DEFAULT_INITIAL_CAPACITY];
+    }
+
+    /**
+     * Constructor. Initializes the builder with the specified initial capacity.
+     *
+     * @param initialCapacity
+     *         the initial capacity of the internal storage.
+     */
+    public IntWordBuilder(int initialCapacity) {
+        this.array = new int[Math.max(0, initialCapacity)];
+    }
+
+    /**
+     * Constructor. Initializes the builder with a given word.
+     *
+     * @param init
+     *         the word to initialize the builder with.
+     */
+    public IntWordBuilder(IntWord init) {
+        this(init.length(), init);
+    }
+
+    /**
+     * Constructor. Initializes the builder with a given word, while allocating the specified initial capacity.
+     *
+     * @param capacity
+     *         the initial capacity to use.
+     * @param init
+     *         the initial word
+     */
+    public IntWordBuilder(int capacity, IntWord init) {
+        final int wLen = init.length();
+        this.array = new int[Math.max(capacity, wLen)];
+        init.writeToArray(0, array, 0, wLen);
+        this.length = wLen;
+    }
+
+    /**
+     * Appends a symbol to the contents of the internal storage.
+     *
+     * @param symbol
+     *         the symbol to append
+     *
+     * @return {@code this}
+     */
+    public IntWordBuilder append(int symbol) {
+        ensureAdditionalCapacity(1);
+        array[length++] = symbol;
+        return this;
+    }
+
+    /**
+     * Appends several symbols to the contents of the internal storage.
+     *
+     * @param symbols
+     *         the symbols to append
+     *
+     * @return {@code this}
+     */
+    public IntWordBuilder append(int... symbols) {
+        ensureAdditionalCapacity(symbols.length);
+        System.arraycopy(symbols, 0, array, length, symbols.length);
+        length += symbols.length;
+        return this;
+    }
+
+    /**
+     * Appends a word to the contents of the internal storage.
+     *
+     * @param word
+     *         the word to append.
+     *
+     * @return {@code this}
+     */
+    public IntWordBuilder append(IntWord word) {
+        final int wLen = word.length();
+        ensureAdditionalCapacity(wLen);
+        word.writeToArray(0, array, length, wLen);
+        length += wLen;
+        return this;
+    }
+
+    /**
+     * Ensures that the internal storage has <b>additionally</b> the given capacity.
+     *
+     * @param add
+     *         the additional capacity to ensure
+     */
+    public void ensureAdditionalCapacity(int add) {
+        ensureCapacity(length + add);
+    }
+
+    /**
+     * Ensures that the internal storage has in total the given capacity.
+     *
+     * @param cap
+     *         the minimum capacity to ensure
+     */
+    public void ensureCapacity(int cap) {
+        if (array.length < cap) {
+            final int newCap = ArrayUtil.computeNewCapacity(array.length, cap);
+            array = Arrays.copyOf(array, newCap);
+            lock = false;
+        }
+    }
+
+    /**
+     * Truncates the contents of the initial storage to the given length.
+     *
+     * @param truncLen
+     *         the length to truncate to
+     *
+     * @return {@code this}
+     */
+    public IntWordBuilder truncate(int truncLen) {
+        if (truncLen >= length) {
+            return this;
+        }
+
+        ensureUnlocked();
+        length = truncLen;
+
+        return this;
+    }
+
+    /*
+     * Ensure that non-appending modifications may be made
+     */
+    private void ensureUnlocked() {
+        if (lock) {
+            array = array.clone();
+            lock = false;
+        }
+    }
+
+    /**
+     * Creates a word from the given range of the contents of the internal storage. Note that the storage management
+     * mechanisms of this class guarantee that the returned word will not change regardless of what further operations
+     * are invoked on this {@link IntWordBuilder}.
+     *
+     * @param fromIndex
+     *         the starting index, inclusive
+     * @param toIndex
+     *         the end index, exclusive
+     *
+     * @return the word for the specified subrange
+     */
+    public IntWord toIntWord(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > length) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        lock = true;
+        return new IntWord(array, fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Creates a word from the contents of the internal storage. Note that the storage management mechanisms of this
+     * class guarantee that the returned word will not change regardless of what further operations are performed on
+     * this {@link IntWordBuilder}.
+     *
+     * @return the internal contents as a word
+     */
+    public IntWord toIntWord() {
+        lock = true;
+        return new IntWord(array, 0, length);
+    }
+
+    @Override
+    public int get(int index) {
+        return getSymbol(index);
+    }
+
+    /**
+     * Retrieves the symbol at the given index.
+     *
+     * @param index
+     *         the index to retrieve
+     *
+     * @return the symbol at the given index
+     */
+    public int getSymbol(int index) {
+        if (index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+        return array[index];
+    }
+
+    /**
+     * Sets the symbol at the given index. Note that this index must exist.
+     *
+     * @param index
+     *         the index to manipulate
+     * @param symbol
+     *         the symbol to set
+     *
+     * @return {@code this}
+     */
+    public IntWordBuilder setSymbol(int index, int symbol) {
+        if (index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+        ensureUnlocked();
+        array[index] = symbol;
+        return this;
+    }
+
+    /**
+     * Removes all symbols from this builder.
+     */
+    public void clear() {
+        ensureUnlocked();
+        length = 0;
+    }
+
+    @Override
+    public int size() {
+        return length;
+    }
+
+    /**
+     * Reverses the contents of the internal buffer.
+     *
+     * @return {@code this}
+     */
+    public IntWordBuilder reverse() {
+        ensureUnlocked();
+        int lowIdx = 0, highIdx = length - 1;
+
+        while (lowIdx < highIdx) {
+            final int tmp = array[lowIdx];
+            array[lowIdx++] = array[highIdx];
+            array[highIdx--] = tmp;
+        }
+
+        return this;
+    }
+}
@@ -0,0 +1,307 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.word;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.NoSuchElementException;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A persistent word implementation that represents the concatenation of two (sub-) words as a node of a balanced
+ * binary tree (a so-called rope). The leaves of the tree are regular (non-rope) words which are only flattened when
+ * explicitly requested, e.g., via {@link #flatten()}.
+ * <p>
+ * Concatenating two words (in particular appending or prepending single symbols) only requires to create {@code
+ * O(log n)} new nodes instead of copying the complete contents of the involved words. Small leaves are merged (by
+ * copying) in order to keep the number of tree nodes low. Random access via {@link #getSymbol(int)} and the creation of
+ * subwords (and therefore prefixes and suffixes) require {@code O(log n)} time.
+ * <p>
+ * Instances of this class are created by {@link Word#append(Object)}, {@link Word#prepend(Object)} and {@link
+ * Word#concat(Word[])} if the length of the resulting word reaches {@link #THRESHOLD}.
+ *
+ * @param <I>
+ *         symbol type
+ */
+final class RopeWord<I> extends Word<I> {
+
+    /**
+     * The minimal length of a concatenation for which a rope is constructed instead of a flat (array-based) word.
+     */
+    static final int THRESHOLD = 1024;
+
+    /**
+     * The maximal length of leaves that are merged (by copying) upon concatenation.
+     */
+    static final int LEAF_SIZE = 128;
+
+    private final Word<I> left;
+    private final Word<I> right;
+    private final int length;
+    private final int depth;
+
+    private RopeWord(Word<I> left, Word<I> right) {
+        this.left = left;
+        this.right = right;
+        this.length = left.length() + right.length();
+        this.depth = Math.max(depth(left), depth(right)) + 1;
+    }
+
+    /**
+     * Concatenates the two given words. The resulting tree is balanced (in the AVL sense) if the given words are.
+     *
+     * @param left
+     *         the first word
+     * @param right
+     *         the second word
+     * @param <I>
+     *         symbol type
+     *
+     * @return the concatenation of the two words
+     */
+    static <I> Word<I> concat(Word<? extends I> left, Word<? extends I> right) {
+        final Word<I> l = Word.upcast(left);
+        final Word<I> r = Word.upcast(right);
+
+        if (r.isEmpty()) {
+            return l;
+        } else if (l.isEmpty()) {
+            return r;
+        }
+
+        final int totalLength = l.length() + r.length();
+        if (totalLength <= LEAF_SIZE) {
+            final Object[] array = new Object[totalLength];
+            l.writeToArray(0, array, 0, l.length());
+            r.writeToArray(0, array, l.length(), r.length());
+            return new SharedWord<>(array);
+        }
+
+        final int dl = depth(l), dr = depth(r);
+
+        if (dl > dr + 1) {
+            final RopeWord<I> rope = (RopeWord<I>) l;
+            return balance(rope.left, concat(rope.right, r));
+        } else if (dr > dl + 1) {
+            final RopeWord<I> rope = (RopeWord<I>) r;
+            return balance(concat(l, rope.left), rope.right);
+        }
+
+        return new RopeWord<>(l, r);
+    }
+
+    /*
+     * Creates a node for the given children whose depths differ by at most two, performing an AVL rotation if
+     * necessary.
+     */
+    private static <I> Word<I> balance(Word<I> l, Word<I> r) {
+        final int dl = depth(l), dr = depth(r);
+
+        if (dr > dl + 1) {
+            final RopeWord<I> rope = (RopeWord<I>) r;
+            if (depth(rope.left) > depth(rope.right)) {
+                final RopeWord<I> inner = (RopeWord<I>) rope.left;
+                return new RopeWord<>(new RopeWord<>(l, inner.left), new RopeWord<>(inner.right, rope.right));
+            }
+            return new RopeWord<>(new RopeWord<>(l, rope.left), rope.right);
+        } else if (dl > dr + 1) {
+            final RopeWord<I> rope = (RopeWord<I>) l;
+            if (depth(rope.right) > depth(rope.left)) {
+                final RopeWord<I> inner = (RopeWord<I>) rope.right;
+                return new RopeWord<>(new RopeWord<>(rope.left, inner.left), new RopeWord<>(inner.right, r));
+            }
+            return new RopeWord<>(rope.left, new RopeWord<>(rope.right, r));
+        }
+
+        return new RopeWord<>(l, r);
+    }
+
+    int getDepth() {
+        return depth;
+    }
+
+    private static int depth(Word<?> word) {
+        return word instanceof RopeWord ? ((RopeWord<?>) word).depth : 0;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public I getSymbol(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+
+        Word<I> node = this;
+        int idx = index;
+
+        while (node instanceof RopeWord) {
+            final RopeWord<I> rope = (RopeWord<I>) node;
+            final int leftLength = rope.left.length();
+            if (idx < leftLength) {
+                node = rope.left;
+            } else {
+                idx -= leftLength;
+                node = rope.right;
+            }
+        }
+
+        return node.getSymbol(idx);
+    }
+
+    @Override
+    public I firstSymbol() {
+        Word<I> node = this;
+        while (node instanceof RopeWord) {
+            node = ((RopeWord<I>) node).left;
+        }
+        return node.firstSymbol();
+    }
+
+    @Override
+    public I lastSymbol() {
+        Word<I> node = this;
+        while (node instanceof RopeWord) {
+            node = ((RopeWord<I>) node).right;
+        }
+        return node.lastSymbol();
+    }
+
+    @Override
+    protected Word<I> subWordInternal(int fromIndex, int toIndex) {
+        if (toIndex - fromIndex <= LEAF_SIZE) {
+            return super.subWordInternal(fromIndex, toIndex);
+        }
+        return subRope(this, fromIndex, toIndex);
+    }
+
+    private static <I> Word<I> subRope(Word<I> node, int fromIndex, int toIndex) {
+        if (fromIndex == 0 && toIndex == node.length()) {
+            return node;
+        } else if (!(node instanceof RopeWord)) {
+            return node.subWord(fromIndex, toIndex);
+        }
+
+        final RopeWord<I> rope = (RopeWord<I>) node;
+        final int leftLength = rope.left.length();
+
+        if (toIndex <= leftLength) {
+            return subRope(rope.left, fromIndex, toIndex);
+        } else if (fromIndex >= leftLength) {
+            return subRope(rope.right, fromIndex - leftLength, toIndex - leftLength);
+        }
+
+        return concat(subRope(rope.left, fromIndex, leftLength), subRope(rope.right, 0, toIndex - leftLength));
+    }
+
+    @Override
+    public void writeToArray(int offset, @Nullable Object[] array, int tgtOffset, int length) {
+        final int leftLength = left.length();
+        int ofs = offset, tgtOfs = tgtOffset, num = length;
+
+        if (ofs < leftLength) {
+            final int leftNum = Math.min(num, leftLength - ofs);
+            left.writeToArray(ofs, array, tgtOfs, leftNum);
+            ofs += leftNum;
+            tgtOfs += leftNum;
+            num -= leftNum;
+        }
+
+        if (num > 0) {
+            right.writeToArray(ofs - leftLength, array, tgtOfs, num);
+        }
+    }
+
+    @Override
+    int computeHashCode() {
+        // hash(lr) = (hash(l) - seed) * factor^|r| + hash(r), which re-uses the cached hash codes of shared subtrees
+        int power = 1, base = HASH_FACTOR;
+        for (int exp = right.length(); exp > 0; exp >>>= 1) {
+            if ((exp & 1) != 0) {
+                power *= base;
+            }
+            base *= base;
+        }
+        return (left.hashCode() - HASH_SEED) * power + right.hashCode();
+    }
+
+    @Override
+    public java.util.Iterator<I> iterator() {
+        return new Iterator<>(this);
+    }
+
+    @Override
+    public Word<I> flatten() {
+        final Object[] array = new Object[length];
+        writeToArray(0, array, 0, length);
+        return new SharedWord<>(array);
+    }
+
+    @Override
+    public Word<I> trimmed() {
+        return flatten();
+    }
+
+    /**
+     * Iterator for iterating over {@link RopeWord}s. Visits the leaves of the tree from left to right and delegates to
+     * their respective iterators.
+     *
+     * @param <I>
+     *         symbol class.
+     */
+    private static final class Iterator<I> implements java.util.Iterator<I> {
+
+        private final Deque<Word<I>> stack;
+        private java.util.Iterator<I> leafIterator;
+
+        Iterator(RopeWord<I> root) {
+            this.stack = new ArrayDeque<>(root.depth + 1);
+            this.stack.push(root);
+            this.leafIterator = Collections.emptyIterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!leafIterator.hasNext()) {
+                if (stack.isEmpty()) {
+                    return false;
+                }
+
+                Word<I> node = stack.pop();
+                while (node instanceof RopeWord) {
+                    final RopeWord<I> rope = (RopeWord<I>) node;
+                    stack.push(rope.right);
+                    node = rope.left;
+                }
+                leafIterator = node.iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public I next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return leafIterator.next();
+        }
+    }
+}
@@ -53,7 +53,9 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  * <p>
  * Modification operations like {@link #append(Object)} or {@link #concat(Word...)} create new objects, subsequently
  * invoking these operations on the respective objects returned is therefore highly inefficient. If words need to be
- * dynamically created, a {@link WordBuilder} should be used.
+ * dynamically created, a {@link WordBuilder} should be used. For long words (with a length of at least 1,024
+ * symbols), the results of these operations are represented as balanced concatenation trees, so that repeated
+ * modifications only copy a logarithmic number of nodes (and small leaves) instead of the complete word.
  * <p>
  * This is an abstract base class for word representations. Implementing classes only need to implement <ul> <li>
  * {@link #getSymbol(int)} <li> {@link #length()} </ul>
@@ -66,6 +68,9 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  */
 public abstract class Word<I> extends AbstractPrintable implements ArrayWritable<I>, Iterable<I> {
 
+    static final int HASH_SEED = 5;
+    static final int HASH_FACTOR = 89;
+
     private static final String EMPTY_WORD_REP;
     private static final String WORD_DELIM_LEFT;
     private static final String WORD_DELIM_RIGHT;
@@ -83,6 +88,9 @@ public abstract class Word<I> extends AbstractPrintable implements ArrayWritable
         WORD_SYMBOL_DELIM_RIGHT = settings.getProperty(AutomataLibProperty.WORD_SYMBOL_DELIM_RIGHT, "");
     }
 
+    // the cached hash code, 0 indicates that the hash code has not been computed (yet)
+    private int hashCode;
+
     public static <I> Comparator<Word<I>> canonicalComparator(Comparator<? super I> symComparator) {
         return new CanonicalWordComparator<>(symComparator);
     }
@@ -247,16 +255,76 @@ public abstract class Word<I> extends AbstractPrintable implements ArrayWritable
         return (Word<I>) word;
     }
 
+    /**
+     * Returns the hash code of this word. The hash code is computed as a polynomial (rolling) hash over the hash codes
+     * of the symbols, i.e., the hash code of a word {@code w} is given by the seed {@code 5} for the empty word and
+     * {@link #extendHashCode(int, Object) extendHashCode(hashCode(w'), a)} for {@code w = w'a}. Since words are
+     * immutable, the hash code is cached after its first computation.
+     *
+     * @return the hash code of this word
+     *
+     * @see #prefixHashes()
+     */
     @Override
     public int hashCode() {
-        int hash = 5;
+        int hash = this.hashCode;
+        if (hash == 0) {
+            hash = computeHashCode();
+            this.hashCode = hash;
+        }
+        return hash;
+    }
+
+    /*
+     * Computes the (uncached) hash code of this word. Implementations may override this method if they can derive the
+     * hash code more efficiently, e.g., from the cached hash codes of their components.
+     */
+    int computeHashCode() {
+        int hash = HASH_SEED;
         for (I sym : this) {
-            hash *= 89;
-            hash += (sym != null) ? sym.hashCode() : 0;
+            hash = extendHashCode(hash, sym);
         }
         return hash;
     }
 
+    /**
+     * Computes the hash codes of all prefixes of this word in a single pass, i.e., the {@code i}-th entry of the
+     * returned array equals {@code prefix(i).hashCode()}. This allows one to, e.g., probe prefix-closed hash-based
+     * caches for all prefixes of a word in linear (instead of quadratic) time.
+     *
+     * @return an array of length {@code length() + 1} containing the hash codes of all prefixes of this word
+     */
+    public int[] prefixHashes() {
+        final int[] result = new int[length() + 1];
+        int hash = HASH_SEED;
+        int i = 0;
+
+        result[i++] = hash;
+        for (I sym : this) {
+            hash = extendHashCode(hash, sym);
+            result[i++] = hash;
+        }
+
+        return result;
+    }
+
+    /**
+     * Computes the hash code of the word {@code wa} from the hash code of the word {@code w} and the symbol {@code a},
+     * without requiring to construct (or hash) {@code wa}.
+     *
+     * @param hashCode
+     *         the hash code of the word {@code w}
+     * @param symbol
+     *         the symbol {@code a}
+     *
+     * @return the hash code of the word {@code wa}
+     *
+     * @see #hashCode()
+     */
+    public static int extendHashCode(int hashCode, @Nullable Object symbol) {
+        return hashCode * HASH_FACTOR + (symbol != null ? symbol.hashCode() : 0);
+    }
+
     @Override
     public boolean equals(@Nullable Object other) {
         if (this == other) {
@@ -534,10 +602,17 @@ public abstract class Word<I> extends AbstractPrintable implements ArrayWritable
      */
     public Word<I> append(I symbol) {
         int len = length();
+        if (len + 1 >= RopeWord.THRESHOLD) {
+            return RopeWord.concat(this, new LetterWord<>(symbol));
+        }
         @Nullable Object[] array = new Object[len + 1];
         writeToArray(0, array, 0, len);
         array[len] = symbol;
-        return new SharedWord<>(array);
+        final Word<I> result = new SharedWord<>(array);
+        if (this.hashCode != 0) {
+            result.hashCode = extendHashCode(this.hashCode, symbol);
+        }
+        return result;
     }
 
     /**
@@ -550,6 +625,9 @@ public abstract class Word<I> extends AbstractPrintable implements ArrayWritable
      */
     public Word<I> prepend(I symbol) {
         int len = length();
+        if (len + 1 >= RopeWord.THRESHOLD) {
+            return RopeWord.concat(new LetterWord<>(symbol), this);
+        }
         @Nullable Object[] array = new Object[len + 1];
         array[0] = symbol;
         writeToArray(0, array, 1, len);
@@ -596,6 +674,14 @@ public abstract class Word<I> extends AbstractPrintable implements ArrayWritable
             totalSize += word.length();
         }
 
+        if (totalSize >= RopeWord.THRESHOLD) {
+            Word<I> result = this;
+            for (Word<? extends I> w : words) {
+                result = RopeWord.concat(result, w);
+            }
+            return result;
+        }
+
         Object[] array = new Object[totalSize];
         writeToArray(0, array, 0, len);
         int currOfs = len;
@@ -128,6 +128,37 @@ public abstract class AbstractWordTest {
         }
     }
 
+    @Test
+    public void testPrefixHashes() {
+        for (Word<Object> w : all) {
+            final int[] hashes = w.prefixHashes();
+            Assert.assertEquals(hashes.length, w.length() + 1);
+
+            for (int i = 0; i <= w.length(); i++) {
+                Assert.assertEquals(hashes[i], w.prefix(i).hashCode());
+            }
+
+            Assert.assertEquals(hashes[w.length()], w.hashCode());
+            if (!w.isEmpty()) {
+                Assert.assertEquals(Word.extendHashCode(hashes[w.length() - 1], w.lastSymbol()), w.hashCode());
+            }
+        }
+    }
+
+    @Test
+    public void testHashCode() {
+        for (Word<Object> w : all) {
+            int hash = 5;
+            for (Object sym : w) {
+                hash = hash * 89 + (sym != null ? sym.hashCode() : 0);
+            }
+            Assert.assertEquals(w.hashCode(), hash);
+            // cached value
+            Assert.assertEquals(w.hashCode(), hash);
+            Assert.assertEquals(w.append(null).hashCode(), hash * 89);
+        }
+    }
+
     @Test
     public void testSize() {
         Assert.assertEquals(testWord.length(), testWord.size());
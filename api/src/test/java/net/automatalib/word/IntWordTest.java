@@ -0,0 +1,146 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.word;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+
+import net.automatalib.alphabet.Alphabet;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class IntWordTest {
+
+    @Test
+    public void testBasicOperations() {
+        final IntWord word = IntWord.of(2, 1, 3, 3, 7);
+
+        Assert.assertEquals(word.length(), 5);
+        Assert.assertEquals(word.size(), 5);
+        Assert.assertFalse(word.isEmpty());
+        Assert.assertEquals(word.firstSymbol(), 2);
+        Assert.assertEquals(word.lastSymbol(), 7);
+        Assert.assertEquals(word.toIntArray(), new int[] {2, 1, 3, 3, 7});
+
+        Assert.assertEquals(word.prefix(2), IntWord.of(2, 1));
+        Assert.assertEquals(word.suffix(2), IntWord.of(3, 7));
+        Assert.assertEquals(word.subWord(1, 4), IntWord.of(1, 3, 3));
+        Assert.assertEquals(word.subWord(1, 4).hashCode(), IntWord.of(1, 3, 3).hashCode());
+        Assert.assertSame(word.subWord(2, 2), IntWord.epsilon());
+
+        Assert.assertEquals(word.append(4), IntWord.of(2, 1, 3, 3, 7, 4));
+        Assert.assertEquals(word.prepend(4), IntWord.of(4, 2, 1, 3, 3, 7));
+        Assert.assertEquals(word.prefix(2).concat(word.suffix(3)), word);
+
+        Assert.assertTrue(word.prefix(3).isPrefixOf(word));
+        Assert.assertTrue(IntWord.epsilon().isPrefixOf(word));
+        Assert.assertFalse(word.suffix(3).isPrefixOf(word));
+
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> word.getSymbol(5));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> word.subWord(1).getSymbol(4));
+    }
+
+    @Test
+    public void testWordConversion() {
+        final Alphabet<Character> alphabet = new CharAlphabet('a', 'd');
+        final Word<Character> word = Word.fromString("abcdab");
+
+        final IntWord intWord = IntWord.fromWord(word, alphabet);
+        Assert.assertEquals(intWord, IntWord.of(0, 1, 2, 3, 0, 1));
+
+        final Word<Character> view = intWord.asWord(alphabet);
+        Assert.assertEquals(view, word);
+        Assert.assertEquals(view.hashCode(), word.hashCode());
+        Assert.assertEquals(view.subWord(2, 5), word.subWord(2, 5));
+        Assert.assertEquals(view.toIntArray(alphabet), intWord.toIntArray());
+
+        // converting the view back should not copy
+        Assert.assertSame(IntWord.fromWord(view, alphabet), intWord);
+        Assert.assertNotSame(IntWord.fromWord(view, new CharAlphabet('a', 'd')), intWord);
+        Assert.assertEquals(IntWord.fromWord(view, new CharAlphabet('a', 'd')), intWord);
+
+        Assert.assertSame(IntWord.fromWord(Word.epsilon(), alphabet), IntWord.epsilon());
+        Assert.assertEquals(IntWord.epsilon().asWord(alphabet), Word.epsilon());
+    }
+
+    @Test
+    public void testBuilder() {
+        final IntWordBuilder wb = new IntWordBuilder(1);
+        wb.append(1).append(2, 3).append(IntWord.of(4, 5));
+
+        final IntWord w1 = wb.toIntWord();
+        Assert.assertEquals(w1, IntWord.of(1, 2, 3, 4, 5));
+
+        // non-appending modifications must not affect previously created words
+        wb.setSymbol(0, 42);
+        final IntWord w2 = wb.toIntWord(0, 2);
+        wb.truncate(1).append(7);
+        wb.reverse();
+
+        Assert.assertEquals(w1, IntWord.of(1, 2, 3, 4, 5));
+        Assert.assertEquals(w2, IntWord.of(42, 2));
+        Assert.assertEquals(wb.toIntWord(), IntWord.of(7, 42));
+        Assert.assertEquals(wb.get(1), 42);
+
+        wb.clear();
+        Assert.assertEquals(wb.size(), 0);
+        Assert.assertEquals(wb.toIntWord(), IntWord.epsilon());
+        Assert.assertEquals(new IntWordBuilder(w1).toIntWord(), w1);
+    }
+
+    @Test
+    public void testIntSeqConversion() {
+        final int[] array = {5, 4, 3};
+        final IntWord word = IntWord.fromArray(array, 0, array.length);
+        array[0] = 0;
+
+        Assert.assertEquals(word, IntWord.of(5, 4, 3));
+        Assert.assertSame(IntWord.fromIntSeq(word), word);
+        Assert.assertEquals(IntWord.fromIntSeq(new IntWordBuilder().append(5, 4, 3)), word);
+        Assert.assertEquals(word.toString(), Arrays.toString(new int[] {5, 4, 3}));
+    }
+
+    private static final class CharAlphabet extends AbstractList<Character> implements Alphabet<Character> {
+
+        private final char first;
+        private final int size;
+
+        CharAlphabet(char first, char last) {
+            this.first = first;
+            this.size = last - first + 1;
+        }
+
+        @Override
+        public Character get(int index) {
+            return getSymbol(index);
+        }
+
+        @Override
+        public Character getSymbol(int index) {
+            return (char) (first + index);
+        }
+
+        @Override
+        public int getSymbolIndex(Character symbol) {
+            return symbol - first;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.word;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class RopeWordTest extends AbstractNonemptyWordTest {
+
+    private static final int LENGTH = 2 * RopeWord.THRESHOLD + 7;
+    private static final Object[] DATA = new Object[LENGTH];
+
+    static {
+        for (int i = 0; i < LENGTH; i++) {
+            DATA[i] = i % 13;
+        }
+    }
+
+    @Test
+    public void testStructure() {
+        Assert.assertTrue(testWord instanceof RopeWord);
+        Assert.assertTrue(testWord.flatten() instanceof SharedWord);
+        Assert.assertTrue(testWord.prefix(LENGTH - 1) instanceof RopeWord);
+        Assert.assertTrue(testWord.subWord(5, 10) instanceof SharedWord);
+    }
+
+    @Test
+    public void testRandomAccess() {
+        for (int i = 0; i < LENGTH; i++) {
+            Assert.assertEquals(testWord.getSymbol(i), DATA[i]);
+        }
+
+        final List<Word<Object>> prefixes = testWord.prefixes(false);
+        for (int i = 0; i <= LENGTH; i += 97) {
+            Assert.assertEquals(prefixes.get(i), new SharedWord<>(DATA, 0, i));
+        }
+
+        final List<Word<Object>> suffixes = testWord.suffixes(true);
+        for (int i = 0; i <= LENGTH; i += 97) {
+            Assert.assertEquals(suffixes.get(i), new SharedWord<>(DATA, i, LENGTH - i));
+        }
+
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> testWord.getSymbol(LENGTH));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> testWord.getSymbol(-1));
+    }
+
+    @Test
+    public void testRepeatedModification() {
+        final int length = 10 * RopeWord.THRESHOLD;
+        final Object[] expected = new Object[2 * length];
+
+        Word<Object> word = Word.epsilon();
+        for (int i = 0; i < length; i++) {
+            word = word.append(i).prepend(-i);
+            expected[length - i - 1] = -i;
+            expected[length + i] = i;
+        }
+
+        final Word<Object> flat = new SharedWord<>(expected);
+        Assert.assertEquals(word, flat);
+        Assert.assertEquals(word.hashCode(), flat.hashCode());
+        Assert.assertEquals(word.firstSymbol(), -(length - 1));
+        Assert.assertEquals(word.lastSymbol(), length - 1);
+
+        // the tree needs to be balanced
+        Assert.assertTrue(((RopeWord<Object>) word).getDepth() <= 2 * (32 - Integer.numberOfLeadingZeros(length)));
+    }
+
+    @Override
+    protected Word<Object> testWord() {
+        // build the word from several chunks to obtain a non-trivial tree
+        Word<Object> result = Word.epsilon();
+        for (int i = 0; i < LENGTH; i += 300) {
+            result = result.concat(new SharedWord<>(DATA, i, Math.min(300, LENGTH - i)));
+        }
+        return result;
+    }
+
+    @Override
+    protected List<Word<Object>> equalWords() {
+        return Arrays.asList(new SharedWord<>(DATA), Word.fromList(Arrays.asList(DATA)));
+    }
+
+    @Override
+    protected List<Word<Object>> unequalWords() {
+        return Arrays.asList(new SharedWord<>(DATA, 1, LENGTH - 1),
+                             new SharedWord<>(DATA).append(0),
+                             new EmptyWord(),
+                             new SharedWord<>(Arrays.asList(2, 4)));
+    }
+
+    @Override
+    protected List<Word<Object>> realPrefixes() {
+        return Arrays.asList(new EmptyWord(),
+                             new SharedWord<>(DATA, 0, RopeWord.THRESHOLD + 1),
+                             new SharedWord<>(DATA, 0, 3),
+                             new LetterWord<>(0));
+    }
+
+    @Override
+    protected List<Word<Object>> realSuffixes() {
+        return Arrays.asList(new EmptyWord(),
+                             new SharedWord<>(DATA, LENGTH - RopeWord.THRESHOLD - 1, RopeWord.THRESHOLD + 1),
+                             new SharedWord<>(DATA, LENGTH - 3, 3),
+                             new LetterWord<>(DATA[LENGTH - 1]));
+    }
+
+}
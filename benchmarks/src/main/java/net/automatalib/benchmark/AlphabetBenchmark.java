@@ -0,0 +1,137 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.ArrayAlphabet;
+import net.automatalib.alphabet.impl.FastAlphabet;
+import net.automatalib.alphabet.impl.GrowingMapAlphabet;
+import net.automatalib.alphabet.impl.IntRangeAlphabet;
+import net.automatalib.alphabet.impl.ListAlphabet;
+import net.automatalib.alphabet.impl.MapAlphabet;
+import net.automatalib.alphabet.impl.Symbol;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the symbol-to-index look-ups of the different {@link Alphabet} implementations, both when queried directly
+ * via {@link Alphabet#getSymbolIndex(Object)} and when queried implicitly by the symbol-based transition look-ups of a
+ * {@link CompactDFA}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AlphabetBenchmark {
+
+    private static final int NUM_STEPS = 1 << 16;
+    private static final int DFA_SIZE = 1000;
+
+    @Param({"list", "array", "map", "growingMap", "intRange", "fast"})
+    public String implementation;
+
+    @Param({"2", "16", "128"})
+    public int alphabetSize;
+
+    private Alphabet<Object> alphabet;
+    private CompactDFA<Object> dfa;
+    private Object[] symbols;
+
+    @Setup
+    public void setUp() {
+        final Random random = BenchmarkUtil.newRandom();
+
+        this.alphabet = createAlphabet(implementation, alphabetSize);
+        this.dfa = BenchmarkUtil.randomDFA(random, DFA_SIZE, alphabet, 1.0);
+        this.symbols = new Object[NUM_STEPS];
+
+        final int[] indices = BenchmarkUtil.randomIndices(random, alphabetSize, NUM_STEPS);
+        for (int i = 0; i < NUM_STEPS; i++) {
+            // use equal but non-identical symbols where possible to not benefit from identity checks
+            final Object sym = alphabet.getSymbol(indices[i]);
+            this.symbols[i] = sym instanceof String ? new String((String) sym) : sym;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Alphabet<Object> createAlphabet(String implementation, int size) {
+        final List<Object> strings = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            strings.add("sym" + i);
+        }
+
+        switch (implementation) {
+            case "list":
+                return new ListAlphabet<>(strings);
+            case "array":
+                return new ArrayAlphabet<>(strings.toArray());
+            case "map":
+                return new MapAlphabet<>(strings);
+            case "growingMap":
+                return new GrowingMapAlphabet<>(strings);
+            case "intRange":
+                return (Alphabet<Object>) (Alphabet<?>) new IntRangeAlphabet(0, size - 1);
+            case "fast":
+                final FastAlphabet<Symbol<String>> fast = new FastAlphabet<>();
+                for (int i = 0; i < size; i++) {
+                    fast.addSymbol(new Symbol<>("sym" + i));
+                }
+                return (Alphabet<Object>) (Alphabet<?>) fast;
+            default:
+                throw new IllegalArgumentException("Unknown alphabet implementation: " + implementation);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_STEPS)
+    public int getSymbolIndex() {
+        int result = 0;
+        for (Object sym : symbols) {
+            result += alphabet.getSymbolIndex(sym);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_STEPS)
+    public int getTransitionBySymbol() {
+        final int init = dfa.getIntInitialState();
+        int state = init;
+        for (Object sym : symbols) {
+            final Integer succ = dfa.getTransition(state, sym);
+            state = succ == null ? init : succ;
+        }
+        return state;
+    }
+}
@@ -0,0 +1,160 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+
+/**
+ * Utility methods for setting up the (random) benchmark data in a reproducible fashion.
+ */
+public final class BenchmarkUtil {
+
+    /**
+     * The seed used by all benchmarks so that subsequent runs operate on the same data.
+     */
+    public static final long SEED = 42L;
+
+    private BenchmarkUtil() {
+        // prevent instantiation
+    }
+
+    public static Random newRandom() {
+        return new Random(SEED);
+    }
+
+    public static Alphabet<Integer> alphabet(int size) {
+        return Alphabets.integers(0, size - 1);
+    }
+
+    public static Alphabet<String> outputAlphabet(int size) {
+        final List<String> outputs = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            outputs.add("o" + i);
+        }
+        return Alphabets.fromList(outputs);
+    }
+
+    /**
+     * Returns a random (not necessarily minimal) DFA in which (roughly) the given fraction of transitions is defined.
+     *
+     * @param random
+     *         the random instance
+     * @param size
+     *         the number of states
+     * @param alphabet
+     *         the input alphabet
+     * @param density
+     *         the fraction (in (0, 1]) of defined transitions
+     *
+     * @return the random DFA
+     */
+    public static <I> CompactDFA<I> randomDFA(Random random, int size, Alphabet<I> alphabet, double density) {
+        final CompactDFA<I> result = RandomAutomata.randomDFA(random, size, alphabet, false);
+        removeTransitions(random, result, density);
+        return result;
+    }
+
+    /**
+     * Returns a random (not necessarily minimal) Mealy machine in which (roughly) the given fraction of transitions is
+     * defined.
+     *
+     * @param random
+     *         the random instance
+     * @param size
+     *         the number of states
+     * @param alphabet
+     *         the input alphabet
+     * @param outputs
+     *         the output alphabet
+     * @param density
+     *         the fraction (in (0, 1]) of defined transitions
+     *
+     * @return the random Mealy machine
+     */
+    public static <I, O> CompactMealy<I, O> randomMealy(Random random,
+                                                        int size,
+                                                        Alphabet<I> alphabet,
+                                                        Alphabet<O> outputs,
+                                                        double density) {
+        final CompactMealy<I, O> result = RandomAutomata.randomMealy(random, size, alphabet, outputs, false);
+        removeTransitions(random, result, density);
+        return result;
+    }
+
+    public static <I> Word<I> randomWord(Random random, Alphabet<I> alphabet, int length) {
+        final WordBuilder<I> wb = new WordBuilder<>(length);
+        for (int i = 0; i < length; i++) {
+            wb.append(alphabet.getSymbol(random.nextInt(alphabet.size())));
+        }
+        return wb.toWord();
+    }
+
+    public static <I> List<Word<I>> randomWords(Random random, Alphabet<I> alphabet, int num, int length) {
+        final List<Word<I>> result = new ArrayList<>(num);
+        for (int i = 0; i < num; i++) {
+            result.add(randomWord(random, alphabet, length));
+        }
+        return result;
+    }
+
+    public static int[] randomIndices(Random random, int bound, int num) {
+        final int[] result = new int[num];
+        for (int i = 0; i < num; i++) {
+            result[i] = random.nextInt(bound);
+        }
+        return result;
+    }
+
+    private static void removeTransitions(Random random, CompactDFA<?> dfa, double density) {
+        if (density >= 1) {
+            return;
+        }
+
+        final int numInputs = dfa.numInputs();
+        for (int s = 0; s < dfa.size(); s++) {
+            for (int i = 0; i < numInputs; i++) {
+                if (random.nextDouble() >= density) {
+                    dfa.setTransition(s, i, (Integer) null);
+                }
+            }
+        }
+    }
+
+    private static void removeTransitions(Random random, CompactMealy<?, ?> mealy, double density) {
+        if (density >= 1) {
+            return;
+        }
+
+        final int numInputs = mealy.numInputs();
+        for (int s = 0; s < mealy.size(); s++) {
+            for (int i = 0; i < numInputs; i++) {
+                if (random.nextDouble() >= density) {
+                    mealy.setTransition(s, i, null);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.word.Word;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the transition lookups of {@link CompactDFA}s, i.e., the object-based
+ * {@link CompactDFA#getTransition(int, Object)} and {@link CompactDFA#getSuccessor(Object, Iterable)} methods, as well
+ * as the index-based {@link CompactDFA#getSuccessor(int, int)} method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CompactTransitionBenchmark {
+
+    private static final int NUM_STEPS = 1 << 16;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"2", "16", "128"})
+    public int alphabetSize;
+
+    @Param({"1.0", "0.5"})
+    public double density;
+
+    private CompactDFA<Integer> dfa;
+    private Integer[] symbols;
+    private int[] indices;
+    private Word<Integer> word;
+
+    @Setup
+    public void setUp() {
+        final Random random = BenchmarkUtil.newRandom();
+        final Alphabet<Integer> alphabet = BenchmarkUtil.alphabet(alphabetSize);
+
+        this.dfa = BenchmarkUtil.randomDFA(random, size, alphabet, density);
+        this.indices = BenchmarkUtil.randomIndices(random, alphabetSize, NUM_STEPS);
+        this.symbols = new Integer[NUM_STEPS];
+
+        for (int i = 0; i < NUM_STEPS; i++) {
+            this.symbols[i] = alphabet.getSymbol(indices[i]);
+        }
+
+        this.word = Word.fromSymbols(this.symbols);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_STEPS)
+    public int getTransitionBySymbol() {
+        final int init = dfa.getIntInitialState();
+        int state = init;
+        for (Integer sym : symbols) {
+            final Integer succ = dfa.getTransition(state, sym);
+            state = succ == null ? init : succ;
+        }
+        return state;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_STEPS)
+    public int getSuccessorByIndex() {
+        final int init = dfa.getIntInitialState();
+        int state = init;
+        for (int idx : indices) {
+            final int succ = dfa.getSuccessor(state, idx);
+            state = succ < 0 ? init : succ;
+        }
+        return state;
+    }
+
+    @Benchmark
+    public Integer getSuccessorOfWord() {
+        return dfa.getSuccessor(dfa.getIntInitialState(), word);
+    }
+}
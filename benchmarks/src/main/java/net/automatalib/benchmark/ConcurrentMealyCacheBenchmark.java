@@ -0,0 +1,149 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.incremental.mealy.IncrementalMealyBuilder;
+import net.automatalib.incremental.mealy.tree.ConcurrentIncrementalMealyTreeBuilder;
+import net.automatalib.incremental.mealy.tree.IncrementalMealyTreeBuilder;
+import net.automatalib.word.Word;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks an incremental Mealy builder that is shared by multiple threads (as in a query cache of parallel
+ * learners), comparing a {@link IncrementalMealyTreeBuilder} behind a single lock to the
+ * {@link ConcurrentIncrementalMealyTreeBuilder}. Use JMH's {@code -t} option to vary the number of threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ConcurrentMealyCacheBenchmark {
+
+    private static final int NUM_WORDS = 10000;
+
+    @Param({"SYNCHRONIZED", "CONCURRENT"})
+    public BuilderType type;
+
+    @Param({"20"})
+    public int wordLength;
+
+    @Param({"10"})
+    public int alphabetSize;
+
+    private IncrementalMealyBuilder<Integer, String> builder;
+    private List<Word<Integer>> words;
+    private List<Word<String>> outputs;
+
+    @Setup
+    public void setUp() {
+        final Random random = BenchmarkUtil.newRandom();
+        final Alphabet<Integer> alphabet = BenchmarkUtil.alphabet(alphabetSize);
+        final CompactMealy<Integer, String> mealy =
+                BenchmarkUtil.randomMealy(random, 100, alphabet, BenchmarkUtil.outputAlphabet(2), 1.0);
+
+        this.builder = type == BuilderType.SYNCHRONIZED ?
+                new IncrementalMealyTreeBuilder<>(alphabet) :
+                new ConcurrentIncrementalMealyTreeBuilder<>(alphabet);
+        this.words = BenchmarkUtil.randomWords(random, alphabet, NUM_WORDS, wordLength);
+        this.outputs = new ArrayList<>(NUM_WORDS);
+
+        for (Word<Integer> w : words) {
+            this.outputs.add(mealy.computeOutput(w));
+        }
+
+        // only insert every other word so that the cache is queried for both known and unknown words
+        for (int i = 0; i < NUM_WORDS; i += 2) {
+            builder.insert(words.get(i), outputs.get(i));
+        }
+    }
+
+    @Benchmark
+    public boolean lookup(ThreadState state) {
+        final Word<Integer> w = words.get(state.nextIndex());
+
+        if (type == BuilderType.SYNCHRONIZED) {
+            synchronized (builder) {
+                return builder.hasDefinitiveInformation(w);
+            }
+        }
+
+        return builder.hasDefinitiveInformation(w);
+    }
+
+    @Benchmark
+    public boolean lookupOrInsert(ThreadState state) {
+        final int idx = state.nextIndex();
+        final Word<Integer> w = words.get(idx);
+
+        if (type == BuilderType.SYNCHRONIZED) {
+            synchronized (builder) {
+                return lookupOrInsert(w, outputs.get(idx));
+            }
+        }
+
+        return lookupOrInsert(w, outputs.get(idx));
+    }
+
+    private boolean lookupOrInsert(Word<Integer> input, Word<String> output) {
+        if (builder.hasDefinitiveInformation(input)) {
+            return true;
+        }
+
+        builder.insert(input, output);
+        return false;
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+
+        private Random random;
+
+        @Setup
+        public void setUp() {
+            this.random = new Random(Thread.currentThread().getId());
+        }
+
+        int nextIndex() {
+            return random.nextInt(NUM_WORDS);
+        }
+    }
+
+    public enum BuilderType {
+        SYNCHRONIZED,
+        CONCURRENT
+    }
+}
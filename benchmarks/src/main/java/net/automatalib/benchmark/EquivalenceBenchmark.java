@@ -0,0 +1,86 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.util.automaton.equivalence.NearLinearEquivalenceTest;
+import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link NearLinearEquivalenceTest#findSeparatingWord(net.automatalib.automaton.UniversalDeterministicAutomaton,
+ * net.automatalib.automaton.UniversalDeterministicAutomaton, java.util.Collection)} for both equivalent automata (which
+ * requires a full exploration of the product) and automata that differ in the acceptance of a single, reachable state.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EquivalenceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    @Param({"2", "10"})
+    public int alphabetSize;
+
+    private Alphabet<Integer> alphabet;
+    private CompactDFA<Integer> dfa;
+    private CompactDFA<Integer> copy;
+    private CompactDFA<Integer> mutant;
+
+    @Setup
+    public void setUp() {
+        final Random random = BenchmarkUtil.newRandom();
+
+        this.alphabet = BenchmarkUtil.alphabet(alphabetSize);
+        this.dfa = BenchmarkUtil.randomDFA(random, size, alphabet, 1.0);
+        this.copy = new CompactDFA<>(dfa);
+        this.mutant = new CompactDFA<>(dfa);
+
+        // flip the acceptance of a (reachable) state
+        final Integer state = this.mutant.getState(BenchmarkUtil.randomWord(random, alphabet, size));
+        assert state != null;
+        this.mutant.setAccepting(state, !this.mutant.isAccepting(state));
+    }
+
+    @Benchmark
+    public @Nullable Word<Integer> equivalent() {
+        return NearLinearEquivalenceTest.findSeparatingWord(dfa, copy, alphabet);
+    }
+
+    @Benchmark
+    public @Nullable Word<Integer> mutated() {
+        return NearLinearEquivalenceTest.findSeparatingWord(dfa, mutant, alphabet);
+    }
+}
@@ -0,0 +1,120 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.automaton.transducer.impl.FastMealy;
+import net.automatalib.common.smartcollection.IntSeq;
+import net.automatalib.util.automaton.copy.AutomatonCopyMethod;
+import net.automatalib.util.automaton.copy.AutomatonLowLevelCopy;
+import net.automatalib.word.Word;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the simulation of words on {@link FastMealy} machines, i.e., the symbol-based
+ * {@link FastMealy#computeOutput(Iterable)}, the index-based {@link FastMealy#computeOutput(IntSeq)} and the
+ * allocation-free {@link FastMealy.OutputCursor}, compared to the index-based
+ * {@link CompactMealy#computeOutput(IntSeq)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FastSimulationBenchmark {
+
+    private static final int NUM_WORDS = 100;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"2", "16"})
+    public int alphabetSize;
+
+    @Param({"100"})
+    public int length;
+
+    private CompactMealy<Integer, String> compact;
+    private FastMealy<Integer, String> fast;
+    private FastMealy<Integer, String>.OutputCursor cursor;
+    private List<Word<Integer>> words;
+    private IntSeq[] indices;
+
+    @Setup
+    public void setUp() {
+        final Random random = BenchmarkUtil.newRandom();
+        final Alphabet<Integer> alphabet = BenchmarkUtil.alphabet(alphabetSize);
+        final Alphabet<String> outputs = BenchmarkUtil.outputAlphabet(4);
+
+        this.compact = BenchmarkUtil.randomMealy(random, size, alphabet, outputs, 1.0);
+        this.fast = new FastMealy<>(alphabet);
+        AutomatonLowLevelCopy.copy(AutomatonCopyMethod.STATE_BY_STATE, compact, alphabet, fast);
+        this.cursor = fast.newOutputCursor();
+
+        this.words = BenchmarkUtil.randomWords(random, alphabet, NUM_WORDS, length);
+        this.indices = new IntSeq[NUM_WORDS];
+        for (int i = 0; i < NUM_WORDS; i++) {
+            this.indices[i] = IntSeq.of(BenchmarkUtil.randomIndices(random, alphabetSize, length));
+        }
+    }
+
+    @Benchmark
+    public void fastBySymbol(Blackhole bh) {
+        for (Word<Integer> w : words) {
+            bh.consume(fast.computeOutput(w));
+        }
+    }
+
+    @Benchmark
+    public void fastByIndex(Blackhole bh) {
+        for (IntSeq w : indices) {
+            bh.consume(fast.computeOutput(w));
+        }
+    }
+
+    @Benchmark
+    public void fastCursor(Blackhole bh) {
+        for (IntSeq w : indices) {
+            cursor.reset();
+            cursor.run(w);
+            bh.consume(cursor.getOutputLength());
+        }
+    }
+
+    @Benchmark
+    public void compactByIndex(Blackhole bh) {
+        for (IntSeq w : indices) {
+            bh.consume(compact.computeOutput(w));
+        }
+    }
+}
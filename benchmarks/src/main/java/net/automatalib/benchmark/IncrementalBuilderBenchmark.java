@@ -0,0 +1,171 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.incremental.dfa.IncrementalDFABuilder;
+import net.automatalib.incremental.dfa.dag.IncrementalDFADAGBuilder;
+import net.automatalib.incremental.dfa.tree.CompactIncrementalDFATreeBuilder;
+import net.automatalib.incremental.dfa.tree.IncrementalDFATreeBuilder;
+import net.automatalib.incremental.mealy.IncrementalMealyBuilder;
+import net.automatalib.incremental.mealy.dag.IncrementalMealyDAGBuilder;
+import net.automatalib.incremental.mealy.tree.CompactIncrementalMealyTreeBuilder;
+import net.automatalib.incremental.mealy.tree.IncrementalMealyTreeBuilder;
+import net.automatalib.word.Word;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the construction of (and lookups in) the DAG-, tree- and compact tree-based incremental DFA and Mealy
+ * builders. The inserted words are sampled uniformly at random and labeled by a random target automaton.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class IncrementalBuilderBenchmark {
+
+    @Param({"DAG", "TREE", "COMPACT_TREE"})
+    public BuilderType type;
+
+    @Param({"1000", "10000"})
+    public int numWords;
+
+    @Param({"20"})
+    public int wordLength;
+
+    @Param({"2", "10"})
+    public int alphabetSize;
+
+    private Alphabet<Integer> alphabet;
+    private List<Word<Integer>> words;
+    private boolean[] acceptance;
+    private List<Word<String>> outputs;
+
+    private IncrementalDFABuilder<Integer> filledDFABuilder;
+    private IncrementalMealyBuilder<Integer, String> filledMealyBuilder;
+
+    @Setup
+    public void setUp() {
+        final Random random = BenchmarkUtil.newRandom();
+
+        this.alphabet = BenchmarkUtil.alphabet(alphabetSize);
+        this.words = BenchmarkUtil.randomWords(random, alphabet, numWords, wordLength);
+
+        final CompactDFA<Integer> dfa = BenchmarkUtil.randomDFA(random, 100, alphabet, 1.0);
+        final CompactMealy<Integer, String> mealy =
+                BenchmarkUtil.randomMealy(random, 100, alphabet, BenchmarkUtil.outputAlphabet(2), 1.0);
+
+        this.acceptance = new boolean[numWords];
+        this.outputs = new ArrayList<>(numWords);
+
+        for (int i = 0; i < numWords; i++) {
+            final Word<Integer> w = words.get(i);
+            this.acceptance[i] = dfa.accepts(w);
+            this.outputs.add(mealy.computeOutput(w));
+        }
+
+        this.filledDFABuilder = insertDFA();
+        this.filledMealyBuilder = insertMealy();
+    }
+
+    @Benchmark
+    public IncrementalDFABuilder<Integer> insertDFA() {
+        final IncrementalDFABuilder<Integer> builder = createDFABuilder();
+
+        for (int i = 0; i < numWords; i++) {
+            builder.insert(words.get(i), acceptance[i]);
+        }
+
+        return builder;
+    }
+
+    @Benchmark
+    public IncrementalMealyBuilder<Integer, String> insertMealy() {
+        final IncrementalMealyBuilder<Integer, String> builder = createMealyBuilder();
+
+        for (int i = 0; i < numWords; i++) {
+            builder.insert(words.get(i), outputs.get(i));
+        }
+
+        return builder;
+    }
+
+    @Benchmark
+    public void lookupDFA(Blackhole blackhole) {
+        for (Word<Integer> w : words) {
+            blackhole.consume(filledDFABuilder.lookup(w));
+        }
+    }
+
+    @Benchmark
+    public void lookupMealy(Blackhole blackhole) {
+        for (Word<Integer> w : words) {
+            blackhole.consume(filledMealyBuilder.lookup(w));
+        }
+    }
+
+    private IncrementalDFABuilder<Integer> createDFABuilder() {
+        switch (type) {
+            case DAG:
+                return new IncrementalDFADAGBuilder<>(alphabet);
+            case TREE:
+                return new IncrementalDFATreeBuilder<>(alphabet);
+            case COMPACT_TREE:
+                return new CompactIncrementalDFATreeBuilder<>(alphabet);
+            default:
+                throw new IllegalStateException("Unknown builder type: " + type);
+        }
+    }
+
+    private IncrementalMealyBuilder<Integer, String> createMealyBuilder() {
+        switch (type) {
+            case DAG:
+                return new IncrementalMealyDAGBuilder<>(alphabet);
+            case TREE:
+                return new IncrementalMealyTreeBuilder<>(alphabet);
+            case COMPACT_TREE:
+                return new CompactIncrementalMealyTreeBuilder<>(alphabet);
+            default:
+                throw new IllegalStateException("Unknown builder type: " + type);
+        }
+    }
+
+    public enum BuilderType {
+        DAG,
+        TREE,
+        COMPACT_TREE
+    }
+}
@@ -0,0 +1,135 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.util.automaton.minimizer.HopcroftMinimizer;
+import net.automatalib.util.partitionrefinement.AutomatonInitialPartitioning;
+import net.automatalib.util.partitionrefinement.PruningMode;
+import net.automatalib.util.partitionrefinement.StateSignature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the (partition-refinement-based) minimization of random, non-minimal automata via
+ * {@link HopcroftMinimizer}. Automata with a {@link #density} below {@code 1} are minimized via the respective
+ * {@code minimizePartial*} methods. The {@code *Parallel} benchmarks use the {@link ForkJoinPool#commonPool() common
+ * pool} for computing the state equivalences.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MinimizationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    @Param({"2", "10"})
+    public int alphabetSize;
+
+    @Param({"1.0", "0.5"})
+    public double density;
+
+    @Param({"PRUNE_AFTER", "DONT_PRUNE"})
+    public PruningMode pruningMode;
+
+    private Alphabet<Integer> alphabet;
+    private CompactDFA<Integer> dfa;
+    private CompactMealy<Integer, String> mealy;
+
+    @Setup
+    public void setUp() {
+        final Random random = BenchmarkUtil.newRandom();
+
+        this.alphabet = BenchmarkUtil.alphabet(alphabetSize);
+        this.dfa = BenchmarkUtil.randomDFA(random, size, alphabet, density);
+        this.mealy = BenchmarkUtil.randomMealy(random, size, alphabet, BenchmarkUtil.outputAlphabet(2), density);
+    }
+
+    @Benchmark
+    public CompactDFA<Integer> minimizeDFA() {
+        if (density < 1) {
+            return HopcroftMinimizer.minimizePartialDFA(dfa, alphabet, pruningMode);
+        }
+        return HopcroftMinimizer.minimizeDFA(dfa, alphabet, pruningMode);
+    }
+
+    @Benchmark
+    public CompactMealy<Integer, String> minimizeMealy() {
+        if (density < 1) {
+            return HopcroftMinimizer.minimizePartialMealy(mealy, alphabet, pruningMode);
+        }
+        return HopcroftMinimizer.minimizeMealy(mealy, alphabet, pruningMode);
+    }
+
+    @Benchmark
+    public CompactDFA<Integer> minimizeDFAParallel() {
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        if (density < 1) {
+            return HopcroftMinimizer.minimizePartialUniversal(dfa,
+                                                              alphabet,
+                                                              pruningMode,
+                                                              AutomatonInitialPartitioning.BY_STATE_PROPERTY,
+                                                              Boolean.FALSE,
+                                                              new CompactDFA.Creator<>(),
+                                                              pool);
+        }
+        return HopcroftMinimizer.minimizeUniversal(dfa,
+                                                   alphabet,
+                                                   pruningMode,
+                                                   AutomatonInitialPartitioning.BY_STATE_PROPERTY,
+                                                   new CompactDFA.Creator<>(),
+                                                   pool);
+    }
+
+    @Benchmark
+    public CompactMealy<Integer, String> minimizeMealyParallel() {
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        if (density < 1) {
+            return HopcroftMinimizer.minimizePartialUniversal(mealy,
+                                                              alphabet,
+                                                              pruningMode,
+                                                              AutomatonInitialPartitioning.BY_TRANSITION_PROPERTIES,
+                                                              StateSignature.byTransitionProperties(new Object[alphabet.size()]),
+                                                              new CompactMealy.Creator<>(),
+                                                              pool);
+        }
+        return HopcroftMinimizer.minimizeUniversal(mealy,
+                                                   alphabet,
+                                                   pruningMode,
+                                                   AutomatonInitialPartitioning.BY_TRANSITION_PROPERTIES,
+                                                   new CompactMealy.Creator<>(),
+                                                   pool);
+    }
+}
@@ -0,0 +1,122 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the common {@link Word} operations, such as concatenation, prefix computation, incremental extension and
+ * hashing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class WordBenchmark {
+
+    @Param({"16", "1024", "16384"})
+    public int length;
+
+    @Param({"2", "128"})
+    public int alphabetSize;
+
+    private Alphabet<Integer> alphabet;
+    private Word<Integer> left;
+    private Word<Integer> right;
+    private int[] extension;
+
+    @Setup
+    public void setUp() {
+        final Random random = BenchmarkUtil.newRandom();
+
+        this.alphabet = BenchmarkUtil.alphabet(alphabetSize);
+        this.left = BenchmarkUtil.randomWord(random, alphabet, length);
+        this.right = BenchmarkUtil.randomWord(random, alphabet, length);
+        this.extension = BenchmarkUtil.randomIndices(random, alphabetSize, length);
+    }
+
+    @Benchmark
+    public Word<Integer> concat() {
+        return left.concat(right);
+    }
+
+    @Benchmark
+    public void prefixes(Blackhole blackhole) {
+        for (int i = 0; i <= length; i++) {
+            blackhole.consume(left.prefix(i));
+        }
+    }
+
+    @Benchmark
+    public Word<Integer> appendRepeatedly() {
+        Word<Integer> result = Word.epsilon();
+        for (int idx : extension) {
+            result = result.append(alphabet.getSymbol(idx));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Word<Integer> appendWordBuilder() {
+        final WordBuilder<Integer> wb = new WordBuilder<>();
+        for (int idx : extension) {
+            wb.append(alphabet.getSymbol(idx));
+        }
+        return wb.toWord();
+    }
+
+    @Benchmark
+    public int prefixHashCodes() {
+        int result = 0;
+        for (Word<Integer> prefix : left.prefixes(false)) {
+            result ^= prefix.hashCode();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int prefixHashes() {
+        int result = 0;
+        for (int hash : left.prefixHashes()) {
+            result ^= hash;
+        }
+        return result;
+    }
+
+    @Benchmark
+    public boolean equality() {
+        return left.equals(right.prefix(length));
+    }
+}
@@ -0,0 +1,151 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.common.smartcollection;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A double-ended queue for primitive {@code int}s, backed by a circular array. Contrary to an {@code
+ * ArrayDeque<Integer>}, this deque does not box its elements, which makes it suitable as a work-list for, e.g., state
+ * ids in breadth-first or depth-first traversals.
+ * <p>
+ * Since {@code null} is not available for primitive values, the retrieving methods throw a {@link
+ * NoSuchElementException} if the deque is empty.
+ */
+public final class IntDeque {
+
+    private static final int MIN_CAPACITY = 8;
+
+    private int[] elements;
+    private int head;
+    private int size;
+
+    /**
+     * Default constructor.
+     */
+    public IntDeque() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Constructor. Reserves enough space to store the given number of elements without resizing.
+     *
+     * @param initialCapacity
+     *         the number of elements to reserve capacity for
+     */
+    public IntDeque(int initialCapacity) {
+        final int capacity = Math.max(MIN_CAPACITY, initialCapacity);
+        this.elements = new int[Integer.highestOneBit(capacity - 1) << 1];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    public void addFirst(int value) {
+        ensureCapacity();
+        head = (head - 1) & (elements.length - 1);
+        elements[head] = value;
+        size++;
+    }
+
+    public void addLast(int value) {
+        ensureCapacity();
+        elements[(head + size) & (elements.length - 1)] = value;
+        size++;
+    }
+
+    public int getFirst() {
+        checkNonEmpty();
+        return elements[head];
+    }
+
+    public int getLast() {
+        checkNonEmpty();
+        return elements[(head + size - 1) & (elements.length - 1)];
+    }
+
+    public int removeFirst() {
+        checkNonEmpty();
+        final int result = elements[head];
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return result;
+    }
+
+    public int removeLast() {
+        checkNonEmpty();
+        size--;
+        return elements[(head + size) & (elements.length - 1)];
+    }
+
+    /**
+     * Returns the element at the given position, where position {@code 0} refers to the first element of the deque.
+     *
+     * @param index
+     *         the position
+     *
+     * @return the element at the given position
+     *
+     * @throws IndexOutOfBoundsException
+     *         if the position is not within {@code [0, size() - 1]}
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        return elements[(head + index) & (elements.length - 1)];
+    }
+
+    /**
+     * Returns the elements of this deque (from first to last) as an array.
+     *
+     * @return an array containing the elements of this deque
+     */
+    public int[] toArray() {
+        return toArray(size);
+    }
+
+    private void ensureCapacity() {
+        if (size == elements.length) {
+            elements = toArray(elements.length << 1);
+            head = 0;
+        }
+    }
+
+    private int[] toArray(int length) {
+        final int[] result = new int[length];
+        final int firstChunk = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, result, 0, firstChunk);
+        System.arraycopy(elements, 0, result, firstChunk, size - firstChunk);
+        return result;
+    }
+
+    private void checkNonEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+    }
+}
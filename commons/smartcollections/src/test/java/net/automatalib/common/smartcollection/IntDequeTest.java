@@ -0,0 +1,88 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.common.smartcollection;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class IntDequeTest {
+
+    @Test
+    public void testOperations() {
+        final Random random = new Random(42);
+        final IntDeque deque = new IntDeque(1);
+        final Deque<Integer> reference = new ArrayDeque<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            switch (random.nextInt(5)) {
+                case 0:
+                    deque.addFirst(i);
+                    reference.addFirst(i);
+                    break;
+                case 1:
+                case 2:
+                    deque.addLast(i);
+                    reference.addLast(i);
+                    break;
+                case 3:
+                    if (!reference.isEmpty()) {
+                        Assert.assertEquals(deque.removeFirst(), (int) reference.removeFirst());
+                    }
+                    break;
+                default:
+                    if (!reference.isEmpty()) {
+                        Assert.assertEquals(deque.removeLast(), (int) reference.removeLast());
+                    }
+            }
+
+            Assert.assertEquals(deque.size(), reference.size());
+            if (!reference.isEmpty()) {
+                Assert.assertEquals(deque.getFirst(), (int) reference.getFirst());
+                Assert.assertEquals(deque.getLast(), (int) reference.getLast());
+            }
+        }
+
+        final int[] array = deque.toArray();
+        Assert.assertEquals(array.length, reference.size());
+
+        int idx = 0;
+        for (Integer i : reference) {
+            Assert.assertEquals(deque.get(idx), (int) i);
+            Assert.assertEquals(array[idx], (int) i);
+            idx++;
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        final IntDeque deque = new IntDeque();
+        deque.addLast(1);
+        deque.clear();
+
+        Assert.assertTrue(deque.isEmpty());
+        Assert.assertEquals(deque.toArray().length, 0);
+        Assert.assertThrows(NoSuchElementException.class, deque::getFirst);
+        Assert.assertThrows(NoSuchElementException.class, deque::getLast);
+        Assert.assertThrows(NoSuchElementException.class, deque::removeFirst);
+        Assert.assertThrows(NoSuchElementException.class, deque::removeLast);
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> deque.get(0));
+    }
+}
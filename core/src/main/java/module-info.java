@@ -31,6 +31,7 @@
 open module net.automatalib.core {
 
     requires net.automatalib.api;
+    requires net.automatalib.common.smartcollection;
     requires net.automatalib.common.util;
 
     // annotations are 'provided'-scoped and do not need to be loaded at runtime
@@ -47,8 +47,7 @@ public final class Alphabets {
     }
 
     public static Alphabet<Integer> integers(int startInclusive, int endInclusive) {
-        List<Integer> lst = CollectionUtil.intRange(startInclusive, endInclusive + 1);
-        return fromList(lst);
+        return new IntRangeAlphabet(startInclusive, endInclusive);
     }
 
     public static <T> Alphabet<T> fromList(List<? extends T> list) {
@@ -56,8 +55,7 @@ public final class Alphabets {
     }
 
     public static Alphabet<Character> characters(char startInclusive, char endInclusive) {
-        List<Character> lst = CollectionUtil.charRange(startInclusive, (char) (endInclusive + 1));
-        return fromList(lst);
+        return new CharRangeAlphabet(startInclusive, endInclusive);
     }
 
     public static Alphabet<String> closedCharStringRange(char startInclusive, char endInclusive) {
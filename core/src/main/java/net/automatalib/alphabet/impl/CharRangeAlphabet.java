@@ -0,0 +1,80 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.alphabet.impl;
+
+import net.automatalib.alphabet.ConstantTimeSymbolIndex;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An alphabet of a contiguous range of {@link Character}s. The index of a symbol is computed arithmetically, so
+ * symbol-to-index look-ups are constant-time and allocation-free.
+ */
+public class CharRangeAlphabet extends AbstractAlphabet<Character> implements ConstantTimeSymbolIndex<Character> {
+
+    private final char start;
+    private final int size;
+
+    /**
+     * Constructor.
+     *
+     * @param startInclusive
+     *         the smallest symbol of the alphabet
+     * @param endInclusive
+     *         the largest symbol of the alphabet
+     */
+    public CharRangeAlphabet(char startInclusive, char endInclusive) {
+        this.start = startInclusive;
+        this.size = Math.max(0, endInclusive - startInclusive + 1);
+    }
+
+    @Override
+    public Character getSymbol(int index) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException("Index: " + index + ", size = " + size);
+        }
+        return (char) (start + index);
+    }
+
+    @Override
+    public int getSymbolIndex(Character symbol) {
+        final int idx = getSymbolIndexInternal(symbol);
+
+        if (idx < 0) {
+            throw new IllegalArgumentException("Symbol " + symbol + " is not contained in the alphabet");
+        }
+
+        return idx;
+    }
+
+    private int getSymbolIndexInternal(@Nullable Character symbol) {
+        if (symbol == null) {
+            return -1;
+        }
+
+        final int idx = symbol - start;
+        return idx >= 0 && idx < size ? idx : -1;
+    }
+
+    @Override
+    public boolean containsSymbol(Character symbol) {
+        return getSymbolIndexInternal(symbol) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
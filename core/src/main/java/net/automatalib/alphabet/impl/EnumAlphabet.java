@@ -17,7 +17,9 @@ package net.automatalib.alphabet.impl;
 
 import java.util.Arrays;
 
-public class EnumAlphabet<E extends Enum<E>> extends ArrayAlphabet<E> {
+import net.automatalib.alphabet.ConstantTimeSymbolIndex;
+
+public class EnumAlphabet<E extends Enum<E>> extends ArrayAlphabet<E> implements ConstantTimeSymbolIndex<E> {
 
     public EnumAlphabet(Class<E> enumClazz, boolean withNull) {
         super(extractEnumValues(enumClazz, withNull));
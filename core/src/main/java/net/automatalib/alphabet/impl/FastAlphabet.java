@@ -18,6 +18,7 @@ package net.automatalib.alphabet.impl;
 import java.util.Arrays;
 import java.util.List;
 
+import net.automatalib.alphabet.ConstantTimeSymbolIndex;
 import net.automatalib.alphabet.GrowingAlphabet;
 import net.automatalib.common.util.nid.DynamicList;
 import net.automatalib.common.util.nid.MutableNumericID;
@@ -28,7 +29,8 @@ import net.automatalib.common.util.nid.MutableNumericID;
  * @param <I>
  *         input symbol class.
  */
-public class FastAlphabet<I extends MutableNumericID> extends DynamicList<I> implements GrowingAlphabet<I> {
+public class FastAlphabet<I extends MutableNumericID> extends DynamicList<I>
+        implements GrowingAlphabet<I>, ConstantTimeSymbolIndex<I> {
 
     public FastAlphabet() {}
 
@@ -44,15 +44,13 @@ public class GrowingMapAlphabet<I> extends MapAlphabet<I> implements GrowingAlph
 
     @Override
     public int addSymbol(I a) {
-        //int idx = indexMap.get(a);
-        //if(idx != -1)
-        Integer idx = indexMap.get(a); // TODO: replace by primitive specialization
-        if (idx != null) {
+        int idx = indexTable.get(a);
+        if (idx >= 0) {
             return idx;
         }
         idx = size();
         symbols.add(a);
-        indexMap.put(a, idx);
+        indexTable.put(a, idx);
         return idx;
     }
 
@@ -15,42 +15,52 @@
  */
 package net.automatalib.alphabet.impl;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
-import net.automatalib.common.util.HashUtil;
+import net.automatalib.alphabet.ConstantTimeSymbolIndex;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * A map-based alphabet implementation, that does not impose any restriction on the input symbol class. This
- * implementation stores the alphabet symbols in a {@link List} for fast idx to symbol look-ups as well as a {@link Map}
- * for fast symbol to idx look-ups.
+ * implementation stores the alphabet symbols in a {@link List} for fast idx to symbol look-ups as well as a
+ * {@link SymbolIndexTable} for fast (boxing-free) symbol to idx look-ups.
  *
  * @param <I>
  *         input symbol type
  */
-public class MapAlphabet<I> extends AbstractAlphabet<I> {
+public class MapAlphabet<I> extends AbstractAlphabet<I> implements ConstantTimeSymbolIndex<I> {
 
     protected final List<I> symbols;
 
-    //private final TObjectIntMap<I> indexMap = new TObjectIntHashMap<I>(10, 0.75f, -1);
-    protected final Map<I, Integer> indexMap; // TODO: replace by primitive specialization
+    /**
+     * A {@link Map} view of the symbol to index mapping. Modifications of this view write through to the internal
+     * {@link SymbolIndexTable}. Removing entries is not supported.
+     */
+    protected final Map<I, Integer> indexMap;
+
+    final SymbolIndexTable<I> indexTable;
 
     public MapAlphabet(Collection<? extends I> symbols) {
         this.symbols = new ArrayList<>(symbols);
-        // TODO: replace by primitive specialization
-        this.indexMap = new HashMap<>(HashUtil.capacity(symbols.size()));
+        this.indexTable = new SymbolIndexTable<>(symbols.size());
+        this.indexMap = new IndexMapView();
         int i = 0;
         for (I sym : this.symbols) {
-            indexMap.put(sym, i++);
+            indexTable.put(sym, i++);
         }
     }
 
     MapAlphabet() {
         this.symbols = new ArrayList<>();
-        this.indexMap = new HashMap<>(); // TODO: replace by primitive specialization
+        this.indexTable = new SymbolIndexTable<>(0);
+        this.indexMap = new IndexMapView();
     }
 
     @Override
@@ -65,8 +75,8 @@ public class MapAlphabet<I> extends AbstractAlphabet<I> {
 
     @Override
     public int getSymbolIndex(I symbol) {
-        final Integer result = indexMap.get(symbol);
-        if (result == null) {
+        final int result = indexTable.get(symbol);
+        if (result < 0) {
             throw new IllegalArgumentException("Symbol '" + symbol + "' is not contained in the alphabet");
         }
         return result;
@@ -74,6 +84,48 @@ public class MapAlphabet<I> extends AbstractAlphabet<I> {
 
     @Override
     public boolean containsSymbol(I symbol) {
-        return indexMap.containsKey(symbol);
+        return indexTable.containsKey(symbol);
+    }
+
+    private final class IndexMapView extends AbstractMap<I, Integer> {
+
+        @Override
+        public @Nullable Integer get(@Nullable Object key) {
+            final int idx = indexTable.get(key);
+            return idx < 0 ? null : idx;
+        }
+
+        @Override
+        public boolean containsKey(@Nullable Object key) {
+            return indexTable.containsKey(key);
+        }
+
+        @Override
+        public @Nullable Integer put(I key, Integer value) {
+            final Integer previous = get(key);
+            indexTable.put(key, value);
+            return previous;
+        }
+
+        @Override
+        public int size() {
+            return indexTable.size();
+        }
+
+        @Override
+        public Set<Entry<I, Integer>> entrySet() {
+            return new AbstractSet<Entry<I, Integer>>() {
+
+                @Override
+                public Iterator<Entry<I, Integer>> iterator() {
+                    return indexTable.entryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return indexTable.size();
+                }
+            };
+        }
     }
 }
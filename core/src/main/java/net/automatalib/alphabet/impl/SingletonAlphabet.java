@@ -18,6 +18,7 @@ package net.automatalib.alphabet.impl;
 import java.util.Objects;
 
 import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.ConstantTimeSymbolIndex;
 
 /**
  * A specialized implementation for {@link Alphabet}s containing only a single symbol.
@@ -25,7 +26,7 @@ import net.automatalib.alphabet.Alphabet;
  * @param <I>
  *         input symbol type
  */
-public class SingletonAlphabet<I> extends AbstractAlphabet<I> implements Alphabet<I> {
+public class SingletonAlphabet<I> extends AbstractAlphabet<I> implements ConstantTimeSymbolIndex<I> {
 
     private final I symbol;
 
@@ -0,0 +1,231 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.alphabet.impl;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An open-addressing hash table that maps (arbitrary, possibly {@code null}) symbols to their non-negative indices.
+ * Contrary to a {@link java.util.HashMap HashMap&lt;I, Integer&gt;}, indices are stored unboxed and the (spread) hash
+ * codes of the symbols are cached, so that look-ups neither allocate objects nor call {@link Object#equals(Object)} on
+ * colliding symbols with different hash codes.
+ * <p>
+ * This class is not thread-safe for concurrent modifications. However, once populated, concurrent look-ups are safe.
+ *
+ * @param <I>
+ *         symbol type
+ */
+public final class SymbolIndexTable<I> {
+
+    private static final int MIN_CAPACITY = 4;
+    private static final int EMPTY = -1;
+
+    private @Nullable Object[] symbols;
+    private int[] hashes;
+    private int[] indices;
+    private int size;
+    private int mask;
+
+    public SymbolIndexTable(int expectedSize) {
+        final int capacity = capacityFor(expectedSize);
+        this.symbols = new Object[capacity];
+        this.hashes = new int[capacity];
+        this.indices = new int[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(this.indices, EMPTY);
+    }
+
+    /**
+     * Creates a table that maps each of the given symbols to its position in the given iteration order. If a symbol
+     * occurs multiple times, its first position is used.
+     *
+     * @param symbols
+     *         the symbols
+     * @param size
+     *         the (expected) number of symbols
+     * @param <I>
+     *         symbol type
+     *
+     * @return the populated table
+     */
+    public static <I> SymbolIndexTable<I> of(Iterable<? extends I> symbols, int size) {
+        final SymbolIndexTable<I> result = new SymbolIndexTable<>(size);
+        int i = 0;
+        for (I sym : symbols) {
+            if (result.get(sym) == EMPTY) {
+                result.put(sym, i);
+            }
+            i++;
+        }
+        return result;
+    }
+
+    // a power of two that keeps the load factor at or below 0.5
+    private static int capacityFor(int expectedSize) {
+        final int min = Math.max(MIN_CAPACITY, expectedSize * 2);
+        return Integer.highestOneBit(min - 1) << 1;
+    }
+
+    private static int hash(@Nullable Object symbol) {
+        final int h = Objects.hashCode(symbol) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns the index of the given symbol.
+     *
+     * @param symbol
+     *         the symbol
+     *
+     * @return the index of the given symbol, or {@code -1} if the symbol is not contained in this table
+     */
+    public int get(@Nullable Object symbol) {
+        final int h = hash(symbol);
+        int slot = h & mask;
+        int idx;
+
+        while ((idx = indices[slot]) != EMPTY) {
+            if (hashes[slot] == h && Objects.equals(symbols[slot], symbol)) {
+                return idx;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        return EMPTY;
+    }
+
+    /**
+     * Checks whether the given symbol is contained in this table.
+     *
+     * @param symbol
+     *         the symbol
+     *
+     * @return {@code true} if the symbol is contained in this table, {@code false} otherwise
+     */
+    public boolean containsKey(@Nullable Object symbol) {
+        return get(symbol) != EMPTY;
+    }
+
+    /**
+     * Associates the given symbol with the given index, replacing any previously associated index.
+     *
+     * @param symbol
+     *         the symbol
+     * @param index
+     *         the (non-negative) index
+     */
+    public void put(@Nullable I symbol, int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Symbol indices must be non-negative");
+        }
+
+        final int h = hash(symbol);
+        int slot = h & mask;
+
+        while (indices[slot] != EMPTY) {
+            if (hashes[slot] == h && Objects.equals(symbols[slot], symbol)) {
+                indices[slot] = index;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        symbols[slot] = symbol;
+        hashes[slot] = h;
+        indices[slot] = index;
+
+        if (++size * 2 > indices.length) {
+            rehash();
+        }
+    }
+
+    /**
+     * Returns the number of symbols in this table.
+     *
+     * @return the number of symbols in this table
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an iterator over the (symbol, index) pairs of this table, in no particular order.
+     *
+     * @return an iterator over the entries of this table
+     */
+    Iterator<Entry<I, Integer>> entryIterator() {
+        return new Iterator<Entry<I, Integer>>() {
+
+            private int slot = advance(0);
+
+            private int advance(int from) {
+                int result = from;
+                while (result < indices.length && indices[result] == EMPTY) {
+                    result++;
+                }
+                return result;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return slot < indices.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public Entry<I, Integer> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final Entry<I, Integer> result = new SimpleImmutableEntry<>((I) symbols[slot], indices[slot]);
+                slot = advance(slot + 1);
+                return result;
+            }
+        };
+    }
+
+    private void rehash() {
+        final Object[] oldSymbols = this.symbols;
+        final int[] oldHashes = this.hashes;
+        final int[] oldIndices = this.indices;
+        final int capacity = oldIndices.length << 1;
+
+        this.symbols = new Object[capacity];
+        this.hashes = new int[capacity];
+        this.indices = new int[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(this.indices, EMPTY);
+
+        for (int i = 0; i < oldIndices.length; i++) {
+            if (oldIndices[i] != EMPTY) {
+                int slot = oldHashes[i] & mask;
+                while (indices[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                symbols[slot] = oldSymbols[i];
+                hashes[slot] = oldHashes[i];
+                indices[slot] = oldIndices[i];
+            }
+        }
+    }
+}
@@ -22,7 +22,9 @@ import java.util.List;
 import java.util.function.IntFunction;
 
 import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.ConstantTimeSymbolIndex;
 import net.automatalib.alphabet.SupportsGrowingAlphabet;
+import net.automatalib.alphabet.impl.SymbolIndexTable;
 import net.automatalib.automaton.MutableAutomaton;
 import net.automatalib.automaton.MutableDeterministic.FullIntAbstraction;
 import net.automatalib.automaton.UniversalFiniteAlphabetAutomaton;
@@ -60,6 +62,8 @@ public abstract class AbstractCompact<I, T, SP, TP> implements MutableAutomaton<
     protected static final int INVALID_STATE = FullIntAbstraction.INVALID_STATE;
 
     private final Alphabet<I> alphabet;
+    // only used for alphabets without constant-time symbol look-ups, see #getSymbolIndex(Object)
+    private final @Nullable SymbolIndexTable<I> symbolIndex;
     private final float resizeFactor;
     private int alphabetSize;
     private int stateCapacity;
@@ -73,10 +77,30 @@ public abstract class AbstractCompact<I, T, SP, TP> implements MutableAutomaton<
     public AbstractCompact(Alphabet<I> alphabet, int stateCapacity, float resizeFactor) {
         this.alphabet = alphabet;
         this.alphabetSize = alphabet.size();
+        this.symbolIndex =
+                alphabet instanceof ConstantTimeSymbolIndex ? null : SymbolIndexTable.of(alphabet, alphabetSize);
         this.resizeFactor = resizeFactor;
         this.stateCapacity = stateCapacity;
     }
 
+    /**
+     * Constructor for subclasses whose (external) storage already contains the data of the given number of states,
+     * e.g., when re-opening a persisted automaton.
+     *
+     * @param alphabet
+     *         the input alphabet
+     * @param stateCapacity
+     *         the state capacity of the storage
+     * @param resizeFactor
+     *         the resize factor
+     * @param numStates
+     *         the number of existing states
+     */
+    protected AbstractCompact(Alphabet<I> alphabet, int stateCapacity, float resizeFactor, int numStates) {
+        this(alphabet, stateCapacity, resizeFactor);
+        this.numStates = numStates;
+    }
+
     @Override
     public Collection<Integer> getStates() {
         return CollectionUtil.intRange(0, numStates);
@@ -151,6 +175,10 @@ public abstract class AbstractCompact<I, T, SP, TP> implements MutableAutomaton<
             this.alphabet.asGrowingAlphabetOrThrowException().addSymbol(symbol);
         }
 
+        if (symbolIndex != null && !symbolIndex.containsKey(symbol)) {
+            symbolIndex.put(symbol, this.alphabet.getSymbolIndex(symbol));
+        }
+
         final int newAlphabetSize = this.alphabet.size();
 
         // even if the symbol was already in the alphabet, we need to make sure to be able to store the new symbol
@@ -214,6 +242,18 @@ public abstract class AbstractCompact<I, T, SP, TP> implements MutableAutomaton<
         return result;
     }
 
+    /**
+     * Updates the memory layout of the provided array of property codes.
+     *
+     * @param storage
+     *         the array of property codes
+     * @param payload
+     *         the payload object
+     */
+    protected final void updateStateStorage(PropertyCodeArray storage, Payload payload) {
+        storage.resize(payload.newSizeHint);
+    }
+
     /**
      * Implementing classes should override this method in order to react to changes to the layout of their array-based
      * transition data, e.g. due to calls to {@link #addState()} or {@link #addAlphabetSymbol(Object)}.
@@ -298,6 +338,76 @@ public abstract class AbstractCompact<I, T, SP, TP> implements MutableAutomaton<
         return payload.type.updateStorage(oldStorage, payload, arrayConstructor, (arr, idx) -> arr[idx] = defaultValue);
     }
 
+    /**
+     * Updates the memory layout of the provided array of property codes.
+     *
+     * @param storage
+     *         the array of property codes
+     * @param payload
+     *         the payload object
+     */
+    protected final void updateTransitionStorage(PropertyCodeArray storage, Payload payload) {
+        // new arrays are zero-initialized, which corresponds to PropertyDictionary.NULL_CODE
+        if (storage.bytes != null) {
+            storage.bytes = payload.type.updateStorage(storage.bytes, payload, byte[]::new, (arr, idx) -> {});
+        } else if (storage.shorts != null) {
+            storage.shorts = payload.type.updateStorage(storage.shorts, payload, short[]::new, (arr, idx) -> {});
+        } else {
+            storage.ints = payload.type.updateStorage(storage.ints, payload, int[]::new, (arr, idx) -> {});
+        }
+    }
+
+    /**
+     * Updates the memory layout of the provided paged storage. Contrary to the array-based methods, adding states
+     * never copies any data (the storage allocates its pages lazily) and adding alphabet symbols widens the state-local
+     * blocks in-place.
+     *
+     * @param storage
+     *         the storage
+     * @param payload
+     *         the payload object
+     *
+     * @see #updateTransitionStorage(PagedStorage, Payload)
+     */
+    protected final void updateTransitionStorage(PagedIntStorage storage, Payload payload) {
+        if (payload.type == TransitionUpdateOperation.NEW_ALPHABET_SYMBOL) {
+            storage.widenRecords(payload.numStates, payload.oldSizeHint, payload.newSizeHint);
+        }
+    }
+
+    /**
+     * Updates the memory layout of the provided paged storage. Contrary to the array-based methods, adding states
+     * never copies any data (the storage allocates its pages lazily) and adding alphabet symbols widens the state-local
+     * blocks in-place.
+     *
+     * @param storage
+     *         the storage
+     * @param payload
+     *         the payload object
+     *
+     * @see #updateTransitionStorage(PagedIntStorage, Payload)
+     */
+    protected final void updateTransitionStorage(PagedStorage<?> storage, Payload payload) {
+        if (payload.type == TransitionUpdateOperation.NEW_ALPHABET_SYMBOL) {
+            storage.widenRecords(payload.numStates, payload.oldSizeHint, payload.newSizeHint);
+        }
+    }
+
+    /**
+     * Updates the given {@link SparseTransitionStorage}. Only the references to the rows of new states are allocated,
+     * new alphabet symbols require no update at all.
+     *
+     * @param storage
+     *         the storage
+     * @param payload
+     *         the payload describing the update
+     */
+    protected final void updateTransitionStorage(SparseTransitionStorage storage, Payload payload) {
+        if (payload.type == TransitionUpdateOperation.NEW_STATE) {
+            storage.ensureCapacity(payload.newSizeHint);
+        }
+    }
+
     protected static @Nullable Integer toState(int id) {
         return (id == INVALID_STATE) ? null : id;
     }
@@ -322,7 +432,24 @@ public abstract class AbstractCompact<I, T, SP, TP> implements MutableAutomaton<
         return stateId * alphabetSize + inputId;
     }
 
+    /**
+     * Returns the index of the given input symbol. For alphabets that do not guarantee {@link ConstantTimeSymbolIndex
+     * constant-time} look-ups (such as {@link net.automatalib.alphabet.impl.ListAlphabet}s), the index is looked up in
+     * an internal hash table first. Symbols missing from this table (e.g., because they have been added to a shared
+     * alphabet by another automaton) are delegated to the alphabet.
+     *
+     * @param input
+     *         the input symbol
+     *
+     * @return the index of the given input symbol
+     */
     protected final int getSymbolIndex(I input) {
+        if (symbolIndex != null) {
+            final int idx = symbolIndex.get(input);
+            if (idx >= 0) {
+                return idx;
+            }
+        }
         return alphabet.getSymbolIndex(input);
     }
 
@@ -22,6 +22,7 @@ import java.util.Objects;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.automaton.MutableDeterministic;
+import net.automatalib.common.smartcollection.IntSeq;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
@@ -49,6 +50,15 @@ public abstract class AbstractCompactDeterministic<I, T, SP, TP> extends Abstrac
         super(alphabet, stateCapacity, resizeFactor);
     }
 
+    protected AbstractCompactDeterministic(Alphabet<I> alphabet,
+                                           int stateCapacity,
+                                           float resizeFactor,
+                                           int numStates,
+                                           int initial) {
+        super(alphabet, stateCapacity, resizeFactor, numStates);
+        this.initial = initial;
+    }
+
     protected AbstractCompactDeterministic(Alphabet<I> alphabet, AbstractCompactDeterministic<?, ?, ?, ?> other) {
         super(alphabet, other);
         this.initial = other.initial;
@@ -120,6 +130,44 @@ public abstract class AbstractCompactDeterministic<I, T, SP, TP> extends Abstrac
         return this.initial;
     }
 
+    /**
+     * Retrieves the state reached by the given sequence of input (symbol) indices when starting from the initial state.
+     * Contrary to {@link #getState(Iterable)}, this method operates directly on the symbol indices and therefore does
+     * not require to box or look up any input symbols.
+     *
+     * @param input
+     *         the sequence of input indices
+     *
+     * @return the reached state, or {@link AbstractCompact#INVALID_STATE} if the initial state or any of the traversed
+     * transitions is undefined
+     */
+    public int getIntState(IntSeq input) {
+        final int init = initial;
+        return init == AbstractCompact.INVALID_STATE ? init : getIntSuccessor(init, input);
+    }
+
+    /**
+     * Retrieves the state reached by the given sequence of input (symbol) indices when starting from the given state.
+     *
+     * @param state
+     *         the start state
+     * @param input
+     *         the sequence of input indices
+     *
+     * @return the reached state, or {@link AbstractCompact#INVALID_STATE} if any of the traversed transitions is
+     * undefined
+     */
+    public int getIntSuccessor(int state, IntSeq input) {
+        final int len = input.size();
+        int curr = state;
+
+        for (int i = 0; i < len && curr != AbstractCompact.INVALID_STATE; i++) {
+            curr = getSuccessor(curr, input.get(i));
+        }
+
+        return curr;
+    }
+
     @Override
     public Integer getSuccessor(T transition) {
         return getIntSuccessor(transition);
@@ -212,6 +212,24 @@ public abstract class AbstractCompactSimpleNondet<I, SP> extends AbstractCompact
         return transition == null ? Collections.emptySet() : new PositiveIntSet(transition);
     }
 
+    /**
+     * Returns the successors of the given state for the given input (index) in their internal {@link BitSet}
+     * representation. This method allows performance-critical algorithms (such as the subset construction) to access
+     * the successors without the (boxing) overhead of {@link #getTransitions(int, int)}.
+     * <p>
+     * <b>Note:</b> the returned {@link BitSet} is backed by this automaton and must not be modified.
+     *
+     * @param state
+     *         the state
+     * @param inputIdx
+     *         the index of the input symbol
+     *
+     * @return the successors of the given state for the given input, or {@code null} if no successors exist
+     */
+    public @Nullable BitSet getSuccessorBits(int state, int inputIdx) {
+        return transitions[toMemoryIndex(state, inputIdx)];
+    }
+
     @Override
     public Set<Integer> getInitialStates() {
         return new PositiveIntSet(initial);
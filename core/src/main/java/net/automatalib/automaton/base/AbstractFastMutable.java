@@ -18,7 +18,9 @@ package net.automatalib.automaton.base;
 import java.util.Collection;
 
 import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.ConstantTimeSymbolIndex;
 import net.automatalib.alphabet.SupportsGrowingAlphabet;
+import net.automatalib.alphabet.impl.SymbolIndexTable;
 import net.automatalib.automaton.ShrinkableAutomaton;
 import net.automatalib.automaton.UniversalFiniteAlphabetAutomaton;
 import net.automatalib.automaton.concept.StateIDs;
@@ -40,11 +42,35 @@ public abstract class AbstractFastMutable<S extends AbstractFastState<?>, I, T,
                    StateLocalInput<S, I> {
 
     protected final Alphabet<I> inputAlphabet;
+    // only used for alphabets without constant-time symbol look-ups, see #getSymbolIndex(Object)
+    private final @Nullable SymbolIndexTable<I> symbolIndex;
     private final DynamicList<S> states = new DynamicList<>();
     private final IDChangeNotifier<S> tracker = new IDChangeNotifier<>();
 
     public AbstractFastMutable(Alphabet<I> inputAlphabet) {
         this.inputAlphabet = inputAlphabet;
+        this.symbolIndex = inputAlphabet instanceof ConstantTimeSymbolIndex ?
+                null :
+                SymbolIndexTable.of(inputAlphabet, inputAlphabet.size());
+    }
+
+    /**
+     * Returns the index of the given input symbol. See {@link AbstractCompact#getSymbolIndex(Object)} for details on
+     * how alphabets without constant-time look-ups are handled.
+     *
+     * @param input
+     *         the input symbol
+     *
+     * @return the index of the given input symbol
+     */
+    protected final int getSymbolIndex(I input) {
+        if (symbolIndex != null) {
+            final int idx = symbolIndex.get(input);
+            if (idx >= 0) {
+                return idx;
+            }
+        }
+        return inputAlphabet.getSymbolIndex(input);
     }
 
     @Override
@@ -101,6 +127,10 @@ public abstract class AbstractFastMutable<S extends AbstractFastState<?>, I, T,
             this.inputAlphabet.asGrowingAlphabetOrThrowException().addSymbol(symbol);
         }
 
+        if (symbolIndex != null && !symbolIndex.containsKey(symbol)) {
+            symbolIndex.put(symbol, this.inputAlphabet.getSymbolIndex(symbol));
+        }
+
         // even if the symbol was already in the alphabet, we need to make sure to be able to store the new symbol
         final int newAlphabetSize = this.inputAlphabet.size();
 
@@ -21,8 +21,28 @@ import java.util.List;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.automaton.ShrinkableDeterministic;
+import net.automatalib.common.smartcollection.IntSeq;
+import net.automatalib.word.Word;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+/**
+ * Shared functionality for deterministic mutable automata whose states store their outgoing transitions in an array.
+ * <p>
+ * Besides the object-based methods of the implemented interfaces, this class offers index-based methods (e.g., {@link
+ * #getSuccessor(AbstractFastState, IntSeq)}) and re-usable {@link Cursor}s that operate directly on the transition
+ * arrays of the states and therefore neither box nor look up any input symbols.
+ *
+ * @param <S>
+ *         state type
+ * @param <I>
+ *         input symbol type
+ * @param <T>
+ *         transition type
+ * @param <SP>
+ *         state property type
+ * @param <TP>
+ *         transition property type
+ */
 public abstract class AbstractFastMutableDet<S extends AbstractFastState<T>, I, T, SP, TP>
         extends AbstractFastMutable<S, I, T, SP, TP> implements ShrinkableDeterministic<S, I, T, SP, TP> {
 
@@ -34,7 +54,7 @@ public abstract class AbstractFastMutableDet<S extends AbstractFastState<T>, I,
 
     @Override
     public void setTransition(S state, I input, @Nullable T transition) {
-        int inputIdx = inputAlphabet.getSymbolIndex(input);
+        int inputIdx = getSymbolIndex(input);
         state.setTransitionObject(inputIdx, transition);
     }
 
@@ -50,10 +70,96 @@ public abstract class AbstractFastMutableDet<S extends AbstractFastState<T>, I,
 
     @Override
     public @Nullable T getTransition(S state, I input) {
-        int inputIdx = inputAlphabet.getSymbolIndex(input);
+        int inputIdx = getSymbolIndex(input);
+        return state.getTransitionObject(inputIdx);
+    }
+
+    /**
+     * Returns the transition of the given state for the given input (symbol) index.
+     *
+     * @param state
+     *         the source state
+     * @param inputIdx
+     *         the index of the input symbol
+     *
+     * @return the transition, or {@code null} if no transition is defined
+     */
+    public final @Nullable T getTransition(S state, int inputIdx) {
         return state.getTransitionObject(inputIdx);
     }
 
+    @Override
+    // Overridden for performance reasons (to prevent iterator instantiation and repeated interface calls)
+    public @Nullable S getSuccessor(S state, Iterable<? extends I> input) {
+        S curr = state;
+
+        if (input instanceof Word) {
+            final Word<? extends I> word = (Word<? extends I>) input;
+            final int len = word.size();
+
+            for (int i = 0; i < len && curr != null; i++) {
+                final T trans = curr.getTransitionObject(getSymbolIndex(word.getSymbol(i)));
+                curr = trans == null ? null : getSuccessor(trans);
+            }
+        } else {
+            for (I sym : input) {
+                final T trans = curr.getTransitionObject(getSymbolIndex(sym));
+                if (trans == null) {
+                    return null;
+                }
+                curr = getSuccessor(trans);
+            }
+        }
+
+        return curr;
+    }
+
+    /**
+     * Retrieves the state reached by the given sequence of input (symbol) indices when starting from the initial state.
+     * Contrary to {@link #getState(Iterable)}, this method operates directly on the symbol indices and therefore does
+     * not require to box or look up any input symbols.
+     *
+     * @param input
+     *         the sequence of input indices
+     *
+     * @return the reached state, or {@code null} if the initial state or any of the traversed transitions is undefined
+     */
+    public @Nullable S getState(IntSeq input) {
+        final S init = initialState;
+        return init == null ? null : getSuccessor(init, input);
+    }
+
+    /**
+     * Retrieves the state reached by the given sequence of input (symbol) indices when starting from the given state.
+     *
+     * @param state
+     *         the start state
+     * @param input
+     *         the sequence of input indices
+     *
+     * @return the reached state, or {@code null} if any of the traversed transitions is undefined
+     */
+    public @Nullable S getSuccessor(S state, IntSeq input) {
+        final int len = input.size();
+        S curr = state;
+
+        for (int i = 0; i < len && curr != null; i++) {
+            final T trans = curr.getTransitionObject(input.get(i));
+            curr = trans == null ? null : getSuccessor(trans);
+        }
+
+        return curr;
+    }
+
+    /**
+     * Returns a new {@link Cursor} positioned at the initial state of this automaton.
+     *
+     * @return a new cursor
+     */
+    public Cursor newCursor() {
+        return new Cursor();
+    }
+
     @Override
     public void removeState(S state, @Nullable S replacement) {
         super.removeState(state, replacement);
@@ -83,4 +189,118 @@ public abstract class AbstractFastMutableDet<S extends AbstractFastState<T>, I,
 
         return result;
     }
+
+    /**
+     * A re-usable pointer into the automaton for stepping through it one input (symbol) index at a time. Stepping
+     * neither boxes nor looks up input symbols and does not allocate any objects, which makes cursors suitable for
+     * long-running (random) simulations.
+     * <p>
+     * Cursors are not thread-safe. However, as long as the automaton is not modified, multiple threads may
+     * concurrently simulate the automaton by using a separate cursor each.
+     */
+    public class Cursor {
+
+        private @Nullable S state;
+
+        protected Cursor() {
+            this.state = initialState;
+        }
+
+        /**
+         * Re-positions this cursor at the (current) initial state of the automaton.
+         */
+        public void reset() {
+            reset(initialState);
+        }
+
+        /**
+         * Re-positions this cursor at the given state.
+         *
+         * @param state
+         *         the new state (may be {@code null} to mark the cursor as undefined)
+         */
+        public void reset(@Nullable S state) {
+            this.state = state;
+        }
+
+        /**
+         * Returns the current state of this cursor.
+         *
+         * @return the current state, or {@code null} if the cursor has traversed an undefined transition (or the
+         * automaton has no initial state)
+         */
+        public @Nullable S getState() {
+            return state;
+        }
+
+        /**
+         * Traverses the transition for the given input (symbol) index. If the transition is undefined, the cursor
+         * becomes undefined as well.
+         *
+         * @param inputIdx
+         *         the index of the input symbol
+         *
+         * @return {@code true} if the transition is defined, {@code false} otherwise
+         */
+        public boolean step(int inputIdx) {
+            final S curr = state;
+
+            if (curr == null) {
+                return false;
+            }
+
+            final T trans = curr.getTransitionObject(inputIdx);
+
+            if (trans == null) {
+                this.state = null;
+                return false;
+            }
+
+            onTransition(trans);
+            this.state = getSuccessor(trans);
+            return true;
+        }
+
+        /**
+         * Traverses the transition for the given input symbol.
+         *
+         * @param input
+         *         the input symbol
+         *
+         * @return {@code true} if the transition is defined, {@code false} otherwise
+         *
+         * @see #step(int)
+         */
+        public boolean step(I input) {
+            return step(getSymbolIndex(input));
+        }
+
+        /**
+         * Traverses the transitions for the given sequence of input (symbol) indices.
+         *
+         * @param input
+         *         the sequence of input indices
+         *
+         * @return {@code true} if all transitions are defined, {@code false} otherwise
+         */
+        public boolean run(IntSeq input) {
+            final int len = input.size();
+
+            for (int i = 0; i < len; i++) {
+                if (!step(input.get(i))) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * Hook for subclasses that is called for every traversed (defined) transition.
+         *
+         * @param transition
+         *         the traversed transition
+         */
+        protected void onTransition(T transition) {}
+    }
 }
@@ -43,7 +43,7 @@ public abstract class AbstractFastMutableNondet<S extends AbstractFastState<Coll
 
     @Override
     public Collection<T> getTransitions(S state, I input) {
-        int inputIdx = inputAlphabet.getSymbolIndex(input);
+        int inputIdx = getSymbolIndex(input);
         final Collection<T> result = state.getTransitionObject(inputIdx);
         return result == null ? Collections.emptySet() : result;
     }
@@ -65,7 +65,7 @@ public abstract class AbstractFastMutableNondet<S extends AbstractFastState<Coll
 
     @Override
     public void setTransitions(S state, I input, Collection<? extends T> transitions) {
-        int inputIdx = inputAlphabet.getSymbolIndex(input);
+        int inputIdx = getSymbolIndex(input);
         state.setTransitionObject(inputIdx, new HashSet<>(transitions));
     }
 
@@ -0,0 +1,436 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.base;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.ConstantTimeSymbolIndex;
+import net.automatalib.alphabet.GrowingAlphabet;
+import net.automatalib.alphabet.impl.MapAlphabet;
+import net.automatalib.automaton.UniversalDeterministicAutomaton;
+import net.automatalib.automaton.UniversalFiniteAlphabetAutomaton;
+import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.common.util.collection.CollectionUtil;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Abstract super class for immutable snapshots ("frozen" copies) of deterministic automata. All data of a snapshot is
+ * stored in arrays that are completely initialized upon construction and only referenced via final fields. Snapshots
+ * can therefore be safely published to and concurrently read by any number of threads without further
+ * synchronization.
+ * <p>
+ * The data is split into pages of {@link #PAGE_SIZE} states each. When creating a snapshot, a previous snapshot (e.g.,
+ * of a previous hypothesis) may be provided, whose pages are re-used whenever their content has not changed. Hence,
+ * subsequent snapshots of an incrementally refined automaton only need memory for the modified parts of the automaton.
+ * <p>
+ * States are represented by the integers {@code 0} to {@code size() - 1}, which correspond to the state ids of the
+ * {@link UniversalDeterministicAutomaton#fullIntAbstraction(Alphabet) full integer abstraction} of the source
+ * automaton.
+ *
+ * @param <I>
+ *         input symbol type
+ * @param <T>
+ *         transition type
+ * @param <SP>
+ *         state property type
+ * @param <TP>
+ *         transition property type
+ */
+public abstract class AbstractFrozenDeterministic<I, T, SP, TP> implements
+                                                                 UniversalDeterministicAutomaton<Integer, I, T, SP, TP>,
+                                                                 UniversalDeterministicAutomaton.StateIntAbstraction<I, T, SP, TP>,
+                                                                 UniversalDeterministicAutomaton.FullIntAbstraction<T, SP, TP>,
+                                                                 UniversalFiniteAlphabetAutomaton<Integer, I, T, SP, TP>,
+                                                                 StateIDs<Integer> {
+
+    /**
+     * The number of states per page (as a power of two).
+     */
+    protected static final int PAGE_SHIFT = 10;
+    protected static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    protected static final int PAGE_MASK = PAGE_SIZE - 1;
+    protected static final int INVALID_STATE = FullIntAbstraction.INVALID_STATE;
+
+    private final Alphabet<I> alphabet;
+    private final int numInputs;
+    private final int numStates;
+    private final int initial;
+    private final int[][] successors;
+
+    /**
+     * Constructor. Copies the transition structure of the given source automaton.
+     *
+     * @param alphabet
+     *         the input alphabet of the snapshot
+     * @param source
+     *         the (full integer abstraction of the) automaton to copy. The abstraction should be based on the
+     *         {@link #freezeAlphabet(Alphabet) frozen} alphabet, so that both agree on the number of inputs
+     * @param previous
+     *         a previous snapshot whose unchanged pages should be shared, may be {@code null}
+     */
+    protected AbstractFrozenDeterministic(Alphabet<I> alphabet,
+                                          UniversalDeterministicAutomaton.FullIntAbstraction<?, ?, ?> source,
+                                          @Nullable AbstractFrozenDeterministic<?, ?, ?, ?> previous) {
+        this.alphabet = freezeAlphabet(alphabet);
+        this.numInputs = this.alphabet.size();
+        this.numStates = source.size();
+        this.initial = source.getIntInitialState();
+
+        final int numPages = getNumPages();
+        final int[][] previousSuccessors = isCompatible(previous) ? previous.successors : null;
+
+        this.successors = new int[numPages][];
+
+        for (int p = 0; p < numPages; p++) {
+            final int offset = p << PAGE_SHIFT;
+            final int pageStates = getPageSize(p);
+            final int[] page = new int[pageStates * numInputs];
+
+            for (int s = 0; s < pageStates; s++) {
+                final int base = s * numInputs;
+                for (int i = 0; i < numInputs; i++) {
+                    page[base + i] = source.getSuccessor(offset + s, i);
+                }
+            }
+
+            this.successors[p] = share(page, p, previousSuccessors);
+        }
+    }
+
+    /**
+     * Returns an alphabet that cannot be modified concurrently and that provides constant-time symbol look-ups. Growing
+     * alphabets (and alphabets that would otherwise need to be scanned linearly) are copied, all other alphabets are
+     * returned as-is. Hence, applying this method to an already frozen alphabet returns the same alphabet.
+     *
+     * @param alphabet
+     *         the alphabet to freeze
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the frozen alphabet
+     */
+    protected static <I> Alphabet<I> freezeAlphabet(Alphabet<I> alphabet) {
+        return alphabet instanceof GrowingAlphabet || !(alphabet instanceof ConstantTimeSymbolIndex) ?
+                new MapAlphabet<>(alphabet) :
+                alphabet;
+    }
+
+    /**
+     * Copies the state properties of the given source automaton into pages, sharing unchanged pages of the given
+     * previous pages.
+     *
+     * @param source
+     *         the (full integer abstraction of the) automaton to copy
+     * @param previousPages
+     *         the state property pages of a previous snapshot, may be {@code null}
+     *
+     * @return the state property pages
+     */
+    protected final @Nullable Object[][] freezeStateProperties(UniversalDeterministicAutomaton.FullIntAbstraction<?, ?, ?> source,
+                                                               @Nullable Object @Nullable [][] previousPages) {
+        final int numPages = getNumPages();
+        final @Nullable Object[][] result = new Object[numPages][];
+
+        for (int p = 0; p < numPages; p++) {
+            final int offset = p << PAGE_SHIFT;
+            final @Nullable Object[] page = new Object[getPageSize(p)];
+
+            for (int s = 0; s < page.length; s++) {
+                page[s] = source.getStateProperty(offset + s);
+            }
+
+            result[p] = share(page, p, previousPages);
+        }
+
+        return result;
+    }
+
+    /**
+     * Copies the transition properties of the given source automaton into pages, sharing unchanged pages of the given
+     * previous pages. Undefined transitions have a {@code null} property.
+     *
+     * @param source
+     *         the (full integer abstraction of the) automaton to copy
+     * @param previousPages
+     *         the transition property pages of a previous snapshot, may be {@code null}
+     *
+     * @return the transition property pages
+     */
+    protected final @Nullable Object[][] freezeTransitionProperties(UniversalDeterministicAutomaton.FullIntAbstraction<?, ?, ?> source,
+                                                                    @Nullable Object @Nullable [][] previousPages) {
+        final int numPages = getNumPages();
+        final @Nullable Object[][] result = new Object[numPages][];
+
+        for (int p = 0; p < numPages; p++) {
+            final int offset = p << PAGE_SHIFT;
+            final int pageStates = getPageSize(p);
+            final @Nullable Object[] page = new Object[pageStates * numInputs];
+
+            for (int s = 0; s < pageStates; s++) {
+                final int base = s * numInputs;
+                for (int i = 0; i < numInputs; i++) {
+                    page[base + i] = source.getTransitionProperty(offset + s, i);
+                }
+            }
+
+            result[p] = share(page, p, previousPages);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the number of pages of this snapshot.
+     *
+     * @return the number of pages
+     */
+    public final int getNumPages() {
+        return (numStates + PAGE_MASK) >>> PAGE_SHIFT;
+    }
+
+    /**
+     * Returns the number of states stored in the given page. All pages but the last one contain {@link #PAGE_SIZE}
+     * states.
+     *
+     * @param page
+     *         the page index
+     *
+     * @return the number of states stored in the given page
+     */
+    protected final int getPageSize(int page) {
+        return Math.min(PAGE_SIZE, numStates - (page << PAGE_SHIFT));
+    }
+
+    /**
+     * Checks whether the pages of the given snapshot may be shared with this snapshot, i.e., whether its pages have the
+     * same layout.
+     *
+     * @param previous
+     *         the previous snapshot
+     *
+     * @return {@code true} if the pages of the given snapshot may be shared, {@code false} otherwise
+     */
+    protected final boolean isCompatible(@Nullable AbstractFrozenDeterministic<?, ?, ?, ?> previous) {
+        return previous != null && previous.numInputs == numInputs;
+    }
+
+    /**
+     * Returns the page of the previous snapshot, if its content equals the given page, or the given page otherwise.
+     *
+     * @param page
+     *         the (new) page
+     * @param pageIdx
+     *         the index of the page
+     * @param previousPages
+     *         the pages of the previous snapshot, may be {@code null}
+     *
+     * @return the page to store in the new snapshot
+     */
+    protected static int[] share(int[] page, int pageIdx, int @Nullable [][] previousPages) {
+        if (previousPages != null && pageIdx < previousPages.length && Arrays.equals(page, previousPages[pageIdx])) {
+            return previousPages[pageIdx];
+        }
+        return page;
+    }
+
+    /**
+     * Returns the page of the previous snapshot, if its content equals the given page, or the given page otherwise.
+     *
+     * @param page
+     *         the (new) page
+     * @param pageIdx
+     *         the index of the page
+     * @param previousPages
+     *         the pages of the previous snapshot, may be {@code null}
+     *
+     * @return the page to store in the new snapshot
+     */
+    protected static long[] share(long[] page, int pageIdx, long @Nullable [][] previousPages) {
+        if (previousPages != null && pageIdx < previousPages.length && Arrays.equals(page, previousPages[pageIdx])) {
+            return previousPages[pageIdx];
+        }
+        return page;
+    }
+
+    /**
+     * Returns the page of the previous snapshot, if its content equals the given page, or the given page otherwise.
+     * Elements are compared via {@link Objects#equals(Object, Object)}.
+     *
+     * @param page
+     *         the (new) page
+     * @param pageIdx
+     *         the index of the page
+     * @param previousPages
+     *         the pages of the previous snapshot, may be {@code null}
+     *
+     * @return the page to store in the new snapshot
+     */
+    protected static @Nullable Object[] share(@Nullable Object[] page,
+                                              int pageIdx,
+                                              @Nullable Object @Nullable [][] previousPages) {
+        if (previousPages != null && pageIdx < previousPages.length && Arrays.equals(page, previousPages[pageIdx])) {
+            return previousPages[pageIdx];
+        }
+        return page;
+    }
+
+    /**
+     * Returns the number of pages that are physically shared between the two given snapshots. Mainly intended for
+     * monitoring (and testing) the effectiveness of sharing.
+     *
+     * @param s1
+     *         the first snapshot
+     * @param s2
+     *         the second snapshot
+     *
+     * @return the number of shared transition pages
+     */
+    public static int countSharedPages(AbstractFrozenDeterministic<?, ?, ?, ?> s1,
+                                       AbstractFrozenDeterministic<?, ?, ?, ?> s2) {
+        final int numPages = Math.min(s1.successors.length, s2.successors.length);
+        int result = 0;
+        for (int p = 0; p < numPages; p++) {
+            if (s1.successors[p] == s2.successors[p]) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Alphabet<I> getInputAlphabet() {
+        return alphabet;
+    }
+
+    @Override
+    public Collection<Integer> getStates() {
+        return CollectionUtil.intRange(0, numStates);
+    }
+
+    @Override
+    public StateIDs<Integer> stateIDs() {
+        return this;
+    }
+
+    @Override
+    public int size() {
+        return numStates;
+    }
+
+    @Override
+    public int numInputs() {
+        return numInputs;
+    }
+
+    @Override
+    public int getStateId(Integer state) {
+        return state;
+    }
+
+    @Override
+    public Integer getState(int id) {
+        return id;
+    }
+
+    @Override
+    public int getIntInitialState() {
+        return initial;
+    }
+
+    @Override
+    public @Nullable Integer getInitialState() {
+        return initial == INVALID_STATE ? null : initial;
+    }
+
+    @Override
+    public int getSuccessor(int state, int input) {
+        return successors[state >>> PAGE_SHIFT][(state & PAGE_MASK) * numInputs + input];
+    }
+
+    @Override
+    public int getSuccessor(int state, I input) {
+        return getSuccessor(state, getSymbolIndex(input));
+    }
+
+    @Override
+    public @Nullable Integer getSuccessor(Integer state, I input) {
+        final int succ = getSuccessor(state.intValue(), input);
+        return succ == INVALID_STATE ? null : succ;
+    }
+
+    @Override
+    public Integer getSuccessor(T transition) {
+        return getIntSuccessor(transition);
+    }
+
+    @Override
+    public @Nullable T getTransition(Integer state, I input) {
+        return getTransition(state.intValue(), input);
+    }
+
+    @Override
+    public @Nullable T getTransition(int state, I input) {
+        return getTransition(state, getSymbolIndex(input));
+    }
+
+    @Override
+    public SP getStateProperty(Integer state) {
+        return getStateProperty(state.intValue());
+    }
+
+    @Override
+    public FullIntAbstraction<T, SP, TP> fullIntAbstraction(Alphabet<I> alphabet) {
+        if (Objects.equals(this.alphabet, alphabet)) {
+            return this;
+        }
+        return UniversalDeterministicAutomaton.super.fullIntAbstraction(alphabet);
+    }
+
+    @Override
+    public StateIntAbstraction<I, T, SP, TP> stateIntAbstraction() {
+        return this;
+    }
+
+    /**
+     * Returns the index of the given input symbol.
+     *
+     * @param input
+     *         the input symbol
+     *
+     * @return the index of the given input symbol
+     */
+    protected final int getSymbolIndex(I input) {
+        return alphabet.getSymbolIndex(input);
+    }
+
+    /**
+     * Returns for a given state id and input symbol index, the index of the associated data within the page of the
+     * state.
+     *
+     * @param state
+     *         the state id
+     * @param input
+     *         the index of input symbol
+     *
+     * @return the index within the page of the state
+     */
+    protected final int toPageIndex(int state, int input) {
+        return (state & PAGE_MASK) * numInputs + input;
+    }
+}
@@ -0,0 +1,67 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.base;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A concept for compact automata that (optionally) store their state and/or transition properties dictionary-encoded.
+ * If properties are encoded, they can be compared by their (integer) codes: two properties of automata with the same
+ * (i.e., identical) {@link PropertyDictionary} are equal if and only if their codes are equal.
+ * <p>
+ * States and inputs are referred to by their integer representations, i.e., state ids and symbol indices.
+ */
+public interface EncodedProperties {
+
+    /**
+     * Returns the dictionary of the state properties.
+     *
+     * @return the dictionary of the state properties, or {@code null} if state properties are not encoded
+     */
+    @Nullable PropertyDictionary<?> getStatePropertyDictionary();
+
+    /**
+     * Returns the dictionary of the transition properties.
+     *
+     * @return the dictionary of the transition properties, or {@code null} if transition properties are not encoded
+     */
+    @Nullable PropertyDictionary<?> getTransitionPropertyDictionary();
+
+    /**
+     * Returns the code of the property of the given state. May only be called if {@link
+     * #getStatePropertyDictionary()} does not return {@code null}.
+     *
+     * @param state
+     *         the state id
+     *
+     * @return the code of the state property
+     */
+    int getStatePropertyCode(int state);
+
+    /**
+     * Returns the code of the property of the transition for the given state and input. Undefined transitions have the
+     * code {@link PropertyDictionary#NULL_CODE}. May only be called if {@link #getTransitionPropertyDictionary()} does
+     * not return {@code null}.
+     *
+     * @param state
+     *         the state id
+     * @param input
+     *         the input symbol index
+     *
+     * @return the code of the transition property
+     */
+    int getTransitionPropertyCode(int state, int input);
+}
@@ -0,0 +1,400 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.base;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A growable array of {@code int}s that is stored outside the Java heap. The data is organized in segments of a fixed
+ * (power-of-two) size which are either allocated as direct {@link ByteBuffer}s or mapped from a file. Growing the
+ * storage only appends new segments and never copies existing data, which makes it suitable for very large automata
+ * (whose transition data may exceed the maximum size of a Java array).
+ * <p>
+ * File-backed storages begin with a small header that, besides some meta-data, offers a fixed number of {@link
+ * #getHeader(int) user slots} which may be used to persist the size information of the stored data structure. Such
+ * storages can be re-opened via {@link #open(Path)} without any parsing. Newly allocated positions are initialized
+ * with {@link AbstractCompact#INVALID_STATE}.
+ * <p>
+ * Note that memory-mapped segments are only released once they are garbage-collected, even if the storage has been
+ * {@link #close() closed}.
+ */
+public final class OffHeapIntStorage implements Closeable {
+
+    /**
+     * The number of user slots in the header.
+     */
+    public static final int NUM_HEADER_SLOTS = 12;
+
+    /**
+     * The default segment size (as a power of two), i.e., 2^18 {@code int}s (1 MiB) per segment.
+     */
+    public static final int DEFAULT_SEGMENT_SHIFT = 18;
+
+    private static final int MIN_SHIFT = 4;
+    private static final int MAX_SHIFT = 28;
+
+    private static final int MAGIC = 0x414C4942; // "ALIB"
+    private static final int VERSION = 1;
+
+    private static final int MAGIC_SLOT = 0;
+    private static final int VERSION_SLOT = 1;
+    private static final int SHIFT_SLOT = 2;
+    private static final int SEGMENTS_SLOT = 3;
+    private static final int RESERVED_SLOTS = 4;
+    private static final int HEADER_BYTES = (RESERVED_SLOTS + NUM_HEADER_SLOTS) * Integer.BYTES;
+
+    private final @Nullable FileChannel channel;
+    private final ByteBuffer rawHeader;
+    private final IntBuffer header;
+    private final int shift;
+    private final int mask;
+
+    // the raw buffers are only kept for forcing mapped segments to the disk
+    private ByteBuffer[] rawSegments;
+    private IntBuffer[] segments;
+    private int numSegments;
+
+    private OffHeapIntStorage(@Nullable FileChannel channel, ByteBuffer rawHeader, int shift, int numSegments) {
+        this.channel = channel;
+        this.rawHeader = rawHeader;
+        this.header = rawHeader.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        this.shift = shift;
+        this.mask = (1 << shift) - 1;
+        this.rawSegments = new ByteBuffer[Math.max(numSegments, 4)];
+        this.segments = new IntBuffer[rawSegments.length];
+        this.numSegments = numSegments;
+    }
+
+    /**
+     * Creates a new (empty) storage that is backed by direct memory, using the {@link #DEFAULT_SEGMENT_SHIFT default
+     * segment size}.
+     *
+     * @return the created storage
+     */
+    public static OffHeapIntStorage allocate() {
+        return allocate(DEFAULT_SEGMENT_SHIFT);
+    }
+
+    /**
+     * Creates a new (empty) storage that is backed by direct memory.
+     *
+     * @param segmentShift
+     *         the size of each segment (in {@code int}s) as a power of two
+     *
+     * @return the created storage
+     */
+    public static OffHeapIntStorage allocate(int segmentShift) {
+        checkShift(segmentShift);
+        final OffHeapIntStorage result =
+                new OffHeapIntStorage(null, ByteBuffer.allocateDirect(HEADER_BYTES), segmentShift, 0);
+        result.initHeader();
+        return result;
+    }
+
+    /**
+     * Creates a new (empty) storage that is backed by the given file, using the {@link #DEFAULT_SEGMENT_SHIFT default
+     * segment size}. Existing files are truncated.
+     *
+     * @param path
+     *         the path of the file
+     *
+     * @return the created storage
+     *
+     * @throws IOException
+     *         if the file cannot be created or mapped
+     */
+    public static OffHeapIntStorage create(Path path) throws IOException {
+        return create(path, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    /**
+     * Creates a new (empty) storage that is backed by the given file. Existing files are truncated.
+     *
+     * @param path
+     *         the path of the file
+     * @param segmentShift
+     *         the size of each segment (in {@code int}s) as a power of two
+     *
+     * @return the created storage
+     *
+     * @throws IOException
+     *         if the file cannot be created or mapped
+     */
+    public static OffHeapIntStorage create(Path path, int segmentShift) throws IOException {
+        checkShift(segmentShift);
+        final FileChannel channel = FileChannel.open(path,
+                                                     StandardOpenOption.CREATE,
+                                                     StandardOpenOption.TRUNCATE_EXISTING,
+                                                     StandardOpenOption.READ,
+                                                     StandardOpenOption.WRITE);
+        final OffHeapIntStorage result = new OffHeapIntStorage(channel, mapHeader(channel), segmentShift, 0);
+        result.initHeader();
+        return result;
+    }
+
+    /**
+     * Re-opens a storage from a file that has previously been created by {@link #create(Path, int)}.
+     *
+     * @param path
+     *         the path of the file
+     *
+     * @return the opened storage
+     *
+     * @throws IOException
+     *         if the file cannot be opened or mapped, or does not contain a valid storage
+     */
+    public static OffHeapIntStorage open(Path path) throws IOException {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        try {
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException("File is too small to contain a valid header: " + path);
+            }
+
+            final ByteBuffer rawHeader = mapHeader(channel);
+            final IntBuffer header = rawHeader.duplicate().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            if (header.get(MAGIC_SLOT) != MAGIC || header.get(VERSION_SLOT) != VERSION) {
+                throw new IOException("File does not contain a (compatible) storage: " + path);
+            }
+
+            final int shift = header.get(SHIFT_SLOT);
+            final int numSegments = header.get(SEGMENTS_SLOT);
+            if (shift < MIN_SHIFT || shift > MAX_SHIFT || numSegments < 0 ||
+                channel.size() < HEADER_BYTES + ((long) numSegments * Integer.BYTES << shift)) {
+                throw new IOException("File contains a corrupt header: " + path);
+            }
+
+            final OffHeapIntStorage result = new OffHeapIntStorage(channel, rawHeader, shift, numSegments);
+
+            for (int i = 0; i < numSegments; i++) {
+                result.setSegment(i, result.mapSegment(i));
+            }
+
+            return result;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static void checkShift(int segmentShift) {
+        if (segmentShift < MIN_SHIFT || segmentShift > MAX_SHIFT) {
+            throw new IllegalArgumentException(
+                    "Segment shift must be within [" + MIN_SHIFT + ", " + MAX_SHIFT + "], but was " + segmentShift);
+        }
+    }
+
+    private static ByteBuffer mapHeader(FileChannel channel) throws IOException {
+        return channel.map(MapMode.READ_WRITE, 0, HEADER_BYTES);
+    }
+
+    private void initHeader() {
+        header.put(MAGIC_SLOT, MAGIC);
+        header.put(VERSION_SLOT, VERSION);
+        header.put(SHIFT_SLOT, shift);
+        header.put(SEGMENTS_SLOT, 0);
+    }
+
+    private ByteBuffer mapSegment(int index) throws IOException {
+        assert channel != null;
+        final long segmentBytes = (long) Integer.BYTES << shift;
+        return channel.map(MapMode.READ_WRITE, HEADER_BYTES + index * segmentBytes, segmentBytes);
+    }
+
+    private void setSegment(int index, ByteBuffer raw) {
+        rawSegments[index] = raw;
+        segments[index] = raw.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+
+    /**
+     * Returns the number of {@code int}s that can currently be stored without allocating new segments.
+     *
+     * @return the capacity of this storage
+     */
+    public long capacity() {
+        return (long) numSegments << shift;
+    }
+
+    /**
+     * Makes sure that this storage can hold at least the given number of {@code int}s by appending new segments if
+     * necessary. Existing data is not copied.
+     *
+     * @param size
+     *         the required capacity
+     */
+    public void ensureCapacity(long size) {
+        final long required = (size + mask) >>> shift;
+
+        if (required <= numSegments) {
+            return;
+        }
+
+        if (required > segments.length) {
+            final int newLength = (int) Math.max(required, segments.length * 2L);
+            rawSegments = Arrays.copyOf(rawSegments, newLength);
+            segments = Arrays.copyOf(segments, newLength);
+        }
+
+        try {
+            for (int i = numSegments; i < required; i++) {
+                setSegment(i, channel == null ? ByteBuffer.allocateDirect(Integer.BYTES << shift) : mapSegment(i));
+
+                final IntBuffer segment = segments[i];
+                for (int j = 0; j <= mask; j++) {
+                    segment.put(j, AbstractCompact.INVALID_STATE);
+                }
+
+                numSegments = i + 1;
+                header.put(SEGMENTS_SLOT, numSegments);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int get(long index) {
+        return segments[(int) (index >>> shift)].get((int) index & mask);
+    }
+
+    public void set(long index, int value) {
+        segments[(int) (index >>> shift)].put((int) index & mask, value);
+    }
+
+    /**
+     * Sets all positions in the given range to the given value.
+     *
+     * @param fromIndex
+     *         the first index (inclusive)
+     * @param toIndex
+     *         the last index (exclusive)
+     * @param value
+     *         the value to set
+     */
+    public void fill(long fromIndex, long toIndex, int value) {
+        for (long i = fromIndex; i < toIndex; i++) {
+            set(i, value);
+        }
+    }
+
+    /**
+     * Widens the given number of consecutive fixed-size records (starting at index 0) from the old record size to the
+     * new record size. The existing data of each record is kept at the beginning of the record, the additional
+     * positions are initialized with the given value. The update is performed in-place.
+     *
+     * @param numRecords
+     *         the number of records
+     * @param oldRecordSize
+     *         the old size of each record
+     * @param newRecordSize
+     *         the new size of each record
+     * @param value
+     *         the value for the additional positions
+     */
+    public void widenRecords(long numRecords, int oldRecordSize, int newRecordSize, int value) {
+        if (newRecordSize < oldRecordSize) {
+            throw new IllegalArgumentException("Records can only be widened");
+        }
+
+        ensureCapacity(numRecords * newRecordSize);
+
+        // move backwards, so that no record is overwritten before it has been moved
+        for (long r = numRecords - 1; r >= 0; r--) {
+            final long oldBase = r * oldRecordSize;
+            final long newBase = r * newRecordSize;
+            for (int j = oldRecordSize - 1; j >= 0; j--) {
+                set(newBase + j, get(oldBase + j));
+            }
+            fill(newBase + oldRecordSize, newBase + newRecordSize, value);
+        }
+    }
+
+    /**
+     * Returns the value of the given user slot of the header.
+     *
+     * @param slot
+     *         the index of the slot, must be less than {@link #NUM_HEADER_SLOTS}
+     *
+     * @return the value of the slot
+     */
+    public int getHeader(int slot) {
+        return header.get(RESERVED_SLOTS + checkSlot(slot));
+    }
+
+    /**
+     * Sets the value of the given user slot of the header.
+     *
+     * @param slot
+     *         the index of the slot, must be less than {@link #NUM_HEADER_SLOTS}
+     * @param value
+     *         the value of the slot
+     */
+    public void setHeader(int slot, int value) {
+        header.put(RESERVED_SLOTS + checkSlot(slot), value);
+    }
+
+    private static int checkSlot(int slot) {
+        if (slot < 0 || slot >= NUM_HEADER_SLOTS) {
+            throw new IndexOutOfBoundsException("Invalid header slot: " + slot);
+        }
+        return slot;
+    }
+
+    /**
+     * Returns whether this storage is backed by a file.
+     *
+     * @return {@code true} if this storage is backed by a file, {@code false} otherwise
+     */
+    public boolean isFileBacked() {
+        return channel != null;
+    }
+
+    /**
+     * Writes all modifications of a file-backed storage to the disk. Does nothing for storages that are backed by
+     * direct memory.
+     *
+     * @throws IOException
+     *         if writing the data fails
+     */
+    public void flush() throws IOException {
+        if (channel != null) {
+            ((MappedByteBuffer) rawHeader).force();
+            for (int i = 0; i < numSegments; i++) {
+                ((MappedByteBuffer) rawSegments[i]).force();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null && channel.isOpen()) {
+            flush();
+            channel.close();
+        }
+    }
+}
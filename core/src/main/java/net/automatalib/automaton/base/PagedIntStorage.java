@@ -0,0 +1,160 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.base;
+
+import java.util.Arrays;
+
+/**
+ * A growable array of {@code int}s that is organized in fixed-size pages. Index {@code i} is stored at position {@code
+ * i & (pageSize - 1)} of page {@code i >>> pageShift}. Pages are allocated lazily upon the first write access, so
+ * growing the storage never copies existing data and the allocated memory stays close to the size of the live data.
+ * Reading from positions that have not been written yet returns the default value of the storage.
+ * <p>
+ * Compact automata may use this class (together with {@link AbstractCompact#updateTransitionStorage(PagedIntStorage,
+ * AbstractCompact.Payload)}) as an alternative to regular arrays.
+ *
+ * @see PagedStorage
+ */
+public final class PagedIntStorage {
+
+    /**
+     * The default page size (as a power of two), i.e., 2^12 {@code int}s per page.
+     */
+    public static final int DEFAULT_PAGE_SHIFT = 12;
+
+    private static final int INITIAL_TABLE_SIZE = 16;
+
+    private final int shift;
+    private final int mask;
+    private final int defaultValue;
+
+    private int[][] pages;
+    private int numPages;
+
+    public PagedIntStorage(int defaultValue) {
+        this(DEFAULT_PAGE_SHIFT, defaultValue);
+    }
+
+    public PagedIntStorage(int pageShift, int defaultValue) {
+        if (pageShift < 0 || pageShift > 30) {
+            throw new IllegalArgumentException("Page shift must be within [0, 30], but was " + pageShift);
+        }
+        this.shift = pageShift;
+        this.mask = (1 << pageShift) - 1;
+        this.defaultValue = defaultValue;
+        this.pages = new int[INITIAL_TABLE_SIZE][];
+    }
+
+    public int get(int index) {
+        final int p = index >>> shift;
+        if (p >= pages.length) {
+            return defaultValue;
+        }
+        final int[] page = pages[p];
+        return page == null ? defaultValue : page[index & mask];
+    }
+
+    public void set(int index, int value) {
+        getOrCreatePage(index >>> shift)[index & mask] = value;
+    }
+
+    /**
+     * Sets all positions in the given range to the given value. Pages that have not been allocated yet are only
+     * allocated if the value differs from the default value of this storage.
+     *
+     * @param fromIndex
+     *         the first index (inclusive)
+     * @param toIndex
+     *         the last index (exclusive)
+     * @param value
+     *         the value to set
+     */
+    public void fill(int fromIndex, int toIndex, int value) {
+        int i = fromIndex;
+        while (i < toIndex) {
+            final int p = i >>> shift;
+            final int end = (int) Math.min(toIndex, ((long) p + 1) << shift);
+            final int[] page = p < pages.length ? pages[p] : null;
+
+            if (page != null) {
+                Arrays.fill(page, i & mask, ((end - 1) & mask) + 1, value);
+            } else if (value != defaultValue) {
+                Arrays.fill(getOrCreatePage(p), i & mask, ((end - 1) & mask) + 1, value);
+            }
+
+            i = end;
+        }
+    }
+
+    /**
+     * Widens the given number of consecutive fixed-size records (starting at index 0) from the old record size to the
+     * new record size. The existing data of each record is kept at the beginning of the record, the additional
+     * positions are reset to the default value. The update is performed in-place, i.e., only the additionally required
+     * pages are allocated.
+     *
+     * @param numRecords
+     *         the number of records
+     * @param oldRecordSize
+     *         the old size of each record
+     * @param newRecordSize
+     *         the new size of each record
+     */
+    public void widenRecords(int numRecords, int oldRecordSize, int newRecordSize) {
+        if (newRecordSize < oldRecordSize) {
+            throw new IllegalArgumentException("Records can only be widened");
+        }
+
+        // move backwards, so that no record is overwritten before it has been moved
+        for (int r = numRecords - 1; r >= 0; r--) {
+            final int oldBase = r * oldRecordSize;
+            final int newBase = r * newRecordSize;
+            for (int j = oldRecordSize - 1; j >= 0; j--) {
+                final int value = get(oldBase + j);
+                // avoid allocating pages just for storing default values
+                if (value != defaultValue || get(newBase + j) != defaultValue) {
+                    set(newBase + j, value);
+                }
+            }
+            fill(newBase + oldRecordSize, newBase + newRecordSize, defaultValue);
+        }
+    }
+
+    /**
+     * Returns the number of currently allocated pages.
+     *
+     * @return the number of allocated pages
+     */
+    public int getNumPages() {
+        return numPages;
+    }
+
+    private int[] getOrCreatePage(int p) {
+        if (p >= pages.length) {
+            pages = Arrays.copyOf(pages, Math.max(p + 1, pages.length * 2));
+        }
+
+        int[] page = pages[p];
+        if (page == null) {
+            page = new int[mask + 1];
+            if (defaultValue != 0) {
+                Arrays.fill(page, defaultValue);
+            }
+            pages[p] = page;
+            numPages++;
+        }
+        return page;
+    }
+}
@@ -0,0 +1,153 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.base;
+
+import java.util.Arrays;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The object-based counterpart of {@link PagedIntStorage}: a growable array whose elements are organized in lazily
+ * allocated, fixed-size pages. Unwritten positions contain {@code null}.
+ *
+ * @param <E>
+ *         element type
+ *
+ * @see PagedIntStorage
+ */
+public final class PagedStorage<E> {
+
+    private static final int INITIAL_TABLE_SIZE = 16;
+
+    private final int shift;
+    private final int mask;
+
+    private @Nullable Object[][] pages;
+    private int numPages;
+
+    public PagedStorage() {
+        this(PagedIntStorage.DEFAULT_PAGE_SHIFT);
+    }
+
+    public PagedStorage(int pageShift) {
+        if (pageShift < 0 || pageShift > 30) {
+            throw new IllegalArgumentException("Page shift must be within [0, 30], but was " + pageShift);
+        }
+        this.shift = pageShift;
+        this.mask = (1 << pageShift) - 1;
+        this.pages = new Object[INITIAL_TABLE_SIZE][];
+    }
+
+    @SuppressWarnings("unchecked")
+    public @Nullable E get(int index) {
+        final int p = index >>> shift;
+        if (p >= pages.length) {
+            return null;
+        }
+        final Object[] page = pages[p];
+        return page == null ? null : (E) page[index & mask];
+    }
+
+    public void set(int index, @Nullable E value) {
+        getOrCreatePage(index >>> shift)[index & mask] = value;
+    }
+
+    /**
+     * Sets all positions in the given range to the given value. Pages that have not been allocated yet are only
+     * allocated if the value is not {@code null}.
+     *
+     * @param fromIndex
+     *         the first index (inclusive)
+     * @param toIndex
+     *         the last index (exclusive)
+     * @param value
+     *         the value to set
+     */
+    public void fill(int fromIndex, int toIndex, @Nullable E value) {
+        int i = fromIndex;
+        while (i < toIndex) {
+            final int p = i >>> shift;
+            final int end = (int) Math.min(toIndex, ((long) p + 1) << shift);
+            final Object[] page = p < pages.length ? pages[p] : null;
+
+            if (page != null) {
+                Arrays.fill(page, i & mask, ((end - 1) & mask) + 1, value);
+            } else if (value != null) {
+                Arrays.fill(getOrCreatePage(p), i & mask, ((end - 1) & mask) + 1, value);
+            }
+
+            i = end;
+        }
+    }
+
+    /**
+     * Widens the given number of consecutive fixed-size records (starting at index 0) from the old record size to the
+     * new record size. The existing data of each record is kept at the beginning of the record, the additional
+     * positions are reset to {@code null}. The update is performed in-place, i.e., only the additionally required pages
+     * are allocated.
+     *
+     * @param numRecords
+     *         the number of records
+     * @param oldRecordSize
+     *         the old size of each record
+     * @param newRecordSize
+     *         the new size of each record
+     *
+     * @see PagedIntStorage#widenRecords(int, int, int)
+     */
+    public void widenRecords(int numRecords, int oldRecordSize, int newRecordSize) {
+        if (newRecordSize < oldRecordSize) {
+            throw new IllegalArgumentException("Records can only be widened");
+        }
+
+        // move backwards, so that no record is overwritten before it has been moved
+        for (int r = numRecords - 1; r >= 0; r--) {
+            final int oldBase = r * oldRecordSize;
+            final int newBase = r * newRecordSize;
+            for (int j = oldRecordSize - 1; j >= 0; j--) {
+                final E value = get(oldBase + j);
+                // avoid allocating pages just for storing null values
+                if (value != null || get(newBase + j) != null) {
+                    set(newBase + j, value);
+                }
+            }
+            fill(newBase + oldRecordSize, newBase + newRecordSize, null);
+        }
+    }
+
+    /**
+     * Returns the number of currently allocated pages.
+     *
+     * @return the number of allocated pages
+     */
+    public int getNumPages() {
+        return numPages;
+    }
+
+    private @Nullable Object[] getOrCreatePage(int p) {
+        if (p >= pages.length) {
+            pages = Arrays.copyOf(pages, Math.max(p + 1, pages.length * 2));
+        }
+
+        Object[] page = pages[p];
+        if (page == null) {
+            page = new Object[mask + 1];
+            pages[p] = page;
+            numPages++;
+        }
+        return page;
+    }
+}
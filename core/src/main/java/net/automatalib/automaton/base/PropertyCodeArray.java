@@ -0,0 +1,167 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.base;
+
+import java.util.Arrays;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An array of (non-negative) {@link PropertyDictionary property codes} whose element width adapts to the largest
+ * stored code: codes are stored in a {@code byte[]} as long as they are smaller than 2^8, in a {@code short[]} as long
+ * as they are smaller than 2^16 and in an {@code int[]} otherwise. Newly allocated positions contain the code {@link
+ * PropertyDictionary#NULL_CODE}.
+ * <p>
+ * Compact automata can resize instances of this class via {@link AbstractCompact#updateStateStorage(PropertyCodeArray,
+ * AbstractCompact.Payload)} and {@link AbstractCompact#updateTransitionStorage(PropertyCodeArray,
+ * AbstractCompact.Payload)}.
+ */
+public final class PropertyCodeArray {
+
+    private static final int MAX_BYTE_CODE = 0xFF;
+    private static final int MAX_SHORT_CODE = 0xFFFF;
+
+    // exactly one of the arrays is non-null
+    byte @Nullable [] bytes;
+    short @Nullable [] shorts;
+    int @Nullable [] ints;
+
+    public PropertyCodeArray(int length) {
+        this.bytes = new byte[length];
+    }
+
+    private PropertyCodeArray(byte @Nullable [] bytes, short @Nullable [] shorts, int @Nullable [] ints) {
+        this.bytes = bytes;
+        this.shorts = shorts;
+        this.ints = ints;
+    }
+
+    public int get(int index) {
+        if (bytes != null) {
+            return bytes[index] & MAX_BYTE_CODE;
+        } else if (shorts != null) {
+            return shorts[index] & MAX_SHORT_CODE;
+        }
+        return ints[index];
+    }
+
+    public void set(int index, int code) {
+        if (bytes != null) {
+            if (code <= MAX_BYTE_CODE) {
+                bytes[index] = (byte) code;
+                return;
+            }
+            widen(code);
+        }
+        if (shorts != null) {
+            if (code <= MAX_SHORT_CODE) {
+                shorts[index] = (short) code;
+                return;
+            }
+            widen(code);
+        }
+        ints[index] = code;
+    }
+
+    /**
+     * Sets all positions in the given range to the given code.
+     *
+     * @param fromIndex
+     *         the first index (inclusive)
+     * @param toIndex
+     *         the last index (exclusive)
+     * @param code
+     *         the code to set
+     */
+    public void fill(int fromIndex, int toIndex, int code) {
+        widen(code);
+        if (bytes != null) {
+            Arrays.fill(bytes, fromIndex, toIndex, (byte) code);
+        } else if (shorts != null) {
+            Arrays.fill(shorts, fromIndex, toIndex, (short) code);
+        } else {
+            Arrays.fill(ints, fromIndex, toIndex, code);
+        }
+    }
+
+    public int length() {
+        if (bytes != null) {
+            return bytes.length;
+        } else if (shorts != null) {
+            return shorts.length;
+        }
+        return ints.length;
+    }
+
+    /**
+     * Returns the number of bytes used for storing a single code.
+     *
+     * @return the current element width
+     */
+    public int getElementWidth() {
+        if (bytes != null) {
+            return Byte.BYTES;
+        } else if (shorts != null) {
+            return Short.BYTES;
+        }
+        return Integer.BYTES;
+    }
+
+    public PropertyCodeArray copy() {
+        return new PropertyCodeArray(bytes == null ? null : bytes.clone(),
+                                     shorts == null ? null : shorts.clone(),
+                                     ints == null ? null : ints.clone());
+    }
+
+    /**
+     * Changes the length of this array. Positions beyond the previous length contain the code {@link
+     * PropertyDictionary#NULL_CODE}.
+     *
+     * @param newLength
+     *         the new length
+     */
+    public void resize(int newLength) {
+        if (bytes != null) {
+            bytes = Arrays.copyOf(bytes, newLength);
+        } else if (shorts != null) {
+            shorts = Arrays.copyOf(shorts, newLength);
+        } else {
+            ints = Arrays.copyOf(ints, newLength);
+        }
+    }
+
+    /*
+     * Widens the element type (if necessary), such that the given code can be stored.
+     */
+    private void widen(int code) {
+        if (bytes != null && code > MAX_BYTE_CODE) {
+            final short[] newShorts = new short[bytes.length];
+            for (int i = 0; i < bytes.length; i++) {
+                newShorts[i] = (short) (bytes[i] & MAX_BYTE_CODE);
+            }
+            bytes = null;
+            shorts = newShorts;
+        }
+        if (shorts != null && code > MAX_SHORT_CODE) {
+            final int[] newInts = new int[shorts.length];
+            for (int i = 0; i < shorts.length; i++) {
+                newInts[i] = shorts[i] & MAX_SHORT_CODE;
+            }
+            shorts = null;
+            ints = newInts;
+        }
+    }
+}
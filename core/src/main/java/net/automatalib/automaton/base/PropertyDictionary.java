@@ -0,0 +1,133 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.base;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A dictionary that assigns dense integer codes to (state or transition) properties. Equal properties are assigned the
+ * same code, so that properties can be compared by their codes instead of calling {@link Object#equals(Object)}. The
+ * {@code null} property is always assigned the code {@link #NULL_CODE}, all other properties are numbered
+ * consecutively in the order of their first occurrence.
+ * <p>
+ * A dictionary may be shared between several automata, in which case the properties of different automata can be
+ * compared by their codes as well.
+ *
+ * @param <P>
+ *         property type
+ *
+ * @see EncodedProperties
+ */
+public final class PropertyDictionary<P> {
+
+    /**
+     * The code of the {@code null} property.
+     */
+    public static final int NULL_CODE = 0;
+
+    private final List<P> values;
+    private final Map<P, Integer> codes;
+    private int[] hashCodes;
+
+    public PropertyDictionary() {
+        this.values = new ArrayList<>();
+        this.codes = new HashMap<>();
+        this.hashCodes = new int[16];
+    }
+
+    /**
+     * Returns the code of the given property, assigning a new code if the property is not yet contained in this
+     * dictionary.
+     *
+     * @param property
+     *         the property
+     *
+     * @return the code of the property
+     */
+    public int encode(@Nullable P property) {
+        if (property == null) {
+            return NULL_CODE;
+        }
+
+        final Integer code = codes.get(property);
+        if (code != null) {
+            return code;
+        }
+
+        final int newCode = values.size() + 1;
+        values.add(property);
+        codes.put(property, newCode);
+
+        if (newCode >= hashCodes.length) {
+            hashCodes = Arrays.copyOf(hashCodes, hashCodes.length * 2);
+        }
+        hashCodes[newCode] = property.hashCode();
+
+        return newCode;
+    }
+
+    /**
+     * Returns the property of the given code.
+     *
+     * @param code
+     *         the code
+     *
+     * @return the property of the given code
+     */
+    public @Nullable P decode(int code) {
+        return code == NULL_CODE ? null : values.get(code - 1);
+    }
+
+    /**
+     * Returns the (cached) hash code of the property of the given code. The result is equivalent to calling {@code
+     * Objects.hashCode(decode(code))}.
+     *
+     * @param code
+     *         the code
+     *
+     * @return the hash code of the property of the given code
+     */
+    public int hashCodeOf(int code) {
+        return hashCodes[code];
+    }
+
+    /**
+     * Returns the number of distinct (non-{@code null}) properties in this dictionary. The largest assigned code equals
+     * this number.
+     *
+     * @return the number of distinct properties
+     */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Returns the distinct (non-{@code null}) properties of this dictionary, in the order of their codes (starting with
+     * code {@code 1}).
+     *
+     * @return an unmodifiable view on the properties of this dictionary
+     */
+    public List<P> getProperties() {
+        return Collections.unmodifiableList(values);
+    }
+}
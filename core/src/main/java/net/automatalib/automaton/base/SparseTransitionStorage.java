@@ -0,0 +1,417 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.base;
+
+import java.util.Arrays;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A transition storage for compact automata that only stores defined transitions. Each state owns a row that is
+ * either
+ * <ul>
+ *     <li><i>sparse</i>, i.e., two parallel arrays of (sorted) input indices and successors (and optionally
+ *     transition properties), which are searched via binary search, or</li>
+ *     <li><i>dense</i>, i.e., an array indexed by input indices, once the number of defined transitions of a state
+ *     makes the sparse representation larger than the dense one.</li>
+ * </ul>
+ * As a result, the memory consumption depends on the number of defined transitions rather than the product of states
+ * and input symbols, which makes this storage suitable for partial automata over large alphabets.
+ * <p>
+ * Rows are independent of the size of the alphabet: sparse rows are not affected by new input symbols at all and dense
+ * rows only grow upon the first write access to a new input symbol. Hence, adding an alphabet symbol does not require
+ * to re-allocate the rows of all states.
+ * <p>
+ * Compact automata may use this class (together with {@link
+ * AbstractCompact#updateTransitionStorage(SparseTransitionStorage, AbstractCompact.Payload)}) as an alternative to
+ * regular arrays.
+ */
+public final class SparseTransitionStorage {
+
+    private static final int MIN_ROW_CAPACITY = 2;
+
+    // sorted input indices of sparse rows, null for dense or empty rows
+    private @Nullable int[][] inputs;
+    // successors of sparse rows (aligned with inputs) or dense rows (indexed by input), null for empty rows
+    private @Nullable int[][] successors;
+    // properties, aligned with successors, null if no properties are stored
+    private @Nullable Object[][] properties;
+    private int[] sizes;
+
+    /**
+     * Constructor.
+     *
+     * @param stateCapacity
+     *         the initial number of states to reserve rows for
+     * @param storeProperties
+     *         whether transition properties should be stored alongside the successors
+     */
+    public SparseTransitionStorage(int stateCapacity, boolean storeProperties) {
+        this.inputs = new int[stateCapacity][];
+        this.successors = new int[stateCapacity][];
+        this.properties = storeProperties ? new Object[stateCapacity][] : null;
+        this.sizes = new int[stateCapacity];
+    }
+
+    /**
+     * Ensures that rows for the given number of states can be stored. Existing rows are not copied, only the (small)
+     * arrays referencing them are.
+     *
+     * @param stateCapacity
+     *         the number of states to reserve rows for
+     */
+    public void ensureCapacity(int stateCapacity) {
+        if (stateCapacity <= sizes.length) {
+            return;
+        }
+
+        inputs = Arrays.copyOf(inputs, stateCapacity);
+        successors = Arrays.copyOf(successors, stateCapacity);
+        if (properties != null) {
+            properties = Arrays.copyOf(properties, stateCapacity);
+        }
+        sizes = Arrays.copyOf(sizes, stateCapacity);
+    }
+
+    /**
+     * Returns the successor of the given state for the given input.
+     *
+     * @param state
+     *         the state
+     * @param input
+     *         the input index
+     *
+     * @return the successor, or {@link AbstractCompact#INVALID_STATE} if no transition is defined
+     */
+    public int getSuccessor(int state, int input) {
+        final int[] succs = successors[state];
+
+        if (succs == null) {
+            return AbstractCompact.INVALID_STATE;
+        }
+
+        final int[] ins = inputs[state];
+
+        if (ins == null) {
+            return input < succs.length ? succs[input] : AbstractCompact.INVALID_STATE;
+        }
+
+        final int pos = Arrays.binarySearch(ins, 0, sizes[state], input);
+        return pos < 0 ? AbstractCompact.INVALID_STATE : succs[pos];
+    }
+
+    /**
+     * Returns the property of the transition of the given state for the given input.
+     *
+     * @param state
+     *         the state
+     * @param input
+     *         the input index
+     *
+     * @return the property, or {@code null} if no transition is defined or this storage does not store properties
+     */
+    public @Nullable Object getProperty(int state, int input) {
+        if (properties == null) {
+            return null;
+        }
+
+        final Object[] props = properties[state];
+
+        if (props == null) {
+            return null;
+        }
+
+        final int[] ins = inputs[state];
+
+        if (ins == null) {
+            return input < props.length ? props[input] : null;
+        }
+
+        final int pos = Arrays.binarySearch(ins, 0, sizes[state], input);
+        return pos < 0 ? null : props[pos];
+    }
+
+    /**
+     * Sets the transition of the given state for the given input. Setting the successor to {@link
+     * AbstractCompact#INVALID_STATE} (or any negative value) removes the transition.
+     *
+     * @param state
+     *         the state
+     * @param input
+     *         the input index
+     * @param successor
+     *         the successor
+     * @param property
+     *         the transition property (ignored if this storage does not store properties)
+     * @param numInputs
+     *         the current size of the alphabet, used for sizing dense rows
+     */
+    public void set(int state, int input, int successor, @Nullable Object property, int numInputs) {
+        if (successor < 0) {
+            remove(state, input);
+            return;
+        }
+
+        final int[] ins = inputs[state];
+        final int size = sizes[state];
+
+        if (ins == null && successors[state] != null) {
+            setDense(state, input, successor, property, numInputs);
+            return;
+        }
+
+        final int pos = ins == null ? -1 : Arrays.binarySearch(ins, 0, size, input);
+
+        if (pos >= 0) {
+            successors[state][pos] = successor;
+            if (properties != null) {
+                properties[state][pos] = property;
+            }
+            return;
+        }
+
+        // a dense row of numInputs entries is no larger than two sparse arrays of this size
+        if ((size + 1) * 2 > numInputs) {
+            toDense(state, numInputs);
+            setDense(state, input, successor, property, numInputs);
+            return;
+        }
+
+        insertSparse(state, -pos - 1, input, successor, property);
+    }
+
+    /**
+     * Removes the transition of the given state for the given input, if it exists.
+     *
+     * @param state
+     *         the state
+     * @param input
+     *         the input index
+     */
+    public void remove(int state, int input) {
+        final int[] succs = successors[state];
+
+        if (succs == null) {
+            return;
+        }
+
+        final int[] ins = inputs[state];
+
+        if (ins == null) {
+            if (input < succs.length && succs[input] >= 0) {
+                succs[input] = AbstractCompact.INVALID_STATE;
+                if (properties != null) {
+                    properties[state][input] = null;
+                }
+                decrementSize(state);
+            }
+            return;
+        }
+
+        final int size = sizes[state];
+        final int pos = Arrays.binarySearch(ins, 0, size, input);
+
+        if (pos >= 0) {
+            final int tail = size - pos - 1;
+            System.arraycopy(ins, pos + 1, ins, pos, tail);
+            System.arraycopy(succs, pos + 1, succs, pos, tail);
+            if (properties != null) {
+                final Object[] props = properties[state];
+                System.arraycopy(props, pos + 1, props, pos, tail);
+                props[size - 1] = null;
+            }
+            decrementSize(state);
+        }
+    }
+
+    /**
+     * Removes all transitions of the given state and releases its row.
+     *
+     * @param state
+     *         the state
+     */
+    public void clearState(int state) {
+        inputs[state] = null;
+        successors[state] = null;
+        if (properties != null) {
+            properties[state] = null;
+        }
+        sizes[state] = 0;
+    }
+
+    /**
+     * Removes all transitions of the first {@code numStates} states.
+     *
+     * @param numStates
+     *         the number of states
+     */
+    public void clear(int numStates) {
+        Arrays.fill(inputs, 0, numStates, null);
+        Arrays.fill(successors, 0, numStates, null);
+        if (properties != null) {
+            Arrays.fill(properties, 0, numStates, null);
+        }
+        Arrays.fill(sizes, 0, numStates, 0);
+    }
+
+    /**
+     * Returns the number of defined transitions of the given state.
+     *
+     * @param state
+     *         the state
+     *
+     * @return the number of defined transitions
+     */
+    public int getNumTransitions(int state) {
+        return sizes[state];
+    }
+
+    /**
+     * Returns the (sorted) indices of the inputs for which the given state has a defined transition.
+     *
+     * @param state
+     *         the state
+     *
+     * @return the indices of the defined inputs
+     */
+    public int[] getDefinedInputs(int state) {
+        final int size = sizes[state];
+        final int[] ins = inputs[state];
+
+        if (ins != null) {
+            return Arrays.copyOf(ins, size);
+        }
+
+        final int[] result = new int[size];
+        final int[] succs = successors[state];
+
+        if (succs != null) {
+            int idx = 0;
+            for (int i = 0; i < succs.length; i++) {
+                if (succs[i] >= 0) {
+                    result[idx++] = i;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns whether the row of the given state is stored densely, i.e., indexed by input indices.
+     *
+     * @param state
+     *         the state
+     *
+     * @return {@code true} if the row of the given state is dense, {@code false} otherwise
+     */
+    public boolean isDense(int state) {
+        return inputs[state] == null && successors[state] != null;
+    }
+
+    private void setDense(int state, int input, int successor, @Nullable Object property, int numInputs) {
+        int[] succs = successors[state];
+
+        // the alphabet may have grown since the row has been allocated
+        if (input >= succs.length) {
+            final int oldLength = succs.length;
+            final int newLength = Math.max(numInputs, input + 1);
+            succs = Arrays.copyOf(succs, newLength);
+            Arrays.fill(succs, oldLength, newLength, AbstractCompact.INVALID_STATE);
+            successors[state] = succs;
+            if (properties != null) {
+                properties[state] = Arrays.copyOf(properties[state], newLength);
+            }
+        }
+
+        if (succs[input] < 0) {
+            sizes[state]++;
+        }
+
+        succs[input] = successor;
+        if (properties != null) {
+            properties[state][input] = property;
+        }
+    }
+
+    private void toDense(int state, int numInputs) {
+        final int[] ins = inputs[state];
+        final int[] succs = successors[state];
+        final int size = sizes[state];
+
+        final int[] denseSuccs = new int[numInputs];
+        Arrays.fill(denseSuccs, AbstractCompact.INVALID_STATE);
+        final Object[] denseProps = properties == null ? null : new Object[numInputs];
+
+        for (int i = 0; i < size; i++) {
+            denseSuccs[ins[i]] = succs[i];
+            if (denseProps != null) {
+                denseProps[ins[i]] = properties[state][i];
+            }
+        }
+
+        inputs[state] = null;
+        successors[state] = denseSuccs;
+        if (properties != null) {
+            properties[state] = denseProps;
+        }
+    }
+
+    private void insertSparse(int state, int pos, int input, int successor, @Nullable Object property) {
+        int[] ins = inputs[state];
+        int[] succs = successors[state];
+        final int size = sizes[state];
+
+        if (ins == null) {
+            ins = new int[MIN_ROW_CAPACITY];
+            succs = new int[MIN_ROW_CAPACITY];
+            inputs[state] = ins;
+            successors[state] = succs;
+            if (properties != null) {
+                properties[state] = new Object[MIN_ROW_CAPACITY];
+            }
+        } else if (size == ins.length) {
+            final int newCapacity = size + (size >> 1) + 1;
+            ins = Arrays.copyOf(ins, newCapacity);
+            succs = Arrays.copyOf(succs, newCapacity);
+            inputs[state] = ins;
+            successors[state] = succs;
+            if (properties != null) {
+                properties[state] = Arrays.copyOf(properties[state], newCapacity);
+            }
+        }
+
+        final int tail = size - pos;
+        System.arraycopy(ins, pos, ins, pos + 1, tail);
+        System.arraycopy(succs, pos, succs, pos + 1, tail);
+        ins[pos] = input;
+        succs[pos] = successor;
+
+        if (properties != null) {
+            final Object[] props = properties[state];
+            System.arraycopy(props, pos, props, pos + 1, tail);
+            props[pos] = property;
+        }
+
+        sizes[state] = size + 1;
+    }
+
+    private void decrementSize(int state) {
+        if (--sizes[state] == 0) {
+            clearState(state);
+        }
+    }
+}
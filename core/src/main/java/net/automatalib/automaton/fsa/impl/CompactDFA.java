@@ -19,8 +19,10 @@ import java.util.BitSet;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.automaton.AutomatonCreator;
+import net.automatalib.automaton.base.AbstractCompact;
 import net.automatalib.automaton.base.AbstractCompactSimpleDeterministic;
 import net.automatalib.automaton.fsa.MutableDFA;
+import net.automatalib.common.smartcollection.IntSeq;
 import net.automatalib.common.util.WrapperUtil;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -107,6 +109,34 @@ public class CompactDFA<I> extends AbstractCompactSimpleDeterministic<I, Boolean
         return isAccepting(state.intValue());
     }
 
+    /**
+     * Checks whether the given sequence of input (symbol) indices is accepted by this automaton. Contrary to
+     * {@link #accepts(Iterable)}, this method does not require to box or look up any input symbols.
+     *
+     * @param input
+     *         the indices of the input symbols
+     *
+     * @return {@code true} if the input is accepted, {@code false} otherwise
+     */
+    public boolean accepts(int[] input) {
+        return accepts(IntSeq.of(input));
+    }
+
+    /**
+     * Checks whether the given sequence of input (symbol) indices (e.g., an {@link net.automatalib.word.IntWord}) is
+     * accepted by this automaton. Contrary to {@link #accepts(Iterable)}, this method does not require to box or look
+     * up any input symbols.
+     *
+     * @param input
+     *         the indices of the input symbols
+     *
+     * @return {@code true} if the input is accepted, {@code false} otherwise
+     */
+    public boolean accepts(IntSeq input) {
+        final int state = getIntState(input);
+        return state != AbstractCompact.INVALID_STATE && isAccepting(state);
+    }
+
     public static final class Creator<I> implements AutomatonCreator<CompactDFA<I>, I> {
 
         @Override
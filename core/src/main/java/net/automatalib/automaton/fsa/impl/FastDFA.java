@@ -18,6 +18,7 @@ package net.automatalib.automaton.fsa.impl;
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.automaton.base.AbstractFastMutableDet;
 import net.automatalib.automaton.fsa.MutableDFA;
+import net.automatalib.common.smartcollection.IntSeq;
 import net.automatalib.common.util.WrapperUtil;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -52,4 +53,17 @@ public class FastDFA<I> extends AbstractFastMutableDet<FastDFAState, I, FastDFAS
         return addState(Boolean.valueOf(accepting));
     }
 
+    /**
+     * Checks whether the given sequence of input (symbol) indices is accepted by this DFA. Contrary to
+     * {@link #accepts(Iterable)}, this method does not require to box or look up any input symbols.
+     *
+     * @param input
+     *         the indices of the input symbols
+     *
+     * @return {@code true} if the input is accepted, {@code false} otherwise
+     */
+    public boolean accepts(IntSeq input) {
+        final FastDFAState state = getState(input);
+        return state != null && state.isAccepting();
+    }
 }
@@ -0,0 +1,147 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.fsa.impl;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.UniversalDeterministicAutomaton.FullIntAbstraction;
+import net.automatalib.automaton.base.AbstractFrozenDeterministic;
+import net.automatalib.automaton.fsa.DFA;
+import net.automatalib.common.smartcollection.IntSeq;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An immutable, thread-safe snapshot of a {@link DFA}. See {@link AbstractFrozenDeterministic} for details.
+ *
+ * @param <I>
+ *         input symbol type
+ */
+public final class FrozenDFA<I> extends AbstractFrozenDeterministic<I, Integer, Boolean, Void> implements DFA<Integer, I> {
+
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_MASK = (1 << WORD_SHIFT) - 1;
+
+    private final long[][] acceptance;
+
+    private FrozenDFA(Alphabet<I> alphabet,
+                      FullIntAbstraction<?, Boolean, ?> source,
+                      @Nullable FrozenDFA<I> previous) {
+        super(alphabet, source, previous);
+
+        final int numPages = getNumPages();
+        final long[][] previousAcceptance = isCompatible(previous) ? previous.acceptance : null;
+
+        this.acceptance = new long[numPages][];
+
+        for (int p = 0; p < numPages; p++) {
+            final int offset = p << PAGE_SHIFT;
+            final int pageStates = getPageSize(p);
+            final long[] page = new long[(pageStates + WORD_MASK) >>> WORD_SHIFT];
+
+            for (int s = 0; s < pageStates; s++) {
+                if (source.getStateProperty(offset + s)) {
+                    page[s >>> WORD_SHIFT] |= 1L << s;
+                }
+            }
+
+            this.acceptance[p] = share(page, p, previousAcceptance);
+        }
+    }
+
+    /**
+     * Creates a snapshot of the given DFA.
+     *
+     * @param dfa
+     *         the DFA
+     * @param alphabet
+     *         the input symbols to consider
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the snapshot
+     */
+    public static <I> FrozenDFA<I> freeze(DFA<?, I> dfa, Alphabet<I> alphabet) {
+        return freeze(dfa, alphabet, null);
+    }
+
+    /**
+     * Creates a snapshot of the given DFA that shares all unchanged data with the given previous snapshot.
+     *
+     * @param dfa
+     *         the DFA
+     * @param alphabet
+     *         the input symbols to consider
+     * @param previous
+     *         the previous snapshot, may be {@code null}
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the snapshot
+     */
+    public static <I> FrozenDFA<I> freeze(DFA<?, I> dfa, Alphabet<I> alphabet, @Nullable FrozenDFA<I> previous) {
+        final Alphabet<I> frozen = freezeAlphabet(alphabet);
+        return new FrozenDFA<>(frozen, dfa.fullIntAbstraction(frozen), previous);
+    }
+
+    @Override
+    public Boolean getStateProperty(int state) {
+        return isAccepting(state);
+    }
+
+    @Override
+    public boolean isAccepting(Integer state) {
+        return isAccepting(state.intValue());
+    }
+
+    public boolean isAccepting(int state) {
+        final int s = state & PAGE_MASK;
+        return (acceptance[state >>> PAGE_SHIFT][s >>> WORD_SHIFT] & (1L << s)) != 0;
+    }
+
+    @Override
+    public @Nullable Integer getTransition(int state, int input) {
+        final int succ = getSuccessor(state, input);
+        return succ == INVALID_STATE ? null : succ;
+    }
+
+    @Override
+    public int getIntSuccessor(Integer transition) {
+        return transition;
+    }
+
+    @Override
+    public Void getTransitionProperty(Integer transition) {
+        return null;
+    }
+
+    /**
+     * Checks whether the given sequence of input (symbol) indices is accepted by this DFA.
+     *
+     * @param input
+     *         the indices of the input symbols
+     *
+     * @return {@code true} if the input is accepted, {@code false} otherwise
+     */
+    public boolean accepts(IntSeq input) {
+        int state = getIntInitialState();
+        final int len = input.size();
+
+        for (int i = 0; i < len && state != INVALID_STATE; i++) {
+            state = getSuccessor(state, input.get(i));
+        }
+
+        return state != INVALID_STATE && isAccepting(state);
+    }
+}
@@ -0,0 +1,306 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.fsa.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.base.AbstractCompact;
+import net.automatalib.automaton.base.AbstractCompactDeterministic;
+import net.automatalib.automaton.base.OffHeapIntStorage;
+import net.automatalib.automaton.fsa.MutableDFA;
+import net.automatalib.common.smartcollection.IntSeq;
+import net.automatalib.common.util.WrapperUtil;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A variant of {@link CompactDFA} whose data is stored outside the Java heap in an {@link OffHeapIntStorage}, i.e.,
+ * either in direct memory or in a memory-mapped file. Each state occupies a record of {@code numInputs() + 1}
+ * consecutive {@code int}s (the acceptance flag, followed by the successors of each input), and adding states only
+ * appends new segments to the storage instead of copying the existing data.
+ * <p>
+ * File-backed instances can be created via {@link #create(Path, Alphabet)} and re-opened (without any parsing) via
+ * {@link #open(Path, Alphabet)}. Note that the input alphabet itself is not persisted and must be provided when
+ * re-opening an automaton.
+ *
+ * @param <I>
+ *         input symbol type
+ */
+public class OffHeapCompactDFA<I> extends AbstractCompactDeterministic<I, Integer, Boolean, Void>
+        implements MutableDFA<Integer, I>, Closeable {
+
+    private static final int KIND = 0x444641; // "DFA"
+
+    private static final int KIND_SLOT = 0;
+    private static final int INPUTS_SLOT = 1;
+    private static final int STATES_SLOT = 2;
+    private static final int INITIAL_SLOT = 3;
+
+    private static final int ACCEPTING = 1;
+    private static final int REJECTING = 0;
+
+    private final OffHeapIntStorage storage;
+    private int stride;
+
+    /**
+     * Constructor. Creates a new automaton that is backed by direct memory.
+     *
+     * @param alphabet
+     *         the input alphabet
+     */
+    public OffHeapCompactDFA(Alphabet<I> alphabet) {
+        this(alphabet, OffHeapIntStorage.allocate());
+    }
+
+    /**
+     * Constructor. Creates a new automaton that is backed by the given (empty) storage.
+     *
+     * @param alphabet
+     *         the input alphabet
+     * @param storage
+     *         the storage
+     */
+    public OffHeapCompactDFA(Alphabet<I> alphabet, OffHeapIntStorage storage) {
+        super(alphabet, Integer.MAX_VALUE, DEFAULT_RESIZE_FACTOR);
+        this.storage = storage;
+        this.stride = alphabet.size() + 1;
+
+        storage.setHeader(KIND_SLOT, KIND);
+        storage.setHeader(INPUTS_SLOT, alphabet.size());
+        storage.setHeader(STATES_SLOT, 0);
+        storage.setHeader(INITIAL_SLOT, AbstractCompact.INVALID_STATE);
+    }
+
+    private OffHeapCompactDFA(Alphabet<I> alphabet, OffHeapIntStorage storage, int numStates, int initial) {
+        super(alphabet, Integer.MAX_VALUE, DEFAULT_RESIZE_FACTOR, numStates, initial);
+        this.storage = storage;
+        this.stride = alphabet.size() + 1;
+    }
+
+    /**
+     * Creates a new automaton that is backed by the given file. Existing files are truncated.
+     *
+     * @param path
+     *         the path of the file
+     * @param alphabet
+     *         the input alphabet
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the created automaton
+     *
+     * @throws IOException
+     *         if the file cannot be created
+     */
+    public static <I> OffHeapCompactDFA<I> create(Path path, Alphabet<I> alphabet) throws IOException {
+        return new OffHeapCompactDFA<>(alphabet, OffHeapIntStorage.create(path));
+    }
+
+    /**
+     * Re-opens an automaton from a file that has previously been created by {@link #create(Path, Alphabet)}.
+     * Modifications of the re-opened automaton are written back to the file.
+     *
+     * @param path
+     *         the path of the file
+     * @param alphabet
+     *         the input alphabet, which must match the alphabet of the persisted automaton
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the re-opened automaton
+     *
+     * @throws IOException
+     *         if the file cannot be opened or does not contain a (compatible) automaton
+     */
+    public static <I> OffHeapCompactDFA<I> open(Path path, Alphabet<I> alphabet) throws IOException {
+        final OffHeapIntStorage storage = OffHeapIntStorage.open(path);
+
+        if (storage.getHeader(KIND_SLOT) != KIND || storage.getHeader(INPUTS_SLOT) != alphabet.size()) {
+            storage.close();
+            throw new IOException("File does not contain a DFA over an alphabet of size " + alphabet.size());
+        }
+
+        return new OffHeapCompactDFA<>(alphabet,
+                                       storage,
+                                       storage.getHeader(STATES_SLOT),
+                                       storage.getHeader(INITIAL_SLOT));
+    }
+
+    private long toRecordIndex(int state) {
+        return (long) state * stride;
+    }
+
+    private long toTransitionIndex(int state, int input) {
+        return (long) state * stride + 1 + input;
+    }
+
+    @Override
+    public int addIntState(@Nullable Boolean property) {
+        storage.ensureCapacity(toRecordIndex(size() + 1));
+        final int result = super.addIntState(property);
+        storage.setHeader(STATES_SLOT, size());
+        return result;
+    }
+
+    @Override
+    public Integer addState(boolean accepting) {
+        return addState(Boolean.valueOf(accepting));
+    }
+
+    @Override
+    public void setInitialState(int stateId) {
+        super.setInitialState(stateId);
+        storage.setHeader(INITIAL_SLOT, stateId);
+    }
+
+    @Override
+    protected void updateTransitionStorage(Payload payload) {
+        // states never exceed the (virtual) capacity, so this is only called for new alphabet symbols
+        final int newStride = getInputAlphabet().size() + 1;
+        storage.widenRecords(size(), stride, newStride, AbstractCompact.INVALID_STATE);
+        storage.setHeader(INPUTS_SLOT, newStride - 1);
+        this.stride = newStride;
+    }
+
+    @Override
+    public void flipAcceptance() {
+        for (int i = 0; i < size(); i++) {
+            setAccepting(i, !isAccepting(i));
+        }
+    }
+
+    @Override
+    public void setAccepting(Integer state, boolean accepting) {
+        setAccepting(state.intValue(), accepting);
+    }
+
+    public void setAccepting(int state, boolean accepting) {
+        storage.set(toRecordIndex(state), accepting ? ACCEPTING : REJECTING);
+    }
+
+    public boolean isAccepting(int stateId) {
+        return storage.get(toRecordIndex(stateId)) == ACCEPTING;
+    }
+
+    @Override
+    public boolean isAccepting(Integer state) {
+        return isAccepting(state.intValue());
+    }
+
+    @Override
+    public void setStateProperty(int stateId, @Nullable Boolean property) {
+        setAccepting(stateId, WrapperUtil.booleanValue(property));
+    }
+
+    @Override
+    public Boolean getStateProperty(int stateId) {
+        return isAccepting(stateId);
+    }
+
+    @Override
+    public Integer createTransition(int successor, Void property) {
+        return successor;
+    }
+
+    @Override
+    public int getSuccessor(int state, int input) {
+        return storage.get(toTransitionIndex(state, input));
+    }
+
+    @Override
+    public @Nullable Integer getTransition(int state, int input) {
+        return toState(getSuccessor(state, input));
+    }
+
+    @Override
+    public int getIntSuccessor(Integer transition) {
+        return toId(transition);
+    }
+
+    @Override
+    public Void getTransitionProperty(int state, int input) {
+        return null;
+    }
+
+    @Override
+    public Void getTransitionProperty(Integer transition) {
+        return null;
+    }
+
+    @Override
+    public void setTransitionProperty(Integer transition, Void property) {}
+
+    @Override
+    public void setTransition(int state, int input, @Nullable Integer transition) {
+        setTransition(state, input, toId(transition));
+    }
+
+    @Override
+    public void setTransition(int state, int input, int successor, Void property) {
+        setTransition(state, input, successor);
+    }
+
+    public void setTransition(int state, int inputIdx, int succ) {
+        storage.set(toTransitionIndex(state, inputIdx), succ);
+    }
+
+    @Override
+    public void removeAllTransitions(Integer state) {
+        final long lower = toTransitionIndex(state, 0);
+        storage.fill(lower, lower + numInputs(), AbstractCompact.INVALID_STATE);
+    }
+
+    @Override
+    public void clear() {
+        storage.fill(0, toRecordIndex(size()), AbstractCompact.INVALID_STATE);
+        super.clear();
+        storage.setHeader(STATES_SLOT, 0);
+        storage.setHeader(INITIAL_SLOT, AbstractCompact.INVALID_STATE);
+    }
+
+    /**
+     * Checks whether the given sequence of input (symbol) indices is accepted by this automaton. Contrary to
+     * {@link #accepts(Iterable)}, this method does not require to box or look up any input symbols.
+     *
+     * @param input
+     *         the indices of the input symbols
+     *
+     * @return {@code true} if the input is accepted, {@code false} otherwise
+     */
+    public boolean accepts(IntSeq input) {
+        final int state = getIntState(input);
+        return state != AbstractCompact.INVALID_STATE && isAccepting(state);
+    }
+
+    /**
+     * Writes all modifications of a file-backed automaton to the disk.
+     *
+     * @throws IOException
+     *         if writing the data fails
+     *
+     * @see OffHeapIntStorage#flush()
+     */
+    public void flush() throws IOException {
+        storage.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        storage.close();
+    }
+}
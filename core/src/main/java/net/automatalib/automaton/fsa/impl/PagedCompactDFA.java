@@ -0,0 +1,215 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.fsa.impl;
+
+import java.util.Iterator;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.AutomatonCreator;
+import net.automatalib.automaton.base.AbstractCompact;
+import net.automatalib.automaton.base.AbstractCompactDeterministic;
+import net.automatalib.automaton.base.PagedIntStorage;
+import net.automatalib.automaton.fsa.MutableDFA;
+import net.automatalib.common.smartcollection.IntSeq;
+import net.automatalib.common.util.WrapperUtil;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A variant of {@link CompactDFA} whose data is stored in {@link PagedIntStorage paged storages} instead of
+ * (contiguous) arrays. Adding states never copies the data of existing states, which avoids latency spikes and a
+ * temporarily doubled memory footprint when constructing very large automata (e.g., via determinization).
+ *
+ * @param <I>
+ *         input symbol type
+ */
+public class PagedCompactDFA<I> extends AbstractCompactDeterministic<I, Integer, Boolean, Void>
+        implements MutableDFA<Integer, I> {
+
+    private static final int ACCEPTING = 1;
+    private static final int REJECTING = 0;
+
+    private final PagedIntStorage transitions;
+    private final PagedIntStorage acceptance;
+
+    public PagedCompactDFA(Alphabet<I> alphabet) {
+        this(alphabet, PagedIntStorage.DEFAULT_PAGE_SHIFT);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param alphabet
+     *         the input alphabet
+     * @param pageShift
+     *         the size of each page (in {@code int}s) as a power of two
+     */
+    public PagedCompactDFA(Alphabet<I> alphabet, int pageShift) {
+        super(alphabet, DEFAULT_INIT_CAPACITY, DEFAULT_RESIZE_FACTOR);
+        this.transitions = new PagedIntStorage(pageShift, AbstractCompact.INVALID_STATE);
+        this.acceptance = new PagedIntStorage(pageShift, REJECTING);
+    }
+
+    @Override
+    protected void updateTransitionStorage(Payload payload) {
+        updateTransitionStorage(this.transitions, payload);
+    }
+
+    @Override
+    public void flipAcceptance() {
+        for (int i = 0; i < size(); i++) {
+            setAccepting(i, !isAccepting(i));
+        }
+    }
+
+    @Override
+    public void setAccepting(Integer state, boolean accepting) {
+        setAccepting(state.intValue(), accepting);
+    }
+
+    public void setAccepting(int state, boolean accepting) {
+        acceptance.set(state, accepting ? ACCEPTING : REJECTING);
+    }
+
+    public boolean isAccepting(int stateId) {
+        return acceptance.get(stateId) == ACCEPTING;
+    }
+
+    @Override
+    public boolean isAccepting(Integer state) {
+        return isAccepting(state.intValue());
+    }
+
+    @Override
+    public Integer addState(boolean accepting) {
+        return addState(Boolean.valueOf(accepting));
+    }
+
+    @Override
+    public void setStateProperty(int stateId, @Nullable Boolean property) {
+        setAccepting(stateId, WrapperUtil.booleanValue(property));
+    }
+
+    @Override
+    public Boolean getStateProperty(int stateId) {
+        return isAccepting(stateId);
+    }
+
+    @Override
+    public Integer createTransition(int successor, Void property) {
+        return successor;
+    }
+
+    @Override
+    // Overridden for performance reasons (to prevent autoboxing of default implementation)
+    public @Nullable Integer getState(Iterable<? extends I> input) {
+        return toState(getIntSuccessor(getIntInitialState(), input));
+    }
+
+    @Override
+    // Overridden for performance reasons (to prevent autoboxing of default implementation)
+    public @Nullable Integer getSuccessor(Integer state, Iterable<? extends I> input) {
+        return toState(getIntSuccessor(state, input));
+    }
+
+    @Override
+    public int getSuccessor(int state, int input) {
+        return transitions.get(toMemoryIndex(state, input));
+    }
+
+    @Override
+    public @Nullable Integer getTransition(int state, int input) {
+        return toState(getSuccessor(state, input));
+    }
+
+    @Override
+    public int getIntSuccessor(Integer transition) {
+        return toId(transition);
+    }
+
+    @Override
+    public Void getTransitionProperty(int state, int input) {
+        return null;
+    }
+
+    @Override
+    public Void getTransitionProperty(Integer transition) {
+        return null;
+    }
+
+    @Override
+    public void setTransitionProperty(Integer transition, Void property) {}
+
+    @Override
+    public void setTransition(int state, int input, @Nullable Integer transition) {
+        setTransition(state, input, toId(transition));
+    }
+
+    @Override
+    public void setTransition(int state, int input, int successor, Void property) {
+        setTransition(state, input, successor);
+    }
+
+    public void setTransition(int state, int inputIdx, int succ) {
+        transitions.set(toMemoryIndex(state, inputIdx), succ);
+    }
+
+    @Override
+    public void removeAllTransitions(Integer state) {
+        final int lower = toMemoryIndex(state, 0);
+        transitions.fill(lower, lower + numInputs(), AbstractCompact.INVALID_STATE);
+    }
+
+    @Override
+    public void clear() {
+        transitions.fill(0, size() * numInputs(), AbstractCompact.INVALID_STATE);
+        acceptance.fill(0, size(), REJECTING);
+        super.clear();
+    }
+
+    /**
+     * Checks whether the given sequence of input (symbol) indices is accepted by this automaton. Contrary to
+     * {@link #accepts(Iterable)}, this method does not require to box or look up any input symbols.
+     *
+     * @param input
+     *         the indices of the input symbols
+     *
+     * @return {@code true} if the input is accepted, {@code false} otherwise
+     */
+    public boolean accepts(IntSeq input) {
+        final int state = getIntState(input);
+        return state != AbstractCompact.INVALID_STATE && isAccepting(state);
+    }
+
+    private int getIntSuccessor(int state, Iterable<? extends I> input) {
+        int current = state;
+
+        Iterator<? extends I> inputIt = input.iterator();
+
+        while (current >= 0 && inputIt.hasNext()) {
+            current = transitions.get(toMemoryIndex(current, getSymbolIndex(inputIt.next())));
+        }
+
+        return current;
+    }
+
+    public static final class Creator<I> implements AutomatonCreator<PagedCompactDFA<I>, I> {
+
+        @Override
+        public PagedCompactDFA<I> createAutomaton(Alphabet<I> alphabet) {
+            return new PagedCompactDFA<>(alphabet);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.fsa.impl;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.AutomatonCreator;
+import net.automatalib.automaton.base.AbstractCompact;
+import net.automatalib.automaton.base.AbstractCompactDeterministic;
+import net.automatalib.automaton.base.SparseTransitionStorage;
+import net.automatalib.automaton.fsa.MutableDFA;
+import net.automatalib.common.smartcollection.IntSeq;
+import net.automatalib.common.util.WrapperUtil;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A variant of {@link CompactDFA} that stores its transitions in a {@link SparseTransitionStorage}, i.e., only defined
+ * transitions occupy memory. This makes this class suitable for partial DFAs over large alphabets, where only few
+ * transitions per state are defined. Adding alphabet symbols does not require to re-allocate the transitions of every
+ * state.
+ *
+ * @param <I>
+ *         input symbol type
+ */
+public class SparseCompactDFA<I> extends AbstractCompactDeterministic<I, Integer, Boolean, Void>
+        implements MutableDFA<Integer, I> {
+
+    private final SparseTransitionStorage transitions;
+    private final BitSet acceptance;
+
+    public SparseCompactDFA(Alphabet<I> alphabet) {
+        this(alphabet, DEFAULT_INIT_CAPACITY, DEFAULT_RESIZE_FACTOR);
+    }
+
+    public SparseCompactDFA(Alphabet<I> alphabet, int stateCapacity, float resizeFactor) {
+        super(alphabet, stateCapacity, resizeFactor);
+        this.transitions = new SparseTransitionStorage(stateCapacity, false);
+        this.acceptance = new BitSet();
+    }
+
+    @Override
+    protected void updateTransitionStorage(Payload payload) {
+        updateTransitionStorage(this.transitions, payload);
+    }
+
+    @Override
+    public void flipAcceptance() {
+        acceptance.flip(0, size());
+    }
+
+    @Override
+    public void setAccepting(Integer state, boolean accepting) {
+        setAccepting(state.intValue(), accepting);
+    }
+
+    public void setAccepting(int state, boolean accepting) {
+        acceptance.set(state, accepting);
+    }
+
+    public boolean isAccepting(int stateId) {
+        return acceptance.get(stateId);
+    }
+
+    @Override
+    public boolean isAccepting(Integer state) {
+        return isAccepting(state.intValue());
+    }
+
+    @Override
+    public Integer addState(boolean accepting) {
+        return addState(Boolean.valueOf(accepting));
+    }
+
+    @Override
+    public void setStateProperty(int stateId, @Nullable Boolean property) {
+        setAccepting(stateId, WrapperUtil.booleanValue(property));
+    }
+
+    @Override
+    public Boolean getStateProperty(int stateId) {
+        return isAccepting(stateId);
+    }
+
+    @Override
+    public Integer createTransition(int successor, Void property) {
+        return successor;
+    }
+
+    @Override
+    public int getSuccessor(int state, int input) {
+        return transitions.getSuccessor(state, input);
+    }
+
+    @Override
+    public @Nullable Integer getTransition(int state, int input) {
+        return toState(getSuccessor(state, input));
+    }
+
+    @Override
+    public int getIntSuccessor(Integer transition) {
+        return toId(transition);
+    }
+
+    @Override
+    public Void getTransitionProperty(int state, int input) {
+        return null;
+    }
+
+    @Override
+    public Void getTransitionProperty(Integer transition) {
+        return null;
+    }
+
+    @Override
+    public void setTransitionProperty(Integer transition, Void property) {}
+
+    @Override
+    public void setTransition(int state, int input, @Nullable Integer transition) {
+        setTransition(state, input, toId(transition));
+    }
+
+    @Override
+    public void setTransition(int state, int input, int successor, Void property) {
+        setTransition(state, input, successor);
+    }
+
+    public void setTransition(int state, int inputIdx, int succ) {
+        transitions.set(state, inputIdx, succ, null, numInputs());
+    }
+
+    @Override
+    public void removeAllTransitions(Integer state) {
+        transitions.clearState(state);
+    }
+
+    @Override
+    public Collection<I> getLocalInputs(Integer state) {
+        final Alphabet<I> alphabet = getInputAlphabet();
+        final int[] inputs = transitions.getDefinedInputs(state);
+        final List<I> result = new ArrayList<>(inputs.length);
+
+        for (int i : inputs) {
+            result.add(alphabet.getSymbol(i));
+        }
+
+        return result;
+    }
+
+    @Override
+    public void clear() {
+        transitions.clear(size());
+        acceptance.clear();
+        super.clear();
+    }
+
+    /**
+     * Returns the number of defined transitions of the given state.
+     *
+     * @param state
+     *         the state
+     *
+     * @return the number of defined transitions
+     */
+    public int getNumTransitions(int state) {
+        return transitions.getNumTransitions(state);
+    }
+
+    /**
+     * Checks whether the given sequence of input (symbol) indices is accepted by this automaton. Contrary to
+     * {@link #accepts(Iterable)}, this method does not require to box or look up any input symbols.
+     *
+     * @param input
+     *         the indices of the input symbols
+     *
+     * @return {@code true} if the input is accepted, {@code false} otherwise
+     */
+    public boolean accepts(IntSeq input) {
+        final int state = getIntState(input);
+        return state != AbstractCompact.INVALID_STATE && isAccepting(state);
+    }
+
+    public static final class Creator<I> implements AutomatonCreator<SparseCompactDFA<I>, I> {
+
+        @Override
+        public SparseCompactDFA<I> createAutomaton(Alphabet<I> alphabet) {
+            return new SparseCompactDFA<>(alphabet);
+        }
+    }
+}
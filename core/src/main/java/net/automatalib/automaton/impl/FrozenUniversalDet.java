@@ -0,0 +1,130 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.impl;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.UniversalDeterministicAutomaton;
+import net.automatalib.automaton.base.AbstractFrozenDeterministic;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An immutable, thread-safe snapshot of an arbitrary {@link UniversalDeterministicAutomaton}, storing both state and
+ * transition properties. See {@link AbstractFrozenDeterministic} for details.
+ *
+ * @param <I>
+ *         input symbol type
+ * @param <SP>
+ *         state property type
+ * @param <TP>
+ *         transition property type
+ */
+public final class FrozenUniversalDet<I, SP, TP> extends AbstractFrozenDeterministic<I, CompactTransition<TP>, SP, TP> {
+
+    private final @Nullable Object[][] stateProperties;
+    private final @Nullable Object[][] transitionProperties;
+
+    private FrozenUniversalDet(Alphabet<I> alphabet,
+                               FullIntAbstraction<?, SP, TP> source,
+                               @Nullable FrozenUniversalDet<I, SP, TP> previous) {
+        super(alphabet, source, previous);
+
+        final boolean compatible = isCompatible(previous);
+
+        this.stateProperties = freezeStateProperties(source, compatible ? previous.stateProperties : null);
+        this.transitionProperties =
+                freezeTransitionProperties(source, compatible ? previous.transitionProperties : null);
+    }
+
+    /**
+     * Creates a snapshot of the given automaton.
+     *
+     * @param automaton
+     *         the automaton
+     * @param alphabet
+     *         the input symbols to consider
+     * @param <I>
+     *         input symbol type
+     * @param <SP>
+     *         state property type
+     * @param <TP>
+     *         transition property type
+     *
+     * @return the snapshot
+     */
+    public static <I, SP, TP> FrozenUniversalDet<I, SP, TP> freeze(UniversalDeterministicAutomaton<?, I, ?, SP, TP> automaton,
+                                                                   Alphabet<I> alphabet) {
+        return freeze(automaton, alphabet, null);
+    }
+
+    /**
+     * Creates a snapshot of the given automaton that shares all unchanged data with the given previous snapshot.
+     *
+     * @param automaton
+     *         the automaton
+     * @param alphabet
+     *         the input symbols to consider
+     * @param previous
+     *         the previous snapshot, may be {@code null}
+     * @param <I>
+     *         input symbol type
+     * @param <SP>
+     *         state property type
+     * @param <TP>
+     *         transition property type
+     *
+     * @return the snapshot
+     */
+    public static <I, SP, TP> FrozenUniversalDet<I, SP, TP> freeze(UniversalDeterministicAutomaton<?, I, ?, SP, TP> automaton,
+                                                                   Alphabet<I> alphabet,
+                                                                   @Nullable FrozenUniversalDet<I, SP, TP> previous) {
+        final Alphabet<I> frozen = freezeAlphabet(alphabet);
+        return new FrozenUniversalDet<>(frozen, automaton.fullIntAbstraction(frozen), previous);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public SP getStateProperty(int state) {
+        return (SP) stateProperties[state >>> PAGE_SHIFT][state & PAGE_MASK];
+    }
+
+    @Override
+    public @Nullable CompactTransition<TP> getTransition(int state, int input) {
+        final int succ = getSuccessor(state, input);
+
+        if (succ == INVALID_STATE) {
+            return null;
+        }
+
+        return new CompactTransition<>(succ, getTransitionProperty(state, input));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    // Overridden for performance reasons (to prevent object instantiation of default implementation)
+    public TP getTransitionProperty(int state, int input) {
+        return (TP) transitionProperties[state >>> PAGE_SHIFT][toPageIndex(state, input)];
+    }
+
+    @Override
+    public int getIntSuccessor(CompactTransition<TP> transition) {
+        return transition.getSuccId();
+    }
+
+    @Override
+    public TP getTransitionProperty(CompactTransition<TP> transition) {
+        return transition.getProperty();
+    }
+}
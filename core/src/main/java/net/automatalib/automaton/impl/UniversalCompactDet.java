@@ -21,11 +21,15 @@ import net.automatalib.alphabet.Alphabet;
 import net.automatalib.automaton.AutomatonCreator;
 import net.automatalib.automaton.base.AbstractCompact;
 import net.automatalib.automaton.base.AbstractCompactDeterministic;
+import net.automatalib.automaton.base.EncodedProperties;
+import net.automatalib.automaton.base.PropertyCodeArray;
+import net.automatalib.automaton.base.PropertyDictionary;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * A default implementation for {@link AbstractCompactDeterministic} that uses {@link CompactTransition} as transition
- * type and supports various types of state and transition properties.
+ * type and supports various types of state and transition properties. State and transition properties may optionally
+ * (and independently) be stored dictionary-encoded (see {@link EncodedProperties}).
  *
  * @param <I>
  *         input symbol type
@@ -34,11 +38,19 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  * @param <TP>
  *         transition property type
  */
-public class UniversalCompactDet<I, SP, TP> extends AbstractCompactDeterministic<I, CompactTransition<TP>, SP, TP> {
+public class UniversalCompactDet<I, SP, TP> extends AbstractCompactDeterministic<I, CompactTransition<TP>, SP, TP>
+        implements EncodedProperties {
+
+    private static final Object[] NO_PROPERTIES = {};
 
     private int[] transitions;
     private @Nullable Object[] stateProperties;
     private @Nullable Object[] transitionProperties;
+    // only used in encoded mode
+    private final @Nullable PropertyDictionary<SP> statePropertyDictionary;
+    private final @Nullable PropertyCodeArray statePropertyCodes;
+    private final @Nullable PropertyDictionary<TP> transitionPropertyDictionary;
+    private final @Nullable PropertyCodeArray transitionPropertyCodes;
 
     public UniversalCompactDet(Alphabet<I> alphabet) {
         this(alphabet, DEFAULT_INIT_CAPACITY, DEFAULT_RESIZE_FACTOR);
@@ -49,12 +61,52 @@ public class UniversalCompactDet<I, SP, TP> extends AbstractCompactDeterministic
     }
 
     public UniversalCompactDet(Alphabet<I> alphabet, int stateCapacity, float resizeFactor) {
+        this(alphabet, stateCapacity, resizeFactor, null, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param alphabet
+     *         the input alphabet
+     * @param stateCapacity
+     *         the initial state capacity
+     * @param resizeFactor
+     *         the resize factor
+     * @param statePropertyDictionary
+     *         the dictionary used for encoding the state properties. If {@code null}, state properties are stored as
+     *         references
+     * @param transitionPropertyDictionary
+     *         the dictionary used for encoding the transition properties. If {@code null}, transition properties are
+     *         stored as references
+     */
+    public UniversalCompactDet(Alphabet<I> alphabet,
+                               int stateCapacity,
+                               float resizeFactor,
+                               @Nullable PropertyDictionary<SP> statePropertyDictionary,
+                               @Nullable PropertyDictionary<TP> transitionPropertyDictionary) {
         super(alphabet, stateCapacity, resizeFactor);
 
         final int numTrans = stateCapacity * numInputs();
         this.transitions = new int[numTrans];
-        this.stateProperties = new Object[stateCapacity];
-        this.transitionProperties = new Object[numTrans];
+        this.statePropertyDictionary = statePropertyDictionary;
+        this.transitionPropertyDictionary = transitionPropertyDictionary;
+
+        if (statePropertyDictionary == null) {
+            this.stateProperties = new Object[stateCapacity];
+            this.statePropertyCodes = null;
+        } else {
+            this.stateProperties = NO_PROPERTIES;
+            this.statePropertyCodes = new PropertyCodeArray(stateCapacity);
+        }
+
+        if (transitionPropertyDictionary == null) {
+            this.transitionProperties = new Object[numTrans];
+            this.transitionPropertyCodes = null;
+        } else {
+            this.transitionProperties = NO_PROPERTIES;
+            this.transitionPropertyCodes = new PropertyCodeArray(numTrans);
+        }
 
         Arrays.fill(this.transitions, AbstractCompact.INVALID_STATE);
     }
@@ -64,6 +116,63 @@ public class UniversalCompactDet<I, SP, TP> extends AbstractCompactDeterministic
         this.transitions = other.transitions.clone();
         this.stateProperties = other.stateProperties.clone();
         this.transitionProperties = other.transitionProperties.clone();
+        this.statePropertyDictionary = other.statePropertyDictionary;
+        this.statePropertyCodes = other.statePropertyCodes == null ? null : other.statePropertyCodes.copy();
+        this.transitionPropertyDictionary = other.transitionPropertyDictionary;
+        this.transitionPropertyCodes =
+                other.transitionPropertyCodes == null ? null : other.transitionPropertyCodes.copy();
+    }
+
+    @SuppressWarnings("unchecked")
+    private TP getTransitionPropertyAt(int idx) {
+        if (transitionPropertyCodes == null) {
+            return (TP) transitionProperties[idx];
+        }
+        assert transitionPropertyDictionary != null;
+        return transitionPropertyDictionary.decode(transitionPropertyCodes.get(idx));
+    }
+
+    private void setTransitionPropertyAt(int idx, @Nullable TP property) {
+        if (transitionPropertyCodes == null) {
+            transitionProperties[idx] = property;
+        } else {
+            assert transitionPropertyDictionary != null;
+            transitionPropertyCodes.set(idx, transitionPropertyDictionary.encode(property));
+        }
+    }
+
+    private void clearTransitionProperties(int fromIdx, int toIdx) {
+        if (transitionPropertyCodes == null) {
+            Arrays.fill(transitionProperties, fromIdx, toIdx, null);
+        } else {
+            transitionPropertyCodes.fill(fromIdx, toIdx, PropertyDictionary.NULL_CODE);
+        }
+    }
+
+    @Override
+    public @Nullable PropertyDictionary<SP> getStatePropertyDictionary() {
+        return statePropertyDictionary;
+    }
+
+    @Override
+    public @Nullable PropertyDictionary<TP> getTransitionPropertyDictionary() {
+        return transitionPropertyDictionary;
+    }
+
+    @Override
+    public int getStatePropertyCode(int state) {
+        if (statePropertyCodes == null) {
+            throw new IllegalStateException("State properties are not encoded");
+        }
+        return statePropertyCodes.get(state);
+    }
+
+    @Override
+    public int getTransitionPropertyCode(int state, int input) {
+        if (transitionPropertyCodes == null) {
+            throw new IllegalStateException("Transition properties are not encoded");
+        }
+        return transitionPropertyCodes.get(toMemoryIndex(state, input));
     }
 
     @Override
@@ -75,10 +184,7 @@ public class UniversalCompactDet<I, SP, TP> extends AbstractCompactDeterministic
             return null;
         }
 
-        @SuppressWarnings("unchecked")
-        final TP output = (TP) transitionProperties[idx];
-
-        return new CompactTransition<>(idx, succ, output);
+        return new CompactTransition<>(idx, succ, getTransitionPropertyAt(idx));
     }
 
     @Override
@@ -88,7 +194,12 @@ public class UniversalCompactDet<I, SP, TP> extends AbstractCompactDeterministic
 
     @Override
     public void setStateProperty(int state, @Nullable SP property) {
-        this.stateProperties[state] = property;
+        if (statePropertyCodes == null) {
+            this.stateProperties[state] = property;
+        } else {
+            assert statePropertyDictionary != null;
+            statePropertyCodes.set(state, statePropertyDictionary.encode(property));
+        }
     }
 
     @Override
@@ -96,7 +207,7 @@ public class UniversalCompactDet<I, SP, TP> extends AbstractCompactDeterministic
         transition.setProperty(property);
 
         if (transition.isAutomatonTransition()) {
-            transitionProperties[transition.getMemoryIdx()] = property;
+            setTransitionPropertyAt(transition.getMemoryIdx(), property);
         }
     }
 
@@ -110,7 +221,7 @@ public class UniversalCompactDet<I, SP, TP> extends AbstractCompactDeterministic
         final int lower = state * numInputs();
         final int upper = lower + numInputs();
         Arrays.fill(transitions, lower, upper, AbstractCompact.INVALID_STATE);
-        Arrays.fill(transitionProperties, lower, upper, null);
+        clearTransitionProperties(lower, upper);
 
     }
 
@@ -128,13 +239,17 @@ public class UniversalCompactDet<I, SP, TP> extends AbstractCompactDeterministic
     public void setTransition(int state, int input, int successor, @Nullable TP property) {
         final int idx = toMemoryIndex(state, input);
         transitions[idx] = successor;
-        transitionProperties[idx] = property;
+        setTransitionPropertyAt(idx, property);
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public SP getStateProperty(int state) {
-        return (SP) stateProperties[state];
+        if (statePropertyCodes == null) {
+            return (SP) stateProperties[state];
+        }
+        assert statePropertyDictionary != null;
+        return statePropertyDictionary.decode(statePropertyCodes.get(state));
     }
 
     @Override
@@ -145,23 +260,35 @@ public class UniversalCompactDet<I, SP, TP> extends AbstractCompactDeterministic
     @Override
     public void clear() {
         int endIdx = size() * numInputs();
-        Arrays.fill(stateProperties, 0, size(), null);
+        if (statePropertyCodes == null) {
+            Arrays.fill(stateProperties, 0, size(), null);
+        } else {
+            statePropertyCodes.fill(0, size(), PropertyDictionary.NULL_CODE);
+        }
         Arrays.fill(transitions, 0, endIdx, AbstractCompact.INVALID_STATE);
-        Arrays.fill(transitionProperties, 0, endIdx, null);
+        clearTransitionProperties(0, endIdx);
 
         super.clear();
     }
 
     @Override
     protected void updateStateStorage(Payload payload) {
-        this.stateProperties = updateStateStorage(this.stateProperties, null, payload);
+        if (statePropertyCodes == null) {
+            this.stateProperties = updateStateStorage(this.stateProperties, null, payload);
+        } else {
+            updateStateStorage(statePropertyCodes, payload);
+        }
         super.updateStateStorage(payload);
     }
 
     @Override
     protected void updateTransitionStorage(Payload payload) {
         this.transitions = updateTransitionStorage(this.transitions, AbstractCompact.INVALID_STATE, payload);
-        this.transitionProperties = updateTransitionStorage(this.transitionProperties, null, payload);
+        if (transitionPropertyCodes == null) {
+            this.transitionProperties = updateTransitionStorage(this.transitionProperties, null, payload);
+        } else {
+            updateTransitionStorage(transitionPropertyCodes, payload);
+        }
     }
 
     public static final class Creator<I, SP, TP> implements AutomatonCreator<UniversalCompactDet<I, SP, TP>, I> {
@@ -19,28 +19,65 @@ import java.util.Arrays;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.automaton.base.AbstractCompactSimpleDeterministic;
+import net.automatalib.automaton.base.EncodedProperties;
+import net.automatalib.automaton.base.PropertyCodeArray;
+import net.automatalib.automaton.base.PropertyDictionary;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * A {@link AbstractCompactSimpleDeterministic}-based implementation for automata that need to store generic state
- * properties.
+ * properties. State properties may optionally be stored dictionary-encoded (see {@link EncodedProperties}).
  *
  * @param <I>
  *         input symbol type
  * @param <SP>
  *         state property type
  */
-public class UniversalCompactSimpleDet<I, @Nullable SP> extends AbstractCompactSimpleDeterministic<I, SP> {
+public class UniversalCompactSimpleDet<I, @Nullable SP> extends AbstractCompactSimpleDeterministic<I, SP>
+        implements EncodedProperties {
+
+    private static final Object[] NO_PROPERTIES = {};
 
     private @Nullable Object[] stateProperties;
+    // only used in encoded mode
+    private final @Nullable PropertyDictionary<SP> statePropertyDictionary;
+    private final @Nullable PropertyCodeArray statePropertyCodes;
 
     public UniversalCompactSimpleDet(Alphabet<I> alphabet) {
         this(alphabet, DEFAULT_INIT_CAPACITY, DEFAULT_RESIZE_FACTOR);
     }
 
     public UniversalCompactSimpleDet(Alphabet<I> alphabet, int stateCapacity, float resizeFactor) {
+        this(alphabet, stateCapacity, resizeFactor, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param alphabet
+     *         the input alphabet
+     * @param stateCapacity
+     *         the initial state capacity
+     * @param resizeFactor
+     *         the resize factor
+     * @param statePropertyDictionary
+     *         the dictionary used for encoding the state properties. If {@code null}, state properties are stored as
+     *         references
+     */
+    public UniversalCompactSimpleDet(Alphabet<I> alphabet,
+                                     int stateCapacity,
+                                     float resizeFactor,
+                                     @Nullable PropertyDictionary<SP> statePropertyDictionary) {
         super(alphabet, stateCapacity, resizeFactor);
-        this.stateProperties = new Object[stateCapacity];
+        this.statePropertyDictionary = statePropertyDictionary;
+
+        if (statePropertyDictionary == null) {
+            this.stateProperties = new Object[stateCapacity];
+            this.statePropertyCodes = null;
+        } else {
+            this.stateProperties = NO_PROPERTIES;
+            this.statePropertyCodes = new PropertyCodeArray(stateCapacity);
+        }
     }
 
     public UniversalCompactSimpleDet(UniversalCompactSimpleDet<I, SP> other) {
@@ -50,28 +87,76 @@ public class UniversalCompactSimpleDet<I, @Nullable SP> extends AbstractCompactS
     protected UniversalCompactSimpleDet(Alphabet<I> alphabet, UniversalCompactSimpleDet<?, SP> other) {
         super(alphabet, other);
         this.stateProperties = other.stateProperties.clone();
+        this.statePropertyDictionary = other.statePropertyDictionary;
+        this.statePropertyCodes = other.statePropertyCodes == null ? null : other.statePropertyCodes.copy();
     }
 
     @Override
     public void clear() {
-        Arrays.fill(stateProperties, 0, size(), null);
+        if (statePropertyCodes == null) {
+            Arrays.fill(stateProperties, 0, size(), null);
+        } else {
+            statePropertyCodes.fill(0, size(), PropertyDictionary.NULL_CODE);
+        }
         super.clear();
     }
 
     @Override
     public void setStateProperty(int stateId, @Nullable SP property) {
-        stateProperties[stateId] = property;
+        if (statePropertyCodes == null) {
+            stateProperties[stateId] = property;
+        } else {
+            assert statePropertyDictionary != null;
+            statePropertyCodes.set(stateId, statePropertyDictionary.encode(property));
+        }
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public SP getStateProperty(int stateId) {
-        return (SP) stateProperties[stateId];
+        if (statePropertyCodes == null) {
+            return (SP) stateProperties[stateId];
+        }
+        assert statePropertyDictionary != null;
+        return statePropertyDictionary.decode(statePropertyCodes.get(stateId));
+    }
+
+    /**
+     * Returns the dictionary of the state properties.
+     *
+     * @return the dictionary of the state properties, or {@code null} if state properties are not stored
+     * dictionary-encoded
+     */
+    @Override
+    public @Nullable PropertyDictionary<SP> getStatePropertyDictionary() {
+        return statePropertyDictionary;
+    }
+
+    @Override
+    public @Nullable PropertyDictionary<?> getTransitionPropertyDictionary() {
+        return null;
+    }
+
+    @Override
+    public int getStatePropertyCode(int state) {
+        if (statePropertyCodes == null) {
+            throw new IllegalStateException("State properties are not encoded");
+        }
+        return statePropertyCodes.get(state);
+    }
+
+    @Override
+    public int getTransitionPropertyCode(int state, int input) {
+        throw new IllegalStateException("Transition properties are not encoded");
     }
 
     @Override
     protected void updateStateStorage(Payload payload) {
-        this.stateProperties = updateStateStorage(this.stateProperties, null, payload);
+        if (statePropertyCodes == null) {
+            this.stateProperties = updateStateStorage(this.stateProperties, null, payload);
+        } else {
+            updateStateStorage(statePropertyCodes, payload);
+        }
         super.updateStateStorage(payload);
     }
 
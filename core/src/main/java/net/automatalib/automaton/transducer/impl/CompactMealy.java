@@ -21,29 +21,95 @@ import net.automatalib.alphabet.Alphabet;
 import net.automatalib.automaton.AutomatonCreator;
 import net.automatalib.automaton.base.AbstractCompact;
 import net.automatalib.automaton.base.AbstractCompactDeterministic;
+import net.automatalib.automaton.base.EncodedProperties;
+import net.automatalib.automaton.base.PropertyCodeArray;
+import net.automatalib.automaton.base.PropertyDictionary;
 import net.automatalib.automaton.impl.CompactTransition;
 import net.automatalib.automaton.transducer.MutableMealyMachine;
 import net.automatalib.automaton.transducer.StateLocalInputMealyMachine;
+import net.automatalib.common.smartcollection.IntSeq;
+import net.automatalib.exception.UndefinedPropertyAccessException;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+/**
+ * A compact, array-based implementation of a {@link MutableMealyMachine}.
+ * <p>
+ * By default, outputs are stored as references (one per transition). If an {@link PropertyDictionary output
+ * dictionary} is provided upon construction, outputs are stored dictionary-encoded instead, i.e., each transition only
+ * stores the (byte-, short- or int-sized) code of its output. This can significantly reduce the memory footprint of
+ * automata with few distinct outputs and allows algorithms to compare outputs by their codes (see {@link
+ * EncodedProperties}).
+ *
+ * @param <I>
+ *         input symbol type
+ * @param <O>
+ *         output symbol type
+ */
 public class CompactMealy<I, O> extends AbstractCompactDeterministic<I, CompactTransition<O>, Void, O> implements
                                                                                                        MutableMealyMachine<Integer, I, CompactTransition<O>, O>,
-                                                                                                       StateLocalInputMealyMachine<Integer, I, CompactTransition<O>, O> {
+                                                                                                       StateLocalInputMealyMachine<Integer, I, CompactTransition<O>, O>,
+                                                                                                       EncodedProperties {
+
+    private static final Object[] NO_OUTPUTS = {};
 
     private int[] transitions;
     private @Nullable Object[] outputs;
+    // only used in encoded mode
+    private final @Nullable PropertyDictionary<O> outputDictionary;
+    private final @Nullable PropertyCodeArray outputCodes;
 
     public CompactMealy(Alphabet<I> alphabet, int stateCapacity, float resizeFactor) {
+        this(alphabet, stateCapacity, resizeFactor, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param alphabet
+     *         the input alphabet
+     * @param stateCapacity
+     *         the initial state capacity
+     * @param resizeFactor
+     *         the resize factor
+     * @param outputDictionary
+     *         the dictionary used for encoding the outputs. If {@code null}, outputs are stored as references
+     */
+    public CompactMealy(Alphabet<I> alphabet,
+                        int stateCapacity,
+                        float resizeFactor,
+                        @Nullable PropertyDictionary<O> outputDictionary) {
         super(alphabet, stateCapacity, resizeFactor);
 
         final int size = stateCapacity * numInputs();
 
         this.transitions = new int[size];
-        this.outputs = new Object[size];
+        this.outputDictionary = outputDictionary;
+
+        if (outputDictionary == null) {
+            this.outputs = new Object[size];
+            this.outputCodes = null;
+        } else {
+            this.outputs = NO_OUTPUTS;
+            this.outputCodes = new PropertyCodeArray(size);
+        }
 
         Arrays.fill(transitions, AbstractCompact.INVALID_STATE);
     }
 
+    /**
+     * Constructor for a Mealy machine that stores its outputs dictionary-encoded.
+     *
+     * @param alphabet
+     *         the input alphabet
+     * @param outputDictionary
+     *         the dictionary used for encoding the outputs. The dictionary may be shared with other automata
+     */
+    public CompactMealy(Alphabet<I> alphabet, PropertyDictionary<O> outputDictionary) {
+        this(alphabet, DEFAULT_INIT_CAPACITY, DEFAULT_RESIZE_FACTOR, outputDictionary);
+    }
+
     public CompactMealy(Alphabet<I> alphabet, int stateCapacity) {
         this(alphabet, stateCapacity, DEFAULT_RESIZE_FACTOR);
     }
@@ -60,6 +126,8 @@ public class CompactMealy<I, O> extends AbstractCompactDeterministic<I, CompactT
         super(alphabet, other);
         this.transitions = other.transitions.clone();
         this.outputs = other.outputs.clone();
+        this.outputDictionary = other.outputDictionary;
+        this.outputCodes = other.outputCodes == null ? null : other.outputCodes.copy();
     }
 
     public <I2> CompactMealy<I2, O> translate(Alphabet<I2> newAlphabet) {
@@ -74,7 +142,65 @@ public class CompactMealy<I, O> extends AbstractCompactDeterministic<I, CompactT
     @Override
     protected void updateTransitionStorage(Payload payload) {
         this.transitions = updateTransitionStorage(this.transitions, AbstractCompact.INVALID_STATE, payload);
-        this.outputs = updateTransitionStorage(this.outputs, null, payload);
+        if (outputCodes == null) {
+            this.outputs = updateTransitionStorage(this.outputs, null, payload);
+        } else {
+            updateTransitionStorage(outputCodes, payload);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private O getOutput(int idx) {
+        if (outputCodes == null) {
+            return (O) outputs[idx];
+        }
+        assert outputDictionary != null;
+        return outputDictionary.decode(outputCodes.get(idx));
+    }
+
+    private void setOutput(int idx, @Nullable O output) {
+        if (outputCodes == null) {
+            outputs[idx] = output;
+        } else {
+            assert outputDictionary != null;
+            outputCodes.set(idx, outputDictionary.encode(output));
+        }
+    }
+
+    private void clearOutputs(int fromIdx, int toIdx) {
+        if (outputCodes == null) {
+            Arrays.fill(outputs, fromIdx, toIdx, null);
+        } else {
+            outputCodes.fill(fromIdx, toIdx, PropertyDictionary.NULL_CODE);
+        }
+    }
+
+    @Override
+    public @Nullable PropertyDictionary<O> getStatePropertyDictionary() {
+        return null;
+    }
+
+    /**
+     * Returns the dictionary of the outputs.
+     *
+     * @return the dictionary of the outputs, or {@code null} if outputs are not stored dictionary-encoded
+     */
+    @Override
+    public @Nullable PropertyDictionary<O> getTransitionPropertyDictionary() {
+        return outputDictionary;
+    }
+
+    @Override
+    public int getStatePropertyCode(int state) {
+        throw new IllegalStateException("State properties are not encoded");
+    }
+
+    @Override
+    public int getTransitionPropertyCode(int state, int input) {
+        if (outputCodes == null) {
+            throw new IllegalStateException("Outputs are not encoded");
+        }
+        return outputCodes.get(toMemoryIndex(state, input));
     }
 
     @Override
@@ -88,10 +214,9 @@ public class CompactMealy<I, O> extends AbstractCompactDeterministic<I, CompactT
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     // Overridden for performance reasons (to prevent object instantiation of default implementation)
     public O getTransitionProperty(int state, int input) {
-        return (O) outputs[toMemoryIndex(state, input)];
+        return getOutput(toMemoryIndex(state, input));
     }
 
     @Override
@@ -99,7 +224,7 @@ public class CompactMealy<I, O> extends AbstractCompactDeterministic<I, CompactT
         transition.setProperty(property);
 
         if (transition.isAutomatonTransition()) {
-            outputs[transition.getMemoryIdx()] = property;
+            setOutput(transition.getMemoryIdx(), property);
         }
     }
 
@@ -113,7 +238,7 @@ public class CompactMealy<I, O> extends AbstractCompactDeterministic<I, CompactT
         final int lower = state * numInputs();
         final int upper = lower + numInputs();
         Arrays.fill(transitions, lower, upper, AbstractCompact.INVALID_STATE);
-        Arrays.fill(outputs, lower, upper, null);
+        clearOutputs(lower, upper);
     }
 
     @Override
@@ -154,14 +279,14 @@ public class CompactMealy<I, O> extends AbstractCompactDeterministic<I, CompactT
     public void setTransition(int state, int input, int successor, @Nullable O property) {
         final int idx = toMemoryIndex(state, input);
         transitions[idx] = successor;
-        outputs[idx] = property;
+        setOutput(idx, property);
     }
 
     @Override
     public void clear() {
         int endIdx = size() * numInputs();
         Arrays.fill(transitions, 0, endIdx, AbstractCompact.INVALID_STATE);
-        Arrays.fill(outputs, 0, endIdx, null);
+        clearOutputs(0, endIdx);
 
         super.clear();
     }
@@ -175,10 +300,60 @@ public class CompactMealy<I, O> extends AbstractCompactDeterministic<I, CompactT
             return null;
         }
 
-        @SuppressWarnings("unchecked")
-        final O output = (O) outputs[idx];
+        return new CompactTransition<>(idx, succ, getOutput(idx));
+    }
+
+    /**
+     * Computes the output for the given sequence of input (symbol) indices. Contrary to
+     * {@link #computeOutput(Iterable)}, this method does not require to box or look up any input symbols.
+     *
+     * @param input
+     *         the indices of the input symbols
+     *
+     * @return the output word (which is truncated at the first undefined transition)
+     *
+     * @throws UndefinedPropertyAccessException
+     *         if this automaton has no initial state
+     */
+    public Word<O> computeOutput(int[] input) {
+        return computeOutput(IntSeq.of(input));
+    }
+
+    /**
+     * Computes the output for the given sequence of input (symbol) indices (e.g., an
+     * {@link net.automatalib.word.IntWord}). Contrary to {@link #computeOutput(Iterable)}, this method does not require
+     * to box or look up any input symbols.
+     *
+     * @param input
+     *         the indices of the input symbols
+     *
+     * @return the output word (which is truncated at the first undefined transition)
+     *
+     * @throws UndefinedPropertyAccessException
+     *         if this automaton has no initial state
+     */
+    public Word<O> computeOutput(IntSeq input) {
+        int state = getIntInitialState();
+
+        if (state == AbstractCompact.INVALID_STATE) {
+            throw new UndefinedPropertyAccessException("No initial state defined");
+        }
+
+        final int len = input.size();
+        final WordBuilder<O> result = new WordBuilder<>(len);
+
+        for (int i = 0; i < len; i++) {
+            final int idx = toMemoryIndex(state, input.get(i));
+            state = transitions[idx];
+
+            if (state == AbstractCompact.INVALID_STATE) {
+                break;
+            }
+
+            result.append(getOutput(idx));
+        }
 
-        return new CompactTransition<>(idx, succ, output);
+        return result.toWord();
     }
 
     public static final class Creator<I, O> implements AutomatonCreator<CompactMealy<I, O>, I> {
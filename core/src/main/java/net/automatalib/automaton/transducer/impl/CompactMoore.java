@@ -17,6 +17,7 @@ package net.automatalib.automaton.transducer.impl;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.automaton.AutomatonCreator;
+import net.automatalib.automaton.base.PropertyDictionary;
 import net.automatalib.automaton.impl.UniversalCompactSimpleDet;
 import net.automatalib.automaton.transducer.MutableMooreMachine;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -32,6 +33,25 @@ public class CompactMoore<I, @Nullable O> extends UniversalCompactSimpleDet<I, O
         super(alphabet, stateCapacity, resizeFactor);
     }
 
+    /**
+     * Constructor for a Moore machine that stores its outputs dictionary-encoded.
+     *
+     * @param alphabet
+     *         the input alphabet
+     * @param outputDictionary
+     *         the dictionary used for encoding the outputs. The dictionary may be shared with other automata
+     */
+    public CompactMoore(Alphabet<I> alphabet, PropertyDictionary<O> outputDictionary) {
+        this(alphabet, DEFAULT_INIT_CAPACITY, DEFAULT_RESIZE_FACTOR, outputDictionary);
+    }
+
+    public CompactMoore(Alphabet<I> alphabet,
+                        int stateCapacity,
+                        float resizeFactor,
+                        @Nullable PropertyDictionary<O> outputDictionary) {
+        super(alphabet, stateCapacity, resizeFactor, outputDictionary);
+    }
+
     public CompactMoore(CompactMoore<I, O> other) {
         super(other);
     }
@@ -15,10 +15,18 @@
  */
 package net.automatalib.automaton.transducer.impl;
 
+import java.util.Arrays;
+import java.util.List;
+
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.automaton.base.AbstractFastMutableDet;
 import net.automatalib.automaton.transducer.MutableMealyMachine;
 import net.automatalib.automaton.transducer.StateLocalInputMealyMachine;
+import net.automatalib.common.smartcollection.IntSeq;
+import net.automatalib.exception.UndefinedPropertyAccessException;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * A fast implementation of a Mealy machine.
@@ -67,4 +75,148 @@ public class FastMealy<I, O>
     protected FastMealyState<O> createState(Void property) {
         return new FastMealyState<>(inputAlphabet.size());
     }
+
+    @Override
+    // Overridden for performance reasons (to prevent iterator instantiation and repeated interface calls)
+    public boolean trace(FastMealyState<O> state, Iterable<? extends I> input, List<? super O> output) {
+        FastMealyState<O> curr = state;
+
+        if (input instanceof Word) {
+            final Word<? extends I> word = (Word<? extends I>) input;
+            final int len = word.size();
+
+            for (int i = 0; i < len; i++) {
+                final MealyTransition<FastMealyState<O>, O> trans =
+                        curr.getTransitionObject(getSymbolIndex(word.getSymbol(i)));
+                if (trans == null) {
+                    return false;
+                }
+                output.add(trans.getOutput());
+                curr = trans.getSuccessor();
+            }
+        } else {
+            for (I sym : input) {
+                final MealyTransition<FastMealyState<O>, O> trans = curr.getTransitionObject(getSymbolIndex(sym));
+                if (trans == null) {
+                    return false;
+                }
+                output.add(trans.getOutput());
+                curr = trans.getSuccessor();
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Computes the output for the given sequence of input (symbol) indices. Contrary to
+     * {@link #computeOutput(Iterable)}, this method does not require to box or look up any input symbols.
+     *
+     * @param input
+     *         the indices of the input symbols
+     *
+     * @return the output word (which is truncated at the first undefined transition)
+     *
+     * @throws UndefinedPropertyAccessException
+     *         if this automaton has no initial state
+     */
+    public Word<O> computeOutput(IntSeq input) {
+        FastMealyState<O> state = getInitialState();
+
+        if (state == null) {
+            throw new UndefinedPropertyAccessException("No initial state defined");
+        }
+
+        final int len = input.size();
+        final WordBuilder<O> result = new WordBuilder<>(len);
+
+        for (int i = 0; i < len; i++) {
+            final MealyTransition<FastMealyState<O>, O> trans = state.getTransitionObject(input.get(i));
+
+            if (trans == null) {
+                break;
+            }
+
+            result.append(trans.getOutput());
+            state = trans.getSuccessor();
+        }
+
+        return result.toWord();
+    }
+
+    /**
+     * Returns a new {@link OutputCursor} positioned at the initial state of this automaton.
+     *
+     * @return a new cursor
+     */
+    public OutputCursor newOutputCursor() {
+        return new OutputCursor();
+    }
+
+    /**
+     * A {@link Cursor} that additionally records the outputs of the traversed transitions in a re-usable buffer. The
+     * buffer is cleared whenever the cursor is {@link #reset() reset}, so that simulating many words with the same
+     * cursor does not allocate any objects once the buffer has grown to the length of the longest word.
+     */
+    public final class OutputCursor extends Cursor {
+
+        private static final int DEFAULT_BUFFER_SIZE = 16;
+
+        private @Nullable Object[] outputs;
+        private int length;
+
+        OutputCursor() {
+            this.outputs = new Object[DEFAULT_BUFFER_SIZE];
+        }
+
+        @Override
+        public void reset(@Nullable FastMealyState<O> state) {
+            super.reset(state);
+            Arrays.fill(outputs, 0, length, null);
+            this.length = 0;
+        }
+
+        @Override
+        protected void onTransition(MealyTransition<FastMealyState<O>, O> transition) {
+            if (length == outputs.length) {
+                outputs = Arrays.copyOf(outputs, length + (length >> 1) + 1);
+            }
+            outputs[length++] = transition.getOutput();
+        }
+
+        /**
+         * Returns the number of outputs recorded since the last reset.
+         *
+         * @return the number of recorded outputs
+         */
+        public int getOutputLength() {
+            return length;
+        }
+
+        /**
+         * Returns the recorded output at the given position.
+         *
+         * @param index
+         *         the position
+         *
+         * @return the output of the {@code index}-th traversed transition since the last reset
+         */
+        @SuppressWarnings("unchecked")
+        public O getOutput(int index) {
+            if (index >= length) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", length: " + length);
+            }
+            return (O) outputs[index];
+        }
+
+        /**
+         * Returns the recorded outputs as a {@link Word}. Note that this method allocates a new word.
+         *
+         * @return the outputs traversed since the last reset
+         */
+        @SuppressWarnings("unchecked")
+        public Word<O> getOutputWord() {
+            return (Word<O>) Word.fromArray(outputs, 0, length);
+        }
+    }
 }
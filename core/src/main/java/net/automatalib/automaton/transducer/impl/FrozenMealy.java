@@ -0,0 +1,153 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.transducer.impl;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.UniversalDeterministicAutomaton.FullIntAbstraction;
+import net.automatalib.automaton.base.AbstractFrozenDeterministic;
+import net.automatalib.automaton.impl.CompactTransition;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.common.smartcollection.IntSeq;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An immutable, thread-safe snapshot of a {@link MealyMachine}. See {@link AbstractFrozenDeterministic} for details.
+ *
+ * @param <I>
+ *         input symbol type
+ * @param <O>
+ *         output symbol type
+ */
+public final class FrozenMealy<I, O> extends AbstractFrozenDeterministic<I, CompactTransition<O>, Void, O>
+        implements MealyMachine<Integer, I, CompactTransition<O>, O> {
+
+    private final @Nullable Object[][] outputs;
+
+    private FrozenMealy(Alphabet<I> alphabet, FullIntAbstraction<?, ?, O> source, @Nullable FrozenMealy<I, O> previous) {
+        super(alphabet, source, previous);
+        this.outputs = freezeTransitionProperties(source, isCompatible(previous) ? previous.outputs : null);
+    }
+
+    /**
+     * Creates a snapshot of the given Mealy machine.
+     *
+     * @param mealy
+     *         the Mealy machine
+     * @param alphabet
+     *         the input symbols to consider
+     * @param <I>
+     *         input symbol type
+     * @param <O>
+     *         output symbol type
+     *
+     * @return the snapshot
+     */
+    public static <I, O> FrozenMealy<I, O> freeze(MealyMachine<?, I, ?, O> mealy, Alphabet<I> alphabet) {
+        return freeze(mealy, alphabet, null);
+    }
+
+    /**
+     * Creates a snapshot of the given Mealy machine that shares all unchanged data with the given previous snapshot.
+     *
+     * @param mealy
+     *         the Mealy machine
+     * @param alphabet
+     *         the input symbols to consider
+     * @param previous
+     *         the previous snapshot, may be {@code null}
+     * @param <I>
+     *         input symbol type
+     * @param <O>
+     *         output symbol type
+     *
+     * @return the snapshot
+     */
+    public static <I, O> FrozenMealy<I, O> freeze(MealyMachine<?, I, ?, O> mealy,
+                                                  Alphabet<I> alphabet,
+                                                  @Nullable FrozenMealy<I, O> previous) {
+        final Alphabet<I> frozen = freezeAlphabet(alphabet);
+        return new FrozenMealy<>(frozen, mealy.fullIntAbstraction(frozen), previous);
+    }
+
+    @Override
+    public Void getStateProperty(int state) {
+        return null;
+    }
+
+    @Override
+    public @Nullable CompactTransition<O> getTransition(int state, int input) {
+        final int succ = getSuccessor(state, input);
+
+        if (succ == INVALID_STATE) {
+            return null;
+        }
+
+        return new CompactTransition<>(succ, getTransitionProperty(state, input));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    // Overridden for performance reasons (to prevent object instantiation of default implementation)
+    public O getTransitionProperty(int state, int input) {
+        return (O) outputs[state >>> PAGE_SHIFT][toPageIndex(state, input)];
+    }
+
+    @Override
+    public int getIntSuccessor(CompactTransition<O> transition) {
+        return transition.getSuccId();
+    }
+
+    @Override
+    public O getTransitionOutput(CompactTransition<O> transition) {
+        return transition.getProperty();
+    }
+
+    @Override
+    public O getTransitionProperty(CompactTransition<O> transition) {
+        return transition.getProperty();
+    }
+
+    /**
+     * Computes the output for the given sequence of input (symbol) indices. Contrary to
+     * {@link #computeOutput(Iterable)}, this method does not require to box or look up any input symbols.
+     *
+     * @param input
+     *         the indices of the input symbols
+     *
+     * @return the output word (which is truncated at the first undefined transition)
+     */
+    public Word<O> computeOutput(IntSeq input) {
+        int state = getIntInitialState();
+
+        final int len = input.size();
+        final WordBuilder<O> result = new WordBuilder<>(len);
+
+        for (int i = 0; i < len && state != INVALID_STATE; i++) {
+            final int sym = input.get(i);
+            final int succ = getSuccessor(state, sym);
+
+            if (succ != INVALID_STATE) {
+                result.append(getTransitionProperty(state, sym));
+            }
+
+            state = succ;
+        }
+
+        return result.toWord();
+    }
+}
@@ -0,0 +1,396 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.transducer.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.base.AbstractCompact;
+import net.automatalib.automaton.base.AbstractCompactDeterministic;
+import net.automatalib.automaton.base.OffHeapIntStorage;
+import net.automatalib.automaton.impl.CompactTransition;
+import net.automatalib.automaton.transducer.MutableMealyMachine;
+import net.automatalib.automaton.transducer.StateLocalInputMealyMachine;
+import net.automatalib.common.smartcollection.IntSeq;
+import net.automatalib.exception.UndefinedPropertyAccessException;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A variant of {@link CompactMealy} whose transition data is stored outside the Java heap in an {@link
+ * OffHeapIntStorage}, i.e., either in direct memory or in a memory-mapped file. Each state occupies a record of {@code
+ * 2 * numInputs()} consecutive {@code int}s (pairs of successor and output code), and adding states only appends new
+ * segments to the storage instead of copying the existing data.
+ * <p>
+ * Outputs are dictionary-encoded: every distinct output is stored only once (on the Java heap) and transitions only
+ * refer to its code. File-backed instances can be created via {@link #create(Path, Alphabet)} and re-opened (without
+ * any parsing) via {@link #open(Path, Alphabet, List)}. Note that neither the input alphabet nor the output dictionary
+ * (see {@link #getOutputDictionary()}) are persisted and must be provided when re-opening an automaton.
+ *
+ * @param <I>
+ *         input symbol type
+ * @param <O>
+ *         output symbol type
+ */
+public class OffHeapCompactMealy<I, O> extends AbstractCompactDeterministic<I, CompactTransition<O>, Void, O>
+        implements MutableMealyMachine<Integer, I, CompactTransition<O>, O>,
+                   StateLocalInputMealyMachine<Integer, I, CompactTransition<O>, O>,
+                   Closeable {
+
+    private static final int KIND = 0x4D4541; // "MEA"
+
+    private static final int KIND_SLOT = 0;
+    private static final int INPUTS_SLOT = 1;
+    private static final int STATES_SLOT = 2;
+    private static final int INITIAL_SLOT = 3;
+    private static final int OUTPUTS_SLOT = 4;
+
+    private static final int NO_OUTPUT = -1;
+
+    private final OffHeapIntStorage storage;
+    private final List<O> outputs;
+    private final Map<O, Integer> outputCodes;
+    private int stride;
+
+    /**
+     * Constructor. Creates a new automaton that is backed by direct memory.
+     *
+     * @param alphabet
+     *         the input alphabet
+     */
+    public OffHeapCompactMealy(Alphabet<I> alphabet) {
+        this(alphabet, OffHeapIntStorage.allocate());
+    }
+
+    /**
+     * Constructor. Creates a new automaton that is backed by the given (empty) storage.
+     *
+     * @param alphabet
+     *         the input alphabet
+     * @param storage
+     *         the storage
+     */
+    public OffHeapCompactMealy(Alphabet<I> alphabet, OffHeapIntStorage storage) {
+        super(alphabet, Integer.MAX_VALUE, DEFAULT_RESIZE_FACTOR);
+        this.storage = storage;
+        this.outputs = new ArrayList<>();
+        this.outputCodes = new HashMap<>();
+        this.stride = 2 * alphabet.size();
+
+        storage.setHeader(KIND_SLOT, KIND);
+        storage.setHeader(INPUTS_SLOT, alphabet.size());
+        storage.setHeader(STATES_SLOT, 0);
+        storage.setHeader(INITIAL_SLOT, AbstractCompact.INVALID_STATE);
+        storage.setHeader(OUTPUTS_SLOT, 0);
+    }
+
+    private OffHeapCompactMealy(Alphabet<I> alphabet,
+                                OffHeapIntStorage storage,
+                                int numStates,
+                                int initial,
+                                List<? extends O> outputs) {
+        super(alphabet, Integer.MAX_VALUE, DEFAULT_RESIZE_FACTOR, numStates, initial);
+        this.storage = storage;
+        this.outputs = new ArrayList<>(outputs);
+        this.outputCodes = new HashMap<>();
+        this.stride = 2 * alphabet.size();
+
+        for (int i = 0; i < outputs.size(); i++) {
+            this.outputCodes.put(outputs.get(i), i);
+        }
+    }
+
+    /**
+     * Creates a new automaton that is backed by the given file. Existing files are truncated.
+     *
+     * @param path
+     *         the path of the file
+     * @param alphabet
+     *         the input alphabet
+     * @param <I>
+     *         input symbol type
+     * @param <O>
+     *         output symbol type
+     *
+     * @return the created automaton
+     *
+     * @throws IOException
+     *         if the file cannot be created
+     */
+    public static <I, O> OffHeapCompactMealy<I, O> create(Path path, Alphabet<I> alphabet) throws IOException {
+        return new OffHeapCompactMealy<>(alphabet, OffHeapIntStorage.create(path));
+    }
+
+    /**
+     * Re-opens an automaton from a file that has previously been created by {@link #create(Path, Alphabet)}.
+     * Modifications of the re-opened automaton are written back to the file.
+     *
+     * @param path
+     *         the path of the file
+     * @param alphabet
+     *         the input alphabet, which must match the alphabet of the persisted automaton
+     * @param outputDictionary
+     *         the output dictionary of the persisted automaton (see {@link #getOutputDictionary()})
+     * @param <I>
+     *         input symbol type
+     * @param <O>
+     *         output symbol type
+     *
+     * @return the re-opened automaton
+     *
+     * @throws IOException
+     *         if the file cannot be opened or does not contain a (compatible) automaton
+     */
+    public static <I, O> OffHeapCompactMealy<I, O> open(Path path,
+                                                        Alphabet<I> alphabet,
+                                                        List<? extends O> outputDictionary) throws IOException {
+        final OffHeapIntStorage storage = OffHeapIntStorage.open(path);
+
+        if (storage.getHeader(KIND_SLOT) != KIND || storage.getHeader(INPUTS_SLOT) != alphabet.size()) {
+            storage.close();
+            throw new IOException("File does not contain a Mealy machine over an alphabet of size " + alphabet.size());
+        } else if (storage.getHeader(OUTPUTS_SLOT) != outputDictionary.size()) {
+            storage.close();
+            throw new IOException("File requires an output dictionary of size " + storage.getHeader(OUTPUTS_SLOT));
+        }
+
+        return new OffHeapCompactMealy<>(alphabet,
+                                         storage,
+                                         storage.getHeader(STATES_SLOT),
+                                         storage.getHeader(INITIAL_SLOT),
+                                         outputDictionary);
+    }
+
+    /**
+     * Returns the distinct outputs of this automaton, indexed by their codes. This list needs to be persisted
+     * separately in order to {@link #open(Path, Alphabet, List) re-open} a file-backed automaton.
+     *
+     * @return an unmodifiable view on the output dictionary
+     */
+    public List<O> getOutputDictionary() {
+        return Collections.unmodifiableList(outputs);
+    }
+
+    private int encode(@Nullable O output) {
+        if (output == null) {
+            return NO_OUTPUT;
+        }
+
+        final Integer code = outputCodes.get(output);
+        if (code != null) {
+            return code;
+        }
+
+        final int newCode = outputs.size();
+        outputs.add(output);
+        outputCodes.put(output, newCode);
+        storage.setHeader(OUTPUTS_SLOT, outputs.size());
+        return newCode;
+    }
+
+    private @Nullable O decode(int code) {
+        return code == NO_OUTPUT ? null : outputs.get(code);
+    }
+
+    private long toStorageIndex(int memoryIdx) {
+        return 2L * memoryIdx;
+    }
+
+    private long toStorageIndex(int state, int input) {
+        return (long) state * stride + 2 * input;
+    }
+
+    @Override
+    public int addIntState(@Nullable Void property) {
+        storage.ensureCapacity((long) (size() + 1) * stride);
+        final int result = super.addIntState(property);
+        storage.setHeader(STATES_SLOT, size());
+        return result;
+    }
+
+    @Override
+    public void setInitialState(int stateId) {
+        super.setInitialState(stateId);
+        storage.setHeader(INITIAL_SLOT, stateId);
+    }
+
+    @Override
+    protected void updateTransitionStorage(Payload payload) {
+        // states never exceed the (virtual) capacity, so this is only called for new alphabet symbols
+        final int newInputs = getInputAlphabet().size();
+        storage.widenRecords(size(), stride, 2 * newInputs, AbstractCompact.INVALID_STATE);
+        storage.setHeader(INPUTS_SLOT, newInputs);
+        this.stride = 2 * newInputs;
+    }
+
+    @Override
+    public O getTransitionOutput(CompactTransition<O> transition) {
+        return transition.getProperty();
+    }
+
+    @Override
+    public O getTransitionProperty(CompactTransition<O> transition) {
+        return transition.getProperty();
+    }
+
+    @Override
+    // Overridden for performance reasons (to prevent object instantiation of default implementation)
+    public O getTransitionProperty(int state, int input) {
+        return decode(storage.get(toStorageIndex(state, input) + 1));
+    }
+
+    @Override
+    public void setTransitionProperty(CompactTransition<O> transition, O property) {
+        transition.setProperty(property);
+
+        if (transition.isAutomatonTransition()) {
+            storage.set(toStorageIndex(transition.getMemoryIdx()) + 1, encode(property));
+        }
+    }
+
+    @Override
+    public void setTransitionOutput(CompactTransition<O> transition, O output) {
+        setTransitionProperty(transition, output);
+    }
+
+    @Override
+    public void removeAllTransitions(Integer state) {
+        final long lower = toStorageIndex(state, 0);
+        storage.fill(lower, lower + stride, AbstractCompact.INVALID_STATE);
+    }
+
+    @Override
+    // Overridden for performance reasons (to prevent object instantiation of default implementation)
+    public int getSuccessor(int state, int input) {
+        return storage.get(toStorageIndex(state, input));
+    }
+
+    @Override
+    public int getIntSuccessor(CompactTransition<O> transition) {
+        return transition.getSuccId();
+    }
+
+    @Override
+    public CompactTransition<O> createTransition(int succId, O property) {
+        return new CompactTransition<>(succId, property);
+    }
+
+    @Override
+    public void setStateProperty(int state, Void property) {}
+
+    @Override
+    public Void getStateProperty(int stateId) {
+        return null;
+    }
+
+    @Override
+    public void setTransition(int state, int input, @Nullable CompactTransition<O> transition) {
+        if (transition == null) {
+            setTransition(state, input, AbstractCompact.INVALID_STATE, null);
+        } else {
+            setTransition(state, input, transition.getSuccId(), transition.getProperty());
+            transition.setMemoryIdx(toMemoryIndex(state, input));
+        }
+    }
+
+    @Override
+    public void setTransition(int state, int input, int successor, @Nullable O property) {
+        final long idx = toStorageIndex(state, input);
+        storage.set(idx, successor);
+        storage.set(idx + 1, encode(property));
+    }
+
+    @Override
+    public void clear() {
+        storage.fill(0, (long) size() * stride, AbstractCompact.INVALID_STATE);
+        super.clear();
+        storage.setHeader(STATES_SLOT, 0);
+        storage.setHeader(INITIAL_SLOT, AbstractCompact.INVALID_STATE);
+    }
+
+    @Override
+    public @Nullable CompactTransition<O> getTransition(int state, int input) {
+        final long idx = toStorageIndex(state, input);
+        final int succ = storage.get(idx);
+
+        if (succ == AbstractCompact.INVALID_STATE) {
+            return null;
+        }
+
+        return new CompactTransition<>(toMemoryIndex(state, input), succ, decode(storage.get(idx + 1)));
+    }
+
+    /**
+     * Computes the output for the given sequence of input (symbol) indices. Contrary to
+     * {@link #computeOutput(Iterable)}, this method does not require to box or look up any input symbols.
+     *
+     * @param input
+     *         the indices of the input symbols
+     *
+     * @return the output word (which is truncated at the first undefined transition)
+     *
+     * @throws UndefinedPropertyAccessException
+     *         if this automaton has no initial state
+     */
+    public Word<O> computeOutput(IntSeq input) {
+        int state = getIntInitialState();
+
+        if (state == AbstractCompact.INVALID_STATE) {
+            throw new UndefinedPropertyAccessException("No initial state defined");
+        }
+
+        final int len = input.size();
+        final WordBuilder<O> result = new WordBuilder<>(len);
+
+        for (int i = 0; i < len; i++) {
+            final long idx = toStorageIndex(state, input.get(i));
+            state = storage.get(idx);
+
+            if (state == AbstractCompact.INVALID_STATE) {
+                break;
+            }
+
+            result.append(decode(storage.get(idx + 1)));
+        }
+
+        return result.toWord();
+    }
+
+    /**
+     * Writes all modifications of a file-backed automaton to the disk.
+     *
+     * @throws IOException
+     *         if writing the data fails
+     *
+     * @see OffHeapIntStorage#flush()
+     */
+    public void flush() throws IOException {
+        storage.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        storage.close();
+    }
+}
@@ -0,0 +1,218 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.transducer.impl;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.AutomatonCreator;
+import net.automatalib.automaton.base.AbstractCompact;
+import net.automatalib.automaton.base.AbstractCompactDeterministic;
+import net.automatalib.automaton.base.PagedIntStorage;
+import net.automatalib.automaton.base.PagedStorage;
+import net.automatalib.automaton.impl.CompactTransition;
+import net.automatalib.automaton.transducer.MutableMealyMachine;
+import net.automatalib.automaton.transducer.StateLocalInputMealyMachine;
+import net.automatalib.common.smartcollection.IntSeq;
+import net.automatalib.exception.UndefinedPropertyAccessException;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A variant of {@link CompactMealy} whose data is stored in {@link PagedIntStorage paged storages} instead of
+ * (contiguous) arrays. Adding states never copies the data of existing states, which avoids latency spikes and a
+ * temporarily doubled memory footprint when constructing very large automata (e.g., when exporting incremental
+ * structures).
+ *
+ * @param <I>
+ *         input symbol type
+ * @param <O>
+ *         output symbol type
+ */
+public class PagedCompactMealy<I, O> extends AbstractCompactDeterministic<I, CompactTransition<O>, Void, O>
+        implements MutableMealyMachine<Integer, I, CompactTransition<O>, O>,
+                   StateLocalInputMealyMachine<Integer, I, CompactTransition<O>, O> {
+
+    private final PagedIntStorage transitions;
+    private final PagedStorage<O> outputs;
+
+    public PagedCompactMealy(Alphabet<I> alphabet) {
+        this(alphabet, PagedIntStorage.DEFAULT_PAGE_SHIFT);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param alphabet
+     *         the input alphabet
+     * @param pageShift
+     *         the size of each page (in elements) as a power of two
+     */
+    public PagedCompactMealy(Alphabet<I> alphabet, int pageShift) {
+        super(alphabet, DEFAULT_INIT_CAPACITY, DEFAULT_RESIZE_FACTOR);
+        this.transitions = new PagedIntStorage(pageShift, AbstractCompact.INVALID_STATE);
+        this.outputs = new PagedStorage<>(pageShift);
+    }
+
+    @Override
+    protected void updateTransitionStorage(Payload payload) {
+        updateTransitionStorage(this.transitions, payload);
+        updateTransitionStorage(this.outputs, payload);
+    }
+
+    @Override
+    public O getTransitionOutput(CompactTransition<O> transition) {
+        return transition.getProperty();
+    }
+
+    @Override
+    public O getTransitionProperty(CompactTransition<O> transition) {
+        return transition.getProperty();
+    }
+
+    @Override
+    // Overridden for performance reasons (to prevent object instantiation of default implementation)
+    public O getTransitionProperty(int state, int input) {
+        return outputs.get(toMemoryIndex(state, input));
+    }
+
+    @Override
+    public void setTransitionProperty(CompactTransition<O> transition, O property) {
+        transition.setProperty(property);
+
+        if (transition.isAutomatonTransition()) {
+            outputs.set(transition.getMemoryIdx(), property);
+        }
+    }
+
+    @Override
+    public void setTransitionOutput(CompactTransition<O> transition, O output) {
+        setTransitionProperty(transition, output);
+    }
+
+    @Override
+    public void removeAllTransitions(Integer state) {
+        final int lower = state * numInputs();
+        final int upper = lower + numInputs();
+        transitions.fill(lower, upper, AbstractCompact.INVALID_STATE);
+        outputs.fill(lower, upper, null);
+    }
+
+    @Override
+    // Overridden for performance reasons (to prevent object instantiation of default implementation)
+    public int getSuccessor(int state, int input) {
+        return transitions.get(toMemoryIndex(state, input));
+    }
+
+    @Override
+    public int getIntSuccessor(CompactTransition<O> transition) {
+        return transition.getSuccId();
+    }
+
+    @Override
+    public CompactTransition<O> createTransition(int succId, O property) {
+        return new CompactTransition<>(succId, property);
+    }
+
+    @Override
+    public void setStateProperty(int state, Void property) {}
+
+    @Override
+    public Void getStateProperty(int stateId) {
+        return null;
+    }
+
+    @Override
+    public void setTransition(int state, int input, @Nullable CompactTransition<O> transition) {
+        if (transition == null) {
+            setTransition(state, input, AbstractCompact.INVALID_STATE, null);
+        } else {
+            setTransition(state, input, transition.getSuccId(), transition.getProperty());
+            transition.setMemoryIdx(toMemoryIndex(state, input));
+        }
+    }
+
+    @Override
+    public void setTransition(int state, int input, int successor, @Nullable O property) {
+        final int idx = toMemoryIndex(state, input);
+        transitions.set(idx, successor);
+        outputs.set(idx, property);
+    }
+
+    @Override
+    public void clear() {
+        int endIdx = size() * numInputs();
+        transitions.fill(0, endIdx, AbstractCompact.INVALID_STATE);
+        outputs.fill(0, endIdx, null);
+
+        super.clear();
+    }
+
+    @Override
+    public @Nullable CompactTransition<O> getTransition(int state, int input) {
+        final int idx = toMemoryIndex(state, input);
+        final int succ = transitions.get(idx);
+
+        if (succ == AbstractCompact.INVALID_STATE) {
+            return null;
+        }
+
+        return new CompactTransition<>(idx, succ, outputs.get(idx));
+    }
+
+    /**
+     * Computes the output for the given sequence of input (symbol) indices. Contrary to
+     * {@link #computeOutput(Iterable)}, this method does not require to box or look up any input symbols.
+     *
+     * @param input
+     *         the indices of the input symbols
+     *
+     * @return the output word (which is truncated at the first undefined transition)
+     *
+     * @throws UndefinedPropertyAccessException
+     *         if this automaton has no initial state
+     */
+    public Word<O> computeOutput(IntSeq input) {
+        int state = getIntInitialState();
+
+        if (state == AbstractCompact.INVALID_STATE) {
+            throw new UndefinedPropertyAccessException("No initial state defined");
+        }
+
+        final int len = input.size();
+        final WordBuilder<O> result = new WordBuilder<>(len);
+
+        for (int i = 0; i < len; i++) {
+            final int idx = toMemoryIndex(state, input.get(i));
+            state = transitions.get(idx);
+
+            if (state == AbstractCompact.INVALID_STATE) {
+                break;
+            }
+
+            result.append(outputs.get(idx));
+        }
+
+        return result.toWord();
+    }
+
+    public static final class Creator<I, O> implements AutomatonCreator<PagedCompactMealy<I, O>, I> {
+
+        @Override
+        public PagedCompactMealy<I, O> createAutomaton(Alphabet<I> alphabet) {
+            return new PagedCompactMealy<>(alphabet);
+        }
+    }
+}
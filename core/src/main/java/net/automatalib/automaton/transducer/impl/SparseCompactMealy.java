@@ -0,0 +1,251 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.transducer.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.AutomatonCreator;
+import net.automatalib.automaton.base.AbstractCompact;
+import net.automatalib.automaton.base.AbstractCompactDeterministic;
+import net.automatalib.automaton.base.SparseTransitionStorage;
+import net.automatalib.automaton.impl.CompactTransition;
+import net.automatalib.automaton.transducer.MutableMealyMachine;
+import net.automatalib.automaton.transducer.StateLocalInputMealyMachine;
+import net.automatalib.common.smartcollection.IntSeq;
+import net.automatalib.exception.UndefinedPropertyAccessException;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A variant of {@link CompactMealy} that stores its transitions (and outputs) in a {@link SparseTransitionStorage},
+ * i.e., only defined transitions occupy memory. This makes this class suitable for partial Mealy machines over large
+ * alphabets, where only few transitions per state are defined. Adding alphabet symbols does not require to re-allocate
+ * the transitions of every state.
+ * <p>
+ * Since the number of states times the number of inputs may exceed the {@code int} range, the transitions of this
+ * automaton do not reference their (non-existing) memory index but store their source state and input index instead.
+ *
+ * @param <I>
+ *         input symbol type
+ * @param <O>
+ *         output symbol type
+ */
+public class SparseCompactMealy<I, O> extends AbstractCompactDeterministic<I, CompactTransition<O>, Void, O>
+        implements MutableMealyMachine<Integer, I, CompactTransition<O>, O>,
+                   StateLocalInputMealyMachine<Integer, I, CompactTransition<O>, O> {
+
+    private final SparseTransitionStorage transitions;
+
+    public SparseCompactMealy(Alphabet<I> alphabet) {
+        this(alphabet, DEFAULT_INIT_CAPACITY, DEFAULT_RESIZE_FACTOR);
+    }
+
+    public SparseCompactMealy(Alphabet<I> alphabet, int stateCapacity, float resizeFactor) {
+        super(alphabet, stateCapacity, resizeFactor);
+        this.transitions = new SparseTransitionStorage(stateCapacity, true);
+    }
+
+    @Override
+    protected void updateTransitionStorage(Payload payload) {
+        updateTransitionStorage(this.transitions, payload);
+    }
+
+    @Override
+    public O getTransitionOutput(CompactTransition<O> transition) {
+        return transition.getProperty();
+    }
+
+    @Override
+    public O getTransitionProperty(CompactTransition<O> transition) {
+        return transition.getProperty();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    // Overridden for performance reasons (to prevent object instantiation of default implementation)
+    public O getTransitionProperty(int state, int input) {
+        return (O) transitions.getProperty(state, input);
+    }
+
+    @Override
+    public void setTransitionProperty(CompactTransition<O> transition, O property) {
+        transition.setProperty(property);
+
+        if (transition instanceof SparseTransition) {
+            final SparseTransition<O> t = (SparseTransition<O>) transition;
+            final int state = t.getMemoryIdx();
+            // only update the output, if the transition has not been removed or redirected in the meantime
+            if (t.owner == this && transitions.getSuccessor(state, t.input) == t.getSuccId()) {
+                transitions.set(state, t.input, t.getSuccId(), property, numInputs());
+            }
+        }
+    }
+
+    @Override
+    public void setTransitionOutput(CompactTransition<O> transition, O output) {
+        setTransitionProperty(transition, output);
+    }
+
+    @Override
+    public void removeAllTransitions(Integer state) {
+        transitions.clearState(state);
+    }
+
+    @Override
+    // Overridden for performance reasons (to prevent object instantiation of default implementation)
+    public int getSuccessor(int state, int input) {
+        return transitions.getSuccessor(state, input);
+    }
+
+    @Override
+    public int getIntSuccessor(CompactTransition<O> transition) {
+        return transition.getSuccId();
+    }
+
+    @Override
+    public CompactTransition<O> createTransition(int succId, O property) {
+        return new CompactTransition<>(succId, property);
+    }
+
+    @Override
+    public void setStateProperty(int state, Void property) {}
+
+    @Override
+    public Void getStateProperty(int stateId) {
+        return null;
+    }
+
+    @Override
+    public void setTransition(int state, int input, @Nullable CompactTransition<O> transition) {
+        if (transition == null) {
+            setTransition(state, input, AbstractCompact.INVALID_STATE, null);
+        } else {
+            setTransition(state, input, transition.getSuccId(), transition.getProperty());
+        }
+    }
+
+    @Override
+    public void setTransition(int state, int input, int successor, @Nullable O property) {
+        transitions.set(state, input, successor, property, numInputs());
+    }
+
+    @Override
+    public @Nullable CompactTransition<O> getTransition(int state, int input) {
+        final int succ = transitions.getSuccessor(state, input);
+
+        if (succ == AbstractCompact.INVALID_STATE) {
+            return null;
+        }
+
+        return new SparseTransition<>(this, state, input, succ, getTransitionProperty(state, input));
+    }
+
+    @Override
+    public Collection<I> getLocalInputs(Integer state) {
+        final Alphabet<I> alphabet = getInputAlphabet();
+        final int[] inputs = transitions.getDefinedInputs(state);
+        final List<I> result = new ArrayList<>(inputs.length);
+
+        for (int i : inputs) {
+            result.add(alphabet.getSymbol(i));
+        }
+
+        return result;
+    }
+
+    @Override
+    public void clear() {
+        transitions.clear(size());
+        super.clear();
+    }
+
+    /**
+     * Returns the number of defined transitions of the given state.
+     *
+     * @param state
+     *         the state
+     *
+     * @return the number of defined transitions
+     */
+    public int getNumTransitions(int state) {
+        return transitions.getNumTransitions(state);
+    }
+
+    /**
+     * Computes the output for the given sequence of input (symbol) indices. Contrary to
+     * {@link #computeOutput(Iterable)}, this method does not require to box or look up any input symbols.
+     *
+     * @param input
+     *         the indices of the input symbols
+     *
+     * @return the output word (which is truncated at the first undefined transition)
+     *
+     * @throws UndefinedPropertyAccessException
+     *         if this automaton has no initial state
+     */
+    public Word<O> computeOutput(IntSeq input) {
+        int state = getIntInitialState();
+
+        if (state == AbstractCompact.INVALID_STATE) {
+            throw new UndefinedPropertyAccessException("No initial state defined");
+        }
+
+        final int len = input.size();
+        final WordBuilder<O> result = new WordBuilder<>(len);
+
+        for (int i = 0; i < len; i++) {
+            final int sym = input.get(i);
+            final int succ = transitions.getSuccessor(state, sym);
+
+            if (succ == AbstractCompact.INVALID_STATE) {
+                break;
+            }
+
+            result.append(getTransitionProperty(state, sym));
+            state = succ;
+        }
+
+        return result.toWord();
+    }
+
+    /*
+     * A transition that remembers its source state (as memory index) and input index, so that property updates can be
+     * written back to the automaton.
+     */
+    private static final class SparseTransition<O> extends CompactTransition<O> {
+
+        private final SparseCompactMealy<?, O> owner;
+        private final int input;
+
+        SparseTransition(SparseCompactMealy<?, O> owner, int state, int input, int succId, O property) {
+            super(state, succId, property);
+            this.owner = owner;
+            this.input = input;
+        }
+    }
+
+    public static final class Creator<I, O> implements AutomatonCreator<SparseCompactMealy<I, O>, I> {
+
+        @Override
+        public SparseCompactMealy<I, O> createAutomaton(Alphabet<I> alphabet) {
+            return new SparseCompactMealy<>(alphabet);
+        }
+    }
+}
@@ -0,0 +1,584 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.transducer.probabilistic.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.AutomatonCreator;
+import net.automatalib.automaton.base.AbstractCompact;
+import net.automatalib.automaton.base.PropertyCodeArray;
+import net.automatalib.automaton.base.PropertyDictionary;
+import net.automatalib.automaton.transducer.probabilistic.MutableProbabilisticMealy;
+import net.automatalib.automaton.transducer.probabilistic.ProbabilisticOutput;
+import net.automatalib.common.util.collection.PositiveIntSet;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A compact, array-based implementation of a {@link MutableProbabilisticMealy probabilistic Mealy machine}. Contrary to
+ * {@link FastProbMealy}, this class neither instantiates objects for states nor for transitions, which makes it
+ * suitable for large stochastic models (e.g., models estimated from logs).
+ * <p>
+ * Transitions are identified by (stable) integer IDs. Their successors, probabilities and (dictionary-encoded) outputs
+ * are stored in primitive arrays and the transitions of each state/input pair form a linked list whose links are stored
+ * in a primitive array as well. As a result, each transition requires between 13 and 16 bytes (depending on the
+ * number of distinct outputs). Note that removed transitions are not reclaimed until the automaton is {@link #clear()
+ * cleared}.
+ * <p>
+ * For random simulations, {@link #sampleTransition(int, int, Random)} draws transitions according to their
+ * probabilities in constant time and without allocating objects. To do so, the automaton lazily compiles its
+ * transitions into CSR-style (compressed sparse row) arrays that additionally contain an alias table (Vose's method)
+ * for each state/input pair. The compiled representation is re-built on the first sampling after a modification.
+ * Probabilities of a state/input pair do not need to sum up to one; they are normalized during compilation.
+ *
+ * @param <I>
+ *         input symbol type
+ * @param <O>
+ *         output symbol type
+ */
+public class CompactProbMealy<I, O> extends AbstractCompact<I, Integer, Void, ProbabilisticOutput<O>>
+        implements MutableProbabilisticMealy<Integer, I, Integer, O> {
+
+    /**
+     * Return value of {@link #sampleTransition(int, int, Random)} if no transition is defined.
+     */
+    public static final int INVALID_TRANSITION = -1;
+
+    private static final int DEFAULT_TRANSITION_CAPACITY = 16;
+    // link values of the transition lists
+    private static final int END = -1;
+    private static final int UNLINKED = -2;
+
+    private final BitSet initial;
+    private final PropertyDictionary<O> outputDictionary;
+
+    // per state/input pair: the first transition of its list
+    private int[] heads;
+
+    // per transition
+    private int[] successors;
+    private float[] probabilities;
+    private PropertyCodeArray outputs;
+    private int[] links;
+    private int numTransitions;
+
+    private int version;
+    private @Nullable Sampler sampler;
+
+    public CompactProbMealy(Alphabet<I> alphabet) {
+        this(alphabet, DEFAULT_INIT_CAPACITY, DEFAULT_RESIZE_FACTOR);
+    }
+
+    public CompactProbMealy(Alphabet<I> alphabet, int stateCapacity, float resizeFactor) {
+        super(alphabet, stateCapacity, resizeFactor);
+
+        this.initial = new BitSet();
+        this.outputDictionary = new PropertyDictionary<>();
+        this.heads = new int[stateCapacity * numInputs()];
+        Arrays.fill(this.heads, END);
+
+        this.successors = new int[DEFAULT_TRANSITION_CAPACITY];
+        this.probabilities = new float[DEFAULT_TRANSITION_CAPACITY];
+        this.outputs = new PropertyCodeArray(DEFAULT_TRANSITION_CAPACITY);
+        this.links = new int[DEFAULT_TRANSITION_CAPACITY];
+    }
+
+    @Override
+    protected void updateTransitionStorage(Payload payload) {
+        this.heads = updateTransitionStorage(this.heads, END, payload);
+        this.version++;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(heads, 0, size() * numInputs(), END);
+        this.initial.clear();
+        this.numTransitions = 0;
+        this.sampler = null;
+        this.version++;
+
+        super.clear();
+    }
+
+    @Override
+    public Set<Integer> getInitialStates() {
+        return new PositiveIntSet(initial);
+    }
+
+    @Override
+    public void setInitial(Integer state, boolean initial) {
+        setInitial(state.intValue(), initial);
+    }
+
+    public void setInitial(int state, boolean initial) {
+        this.initial.set(state, initial);
+    }
+
+    @Override
+    public Void getStateProperty(Integer state) {
+        return null;
+    }
+
+    @Override
+    public void setStateProperty(Integer state, Void property) {}
+
+    @Override
+    public void setStateProperty(int state, @Nullable Void property) {}
+
+    @Override
+    public Collection<Integer> getTransitions(Integer state, I input) {
+        return getTransitions(state.intValue(), getSymbolIndex(input));
+    }
+
+    public List<Integer> getTransitions(int state, int inputIdx) {
+        final List<Integer> result = new ArrayList<>();
+        for (int t = heads[toMemoryIndex(state, inputIdx)]; t != END; t = links[t]) {
+            result.add(t);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of transitions that are currently defined for the given state and input (index).
+     *
+     * @param state
+     *         the state
+     * @param inputIdx
+     *         the index of the input symbol
+     *
+     * @return the number of transitions
+     */
+    public int getNumTransitions(int state, int inputIdx) {
+        int result = 0;
+        for (int t = heads[toMemoryIndex(state, inputIdx)]; t != END; t = links[t]) {
+            result++;
+        }
+        return result;
+    }
+
+    @Override
+    public Integer getSuccessor(Integer transition) {
+        return getIntSuccessor(transition.intValue());
+    }
+
+    public int getIntSuccessor(int transition) {
+        return successors[transition];
+    }
+
+    @Override
+    public O getTransitionOutput(Integer transition) {
+        return getTransitionOutput(transition.intValue());
+    }
+
+    public O getTransitionOutput(int transition) {
+        return outputDictionary.decode(outputs.get(transition));
+    }
+
+    @Override
+    public void setTransitionOutput(Integer transition, O output) {
+        setTransitionOutput(transition.intValue(), output);
+    }
+
+    public void setTransitionOutput(int transition, @Nullable O output) {
+        outputs.set(transition, outputDictionary.encode(output));
+    }
+
+    @Override
+    public float getTransitionProbability(Integer transition) {
+        return getTransitionProbability(transition.intValue());
+    }
+
+    public float getTransitionProbability(int transition) {
+        return probabilities[transition];
+    }
+
+    @Override
+    public void setTransitionProbability(Integer transition, float probability) {
+        setTransitionProbability(transition.intValue(), probability);
+    }
+
+    public void setTransitionProbability(int transition, float probability) {
+        probabilities[transition] = probability;
+        version++;
+    }
+
+    @Override
+    public ProbabilisticOutput<O> getTransitionProperty(Integer transition) {
+        final int t = transition;
+        return new ProbabilisticOutput<>(getTransitionProbability(t), getTransitionOutput(t));
+    }
+
+    @Override
+    public void setTransitionProperty(Integer transition, @Nullable ProbabilisticOutput<O> property) {
+        final int t = transition;
+        setTransitionProbability(t, property == null ? 0 : property.getProbability());
+        setTransitionOutput(t, property == null ? null : property.getOutput());
+    }
+
+    @Override
+    public Integer createTransition(Integer successor, @Nullable ProbabilisticOutput<O> properties) {
+        return properties == null ?
+                createTransition(successor.intValue(), null, 0) :
+                createTransition(successor.intValue(), properties.getOutput(), properties.getProbability());
+    }
+
+    /**
+     * Creates a new transition that is not yet part of any state. See {@link #addTransition(int, int, int)}.
+     *
+     * @param successor
+     *         the successor state
+     * @param output
+     *         the output of the transition
+     * @param probability
+     *         the probability of the transition
+     *
+     * @return the ID of the new transition
+     */
+    public int createTransition(int successor, @Nullable O output, float probability) {
+        final int t = numTransitions;
+
+        if (t == successors.length) {
+            final int newCapacity = t + (t >> 1) + 1;
+            this.successors = Arrays.copyOf(successors, newCapacity);
+            this.probabilities = Arrays.copyOf(probabilities, newCapacity);
+            this.links = Arrays.copyOf(links, newCapacity);
+            this.outputs.resize(newCapacity);
+        }
+
+        successors[t] = successor;
+        probabilities[t] = probability;
+        outputs.set(t, outputDictionary.encode(output));
+        links[t] = UNLINKED;
+        numTransitions++;
+
+        return t;
+    }
+
+    /**
+     * Convenience method for creating a new transition and adding it to the given state and input (index).
+     *
+     * @param state
+     *         the source state
+     * @param inputIdx
+     *         the index of the input symbol
+     * @param successor
+     *         the successor state
+     * @param output
+     *         the output of the transition
+     * @param probability
+     *         the probability of the transition
+     *
+     * @return the ID of the new transition
+     */
+    public int addTransition(int state, int inputIdx, int successor, @Nullable O output, float probability) {
+        final int t = createTransition(successor, output, probability);
+        addTransition(state, inputIdx, t);
+        return t;
+    }
+
+    @Override
+    public void addTransition(Integer state, I input, Integer transition) {
+        addTransition(state.intValue(), getSymbolIndex(input), transition.intValue());
+    }
+
+    /**
+     * Adds the given transition to the given state and input (index). A transition can only be part of (at most) one
+     * state/input pair.
+     *
+     * @param state
+     *         the source state
+     * @param inputIdx
+     *         the index of the input symbol
+     * @param transition
+     *         the ID of the transition
+     *
+     * @throws IllegalArgumentException
+     *         if the transition has already been added to a different state/input pair
+     */
+    public void addTransition(int state, int inputIdx, int transition) {
+        final int memIdx = toMemoryIndex(state, inputIdx);
+        final int tail = findTail(memIdx, transition);
+
+        if (tail != transition) {
+            link(memIdx, tail, transition);
+        }
+    }
+
+    @Override
+    public void setTransitions(Integer state, I input, Collection<? extends Integer> transitions) {
+        setTransitions(state.intValue(), getSymbolIndex(input), transitions);
+    }
+
+    public void setTransitions(int state, int inputIdx, Collection<? extends Integer> transitions) {
+        final int memIdx = toMemoryIndex(state, inputIdx);
+        unlinkAll(memIdx);
+
+        int tail = END;
+        for (Integer t : transitions) {
+            // skip duplicates (transitions of a different state/input pair are rejected by findTail)
+            if (links[t] != UNLINKED && findTail(memIdx, t) == t) {
+                continue;
+            }
+            link(memIdx, tail, t);
+            tail = t;
+        }
+    }
+
+    @Override
+    public void removeTransition(Integer state, I input, Integer transition) {
+        removeTransition(state.intValue(), getSymbolIndex(input), transition.intValue());
+    }
+
+    public void removeTransition(int state, int inputIdx, int transition) {
+        final int memIdx = toMemoryIndex(state, inputIdx);
+
+        int prev = END;
+        for (int t = heads[memIdx]; t != END; prev = t, t = links[t]) {
+            if (t == transition) {
+                if (prev == END) {
+                    heads[memIdx] = links[t];
+                } else {
+                    links[prev] = links[t];
+                }
+                links[t] = UNLINKED;
+                version++;
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void removeAllTransitions(Integer state, I input) {
+        removeAllTransitions(state.intValue(), getSymbolIndex(input));
+    }
+
+    public void removeAllTransitions(int state, int inputIdx) {
+        unlinkAll(toMemoryIndex(state, inputIdx));
+    }
+
+    @Override
+    public void removeAllTransitions(Integer state) {
+        removeAllTransitions(state.intValue());
+    }
+
+    public void removeAllTransitions(int state) {
+        final int lower = toMemoryIndex(state, 0);
+        final int upper = lower + numInputs();
+
+        for (int i = lower; i < upper; i++) {
+            unlinkAll(i);
+        }
+    }
+
+    /**
+     * Randomly selects one of the transitions of the given state and input (index) according to their probabilities.
+     * This method runs in constant time and does not allocate any objects (except for re-compiling the internal
+     * sampling structures after the automaton has been modified).
+     *
+     * @param state
+     *         the source state
+     * @param inputIdx
+     *         the index of the input symbol
+     * @param random
+     *         the source of randomness
+     *
+     * @return the ID of the selected transition, or {@link #INVALID_TRANSITION} if no transition is defined
+     */
+    public int sampleTransition(int state, int inputIdx, Random random) {
+        Sampler s = this.sampler;
+        if (s == null || s.version != version) {
+            s = new Sampler(this);
+            this.sampler = s;
+        }
+
+        final int row = toMemoryIndex(state, inputIdx);
+        if (row >= s.numRows) {
+            // state has been added after compilation and has no transitions
+            return INVALID_TRANSITION;
+        }
+
+        final int lower = s.offsets[row];
+        final int num = s.offsets[row + 1] - lower;
+
+        if (num == 0) {
+            return INVALID_TRANSITION;
+        }
+
+        final int bucket = lower + random.nextInt(num);
+        return random.nextFloat() < s.cutoffs[bucket] ? s.transitions[bucket] : s.transitions[s.aliases[bucket]];
+    }
+
+    /*
+     * Returns the last transition of the given list, or the given transition if it is already contained in the list.
+     */
+    private int findTail(int memIdx, int transition) {
+        int tail = END;
+        for (int t = heads[memIdx]; t != END; t = links[t]) {
+            if (t == transition) {
+                return t;
+            }
+            tail = t;
+        }
+
+        if (links[transition] != UNLINKED) {
+            throw new IllegalArgumentException("Transition " + transition + " belongs to a different state/input pair");
+        }
+
+        return tail;
+    }
+
+    private void link(int memIdx, int tail, int transition) {
+        if (tail == END) {
+            heads[memIdx] = transition;
+        } else {
+            links[tail] = transition;
+        }
+        links[transition] = END;
+        version++;
+    }
+
+    private void unlinkAll(int memIdx) {
+        int t = heads[memIdx];
+        while (t != END) {
+            final int next = links[t];
+            links[t] = UNLINKED;
+            t = next;
+        }
+        heads[memIdx] = END;
+        version++;
+    }
+
+    /**
+     * The compiled (CSR-style) sampling structure: the transitions of row {@code r} (i.e., state/input pair) are stored
+     * at the positions {@code offsets[r]} (inclusive) to {@code offsets[r + 1]} (exclusive). Each position additionally
+     * stores the probability with which the position itself (instead of its alias) is selected once the position has
+     * been drawn uniformly.
+     */
+    private static final class Sampler {
+
+        final int version;
+        final int numRows;
+        final int[] offsets;
+        final int[] transitions;
+        final float[] cutoffs;
+        final int[] aliases;
+
+        Sampler(CompactProbMealy<?, ?> automaton) {
+            final int[] heads = automaton.heads;
+            final int[] links = automaton.links;
+            final float[] probabilities = automaton.probabilities;
+
+            this.version = automaton.version;
+            this.numRows = automaton.size() * automaton.numInputs();
+            this.offsets = new int[numRows + 1];
+
+            int numTransitions = 0;
+            for (int r = 0; r < numRows; r++) {
+                offsets[r] = numTransitions;
+                for (int t = heads[r]; t != END; t = links[t]) {
+                    numTransitions++;
+                }
+            }
+            offsets[numRows] = numTransitions;
+
+            this.transitions = new int[numTransitions];
+            this.cutoffs = new float[numTransitions];
+            this.aliases = new int[numTransitions];
+
+            // work lists for Vose's alias method, re-used across rows
+            final int[] small = new int[numTransitions];
+            final int[] large = new int[numTransitions];
+            final double[] scaled = new double[numTransitions];
+
+            for (int r = 0; r < numRows; r++) {
+                final int lower = offsets[r];
+                final int upper = offsets[r + 1];
+                final int num = upper - lower;
+
+                if (num == 0) {
+                    continue;
+                }
+
+                double sum = 0;
+                int pos = lower;
+                for (int t = heads[r]; t != END; t = links[t], pos++) {
+                    transitions[pos] = t;
+                    sum += Math.max(0, probabilities[t]);
+                }
+
+                int numSmall = 0;
+                int numLarge = 0;
+
+                for (int i = lower; i < upper; i++) {
+                    // distribute uniformly if no positive probabilities are given
+                    final double p = sum > 0 ? Math.max(0, probabilities[transitions[i]]) / sum : 1.0 / num;
+                    scaled[i] = p * num;
+                    if (scaled[i] < 1) {
+                        small[numSmall++] = i;
+                    } else {
+                        large[numLarge++] = i;
+                    }
+                }
+
+                while (numSmall > 0 && numLarge > 0) {
+                    final int s = small[--numSmall];
+                    final int l = large[--numLarge];
+
+                    cutoffs[s] = (float) scaled[s];
+                    aliases[s] = l;
+
+                    scaled[l] = scaled[l] + scaled[s] - 1;
+                    if (scaled[l] < 1) {
+                        small[numSmall++] = l;
+                    } else {
+                        large[numLarge++] = l;
+                    }
+                }
+
+                // remaining entries (possibly due to rounding errors) are always selected
+                while (numLarge > 0) {
+                    final int l = large[--numLarge];
+                    cutoffs[l] = 1;
+                    aliases[l] = l;
+                }
+                while (numSmall > 0) {
+                    final int s = small[--numSmall];
+                    cutoffs[s] = 1;
+                    aliases[s] = s;
+                }
+            }
+        }
+    }
+
+    public static final class Creator<I, O> implements AutomatonCreator<CompactProbMealy<I, O>, I> {
+
+        @Override
+        public CompactProbMealy<I, O> createAutomaton(Alphabet<I> alphabet, int numStates) {
+            return new CompactProbMealy<>(alphabet, numStates, DEFAULT_RESIZE_FACTOR);
+        }
+
+        @Override
+        public CompactProbMealy<I, O> createAutomaton(Alphabet<I> alphabet) {
+            return new CompactProbMealy<>(alphabet);
+        }
+    }
+}
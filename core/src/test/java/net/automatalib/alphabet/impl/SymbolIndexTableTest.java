@@ -0,0 +1,81 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.alphabet.impl;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class SymbolIndexTableTest {
+
+    @Test
+    public void testLookups() {
+        final SymbolIndexTable<Object> table = new SymbolIndexTable<>(0);
+
+        // force rehashes and hash collisions
+        for (int i = 0; i < 1000; i++) {
+            table.put(new Collision(i), i);
+        }
+        table.put(null, 1000);
+
+        Assert.assertEquals(table.size(), 1001);
+
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals(table.get(new Collision(i)), i);
+        }
+        Assert.assertEquals(table.get(null), 1000);
+        Assert.assertEquals(table.get(new Collision(1000)), -1);
+        Assert.assertFalse(table.containsKey("0"));
+
+        // replace existing mapping
+        table.put(new Collision(7), 42);
+        Assert.assertEquals(table.get(new Collision(7)), 42);
+        Assert.assertEquals(table.size(), 1001);
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> table.put("a", -1));
+    }
+
+    @Test
+    public void testDuplicates() {
+        final SymbolIndexTable<String> table = SymbolIndexTable.of(Arrays.asList("a", "b", "a", "c"), 4);
+
+        Assert.assertEquals(table.size(), 3);
+        Assert.assertEquals(table.get("a"), 0);
+        Assert.assertEquals(table.get("b"), 1);
+        Assert.assertEquals(table.get("c"), 3);
+    }
+
+    private static final class Collision {
+
+        private final int value;
+
+        Collision(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Collision && ((Collision) o).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(value % 7);
+        }
+    }
+}
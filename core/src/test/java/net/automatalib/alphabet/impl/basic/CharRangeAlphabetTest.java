@@ -0,0 +1,39 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.alphabet.impl.basic;
+
+import java.util.Arrays;
+import java.util.List;
+
+import net.automatalib.alphabet.impl.CharRangeAlphabet;
+
+public class CharRangeAlphabetTest extends AbstractAlphabetTest<Character, CharRangeAlphabet> {
+
+    @Override
+    protected List<Character> getAlphabetSymbols() {
+        return Arrays.asList('a', 'b', 'c', 'd', 'e');
+    }
+
+    @Override
+    protected List<Character> getNonAlphabetSymbols() {
+        return Arrays.asList('A', '`', 'f', 'z');
+    }
+
+    @Override
+    protected CharRangeAlphabet getAlphabet() {
+        return new CharRangeAlphabet('a', 'e');
+    }
+}
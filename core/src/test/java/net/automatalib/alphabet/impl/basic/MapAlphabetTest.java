@@ -15,10 +15,16 @@
  */
 package net.automatalib.alphabet.impl.basic;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import net.automatalib.alphabet.impl.MapAlphabet;
 import net.automatalib.alphabet.impl.util.AlphabetTestUtil;
+import org.testng.Assert;
+import org.testng.annotations.Test;
 
 public class MapAlphabetTest extends AbstractAlphabetTest<Integer, MapAlphabet<Integer>> {
 
@@ -36,4 +42,39 @@ public class MapAlphabetTest extends AbstractAlphabetTest<Integer, MapAlphabet<I
     protected MapAlphabet<Integer> getAlphabet() {
         return new MapAlphabet<>(AlphabetTestUtil.CONTAINED_SYMBOLS_LIST);
     }
+
+    @Test
+    public void testIndexMapView() {
+        final IndexMapAlphabet alphabet = new IndexMapAlphabet(Arrays.asList("a", "b", "c"));
+        final Map<String, Integer> expected = new HashMap<>();
+        expected.put("a", 0);
+        expected.put("b", 1);
+        expected.put("c", 2);
+
+        Assert.assertEquals(alphabet.getIndexMap(), expected);
+        Assert.assertEquals(alphabet.getIndexMap().get("b"), Integer.valueOf(1));
+        Assert.assertNull(alphabet.getIndexMap().get("d"));
+
+        // writes through the protected map are visible to the alphabet
+        alphabet.addDirectly("d");
+        Assert.assertEquals(alphabet.getSymbolIndex("d"), 3);
+        Assert.assertTrue(alphabet.containsSymbol("d"));
+        Assert.assertEquals(alphabet.getIndexMap().size(), 4);
+    }
+
+    private static final class IndexMapAlphabet extends MapAlphabet<String> {
+
+        IndexMapAlphabet(Collection<String> symbols) {
+            super(symbols);
+        }
+
+        Map<String, Integer> getIndexMap() {
+            return indexMap;
+        }
+
+        void addDirectly(String symbol) {
+            indexMap.put(symbol, symbols.size());
+            symbols.add(symbol);
+        }
+    }
 }
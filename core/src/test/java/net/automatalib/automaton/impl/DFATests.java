@@ -19,7 +19,9 @@ import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.automaton.fsa.impl.CompactDFA;
 import net.automatalib.automaton.util.TestUtil;
+import net.automatalib.word.IntWord;
 import net.automatalib.word.Word;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 public class DFATests {
@@ -39,4 +41,28 @@ public class DFATests {
         TestUtil.checkOutput(dfa, Word.fromString("aabb"), false);
         TestUtil.checkOutput(dfa, Word.fromString("baba"), false);
     }
+
+    @Test
+    public void testIntInputs() {
+        final Alphabet<Character> sigma = Alphabets.characters('a', 'b');
+        final CompactDFA<Character> dfa = new CompactDFA<>(sigma);
+
+        Assert.assertFalse(dfa.accepts(new int[0]));
+
+        final int q0 = dfa.addIntInitialState(true);
+        final int q1 = dfa.addIntState(false);
+
+        dfa.setTransition(q0, sigma.getSymbolIndex('a'), q1);
+        dfa.setTransition(q1, sigma.getSymbolIndex('b'), q0);
+
+        for (Word<Character> w : new Word[] {Word.fromString("ababab"),
+                                             Word.fromString("aba"),
+                                             Word.fromString("aabb"),
+                                             Word.epsilon()}) {
+            final IntWord intWord = IntWord.fromWord(w, sigma);
+            Assert.assertEquals(dfa.accepts(intWord), dfa.accepts(w));
+            Assert.assertEquals(dfa.accepts(intWord.toIntArray()), dfa.accepts(w));
+            Assert.assertEquals(dfa.getIntState(intWord), dfa.getState(w) == null ? -1 : dfa.getState(w));
+        }
+    }
 }
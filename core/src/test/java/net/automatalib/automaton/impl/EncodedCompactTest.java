@@ -0,0 +1,272 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.impl;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.alphabet.impl.GrowingMapAlphabet;
+import net.automatalib.automaton.base.PropertyCodeArray;
+import net.automatalib.automaton.base.PropertyDictionary;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.automaton.transducer.impl.CompactMoore;
+import net.automatalib.common.smartcollection.IntSeq;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class EncodedCompactTest {
+
+    private static final int SIZE = 500;
+
+    private final List<String> outputs = Arrays.asList("a", "b", "c", null);
+
+    @Test
+    public void testDictionary() {
+        final PropertyDictionary<String> dictionary = new PropertyDictionary<>();
+
+        Assert.assertEquals(dictionary.encode(null), PropertyDictionary.NULL_CODE);
+        Assert.assertNull(dictionary.decode(PropertyDictionary.NULL_CODE));
+        Assert.assertEquals(dictionary.hashCodeOf(PropertyDictionary.NULL_CODE), 0);
+
+        final int a = dictionary.encode("a");
+        final int b = dictionary.encode("b");
+
+        Assert.assertEquals(a, 1);
+        Assert.assertEquals(b, 2);
+        Assert.assertEquals(dictionary.encode("a"), a);
+        Assert.assertEquals(dictionary.decode(b), "b");
+        Assert.assertEquals(dictionary.hashCodeOf(a), "a".hashCode());
+        Assert.assertEquals(dictionary.size(), 2);
+        Assert.assertEquals(dictionary.getProperties(), Arrays.asList("a", "b"));
+    }
+
+    @Test
+    public void testCodeArrayWidening() {
+        final PropertyCodeArray array = new PropertyCodeArray(4);
+
+        array.set(0, 0xFF);
+        Assert.assertEquals(array.getElementWidth(), Byte.BYTES);
+        Assert.assertEquals(array.get(0), 0xFF);
+
+        array.set(1, 0x100);
+        Assert.assertEquals(array.getElementWidth(), Short.BYTES);
+        Assert.assertEquals(array.get(0), 0xFF);
+        Assert.assertEquals(array.get(1), 0x100);
+
+        final PropertyCodeArray copy = array.copy();
+
+        array.set(2, 0x10000);
+        Assert.assertEquals(array.getElementWidth(), Integer.BYTES);
+        Assert.assertEquals(array.get(0), 0xFF);
+        Assert.assertEquals(array.get(1), 0x100);
+        Assert.assertEquals(array.get(2), 0x10000);
+        Assert.assertEquals(array.get(3), PropertyDictionary.NULL_CODE);
+
+        // copies are independent
+        Assert.assertEquals(copy.getElementWidth(), Short.BYTES);
+        Assert.assertEquals(copy.get(2), PropertyDictionary.NULL_CODE);
+
+        array.fill(0, 4, 1);
+        for (int i = 0; i < array.length(); i++) {
+            Assert.assertEquals(array.get(i), 1);
+        }
+    }
+
+    @Test
+    public void testMealy() {
+        final Random random = new Random(42);
+        final Alphabet<Integer> alphabet = new GrowingMapAlphabet<>(Alphabets.integers(0, 2));
+        final PropertyDictionary<String> dictionary = new PropertyDictionary<>();
+        final CompactMealy<Integer, String> expected = new CompactMealy<>(alphabet);
+        final CompactMealy<Integer, String> actual = new CompactMealy<>(alphabet, dictionary);
+
+        Assert.assertNull(expected.getTransitionPropertyDictionary());
+        Assert.assertSame(actual.getTransitionPropertyDictionary(), dictionary);
+        Assert.assertNull(actual.getStatePropertyDictionary());
+
+        for (int i = 0; i < SIZE; i++) {
+            expected.addState();
+            actual.addState();
+        }
+
+        fillRandomly(random, expected, actual, 0);
+        checkEquals(expected, actual);
+
+        // add a new symbol, which requires to re-layout the existing states
+        alphabet.asGrowingAlphabetOrThrowException().addSymbol(3);
+        expected.addAlphabetSymbol(3);
+        actual.addAlphabetSymbol(3);
+        checkEquals(expected, actual);
+
+        fillRandomly(random, expected, actual, 3);
+        checkEquals(expected, actual);
+
+        final int[] word = random.ints(50, 0, alphabet.size()).toArray();
+        Assert.assertEquals(actual.computeOutput(IntSeq.of(word)), expected.computeOutput(word));
+
+        // copies share the dictionary but not the codes
+        final CompactMealy<Integer, String> copy = new CompactMealy<>(actual);
+        Assert.assertSame(copy.getTransitionPropertyDictionary(), dictionary);
+        copy.setTransition(0, 0, 0, "z");
+        Assert.assertEquals(copy.getTransitionProperty(0, 0), "z");
+        Assert.assertEquals(actual.getTransitionProperty(0, 0), expected.getTransitionProperty(0, 0));
+
+        actual.removeAllTransitions(1);
+        for (int i = 0; i < alphabet.size(); i++) {
+            Assert.assertNull(actual.getTransition(1, i));
+            Assert.assertEquals(actual.getTransitionPropertyCode(1, i), PropertyDictionary.NULL_CODE);
+        }
+    }
+
+    @Test
+    public void testMealyWithManyOutputs() {
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, 1);
+        final PropertyDictionary<String> dictionary = new PropertyDictionary<>();
+        final CompactMealy<Integer, String> mealy = new CompactMealy<>(alphabet, dictionary);
+
+        for (int i = 0; i < SIZE; i++) {
+            mealy.addState();
+        }
+
+        // exceed the range of byte-sized codes
+        for (int s = 0; s < SIZE; s++) {
+            mealy.setTransition(s, 0, (s + 1) % SIZE, "o" + s);
+            mealy.setTransition(s, 1, s, "o" + s % 2);
+        }
+
+        Assert.assertEquals(dictionary.size(), SIZE);
+
+        for (int s = 0; s < SIZE; s++) {
+            Assert.assertEquals(mealy.getTransitionProperty(s, 0), "o" + s);
+            Assert.assertEquals(mealy.getTransitionProperty(s, 1), "o" + s % 2);
+            Assert.assertEquals(dictionary.decode(mealy.getTransitionPropertyCode(s, 0)), "o" + s);
+        }
+    }
+
+    @Test
+    public void testMoore() {
+        final Random random = new Random(42);
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, 2);
+        final PropertyDictionary<String> dictionary = new PropertyDictionary<>();
+        final CompactMoore<Integer, String> expected = new CompactMoore<>(alphabet);
+        final CompactMoore<Integer, String> actual = new CompactMoore<>(alphabet, dictionary);
+
+        Assert.assertNull(expected.getStatePropertyDictionary());
+        Assert.assertSame(actual.getStatePropertyDictionary(), dictionary);
+        Assert.assertNull(actual.getTransitionPropertyDictionary());
+
+        for (int i = 0; i < SIZE; i++) {
+            final String output = outputs.get(random.nextInt(outputs.size()));
+            expected.addState(output);
+            actual.addState(output);
+        }
+
+        for (int s = 0; s < SIZE; s++) {
+            for (int i = 0; i < alphabet.size(); i++) {
+                final int succ = random.nextInt(SIZE);
+                expected.setTransition(s, i, succ);
+                actual.setTransition(s, i, succ);
+            }
+        }
+
+        for (int s = 0; s < SIZE; s++) {
+            Assert.assertEquals(actual.getStateOutput(s), expected.getStateOutput(s));
+            Assert.assertEquals(dictionary.decode(actual.getStatePropertyCode(s)), expected.getStateOutput(s));
+            for (int i = 0; i < alphabet.size(); i++) {
+                Assert.assertEquals(actual.getSuccessor(s, i), expected.getSuccessor(s, i));
+            }
+        }
+
+        actual.clear();
+        final int s = actual.addState();
+        Assert.assertNull(actual.getStateOutput(s));
+    }
+
+    @Test
+    public void testUniversal() {
+        final Random random = new Random(42);
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, 2);
+        final PropertyDictionary<Boolean> spDictionary = new PropertyDictionary<>();
+        final PropertyDictionary<String> tpDictionary = new PropertyDictionary<>();
+        final UniversalCompactDet<Integer, Boolean, String> expected = new UniversalCompactDet<>(alphabet);
+        final UniversalCompactDet<Integer, Boolean, String> actual =
+                new UniversalCompactDet<>(alphabet, 2, 2.0f, spDictionary, tpDictionary);
+
+        for (int i = 0; i < SIZE; i++) {
+            final boolean property = random.nextBoolean();
+            expected.addState(property);
+            actual.addState(property);
+        }
+
+        for (int s = 0; s < SIZE; s++) {
+            for (int i = 0; i < alphabet.size(); i++) {
+                if (random.nextInt(10) > 0) {
+                    final int succ = random.nextInt(SIZE);
+                    final String output = outputs.get(random.nextInt(outputs.size()));
+                    expected.setTransition(s, i, succ, output);
+                    actual.setTransition(s, i, succ, output);
+                }
+            }
+        }
+
+        for (int s = 0; s < SIZE; s++) {
+            Assert.assertEquals(actual.getStateProperty(s), expected.getStateProperty(s));
+            for (int i = 0; i < alphabet.size(); i++) {
+                Assert.assertEquals(actual.getSuccessor(s, i), expected.getSuccessor(s, i));
+                Assert.assertEquals(actual.getTransitionProperty(s, i), expected.getTransitionProperty(s, i));
+                Assert.assertEquals(tpDictionary.decode(actual.getTransitionPropertyCode(s, i)),
+                                    expected.getTransitionProperty(s, i));
+            }
+        }
+    }
+
+    private void fillRandomly(Random random,
+                              CompactMealy<Integer, String> expected,
+                              CompactMealy<Integer, String> actual,
+                              int firstInput) {
+        for (int s = 0; s < SIZE; s++) {
+            for (int i = firstInput; i < expected.numInputs(); i++) {
+                // leave some transitions undefined
+                if (random.nextInt(10) > 0) {
+                    final int succ = random.nextInt(SIZE);
+                    final String output = outputs.get(random.nextInt(outputs.size()));
+                    expected.setTransition(s, i, succ, output);
+                    actual.setTransition(s, i, succ, output);
+                }
+            }
+        }
+
+        final int init = random.nextInt(SIZE);
+        expected.setInitialState(init);
+        actual.setInitialState(init);
+    }
+
+    private static void checkEquals(CompactMealy<Integer, String> expected, CompactMealy<Integer, String> actual) {
+        Assert.assertEquals(actual.size(), expected.size());
+        Assert.assertEquals(actual.getIntInitialState(), expected.getIntInitialState());
+
+        for (int s = 0; s < expected.size(); s++) {
+            for (int i = 0; i < expected.numInputs(); i++) {
+                Assert.assertEquals(actual.getSuccessor(s, i), expected.getSuccessor(s, i));
+                Assert.assertEquals(actual.getTransitionProperty(s, i), expected.getTransitionProperty(s, i));
+                Assert.assertEquals(actual.getTransition(s, i) == null, expected.getTransition(s, i) == null);
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.ListAlphabet;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.fsa.impl.FastDFA;
+import net.automatalib.automaton.fsa.impl.FastDFAState;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.automaton.transducer.impl.FastMealy;
+import net.automatalib.automaton.transducer.impl.FastMealyState;
+import net.automatalib.common.smartcollection.IntSeq;
+import net.automatalib.word.Word;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Checks the index-based simulation methods of the {@code Fast*} automata against their {@code Compact*} counterparts.
+ */
+public class FastSimulationTest {
+
+    private static final int SIZE = 50;
+    // an alphabet without constant-time look-ups
+    private final Alphabet<String> alphabet = new ListAlphabet<>(Arrays.asList("a", "b", "c"));
+
+    @Test
+    public void testDFA() {
+        final Random random = new Random(42);
+        final FastDFA<String> fast = new FastDFA<>(alphabet);
+        final CompactDFA<String> compact = new CompactDFA<>(alphabet);
+
+        final List<FastDFAState> states = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            final boolean acc = random.nextBoolean();
+            states.add(fast.addState(acc));
+            compact.addState(acc);
+        }
+
+        for (int s = 0; s < SIZE; s++) {
+            for (int i = 0; i < alphabet.size(); i++) {
+                // leave some transitions undefined
+                if (random.nextInt(10) > 0) {
+                    final int succ = random.nextInt(SIZE);
+                    fast.setTransition(states.get(s), alphabet.getSymbol(i), states.get(succ));
+                    compact.setTransition(s, i, succ);
+                }
+            }
+        }
+
+        fast.setInitialState(states.get(0));
+        compact.setInitialState(0);
+
+        final FastDFA<String>.Cursor cursor = fast.newCursor();
+
+        for (int i = 0; i < 200; i++) {
+            final int[] indices = randomIndices(random);
+            final Word<String> word = toWord(indices);
+            final boolean expected = compact.accepts(word);
+
+            Assert.assertEquals(fast.accepts(IntSeq.of(indices)), expected);
+            Assert.assertEquals(fast.accepts(word), expected);
+            Assert.assertEquals(fast.accepts(word.asList()), expected);
+
+            cursor.reset();
+            final boolean defined = cursor.run(IntSeq.of(indices));
+            Assert.assertEquals(defined, cursor.getState() != null);
+            Assert.assertEquals(defined && cursor.getState().isAccepting(), expected);
+        }
+    }
+
+    @Test
+    public void testMealy() {
+        final Random random = new Random(42);
+        final FastMealy<String, String> fast = new FastMealy<>(alphabet);
+        final CompactMealy<String, String> compact = new CompactMealy<>(alphabet);
+
+        final List<FastMealyState<String>> states = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            states.add(fast.addState());
+            compact.addState();
+        }
+
+        for (int s = 0; s < SIZE; s++) {
+            for (int i = 0; i < alphabet.size(); i++) {
+                if (random.nextInt(10) > 0) {
+                    final int succ = random.nextInt(SIZE);
+                    final String out = "o" + random.nextInt(3);
+                    fast.setTransition(states.get(s), alphabet.getSymbol(i), states.get(succ), out);
+                    compact.setTransition(s, i, succ, out);
+                }
+            }
+        }
+
+        fast.setInitialState(states.get(0));
+        compact.setInitialState(0);
+
+        final FastMealy<String, String>.OutputCursor cursor = fast.newOutputCursor();
+
+        for (int i = 0; i < 200; i++) {
+            final int[] indices = randomIndices(random);
+            final Word<String> word = toWord(indices);
+            final Word<String> expected = compact.computeOutput(IntSeq.of(indices));
+
+            Assert.assertEquals(fast.computeOutput(IntSeq.of(indices)), expected);
+
+            final List<String> traced = new ArrayList<>();
+            final boolean defined = fast.trace(word.asList(), traced);
+            Assert.assertEquals(Word.fromList(traced), expected);
+            Assert.assertEquals(defined, expected.length() == word.length());
+
+            if (defined) {
+                Assert.assertEquals(fast.computeOutput(word), expected);
+            }
+
+            cursor.reset();
+            Assert.assertEquals(cursor.run(IntSeq.of(indices)), defined);
+            Assert.assertEquals(cursor.getOutputLength(), expected.length());
+            Assert.assertEquals(cursor.getOutputWord(), expected);
+            for (int j = 0; j < expected.length(); j++) {
+                Assert.assertEquals(cursor.getOutput(j), expected.getSymbol(j));
+            }
+        }
+
+        // steps on an undefined cursor are no-ops
+        cursor.reset(null);
+        Assert.assertFalse(cursor.step("a"));
+        Assert.assertEquals(cursor.getOutputLength(), 0);
+    }
+
+    private int[] randomIndices(Random random) {
+        return random.ints(random.nextInt(30), 0, alphabet.size()).toArray();
+    }
+
+    private Word<String> toWord(int[] indices) {
+        return Arrays.stream(indices).mapToObj(alphabet::getSymbol).collect(Word.collector());
+    }
+}
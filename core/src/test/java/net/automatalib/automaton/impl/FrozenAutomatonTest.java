@@ -0,0 +1,249 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.impl;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.alphabet.impl.GrowingMapAlphabet;
+import net.automatalib.automaton.UniversalDeterministicAutomaton;
+import net.automatalib.automaton.base.AbstractFrozenDeterministic;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.fsa.impl.FrozenDFA;
+import net.automatalib.automaton.transducer.impl.CompactMoore;
+import net.automatalib.automaton.transducer.impl.FastMealy;
+import net.automatalib.automaton.transducer.impl.FastMealyState;
+import net.automatalib.automaton.transducer.impl.FrozenMealy;
+import net.automatalib.common.smartcollection.IntSeq;
+import net.automatalib.word.Word;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class FrozenAutomatonTest {
+
+    // spans multiple pages
+    private static final int SIZE = 2500;
+
+    private final Alphabet<Integer> alphabet = Alphabets.integers(0, 2);
+    private final List<String> outputs = Arrays.asList("a", "b", "c", null);
+
+    @Test
+    public void testDFA() {
+        final Random random = new Random(42);
+        final CompactDFA<Integer> dfa = new CompactDFA<>(alphabet);
+
+        for (int i = 0; i < SIZE; i++) {
+            dfa.addState(random.nextBoolean());
+        }
+
+        for (int s = 0; s < SIZE; s++) {
+            for (int i = 0; i < alphabet.size(); i++) {
+                // leave some transitions undefined
+                if (random.nextInt(10) > 0) {
+                    dfa.setTransition(s, i, random.nextInt(SIZE));
+                }
+            }
+        }
+        dfa.setInitialState(0);
+
+        final FrozenDFA<Integer> frozen = FrozenDFA.freeze(dfa, alphabet);
+        checkEquals(dfa, frozen);
+
+        for (int i = 0; i < 100; i++) {
+            final int[] word = random.ints(random.nextInt(20), 0, alphabet.size()).toArray();
+            Assert.assertEquals(frozen.accepts(IntSeq.of(word)), dfa.accepts(word));
+        }
+
+        // modifications of the source do not affect the snapshot
+        final boolean acc = dfa.isAccepting(1);
+        final int succ = dfa.getSuccessor(1, 0);
+        dfa.setAccepting(1, !acc);
+        dfa.setTransition(1, 0, succ + 1);
+        dfa.addState(true);
+        Assert.assertEquals(frozen.isAccepting(1), acc);
+        Assert.assertEquals(frozen.getSuccessor(1, 0), succ);
+        Assert.assertEquals(frozen.size(), SIZE);
+
+        // the last modifications only concern the first and last page
+        final FrozenDFA<Integer> next = FrozenDFA.freeze(dfa, alphabet, frozen);
+        checkEquals(dfa, next);
+        Assert.assertEquals(AbstractFrozenDeterministic.countSharedPages(frozen, next), 1);
+    }
+
+    @Test
+    public void testMealy() {
+        final Random random = new Random(42);
+        final FastMealy<Integer, String> mealy = new FastMealy<>(alphabet);
+
+        for (int i = 0; i < SIZE; i++) {
+            mealy.addState();
+        }
+
+        for (int s = 0; s < SIZE; s++) {
+            final FastMealyState<String> state = mealy.getState(s);
+            for (Integer i : alphabet) {
+                if (random.nextInt(10) > 0) {
+                    final String output = outputs.get(random.nextInt(outputs.size()));
+                    mealy.setTransition(state, i, mealy.getState(random.nextInt(SIZE)), output);
+                }
+            }
+        }
+        mealy.setInitialState(mealy.getState(0));
+
+        final FrozenMealy<Integer, String> frozen = FrozenMealy.freeze(mealy, alphabet);
+        checkEquals(mealy, frozen);
+
+        for (int i = 0; i < 100; i++) {
+            final int[] word = random.ints(random.nextInt(20), 0, alphabet.size()).toArray();
+            final Word<Integer> input = Arrays.stream(word).boxed().collect(Word.collector());
+            Assert.assertEquals(frozen.computeOutput(IntSeq.of(word)), mealy.computeOutput(input));
+            Assert.assertEquals(frozen.computeOutput(input), mealy.computeOutput(input));
+        }
+
+        // an unchanged automaton shares all pages
+        final FrozenMealy<Integer, String> next = FrozenMealy.freeze(mealy, alphabet, frozen);
+        Assert.assertEquals(AbstractFrozenDeterministic.countSharedPages(frozen, next), frozen.getNumPages());
+    }
+
+    @Test
+    public void testUniversal() {
+        final Random random = new Random(42);
+        final Alphabet<Integer> growingAlphabet = new GrowingMapAlphabet<>(alphabet);
+        final CompactMoore<Integer, String> moore = new CompactMoore<>(growingAlphabet);
+
+        for (int i = 0; i < SIZE; i++) {
+            moore.addState(outputs.get(random.nextInt(outputs.size())));
+        }
+
+        for (int s = 0; s < SIZE; s++) {
+            for (int i = 0; i < growingAlphabet.size(); i++) {
+                moore.setTransition(s, i, random.nextInt(SIZE));
+            }
+        }
+        moore.setInitialState(0);
+
+        final FrozenUniversalDet<Integer, String, Void> frozen = FrozenUniversalDet.freeze(moore, growingAlphabet);
+        checkEquals(moore, frozen);
+
+        // the snapshot is not affected by the growing alphabet
+        growingAlphabet.asGrowingAlphabetOrThrowException().addSymbol(3);
+        moore.addAlphabetSymbol(3);
+        Assert.assertEquals(frozen.getInputAlphabet().size(), 3);
+        Assert.assertEquals(frozen.numInputs(), 3);
+
+        // snapshots with different alphabets cannot share pages
+        final FrozenUniversalDet<Integer, String, Void> next =
+                FrozenUniversalDet.freeze(moore, growingAlphabet, frozen);
+        checkEquals(moore, next);
+        Assert.assertEquals(AbstractFrozenDeterministic.countSharedPages(frozen, next), 0);
+    }
+
+    @Test
+    public void testConcurrentlyGrowingAlphabet() {
+        final Random random = new Random(42);
+        final Alphabet<Integer> fullAlphabet = Alphabets.integers(0, 5);
+        final CompactDFA<Integer> dfa = new CompactDFA<>(fullAlphabet);
+
+        for (int i = 0; i < SIZE; i++) {
+            dfa.addState(random.nextBoolean());
+        }
+
+        for (int s = 0; s < SIZE; s++) {
+            for (int i = 0; i < fullAlphabet.size(); i++) {
+                dfa.setTransition(s, i, random.nextInt(SIZE));
+            }
+        }
+        dfa.setInitialState(0);
+
+        // simulates a concurrent thread that adds a symbol whenever the size of the alphabet is queried after it has
+        // been copied
+        final Alphabet<Integer> growingAlphabet = new GrowingMapAlphabet<Integer>(alphabet) {
+
+            private boolean copied;
+            private boolean adding;
+
+            @Override
+            public Object[] toArray() {
+                copied = true;
+                return symbols.toArray();
+            }
+
+            @Override
+            public int size() {
+                final int size = super.size();
+                if (copied && !adding && size < fullAlphabet.size()) {
+                    adding = true;
+                    addSymbol(size);
+                    adding = false;
+                }
+                return size;
+            }
+        };
+
+        final FrozenDFA<Integer> frozen = FrozenDFA.freeze(dfa, growingAlphabet);
+        Assert.assertEquals(frozen.numInputs(), frozen.getInputAlphabet().size());
+        checkEquals(dfa, frozen);
+    }
+
+    @Test
+    public void testConcurrentReads() {
+        final Random random = new Random(42);
+        final CompactDFA<Integer> dfa = new CompactDFA<>(alphabet);
+
+        for (int i = 0; i < SIZE; i++) {
+            dfa.addState(random.nextBoolean());
+        }
+        for (int s = 0; s < SIZE; s++) {
+            for (int i = 0; i < alphabet.size(); i++) {
+                dfa.setTransition(s, i, random.nextInt(SIZE));
+            }
+        }
+        dfa.setInitialState(0);
+
+        final FrozenDFA<Integer> frozen = FrozenDFA.freeze(dfa, alphabet);
+        final int[][] words = new int[1000][];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = random.ints(50, 0, alphabet.size()).toArray();
+        }
+
+        final boolean allEqual = IntStream.range(0, words.length)
+                                          .parallel()
+                                          .allMatch(i -> frozen.accepts(IntSeq.of(words[i])) ==
+                                                         dfa.accepts(words[i]));
+        Assert.assertTrue(allEqual);
+    }
+
+    private static <S> void checkEquals(UniversalDeterministicAutomaton<S, Integer, ?, ?, ?> expected,
+                                        AbstractFrozenDeterministic<Integer, ?, ?, ?> actual) {
+        final UniversalDeterministicAutomaton.FullIntAbstraction<?, ?, ?> abs =
+                expected.fullIntAbstraction(actual.getInputAlphabet());
+
+        Assert.assertEquals(actual.size(), abs.size());
+        Assert.assertEquals(actual.getIntInitialState(), abs.getIntInitialState());
+
+        for (int s = 0; s < abs.size(); s++) {
+            Assert.assertEquals(actual.getStateProperty(s), abs.getStateProperty(s));
+            for (int i = 0; i < abs.numInputs(); i++) {
+                Assert.assertEquals(actual.getSuccessor(s, i), abs.getSuccessor(s, i));
+                Assert.assertEquals(actual.getTransitionProperty(s, i), abs.getTransitionProperty(s, i));
+            }
+        }
+    }
+}
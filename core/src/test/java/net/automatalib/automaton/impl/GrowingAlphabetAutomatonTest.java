@@ -30,11 +30,18 @@ import net.automatalib.automaton.fsa.impl.CompactDFA;
 import net.automatalib.automaton.fsa.impl.CompactNFA;
 import net.automatalib.automaton.fsa.impl.FastDFA;
 import net.automatalib.automaton.fsa.impl.FastNFA;
+import net.automatalib.automaton.fsa.impl.OffHeapCompactDFA;
+import net.automatalib.automaton.fsa.impl.PagedCompactDFA;
+import net.automatalib.automaton.fsa.impl.SparseCompactDFA;
 import net.automatalib.automaton.transducer.impl.CompactMealy;
 import net.automatalib.automaton.transducer.impl.CompactMoore;
 import net.automatalib.automaton.transducer.impl.CompactSST;
 import net.automatalib.automaton.transducer.impl.FastMealy;
 import net.automatalib.automaton.transducer.impl.FastMoore;
+import net.automatalib.automaton.transducer.impl.OffHeapCompactMealy;
+import net.automatalib.automaton.transducer.impl.PagedCompactMealy;
+import net.automatalib.automaton.transducer.impl.SparseCompactMealy;
+import net.automatalib.automaton.transducer.probabilistic.impl.CompactProbMealy;
 import net.automatalib.automaton.transducer.probabilistic.impl.FastProbMealy;
 import net.automatalib.exception.GrowingAlphabetNotSupportedException;
 import net.automatalib.word.Word;
@@ -218,11 +225,46 @@ public class GrowingAlphabetAutomatonTest {
         this.testGrowableOutputAutomaton(FastMealy::new);
     }
 
+    @Test
+    public void testOffHeapCompactDFA() {
+        this.testGrowableOutputAutomaton(OffHeapCompactDFA::new);
+    }
+
+    @Test
+    public void testOffHeapCompactMealy() {
+        this.testGrowableOutputAutomaton(OffHeapCompactMealy::new);
+    }
+
+    @Test
+    public void testPagedCompactDFA() {
+        this.testGrowableOutputAutomaton(PagedCompactDFA::new);
+    }
+
+    @Test
+    public void testPagedCompactMealy() {
+        this.testGrowableOutputAutomaton(PagedCompactMealy::new);
+    }
+
+    @Test
+    public void testSparseCompactDFA() {
+        this.testGrowableOutputAutomaton(SparseCompactDFA::new);
+    }
+
+    @Test
+    public void testSparseCompactMealy() {
+        this.testGrowableOutputAutomaton(SparseCompactMealy::new);
+    }
+
     @Test
     public void testFastProbMealy() {
         this.testGrowableAutomaton(FastProbMealy::new);
     }
 
+    @Test
+    public void testCompactProbMealy() {
+        this.testGrowableAutomaton(CompactProbMealy::new);
+    }
+
     @Test
     public void testCompactMoore() {
         this.testGrowableOutputAutomaton(CompactMoore::new);
@@ -44,6 +44,10 @@ public class IntAbstractionTest extends MutableAutomatonTest {
     @Override
     public void testFastProbMealy() {}
 
+    @Test(enabled = false)
+    @Override
+    public void testCompactProbMealy() {}
+
     // disable tests for non-deterministic automata
     @Test(enabled = false)
     @Override
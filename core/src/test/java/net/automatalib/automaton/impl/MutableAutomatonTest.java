@@ -34,12 +34,19 @@ import net.automatalib.automaton.fsa.impl.CompactDFA;
 import net.automatalib.automaton.fsa.impl.CompactNFA;
 import net.automatalib.automaton.fsa.impl.FastDFA;
 import net.automatalib.automaton.fsa.impl.FastNFA;
+import net.automatalib.automaton.fsa.impl.OffHeapCompactDFA;
+import net.automatalib.automaton.fsa.impl.PagedCompactDFA;
+import net.automatalib.automaton.fsa.impl.SparseCompactDFA;
 import net.automatalib.automaton.transducer.impl.CompactMealy;
 import net.automatalib.automaton.transducer.impl.CompactMoore;
 import net.automatalib.automaton.transducer.impl.CompactSST;
 import net.automatalib.automaton.transducer.impl.FastMealy;
 import net.automatalib.automaton.transducer.impl.FastMoore;
+import net.automatalib.automaton.transducer.impl.OffHeapCompactMealy;
+import net.automatalib.automaton.transducer.impl.PagedCompactMealy;
+import net.automatalib.automaton.transducer.impl.SparseCompactMealy;
 import net.automatalib.automaton.transducer.probabilistic.ProbabilisticOutput;
+import net.automatalib.automaton.transducer.probabilistic.impl.CompactProbMealy;
 import net.automatalib.automaton.transducer.probabilistic.impl.FastProbMealy;
 import net.automatalib.common.util.random.RandomUtil;
 import net.automatalib.ts.modal.impl.CompactMTS;
@@ -98,11 +105,46 @@ public class MutableAutomatonTest {
         this.checkAutomaton(FastMealy::new, ALPHABET, EMPTY_PROPS, TRANS_PROPS);
     }
 
+    @Test
+    public void testOffHeapCompactDFA() {
+        this.checkAutomaton(OffHeapCompactDFA::new, ALPHABET, STATE_PROPS, EMPTY_PROPS);
+    }
+
+    @Test
+    public void testOffHeapCompactMealy() {
+        this.checkAutomaton(OffHeapCompactMealy::new, ALPHABET, EMPTY_PROPS, TRANS_PROPS);
+    }
+
+    @Test
+    public void testPagedCompactDFA() {
+        this.checkAutomaton(new PagedCompactDFA.Creator<>(), ALPHABET, STATE_PROPS, EMPTY_PROPS);
+    }
+
+    @Test
+    public void testPagedCompactMealy() {
+        this.checkAutomaton(new PagedCompactMealy.Creator<>(), ALPHABET, EMPTY_PROPS, TRANS_PROPS);
+    }
+
+    @Test
+    public void testSparseCompactDFA() {
+        this.checkAutomaton(new SparseCompactDFA.Creator<>(), ALPHABET, STATE_PROPS, EMPTY_PROPS);
+    }
+
+    @Test
+    public void testSparseCompactMealy() {
+        this.checkAutomaton(new SparseCompactMealy.Creator<>(), ALPHABET, EMPTY_PROPS, TRANS_PROPS);
+    }
+
     @Test
     public void testFastProbMealy() {
         this.checkAutomaton(FastProbMealy::new, ALPHABET, EMPTY_PROPS, PROB_TRANS_PROPS);
     }
 
+    @Test
+    public void testCompactProbMealy() {
+        this.checkAutomaton(new CompactProbMealy.Creator<>(), ALPHABET, EMPTY_PROPS, PROB_TRANS_PROPS);
+    }
+
     @Test
     public void testCompactMoore() {
         this.checkAutomaton(new CompactMoore.Creator<>(), ALPHABET, STATE_PROPS, EMPTY_PROPS);
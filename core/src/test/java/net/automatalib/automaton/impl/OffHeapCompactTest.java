@@ -0,0 +1,235 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.impl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.base.OffHeapIntStorage;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.fsa.impl.OffHeapCompactDFA;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.automaton.transducer.impl.OffHeapCompactMealy;
+import net.automatalib.common.smartcollection.IntSeq;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class OffHeapCompactTest {
+
+    private static final int SIZE = 500;
+    private static final int SEGMENT_SHIFT = 6;
+
+    private final Alphabet<Integer> alphabet = Alphabets.integers(0, 4);
+    private final List<String> outputs = Arrays.asList("a", "b", "c", null);
+
+    @Test
+    public void testDFA() {
+        final Random random = new Random(42);
+        final CompactDFA<Integer> expected = new CompactDFA<>(alphabet);
+        final OffHeapCompactDFA<Integer> actual =
+                new OffHeapCompactDFA<>(alphabet, OffHeapIntStorage.allocate(SEGMENT_SHIFT));
+
+        fillRandomly(random, expected, actual);
+        checkEquals(expected, actual);
+
+        final int[] word = random.ints(50, 0, alphabet.size()).toArray();
+        Assert.assertEquals(actual.accepts(IntSeq.of(word)), expected.accepts(word));
+
+        actual.flipAcceptance();
+        expected.flipAcceptance();
+        checkEquals(expected, actual);
+
+        actual.clear();
+        Assert.assertEquals(actual.size(), 0);
+        Assert.assertNull(actual.getInitialState());
+
+        final int s = actual.addState(false);
+        for (int i = 0; i < alphabet.size(); i++) {
+            Assert.assertNull(actual.getTransition(s, i));
+        }
+    }
+
+    @Test
+    public void testMealy() {
+        final Random random = new Random(42);
+        final CompactMealy<Integer, String> expected = new CompactMealy<>(alphabet);
+        final OffHeapCompactMealy<Integer, String> actual =
+                new OffHeapCompactMealy<>(alphabet, OffHeapIntStorage.allocate(SEGMENT_SHIFT));
+
+        fillRandomly(random, expected, actual);
+        checkEquals(expected, actual);
+
+        final int[] word = random.ints(50, 0, alphabet.size()).toArray();
+        Assert.assertEquals(actual.computeOutput(IntSeq.of(word)), expected.computeOutput(word));
+
+        // distinct outputs are stored only once
+        Assert.assertEquals(actual.getOutputDictionary().size(), 3);
+    }
+
+    @Test
+    public void testDFAPersistence() throws IOException {
+        final Path file = Files.createTempFile("offheap", ".dfa");
+
+        try {
+            final Random random = new Random(1337);
+            final CompactDFA<Integer> expected = new CompactDFA<>(alphabet);
+
+            try (OffHeapCompactDFA<Integer> dfa = OffHeapCompactDFA.create(file, alphabet)) {
+                fillRandomly(random, expected, dfa);
+            }
+
+            try (OffHeapCompactDFA<Integer> dfa = OffHeapCompactDFA.open(file, alphabet)) {
+                checkEquals(expected, dfa);
+
+                // modifications of a re-opened automaton are persisted as well
+                final int s = dfa.addState(true);
+                dfa.setTransition(s, 0, s);
+                dfa.setInitialState(s);
+            }
+
+            try (OffHeapCompactDFA<Integer> dfa = OffHeapCompactDFA.open(file, alphabet)) {
+                Assert.assertEquals(dfa.size(), SIZE + 1);
+                Assert.assertEquals(dfa.getIntInitialState(), SIZE);
+                Assert.assertTrue(dfa.isAccepting(SIZE));
+                Assert.assertEquals(dfa.getSuccessor(SIZE, 0), SIZE);
+
+                dfa.clear();
+            }
+
+            // clearing resets the persisted initial state
+            try (OffHeapCompactDFA<Integer> dfa = OffHeapCompactDFA.open(file, alphabet)) {
+                Assert.assertEquals(dfa.size(), 0);
+                Assert.assertNull(dfa.getInitialState());
+            }
+
+            Assert.assertThrows(IOException.class, () -> OffHeapCompactDFA.open(file, Alphabets.integers(0, 1)));
+            Assert.assertThrows(IOException.class, () -> OffHeapCompactMealy.open(file, alphabet, outputs));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testMealyPersistence() throws IOException {
+        final Path file = Files.createTempFile("offheap", ".mealy");
+
+        try {
+            final Random random = new Random(1337);
+            final CompactMealy<Integer, String> expected = new CompactMealy<>(alphabet);
+            final List<String> dictionary;
+
+            try (OffHeapCompactMealy<Integer, String> mealy = OffHeapCompactMealy.create(file, alphabet)) {
+                fillRandomly(random, expected, mealy);
+                dictionary = mealy.getOutputDictionary();
+            }
+
+            try (OffHeapCompactMealy<Integer, String> mealy = OffHeapCompactMealy.open(file, alphabet, dictionary)) {
+                checkEquals(expected, mealy);
+                mealy.clear();
+            }
+
+            // clearing resets the persisted initial state
+            try (OffHeapCompactMealy<Integer, String> mealy = OffHeapCompactMealy.open(file, alphabet, dictionary)) {
+                Assert.assertEquals(mealy.size(), 0);
+                Assert.assertNull(mealy.getInitialState());
+            }
+
+            Assert.assertThrows(IOException.class,
+                                () -> OffHeapCompactMealy.open(file, alphabet, dictionary.subList(0, 1)));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static void fillRandomly(Random random, CompactDFA<Integer> expected, OffHeapCompactDFA<Integer> actual) {
+        for (int i = 0; i < SIZE; i++) {
+            final boolean accepting = random.nextBoolean();
+            expected.addState(accepting);
+            actual.addState(accepting);
+        }
+
+        for (int s = 0; s < SIZE; s++) {
+            for (int i = 0; i < expected.numInputs(); i++) {
+                // leave some transitions undefined
+                if (random.nextInt(10) > 0) {
+                    final int succ = random.nextInt(SIZE);
+                    expected.setTransition(s, i, succ);
+                    actual.setTransition(s, i, succ);
+                }
+            }
+        }
+
+        final int init = random.nextInt(SIZE);
+        expected.setInitialState(init);
+        actual.setInitialState(init);
+    }
+
+    private void fillRandomly(Random random,
+                              CompactMealy<Integer, String> expected,
+                              OffHeapCompactMealy<Integer, String> actual) {
+        for (int i = 0; i < SIZE; i++) {
+            expected.addState();
+            actual.addState();
+        }
+
+        for (int s = 0; s < SIZE; s++) {
+            for (int i = 0; i < expected.numInputs(); i++) {
+                // leave some transitions undefined
+                if (random.nextInt(10) > 0) {
+                    final int succ = random.nextInt(SIZE);
+                    final String output = outputs.get(random.nextInt(outputs.size()));
+                    expected.setTransition(s, i, succ, output);
+                    actual.setTransition(s, i, succ, output);
+                }
+            }
+        }
+
+        final int init = random.nextInt(SIZE);
+        expected.setInitialState(init);
+        actual.setInitialState(init);
+    }
+
+    private static void checkEquals(CompactDFA<Integer> expected, OffHeapCompactDFA<Integer> actual) {
+        Assert.assertEquals(actual.size(), expected.size());
+        Assert.assertEquals(actual.getIntInitialState(), expected.getIntInitialState());
+
+        for (int s = 0; s < expected.size(); s++) {
+            Assert.assertEquals(actual.isAccepting(s), expected.isAccepting(s));
+            for (int i = 0; i < expected.numInputs(); i++) {
+                Assert.assertEquals(actual.getSuccessor(s, i), expected.getSuccessor(s, i));
+            }
+        }
+    }
+
+    private static void checkEquals(CompactMealy<Integer, String> expected,
+                                    OffHeapCompactMealy<Integer, String> actual) {
+        Assert.assertEquals(actual.size(), expected.size());
+        Assert.assertEquals(actual.getIntInitialState(), expected.getIntInitialState());
+
+        for (int s = 0; s < expected.size(); s++) {
+            for (int i = 0; i < expected.numInputs(); i++) {
+                Assert.assertEquals(actual.getSuccessor(s, i), expected.getSuccessor(s, i));
+                Assert.assertEquals(actual.getTransitionProperty(s, i), expected.getTransitionProperty(s, i));
+            }
+        }
+    }
+}
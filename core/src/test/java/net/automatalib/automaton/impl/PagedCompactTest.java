@@ -0,0 +1,170 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.impl;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.alphabet.impl.GrowingMapAlphabet;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.fsa.impl.PagedCompactDFA;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.automaton.transducer.impl.PagedCompactMealy;
+import net.automatalib.common.smartcollection.IntSeq;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class PagedCompactTest {
+
+    private static final int SIZE = 1000;
+    private static final int PAGE_SHIFT = 5;
+
+    private final List<String> outputs = Arrays.asList("a", "b", "c", null);
+
+    @Test
+    public void testDFA() {
+        final Random random = new Random(42);
+        final Alphabet<Integer> alphabet = new GrowingMapAlphabet<>(Alphabets.integers(0, 2));
+        final CompactDFA<Integer> expected = new CompactDFA<>(alphabet);
+        final PagedCompactDFA<Integer> actual = new PagedCompactDFA<>(alphabet, PAGE_SHIFT);
+
+        for (int i = 0; i < SIZE; i++) {
+            final boolean accepting = random.nextBoolean();
+            expected.addState(accepting);
+            actual.addState(accepting);
+        }
+
+        fillRandomly(random, expected, actual, 0);
+        checkEquals(expected, actual);
+
+        // add a new symbol, which requires to re-layout the existing states
+        alphabet.asGrowingAlphabetOrThrowException().addSymbol(3);
+        expected.addAlphabetSymbol(3);
+        actual.addAlphabetSymbol(3);
+        checkEquals(expected, actual);
+
+        fillRandomly(random, expected, actual, 3);
+        checkEquals(expected, actual);
+
+        final int[] word = random.ints(50, 0, alphabet.size()).toArray();
+        Assert.assertEquals(actual.accepts(IntSeq.of(word)), expected.accepts(word));
+
+        actual.clear();
+        Assert.assertEquals(actual.size(), 0);
+        final int s = actual.addState();
+        Assert.assertFalse(actual.isAccepting(s));
+        for (int i = 0; i < alphabet.size(); i++) {
+            Assert.assertNull(actual.getTransition(s, i));
+        }
+    }
+
+    @Test
+    public void testMealy() {
+        final Random random = new Random(42);
+        final Alphabet<Integer> alphabet = new GrowingMapAlphabet<>(Alphabets.integers(0, 2));
+        final CompactMealy<Integer, String> expected = new CompactMealy<>(alphabet);
+        final PagedCompactMealy<Integer, String> actual = new PagedCompactMealy<>(alphabet, PAGE_SHIFT);
+
+        for (int i = 0; i < SIZE; i++) {
+            expected.addState();
+            actual.addState();
+        }
+
+        fillRandomly(random, expected, actual, 0);
+        checkEquals(expected, actual);
+
+        // add a new symbol, which requires to re-layout the existing states
+        alphabet.asGrowingAlphabetOrThrowException().addSymbol(3);
+        expected.addAlphabetSymbol(3);
+        actual.addAlphabetSymbol(3);
+        checkEquals(expected, actual);
+
+        fillRandomly(random, expected, actual, 3);
+        checkEquals(expected, actual);
+
+        final int[] word = random.ints(50, 0, alphabet.size()).toArray();
+        Assert.assertEquals(actual.computeOutput(IntSeq.of(word)), expected.computeOutput(word));
+    }
+
+    private static void fillRandomly(Random random,
+                                     CompactDFA<Integer> expected,
+                                     PagedCompactDFA<Integer> actual,
+                                     int firstInput) {
+        for (int s = 0; s < SIZE; s++) {
+            for (int i = firstInput; i < expected.numInputs(); i++) {
+                // leave some transitions undefined
+                if (random.nextInt(10) > 0) {
+                    final int succ = random.nextInt(SIZE);
+                    expected.setTransition(s, i, succ);
+                    actual.setTransition(s, i, succ);
+                }
+            }
+        }
+
+        final int init = random.nextInt(SIZE);
+        expected.setInitialState(init);
+        actual.setInitialState(init);
+    }
+
+    private void fillRandomly(Random random,
+                              CompactMealy<Integer, String> expected,
+                              PagedCompactMealy<Integer, String> actual,
+                              int firstInput) {
+        for (int s = 0; s < SIZE; s++) {
+            for (int i = firstInput; i < expected.numInputs(); i++) {
+                // leave some transitions undefined
+                if (random.nextInt(10) > 0) {
+                    final int succ = random.nextInt(SIZE);
+                    final String output = outputs.get(random.nextInt(outputs.size()));
+                    expected.setTransition(s, i, succ, output);
+                    actual.setTransition(s, i, succ, output);
+                }
+            }
+        }
+
+        final int init = random.nextInt(SIZE);
+        expected.setInitialState(init);
+        actual.setInitialState(init);
+    }
+
+    private static void checkEquals(CompactDFA<Integer> expected, PagedCompactDFA<Integer> actual) {
+        Assert.assertEquals(actual.size(), expected.size());
+        Assert.assertEquals(actual.getIntInitialState(), expected.getIntInitialState());
+
+        for (int s = 0; s < expected.size(); s++) {
+            Assert.assertEquals(actual.isAccepting(s), expected.isAccepting(s));
+            for (int i = 0; i < expected.numInputs(); i++) {
+                Assert.assertEquals(actual.getSuccessor(s, i), expected.getSuccessor(s, i));
+            }
+        }
+    }
+
+    private static void checkEquals(CompactMealy<Integer, String> expected,
+                                    PagedCompactMealy<Integer, String> actual) {
+        Assert.assertEquals(actual.size(), expected.size());
+        Assert.assertEquals(actual.getIntInitialState(), expected.getIntInitialState());
+
+        for (int s = 0; s < expected.size(); s++) {
+            for (int i = 0; i < expected.numInputs(); i++) {
+                Assert.assertEquals(actual.getSuccessor(s, i), expected.getSuccessor(s, i));
+                Assert.assertEquals(actual.getTransitionProperty(s, i), expected.getTransitionProperty(s, i));
+            }
+        }
+    }
+}
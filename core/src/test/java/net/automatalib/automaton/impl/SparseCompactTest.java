@@ -0,0 +1,247 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.alphabet.impl.GrowingMapAlphabet;
+import net.automatalib.automaton.UniversalDeterministicAutomaton.IntAbstraction;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.fsa.impl.SparseCompactDFA;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.automaton.transducer.impl.SparseCompactMealy;
+import net.automatalib.common.smartcollection.IntSeq;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class SparseCompactTest {
+
+    private static final int SIZE = 200;
+    private static final int NUM_INPUTS = 100;
+    // the number of random modifications per state
+    private static final int OPERATIONS = 20;
+
+    private final List<String> outputs = Arrays.asList("a", "b", "c", null);
+
+    @Test
+    public void testDFA() {
+        final Random random = new Random(42);
+        final Alphabet<Integer> alphabet = new GrowingMapAlphabet<>(Alphabets.integers(0, NUM_INPUTS - 1));
+        final CompactDFA<Integer> expected = new CompactDFA<>(alphabet);
+        final SparseCompactDFA<Integer> actual = new SparseCompactDFA<>(alphabet);
+
+        for (int i = 0; i < SIZE; i++) {
+            final boolean accepting = random.nextBoolean();
+            expected.addState(accepting);
+            actual.addState(accepting);
+        }
+
+        modifyRandomly(random, expected, actual);
+        checkEquals(expected, actual);
+
+        // new symbols do not affect existing (sparse or dense) rows
+        alphabet.asGrowingAlphabetOrThrowException().addSymbol(NUM_INPUTS);
+        expected.addAlphabetSymbol(NUM_INPUTS);
+        actual.addAlphabetSymbol(NUM_INPUTS);
+        checkEquals(expected, actual);
+
+        modifyRandomly(random, expected, actual);
+        checkEquals(expected, actual);
+
+        for (int i = 0; i < 100; i++) {
+            final int[] word = random.ints(5, 0, alphabet.size()).toArray();
+            Assert.assertEquals(actual.accepts(IntSeq.of(word)), expected.accepts(word));
+        }
+
+        actual.removeAllTransitions(0);
+        Assert.assertEquals(actual.getNumTransitions(0), 0);
+        Assert.assertTrue(actual.getLocalInputs(0).isEmpty());
+
+        actual.clear();
+        Assert.assertEquals(actual.size(), 0);
+        final int s = actual.addState();
+        Assert.assertFalse(actual.isAccepting(s));
+        for (int i = 0; i < alphabet.size(); i++) {
+            Assert.assertNull(actual.getTransition(s, i));
+        }
+    }
+
+    @Test
+    public void testMealy() {
+        final Random random = new Random(42);
+        final Alphabet<Integer> alphabet = new GrowingMapAlphabet<>(Alphabets.integers(0, NUM_INPUTS - 1));
+        final CompactMealy<Integer, String> expected = new CompactMealy<>(alphabet);
+        final SparseCompactMealy<Integer, String> actual = new SparseCompactMealy<>(alphabet);
+
+        for (int i = 0; i < SIZE; i++) {
+            expected.addState();
+            actual.addState();
+        }
+
+        modifyRandomly(random, expected, actual);
+        checkEquals(expected, actual);
+
+        alphabet.asGrowingAlphabetOrThrowException().addSymbol(NUM_INPUTS);
+        expected.addAlphabetSymbol(NUM_INPUTS);
+        actual.addAlphabetSymbol(NUM_INPUTS);
+        checkEquals(expected, actual);
+
+        modifyRandomly(random, expected, actual);
+        checkEquals(expected, actual);
+
+        for (int i = 0; i < 100; i++) {
+            final int[] word = random.ints(5, 0, alphabet.size()).toArray();
+            Assert.assertEquals(actual.computeOutput(IntSeq.of(word)), expected.computeOutput(word));
+        }
+
+        // property updates of retrieved transitions write through
+        final int s = actual.getIntInitialState();
+        final Integer input = actual.getLocalInputs(s).iterator().next();
+        final CompactTransition<String> t = actual.getTransition(s, input);
+        Assert.assertNotNull(t);
+        actual.setTransitionOutput(t, "z");
+        Assert.assertEquals(actual.getOutput(s, input), "z");
+
+        // equality is symmetric with regular compact transitions
+        final CompactTransition<String> copy = new CompactTransition<>(s, t.getSuccId(), "z");
+        Assert.assertEquals(t, copy);
+        Assert.assertEquals(copy, t);
+
+        // outdated transitions neither restore removed transitions nor revert redirected ones
+        final int succ = t.getSuccId();
+        final int other = (succ + 1) % SIZE;
+        actual.setTransition(s, input, other, "y");
+        actual.setTransitionOutput(t, "x");
+        Assert.assertEquals(actual.getSuccessor(s, input), other);
+        Assert.assertEquals(actual.getOutput(s, input), "y");
+
+        actual.removeTransition(s, input, actual.getTransition(s, input));
+        actual.setTransitionOutput(t, "x");
+        Assert.assertNull(actual.getTransition(s, input));
+    }
+
+    @Test
+    public void testDenseRows() {
+        final Alphabet<Integer> alphabet = new GrowingMapAlphabet<>(Alphabets.integers(0, 9));
+        final SparseCompactMealy<Integer, String> mealy = new SparseCompactMealy<>(alphabet);
+        final int s = mealy.addState();
+
+        for (int i = 0; i < 5; i++) {
+            mealy.setTransition(s, i, s, "o" + i);
+        }
+        Assert.assertEquals(mealy.getNumTransitions(s), 5);
+
+        // the 6th transition switches to a dense row
+        mealy.setTransition(s, 9, s, "o9");
+        Assert.assertEquals(mealy.getNumTransitions(s), 6);
+
+        // dense rows grow lazily with the alphabet
+        mealy.addAlphabetSymbol(10);
+        Assert.assertNull(mealy.getTransition(s, 10));
+        mealy.setTransition(s, 10, s, "o10");
+        Assert.assertEquals(mealy.getOutput(s, 10), "o10");
+        Assert.assertEquals(mealy.getLocalInputs(s), Arrays.asList(0, 1, 2, 3, 4, 9, 10));
+
+        for (int i = 0; i < 11; i++) {
+            mealy.removeTransition(s, i, mealy.getTransition(s, i));
+        }
+        Assert.assertEquals(mealy.getNumTransitions(s), 0);
+        Assert.assertTrue(mealy.getLocalInputs(s).isEmpty());
+    }
+
+    private static void modifyRandomly(Random random, CompactDFA<Integer> expected, SparseCompactDFA<Integer> actual) {
+        for (int s = 0; s < SIZE; s++) {
+            // saturate some states, so that both sparse and dense rows are tested
+            final int ops = s % 10 == 0 ? expected.numInputs() * 2 : OPERATIONS;
+            for (int j = 0; j < ops; j++) {
+                final int i = random.nextInt(expected.numInputs());
+                // remove some transitions
+                final int succ = random.nextInt(4) == 0 ? IntAbstraction.INVALID_STATE : random.nextInt(SIZE);
+                expected.setTransition(s, i, succ);
+                actual.setTransition(s, i, succ);
+            }
+        }
+
+        final int init = random.nextInt(SIZE);
+        expected.setInitialState(init);
+        actual.setInitialState(init);
+    }
+
+    private void modifyRandomly(Random random,
+                                CompactMealy<Integer, String> expected,
+                                SparseCompactMealy<Integer, String> actual) {
+        for (int s = 0; s < SIZE; s++) {
+            final int ops = s % 10 == 0 ? expected.numInputs() * 2 : OPERATIONS;
+            for (int j = 0; j < ops; j++) {
+                final int i = random.nextInt(expected.numInputs());
+                if (random.nextInt(4) == 0) {
+                    expected.removeAllTransitions(s, alphabetSymbol(expected, i));
+                    actual.removeAllTransitions(s, alphabetSymbol(actual, i));
+                } else {
+                    final int succ = random.nextInt(SIZE);
+                    final String output = outputs.get(random.nextInt(outputs.size()));
+                    expected.setTransition(s, i, succ, output);
+                    actual.setTransition(s, i, succ, output);
+                }
+            }
+        }
+
+        final int init = random.nextInt(SIZE);
+        expected.setInitialState(init);
+        actual.setInitialState(init);
+    }
+
+    private static Integer alphabetSymbol(CompactMealy<Integer, ?> mealy, int idx) {
+        return mealy.getInputAlphabet().getSymbol(idx);
+    }
+
+    private static Integer alphabetSymbol(SparseCompactMealy<Integer, ?> mealy, int idx) {
+        return mealy.getInputAlphabet().getSymbol(idx);
+    }
+
+    private static void checkEquals(CompactDFA<Integer> expected, SparseCompactDFA<Integer> actual) {
+        Assert.assertEquals(actual.size(), expected.size());
+        Assert.assertEquals(actual.getIntInitialState(), expected.getIntInitialState());
+
+        for (int s = 0; s < expected.size(); s++) {
+            Assert.assertEquals(actual.isAccepting(s), expected.isAccepting(s));
+            Assert.assertEquals(actual.getLocalInputs(s), expected.getLocalInputs(s));
+            Assert.assertEquals(actual.getNumTransitions(s), expected.getLocalInputs(s).size());
+            for (int i = 0; i < expected.numInputs(); i++) {
+                Assert.assertEquals(actual.getSuccessor(s, i), expected.getSuccessor(s, i));
+            }
+        }
+    }
+
+    private static void checkEquals(CompactMealy<Integer, String> expected,
+                                    SparseCompactMealy<Integer, String> actual) {
+        Assert.assertEquals(actual.size(), expected.size());
+        Assert.assertEquals(actual.getIntInitialState(), expected.getIntInitialState());
+
+        for (int s = 0; s < expected.size(); s++) {
+            Assert.assertEquals(new ArrayList<>(actual.getLocalInputs(s)), expected.getLocalInputs(s));
+            for (int i = 0; i < expected.numInputs(); i++) {
+                Assert.assertEquals(actual.getSuccessor(s, i), expected.getSuccessor(s, i));
+                Assert.assertEquals(actual.getTransitionProperty(s, i), expected.getTransitionProperty(s, i));
+            }
+        }
+    }
+}
@@ -31,6 +31,7 @@ import net.automatalib.automaton.transducer.impl.CompactMoore;
 import net.automatalib.automaton.transducer.impl.CompactSST;
 import net.automatalib.automaton.transducer.impl.FastMealy;
 import net.automatalib.automaton.transducer.impl.FastMoore;
+import net.automatalib.automaton.transducer.probabilistic.impl.CompactProbMealy;
 import net.automatalib.automaton.transducer.probabilistic.impl.FastProbMealy;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -74,6 +75,11 @@ public class StateLocalInputTest {
         this.testAutomaton(new FastProbMealy<>(ALPHABET));
     }
 
+    @Test
+    public void testCompactProbMealy() {
+        this.testAutomaton(new CompactProbMealy<>(ALPHABET));
+    }
+
     @Test
     public void testCompactMoore() {
         this.testAutomaton(new CompactMoore<>(ALPHABET));
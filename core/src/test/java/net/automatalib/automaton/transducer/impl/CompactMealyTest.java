@@ -15,9 +15,16 @@
  */
 package net.automatalib.automaton.transducer.impl;
 
+import java.util.Arrays;
+import java.util.List;
+
 import net.automatalib.alphabet.impl.Symbol;
 import net.automatalib.automaton.transducer.MutableMealyMachine;
 import net.automatalib.automaton.util.TestUtil;
+import net.automatalib.exception.UndefinedPropertyAccessException;
+import net.automatalib.word.IntWord;
+import org.testng.Assert;
+import org.testng.annotations.Test;
 
 public class CompactMealyTest extends AbstractMutableMealyTest {
 
@@ -25,4 +32,24 @@ public class CompactMealyTest extends AbstractMutableMealyTest {
     protected MutableMealyMachine<?, Symbol<Character>, ?, String> getMealy() {
         return TestUtil.constructMealy(CompactMealy::new);
     }
+
+    @Test
+    public void testIntInputs() {
+        final CompactMealy<Symbol<Character>, String> mealy = TestUtil.constructMealy(CompactMealy::new);
+        final int a = TestUtil.ALPHABET.getSymbolIndex(TestUtil.IN_A);
+        final int b = TestUtil.ALPHABET.getSymbolIndex(TestUtil.IN_B);
+
+        final List<Symbol<Character>> trace = Arrays.asList(TestUtil.IN_A, TestUtil.IN_B, TestUtil.IN_A);
+        Assert.assertEquals(mealy.computeOutput(new int[] {a, b, a}), mealy.computeOutput(trace));
+        Assert.assertEquals(mealy.computeOutput(IntWord.of(a, a, a)),
+                            mealy.computeOutput(Arrays.asList(TestUtil.IN_A, TestUtil.IN_A, TestUtil.IN_A)));
+
+        // undefined transitions truncate the output
+        final int last = mealy.getIntState(IntWord.of(a, a));
+        mealy.removeAllTransitions(last);
+        Assert.assertEquals(mealy.computeOutput(IntWord.of(a, a, a, a)).length(), 2);
+
+        Assert.assertThrows(UndefinedPropertyAccessException.class,
+                            () -> new CompactMealy<>(TestUtil.ALPHABET).computeOutput(new int[] {a}));
+    }
 }
@@ -0,0 +1,121 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.transducer.probabilistic.impl;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.transducer.probabilistic.ProbabilisticOutput;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class CompactProbMealyTest {
+
+    private static final Alphabet<String> ALPHABET = Alphabets.closedCharStringRange('a', 'b');
+
+    @Test
+    public void testStructure() {
+        final CompactProbMealy<String, String> mealy = new CompactProbMealy<>(ALPHABET);
+        final int s0 = mealy.addIntState(null);
+        final int s1 = mealy.addIntState(null);
+        mealy.setInitial(s0, true);
+
+        final int t0 = mealy.addTransition(s0, 0, s0, "x", 0.25f);
+        final int t1 = mealy.addTransition(s0, 0, s1, "y", 0.75f);
+        final Integer t2 = mealy.addTransition(s1, "b", s0, new ProbabilisticOutput<>(1f, "z"));
+
+        Assert.assertEquals(mealy.getInitialStates(), Collections.singleton(s0));
+        Assert.assertEquals(mealy.getTransitions(s0, "a"), Arrays.asList(t0, t1));
+        Assert.assertEquals(mealy.getTransitions(s1, "b"), Collections.singletonList(t2));
+        Assert.assertEquals(mealy.getIntSuccessor(t1), s1);
+        Assert.assertEquals(mealy.getTransitionOutput(t1), "y");
+        Assert.assertEquals(mealy.getTransitionProperty(t2), new ProbabilisticOutput<>(1f, "z"));
+
+        mealy.setTransitionOutput(t0, "w");
+        mealy.setTransitionProbability(t0, 0.5f);
+        Assert.assertEquals(mealy.getTransitionProperty(t0), new ProbabilisticOutput<>(0.5f, "w"));
+
+        // transitions cannot be shared between state/input pairs, but re-adding is a no-op
+        Assert.assertThrows(IllegalArgumentException.class, () -> mealy.addTransition(s1, 0, t0));
+        mealy.addTransition(s0, 0, t0);
+        mealy.setTransitions(s0, "a", Arrays.asList(t1, t0, t1));
+        Assert.assertEquals(mealy.getTransitions(s0, 0), Arrays.asList(t1, t0));
+
+        mealy.removeTransition(s0, "a", t1);
+        Assert.assertEquals(mealy.getTransitions(s0, 0), Collections.singletonList(t0));
+
+        // removed transitions can be added to other pairs
+        mealy.addTransition(s1, 0, t1);
+        Assert.assertEquals(mealy.getTransitions(s1, 0), Collections.singletonList(t1));
+
+        mealy.removeAllTransitions(s1);
+        Assert.assertTrue(mealy.getTransitions(s1, "a").isEmpty());
+        Assert.assertTrue(mealy.getTransitions(s1, "b").isEmpty());
+        Assert.assertEquals(mealy.getNumTransitions(s0, 0), 1);
+    }
+
+    @Test
+    public void testSampling() {
+        final Random random = new Random(42);
+        final CompactProbMealy<String, String> mealy = new CompactProbMealy<>(ALPHABET);
+        final int s0 = mealy.addIntState(null);
+        final int s1 = mealy.addIntState(null);
+
+        // probabilities do not need to be normalized
+        final int[] ts = {mealy.addTransition(s0, 0, s0, "a", 1),
+                          mealy.addTransition(s0, 0, s1, "b", 2),
+                          mealy.addTransition(s0, 0, s1, "c", 0),
+                          mealy.addTransition(s0, 0, s0, "d", 5)};
+        final double[] expected = {0.125, 0.25, 0, 0.625};
+
+        checkDistribution(mealy, s0, 0, random, ts, expected);
+        Assert.assertEquals(mealy.sampleTransition(s0, 1, random), CompactProbMealy.INVALID_TRANSITION);
+        Assert.assertEquals(mealy.sampleTransition(s1, 0, random), CompactProbMealy.INVALID_TRANSITION);
+
+        // modifications are reflected by subsequent samples
+        mealy.setTransitionProbability(ts[2], 8);
+        checkDistribution(mealy, s0, 0, random, ts, new double[] {0.0625, 0.125, 0.5, 0.3125});
+
+        final int s2 = mealy.addIntState(null);
+        Assert.assertEquals(mealy.sampleTransition(s2, 0, random), CompactProbMealy.INVALID_TRANSITION);
+
+        // uniform distribution if no positive probabilities are given
+        final int[] us = {mealy.addTransition(s2, 1, s0, "a", 0), mealy.addTransition(s2, 1, s1, "b", 0)};
+        checkDistribution(mealy, s2, 1, random, us, new double[] {0.5, 0.5});
+    }
+
+    private static void checkDistribution(CompactProbMealy<?, ?> mealy,
+                                          int state,
+                                          int input,
+                                          Random random,
+                                          int[] transitions,
+                                          double[] expected) {
+        final int samples = 100_000;
+        final int[] counts = new int[transitions.length];
+
+        for (int i = 0; i < samples; i++) {
+            final int t = mealy.sampleTransition(state, input, random);
+            counts[Arrays.binarySearch(transitions, t)]++;
+        }
+
+        for (int i = 0; i < transitions.length; i++) {
+            Assert.assertEquals((double) counts[i] / samples, expected[i], 0.01);
+        }
+    }
+}
@@ -0,0 +1,632 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+import net.automatalib.common.util.array.ArrayUtil;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A compact, array-based storage for the trees of incremental (tree-based) builders.
+ * <p>
+ * Nodes are identified by consecutive integers (with the root being {@link #ROOT}) and their data is stored in flat
+ * {@code int} arrays, i.e., each node only requires four {@code int}s: the index of its incoming input symbol, its
+ * first child, its next sibling, and the code of its property. Properties (e.g., transition outputs, state outputs or
+ * acceptance values) are interned, so that each distinct property is only stored once.
+ * <p>
+ * The children of a node are stored as a run of siblings sorted by their input symbols. Once a node has more than
+ * {@link #DENSE_THRESHOLD} children, its children are moved to a dense table that can be indexed directly by the
+ * input symbol. Trees of query caches are typically sparse, so most nodes do not require any child table at all.
+ * <p>
+ * Tries can be {@link #writeTo(WritableByteChannel, Function) written} to and {@link #readFrom(FileChannel, Function)
+ * read} from files in a checksummed binary format. Since the format directly corresponds to the internal arrays,
+ * reading a trie does not require to re-insert any words.
+ *
+ * @param <P>
+ *         property type
+ */
+public final class CompactTrie<P> {
+
+    /**
+     * The identifier of the root node.
+     */
+    public static final int ROOT = 0;
+
+    /**
+     * The value returned for non-existing nodes.
+     */
+    public static final int NO_NODE = -1;
+
+    /**
+     * The number of children a node may have before its children are stored in a dense table.
+     */
+    public static final int DENSE_THRESHOLD = 8;
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int NULL_PROPERTY = -1;
+
+    // children of a node either form a sorted run of siblings starting at firstChild, or are stored in a dense table
+    // whose index is encoded as a value smaller than NO_NODE
+    private int[] symbols;
+    private int[] firstChild;
+    private int[] nextSibling;
+    private int[] codes;
+    private int size;
+
+    private int[][] tables;
+    private int numTables;
+
+    private final Map<@Nullable P, Integer> codeMap;
+    private final List<@Nullable P> properties;
+
+    private int alphabetSize;
+
+    /**
+     * Constructor.
+     *
+     * @param alphabetSize
+     *         the (initial) size of the input alphabet
+     * @param rootProperty
+     *         the property of the root node
+     */
+    public CompactTrie(int alphabetSize, @Nullable P rootProperty) {
+        this.symbols = new int[DEFAULT_CAPACITY];
+        this.firstChild = new int[DEFAULT_CAPACITY];
+        this.nextSibling = new int[DEFAULT_CAPACITY];
+        this.codes = new int[DEFAULT_CAPACITY];
+        this.tables = new int[0][];
+        this.codeMap = new HashMap<>();
+        this.properties = new ArrayList<>();
+        this.alphabetSize = alphabetSize;
+
+        createNode(NO_NODE, rootProperty);
+    }
+
+    private CompactTrie(int[] symbols,
+                        int[] firstChild,
+                        int[] nextSibling,
+                        int[] codes,
+                        int[][] tables,
+                        List<@Nullable P> properties,
+                        int alphabetSize) {
+        this.symbols = symbols;
+        this.firstChild = firstChild;
+        this.nextSibling = nextSibling;
+        this.codes = codes;
+        this.size = symbols.length;
+        this.tables = tables;
+        this.numTables = tables.length;
+        this.properties = properties;
+        this.codeMap = new HashMap<>();
+        this.alphabetSize = alphabetSize;
+
+        for (int i = 0; i < properties.size(); i++) {
+            codeMap.put(properties.get(i), i);
+        }
+    }
+
+    /**
+     * Returns the child of the given node for the given input symbol.
+     *
+     * @param node
+     *         the node
+     * @param symIdx
+     *         the index of the input symbol
+     *
+     * @return the child, or {@link #NO_NODE} if no such child exists
+     */
+    public int getChild(int node, int symIdx) {
+        int child = firstChild[node];
+
+        if (child < NO_NODE) {
+            final int[] table = tables[NO_NODE - 1 - child];
+            return symIdx < table.length ? table[symIdx] : NO_NODE;
+        }
+
+        while (child != NO_NODE) {
+            final int sym = symbols[child];
+            if (sym == symIdx) {
+                return child;
+            } else if (sym > symIdx) {
+                return NO_NODE;
+            }
+            child = nextSibling[child];
+        }
+
+        return NO_NODE;
+    }
+
+    /**
+     * Adds a new child to the given node.
+     *
+     * @param node
+     *         the node
+     * @param symIdx
+     *         the index of the input symbol
+     * @param property
+     *         the property of the new child
+     *
+     * @return the new child
+     *
+     * @throws IllegalArgumentException
+     *         if the node already has a child for the given input symbol
+     */
+    public int addChild(int node, int symIdx, @Nullable P property) {
+        final int head = firstChild[node];
+
+        if (head < NO_NODE) {
+            final int tableIdx = NO_NODE - 1 - head;
+            int[] table = tables[tableIdx];
+
+            if (symIdx >= table.length) {
+                table = growTable(table, Math.max(symIdx + 1, alphabetSize));
+                tables[tableIdx] = table;
+            } else if (table[symIdx] != NO_NODE) {
+                throw new IllegalArgumentException("Node " + node + " already has a child for input " + symIdx);
+            }
+
+            final int child = createNode(symIdx, property);
+            table[symIdx] = child;
+            return child;
+        }
+
+        int prev = NO_NODE;
+        int curr = head;
+        int degree = 1;
+
+        while (curr != NO_NODE && symbols[curr] < symIdx) {
+            prev = curr;
+            curr = nextSibling[curr];
+            degree++;
+        }
+
+        if (curr != NO_NODE && symbols[curr] == symIdx) {
+            throw new IllegalArgumentException("Node " + node + " already has a child for input " + symIdx);
+        }
+
+        final int child = createNode(symIdx, property);
+        nextSibling[child] = curr;
+
+        if (prev == NO_NODE) {
+            firstChild[node] = child;
+        } else {
+            nextSibling[prev] = child;
+        }
+
+        while (curr != NO_NODE) {
+            curr = nextSibling[curr];
+            degree++;
+        }
+
+        if (degree > DENSE_THRESHOLD) {
+            makeDense(node);
+        }
+
+        return child;
+    }
+
+    /**
+     * Returns the property of the given node.
+     *
+     * @param node
+     *         the node
+     *
+     * @return the property of the node
+     */
+    @SuppressWarnings("nullness") // only properties passed by the user are stored
+    public P getProperty(int node) {
+        return properties.get(codes[node]);
+    }
+
+    /**
+     * Sets the property of the given node.
+     *
+     * @param node
+     *         the node
+     * @param property
+     *         the new property
+     */
+    public void setProperty(int node, @Nullable P property) {
+        codes[node] = intern(property);
+    }
+
+    /**
+     * Returns the number of nodes (including the root) of this trie.
+     *
+     * @return the number of nodes
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of distinct properties stored in this trie.
+     *
+     * @return the number of distinct properties
+     */
+    public int getNumProperties() {
+        return properties.size();
+    }
+
+    /**
+     * Updates the size of the input alphabet. Dense child tables are only extended when a child for one of the new
+     * input symbols is added.
+     *
+     * @param alphabetSize
+     *         the new size of the input alphabet
+     */
+    public void ensureInputCapacity(int alphabetSize) {
+        this.alphabetSize = Math.max(this.alphabetSize, alphabetSize);
+    }
+
+    /**
+     * Writes this trie to the given channel (starting at its current position). The data is followed by a CRC-32
+     * checksum that is validated by {@link #readFrom(FileChannel, Function)}.
+     *
+     * @param channel
+     *         the channel to write to
+     * @param serializer
+     *         the function for serializing the (non-{@code null}) properties
+     *
+     * @throws IOException
+     *         if writing to the channel fails
+     */
+    public void writeTo(WritableByteChannel channel, Function<? super P, String> serializer) throws IOException {
+        final ChannelWriter writer = new ChannelWriter(channel);
+
+        writer.putInt(size);
+        writer.putInt(alphabetSize);
+        writer.putInt(numTables);
+        writer.putInt(properties.size());
+
+        writer.putInts(symbols, size);
+        writer.putInts(firstChild, size);
+        writer.putInts(nextSibling, size);
+        writer.putInts(codes, size);
+
+        for (int i = 0; i < numTables; i++) {
+            writer.putInt(tables[i].length);
+            writer.putInts(tables[i], tables[i].length);
+        }
+
+        for (P p : properties) {
+            if (p == null) {
+                writer.putInt(NULL_PROPERTY);
+            } else {
+                final byte[] bytes = serializer.apply(p).getBytes(StandardCharsets.UTF_8);
+                writer.putInt(bytes.length);
+                writer.putBytes(bytes);
+            }
+        }
+
+        writer.finish();
+    }
+
+    /**
+     * Reads a trie from the given channel (starting at its current position) that has been written via
+     * {@link #writeTo(WritableByteChannel, Function)}. The data is memory-mapped and copied in bulk to the internal
+     * arrays of the trie.
+     *
+     * @param channel
+     *         the channel to read from
+     * @param deserializer
+     *         the function for deserializing the (non-{@code null}) properties
+     * @param <P>
+     *         property type
+     *
+     * @return the trie
+     *
+     * @throws IOException
+     *         if reading from the channel fails or the data is corrupt
+     */
+    public static <P> CompactTrie<P> readFrom(FileChannel channel, Function<String, ? extends P> deserializer)
+            throws IOException {
+        final MappedReader reader = new MappedReader(channel);
+
+        final int size = reader.getInt();
+        final int alphabetSize = reader.getInt();
+        final int numTables = reader.getInt();
+        final int numProperties = reader.getInt();
+
+        if (size < 1 || alphabetSize < 0 || numTables < 0 || numProperties < 1) {
+            throw new IOException("Invalid trie header");
+        }
+
+        // the node arrays as well as the length fields of the tables and properties need to be present
+        reader.checkAvailable(4L * size * Integer.BYTES + ((long) numTables + numProperties) * Integer.BYTES);
+
+        final int[] symbols = reader.getInts(size);
+        final int[] firstChild = reader.getInts(size);
+        final int[] nextSibling = reader.getInts(size);
+        final int[] codes = reader.getInts(size);
+
+        final int[][] tables = new int[numTables][];
+        for (int i = 0; i < numTables; i++) {
+            tables[i] = reader.getInts(reader.getInt());
+        }
+
+        final List<@Nullable P> properties = new ArrayList<>(numProperties);
+        for (int i = 0; i < numProperties; i++) {
+            final int length = reader.getInt();
+            if (length == NULL_PROPERTY) {
+                properties.add(null);
+            } else {
+                properties.add(deserializer.apply(new String(reader.getBytes(length), StandardCharsets.UTF_8)));
+            }
+        }
+
+        reader.finish();
+
+        return new CompactTrie<>(symbols, firstChild, nextSibling, codes, tables, properties, alphabetSize);
+    }
+
+    private int createNode(int symIdx, @Nullable P property) {
+        if (size == symbols.length) {
+            final int newCapacity = ArrayUtil.computeNewCapacity(size, size + 1);
+            symbols = Arrays.copyOf(symbols, newCapacity);
+            firstChild = Arrays.copyOf(firstChild, newCapacity);
+            nextSibling = Arrays.copyOf(nextSibling, newCapacity);
+            codes = Arrays.copyOf(codes, newCapacity);
+        }
+
+        final int node = size++;
+        symbols[node] = symIdx;
+        firstChild[node] = NO_NODE;
+        nextSibling[node] = NO_NODE;
+        codes[node] = intern(property);
+
+        return node;
+    }
+
+    private void makeDense(int node) {
+        int maxSymbol = 0;
+        for (int c = firstChild[node]; c != NO_NODE; c = nextSibling[c]) {
+            maxSymbol = Math.max(maxSymbol, symbols[c]);
+        }
+
+        final int[] table = growTable(new int[0], Math.max(maxSymbol + 1, alphabetSize));
+
+        int child = firstChild[node];
+        while (child != NO_NODE) {
+            final int next = nextSibling[child];
+            table[symbols[child]] = child;
+            nextSibling[child] = NO_NODE;
+            child = next;
+        }
+
+        if (numTables == tables.length) {
+            tables = Arrays.copyOf(tables, ArrayUtil.computeNewCapacity(numTables, numTables + 1));
+        }
+
+        tables[numTables] = table;
+        firstChild[node] = NO_NODE - 1 - numTables;
+        numTables++;
+    }
+
+    private static int[] growTable(int[] table, int capacity) {
+        final int[] result = Arrays.copyOf(table, capacity);
+        Arrays.fill(result, table.length, capacity, NO_NODE);
+        return result;
+    }
+
+    private int intern(@Nullable P property) {
+        final Integer code = codeMap.get(property);
+
+        if (code != null) {
+            return code;
+        }
+
+        final int newCode = properties.size();
+        codeMap.put(property, newCode);
+        properties.add(property);
+        return newCode;
+    }
+
+    /**
+     * A buffered writer that computes the checksum of all written data.
+     */
+    private static final class ChannelWriter {
+
+        private static final int BUFFER_SIZE = 1 << 16;
+
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer;
+        private final CRC32 crc;
+
+        ChannelWriter(WritableByteChannel channel) {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            this.crc = new CRC32();
+        }
+
+        void putInt(int value) throws IOException {
+            if (buffer.remaining() < Integer.BYTES) {
+                flush();
+            }
+            buffer.putInt(value);
+        }
+
+        void putInts(int[] values, int length) throws IOException {
+            int offset = 0;
+            while (offset < length) {
+                if (buffer.remaining() < Integer.BYTES) {
+                    flush();
+                }
+                final int n = Math.min(length - offset, buffer.remaining() / Integer.BYTES);
+                final IntBuffer ints = buffer.asIntBuffer();
+                ints.put(values, offset, n);
+                buffer.position(buffer.position() + n * Integer.BYTES);
+                offset += n;
+            }
+        }
+
+        void putBytes(byte[] values) throws IOException {
+            int offset = 0;
+            while (offset < values.length) {
+                if (!buffer.hasRemaining()) {
+                    flush();
+                }
+                final int n = Math.min(values.length - offset, buffer.remaining());
+                buffer.put(values, offset, n);
+                offset += n;
+            }
+        }
+
+        void finish() throws IOException {
+            flush();
+            // the checksum itself is not part of the checksum
+            buffer.putInt((int) crc.getValue());
+            buffer.flip();
+            write();
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            crc.update(buffer.array(), buffer.arrayOffset(), buffer.limit());
+            write();
+        }
+
+        private void write() throws IOException {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    /**
+     * A reader that maps (windows of) a file to memory and validates the checksum of all read data.
+     */
+    private static final class MappedReader {
+
+        private static final long WINDOW_SIZE = 1L << 28;
+
+        private final FileChannel channel;
+        private final CRC32 crc;
+        private long windowStart;
+        private ByteBuffer window;
+        private int checked;
+
+        MappedReader(FileChannel channel) throws IOException {
+            this.channel = channel;
+            this.crc = new CRC32();
+            this.windowStart = channel.position();
+            this.window = map(windowStart);
+        }
+
+        int getInt() throws IOException {
+            ensureRemaining(Integer.BYTES);
+            return window.getInt();
+        }
+
+        int[] getInts(int length) throws IOException {
+            if (length < 0) {
+                throw new IOException("Invalid length: " + length);
+            }
+
+            checkAvailable((long) length * Integer.BYTES);
+
+            final int[] result = new int[length];
+            int offset = 0;
+            while (offset < length) {
+                ensureRemaining(Integer.BYTES);
+                final int n = Math.min(length - offset, window.remaining() / Integer.BYTES);
+                window.asIntBuffer().get(result, offset, n);
+                window.position(window.position() + n * Integer.BYTES);
+                offset += n;
+            }
+            return result;
+        }
+
+        byte[] getBytes(int length) throws IOException {
+            if (length < 0) {
+                throw new IOException("Invalid length: " + length);
+            }
+
+            checkAvailable(length);
+
+            final byte[] result = new byte[length];
+            int offset = 0;
+            while (offset < length) {
+                ensureRemaining(1);
+                final int n = Math.min(length - offset, window.remaining());
+                window.get(result, offset, n);
+                offset += n;
+            }
+            return result;
+        }
+
+        /*
+         * Lengths are read before the checksum can be validated. Reject lengths that exceed the unread data before
+         * allocating memory for them.
+         */
+        void checkAvailable(long bytes) throws IOException {
+            if (bytes > channel.size() - windowStart - window.position()) {
+                throw new IOException("Invalid length, the data is corrupt");
+            }
+        }
+
+        void finish() throws IOException {
+            updateChecksum();
+            final int expected = getInt();
+            if (expected != (int) crc.getValue()) {
+                throw new IOException("Checksum mismatch, the data is corrupt");
+            }
+            channel.position(windowStart + window.position());
+        }
+
+        private void ensureRemaining(int bytes) throws IOException {
+            if (window.remaining() < bytes) {
+                updateChecksum();
+                windowStart += window.position();
+                window = map(windowStart);
+                checked = 0;
+                if (window.remaining() < bytes) {
+                    throw new EOFException("Unexpected end of data");
+                }
+            }
+        }
+
+        private void updateChecksum() {
+            final ByteBuffer consumed = window.duplicate();
+            consumed.flip();
+            consumed.position(checked);
+            crc.update(consumed);
+            checked = window.position();
+        }
+
+        private ByteBuffer map(long position) throws IOException {
+            final long length = Math.min(WINDOW_SIZE, channel.size() - position);
+            return channel.map(MapMode.READ_ONLY, position, Math.max(length, 0)).order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+}
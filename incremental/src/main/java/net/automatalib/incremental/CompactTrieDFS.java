@@ -0,0 +1,182 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A depth-first traversal of the nodes of a {@link CompactTrie} in parallel with the states of an automaton, as used
+ * by the tree-based builders for finding separating words.
+ * <p>
+ * The traversal only manages the stack of visited nodes: {@link #advance()} moves to the next child of the current
+ * node, which the caller compares against the respective successor of the automaton. The caller then either
+ * {@link #descend(Object) descends} into the child or skips it by advancing again. In case of a conflict, the access
+ * sequence of the child is given by {@link #getWord()}.
+ *
+ * @param <S>
+ *         automaton state type
+ * @param <I>
+ *         input symbol type
+ */
+public final class CompactTrieDFS<S, I> {
+
+    private final CompactTrie<?> trie;
+    private final Alphabet<I> alphabet;
+    private final Collection<? extends I> inputs;
+    private final Deque<Record<S, I>> dfsStack;
+
+    private @Nullable S state;
+    private @Nullable I input;
+    private int node;
+
+    /**
+     * Constructor.
+     *
+     * @param trie
+     *         the trie to traverse
+     * @param alphabet
+     *         the alphabet used for determining the indices of the input symbols in the trie
+     * @param inputs
+     *         the inputs to consider at each node
+     * @param init
+     *         the automaton state corresponding to the {@link CompactTrie#ROOT root} of the trie
+     */
+    public CompactTrieDFS(CompactTrie<?> trie, Alphabet<I> alphabet, Collection<? extends I> inputs, S init) {
+        this.trie = trie;
+        this.alphabet = alphabet;
+        this.inputs = inputs;
+        this.dfsStack = new ArrayDeque<>();
+
+        // incomingInput can be null here, because we will always skip the bottom stack element when building words
+        @SuppressWarnings("nullness")
+        final Record<S, I> rec = new Record<>(init, CompactTrie.ROOT, null, inputs.iterator());
+        this.dfsStack.push(rec);
+        this.node = CompactTrie.NO_NODE;
+    }
+
+    /**
+     * Moves to the next existing child of the current node (continuing with the siblings of its ancestors once all
+     * inputs of a node have been considered).
+     *
+     * @return {@code true} if there exists a next child, {@code false} if the traversal is finished
+     */
+    public boolean advance() {
+        while (!dfsStack.isEmpty()) {
+            @SuppressWarnings("nullness") // false positive https://github.com/typetools/checker-framework/issues/399
+            @NonNull Record<S, I> rec = dfsStack.peek();
+            if (!rec.inputIt.hasNext()) {
+                dfsStack.pop();
+                continue;
+            }
+            final I next = rec.inputIt.next();
+            final int succ = trie.getChild(rec.treeNode, alphabet.getSymbolIndex(next));
+            if (succ != CompactTrie.NO_NODE) {
+                this.state = rec.automatonState;
+                this.input = next;
+                this.node = succ;
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the automaton state of the parent of the current node.
+     *
+     * @return the automaton state of the parent of the current node
+     */
+    public S getState() {
+        assert node != CompactTrie.NO_NODE;
+        @SuppressWarnings("nullness") // set by advance()
+        final S result = state;
+        return result;
+    }
+
+    /**
+     * Returns the input symbol of the edge from the parent of the current node to the current node.
+     *
+     * @return the input symbol of the current node
+     */
+    public I getInput() {
+        assert node != CompactTrie.NO_NODE;
+        @SuppressWarnings("nullness") // set by advance()
+        final I result = input;
+        return result;
+    }
+
+    /**
+     * Returns the current node of the trie.
+     *
+     * @return the current node of the trie
+     */
+    public int getNode() {
+        return node;
+    }
+
+    /**
+     * Descends into the current node, i.e., the next call to {@link #advance()} considers the children of the current
+     * node.
+     *
+     * @param succ
+     *         the automaton state corresponding to the current node
+     */
+    public void descend(S succ) {
+        dfsStack.push(new Record<>(succ, node, getInput(), inputs.iterator()));
+    }
+
+    /**
+     * Returns the access sequence of the current node.
+     *
+     * @return the access sequence of the current node
+     */
+    public Word<I> getWord() {
+        final WordBuilder<I> wb = new WordBuilder<>(dfsStack.size());
+        final Iterator<Record<S, I>> iter = dfsStack.descendingIterator();
+
+        // skip the root
+        iter.next();
+        while (iter.hasNext()) {
+            wb.append(iter.next().incomingInput);
+        }
+
+        return wb.append(getInput()).toWord();
+    }
+
+    private static final class Record<S, I> {
+
+        private final S automatonState;
+        private final int treeNode;
+        private final I incomingInput;
+        private final Iterator<? extends I> inputIt;
+
+        Record(S automatonState, int treeNode, I incomingInput, Iterator<? extends I> inputIt) {
+            this.automatonState = automatonState;
+            this.treeNode = treeNode;
+            this.incomingInput = incomingInput;
+            this.inputIt = inputIt;
+        }
+    }
+}
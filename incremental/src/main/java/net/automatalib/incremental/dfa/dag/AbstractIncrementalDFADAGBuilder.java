@@ -20,7 +20,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
@@ -45,16 +44,17 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 abstract class AbstractIncrementalDFADAGBuilder<I> extends AbstractIncrementalDFABuilder<I> {
 
-    final Map<StateSignature, State> register;
+    final StateRegister register;
     final State init;
     State sink;
+    private int numCreatedStates;
 
     AbstractIncrementalDFADAGBuilder(Alphabet<I> inputAlphabet) {
         super(inputAlphabet);
-        this.register = new LinkedHashMap<>();
+        this.register = new StateRegister();
         StateSignature sig = new StateSignature(alphabetSize, Acceptance.DONT_KNOW);
-        this.init = new State(sig);
-        register.put(sig, init);
+        this.init = createState(sig);
+        register.put(init);
     }
 
     @Override
@@ -328,7 +328,7 @@ abstract class AbstractIncrementalDFADAGBuilder<I> extends AbstractIncrementalDF
             return other;
         }
 
-        register.put(sig, state);
+        register.put(state);
         return state;
     }
 
@@ -346,8 +346,8 @@ abstract class AbstractIncrementalDFADAGBuilder<I> extends AbstractIncrementalDF
             return state;
         }
 
-        state = new State(sig);
-        register.put(sig, state);
+        state = createState(sig);
+        register.put(state);
         for (State succ : sig.successors.array) {
             if (succ != null) {
                 succ.increaseIncoming();
@@ -366,7 +366,11 @@ abstract class AbstractIncrementalDFADAGBuilder<I> extends AbstractIncrementalDF
                 succ.increaseIncoming();
             }
         }
-        return new State(sig);
+        return createState(sig);
+    }
+
+    State createState(StateSignature sig) {
+        return new State(sig, numCreatedStates++);
     }
 
     void hide(State state) {
@@ -469,6 +473,7 @@ abstract class AbstractIncrementalDFADAGBuilder<I> extends AbstractIncrementalDF
         sig = sig.duplicate();
         sig.successors.array[idx] = succ;
         sig.acceptance = acc;
+        sig.updateHashCode();
         return replaceOrRegister(sig);
     }
 
@@ -16,6 +16,7 @@
 package net.automatalib.incremental.dfa.dag;
 
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.Iterator;
 
@@ -221,6 +222,115 @@ public class IncrementalDFADAGBuilder<I> extends AbstractIncrementalDFADAGBuilde
         updateInitSignature(finalIdx, last);
     }
 
+    /**
+     * Inserts a batch of words into either the set of accepted or rejected words. The result is the same as inserting
+     * each word individually via {@link #insert(Word, boolean)}, but the batch is processed in a single pass (similar
+     * to the incremental construction of minimal acyclic automata for sorted data by Daciuk et al.): the path of the
+     * current word is detached from the register (cloning confluence states where necessary) and the states that are
+     * not shared with the next word are only (re-)registered, bottom-up, once the next word diverges from it. Hence,
+     * this method is most efficient if consecutive words share long prefixes, e.g., if the batch is sorted
+     * lexicographically.
+     * <p>
+     * If a word of the batch conflicts with the existing information, a {@link ConflictException} is thrown and only
+     * the preceding words of the batch are inserted.
+     *
+     * @param words
+     *         the words to insert
+     * @param accepting
+     *         whether to insert these words into the set of accepted or rejected words.
+     */
+    public void insertAll(Iterable<? extends Word<? extends I>> words, boolean accepting) {
+        final Acceptance acc = Acceptance.fromBoolean(accepting);
+
+        // the states on the path of the previous word (which are not contained in the register) and the indices of the
+        // transitions between them. path[0] is always the initial state, which is updated in-place.
+        State[] path = new State[16];
+        int[] pathIdx = new int[16];
+        int depth = 0;
+
+        path[0] = init;
+
+        try {
+            for (Word<? extends I> word : words) {
+                final int len = word.length();
+
+                if (len >= path.length) {
+                    final int newLength = Math.max(len + 1, path.length * 2);
+                    path = Arrays.copyOf(path, newLength);
+                    pathIdx = Arrays.copyOf(pathIdx, newLength);
+                }
+
+                int prefixLen = 0;
+                while (prefixLen < depth && prefixLen < len &&
+                       pathIdx[prefixLen] == inputAlphabet.getSymbolIndex(word.getSymbol(prefixLen))) {
+                    prefixLen++;
+                }
+
+                registerPath(path, pathIdx, depth, prefixLen);
+                depth = prefixLen;
+
+                for (int i = prefixLen; i < len; i++) {
+                    final int idx = inputAlphabet.getSymbolIndex(word.getSymbol(i));
+                    path[i + 1] = detachSuccessor(path[i], idx);
+                    pathIdx[i] = idx;
+                    depth = i + 1;
+                }
+
+                final StateSignature sig = path[len].getSignature();
+                final Acceptance currAcc = sig.acceptance;
+                if (currAcc != acc) {
+                    if (currAcc != Acceptance.DONT_KNOW) {
+                        throw new ConflictException("Incompatible acceptances: " + currAcc + " vs " + acc);
+                    }
+                    sig.acceptance = acc;
+                }
+            }
+        } finally {
+            registerPath(path, pathIdx, depth, 0);
+        }
+    }
+
+    /**
+     * Returns an unregistered state that is reached from the given (unregistered) state via the given transition,
+     * either by removing the current successor from the register, cloning it (if it is a confluence state), or
+     * creating a new state.
+     */
+    private State detachSuccessor(State state, int idx) {
+        final State succ = state.getSuccessor(idx);
+        final State result;
+
+        if (succ == null) {
+            result = createState(new StateSignature(alphabetSize, Acceptance.DONT_KNOW));
+        } else if (succ.isConfluence()) {
+            result = hiddenClone(succ);
+            succ.decreaseIncoming();
+        } else {
+            hide(succ);
+            return succ;
+        }
+
+        state.getSignature().successors.array[idx] = result;
+        result.increaseIncoming();
+        return result;
+    }
+
+    /**
+     * Registers the (unregistered) states {@code path[depth], ..., path[minDepth + 1]}, in this order, and redirects
+     * the transitions of their predecessors to the respective canonical states.
+     */
+    private void registerPath(State[] path, int[] pathIdx, int depth, int minDepth) {
+        for (int i = depth; i > minDepth; i--) {
+            final State state = path[i];
+            state.getSignature().updateHashCode();
+
+            final State canonical = replaceOrRegister(state);
+            if (canonical != state) {
+                path[i - 1].getSignature().successors.array[pathIdx[i - 1]] = canonical;
+                canonical.increaseIncoming();
+            }
+        }
+    }
+
     /**
      * Creates a suffix state sequence, i.e., a linear sequence of states connected by transitions labeled by the
      * letters of the given suffix word.
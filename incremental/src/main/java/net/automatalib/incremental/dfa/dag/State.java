@@ -17,6 +17,7 @@ package net.automatalib.incremental.dfa.dag;
 
 import net.automatalib.common.util.array.ResizingArrayStorage;
 import net.automatalib.incremental.dfa.Acceptance;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * State data structure. Note that states are generally unique throughout the algorithm, hence comparisons are always
@@ -24,19 +25,31 @@ import net.automatalib.incremental.dfa.Acceptance;
  */
 final class State {
 
-    static final State SINK = new State(new StateSignature(0, Acceptance.FALSE));
+    static final State SINK = new State(new StateSignature(0, Acceptance.FALSE), -1);
+
+    /**
+     * The (builder-local) identifier of this state, used for computing the hash codes of signatures.
+     */
+    final int id;
 
     private final StateSignature signature;
     private int numIncoming;
 
+    // links of the StateRegister
+    @Nullable State prevRegistered;
+    @Nullable State nextRegistered;
+
     /**
      * Constructor. Initializes the state with a given signature.
      *
      * @param signature
      *         the signature
+     * @param id
+     *         the identifier of the state
      */
-    State(StateSignature signature) {
+    State(StateSignature signature, int id) {
         this.signature = signature;
+        this.id = id;
         this.numIncoming = 0;
     }
 
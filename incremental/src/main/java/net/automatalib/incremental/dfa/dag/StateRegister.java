@@ -0,0 +1,244 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.dfa.dag;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The register of canonical states internally used by {@link AbstractIncrementalDFADAGBuilder}.
+ * <p>
+ * States are stored in an open-addressing (linear probing) hash table that is keyed on the signatures of the states.
+ * The (cached) hash codes of the signatures are stored alongside the states, so that probing only needs to inspect a
+ * signature if its hash code matches. Contrary to a {@link java.util.HashMap}, neither look-ups nor insertions allocate
+ * any objects. The registered states are additionally chained in a doubly-linked list (whose links are stored in the
+ * states themselves), so that iterating over the register yields the states in the order of their registration.
+ */
+final class StateRegister {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    private @Nullable State[] table;
+    private int[] hashes;
+    private int shift;
+    private int size;
+
+    private @Nullable State head;
+    private @Nullable State tail;
+
+    StateRegister() {
+        this.table = new State[INITIAL_CAPACITY];
+        this.hashes = new int[INITIAL_CAPACITY];
+        this.shift = Integer.SIZE - Integer.numberOfTrailingZeros(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Returns the registered state whose signature equals the given one.
+     *
+     * @param sig
+     *         the signature
+     *
+     * @return the registered state, or {@code null} if no state with an equal signature is registered
+     */
+    @Nullable State get(StateSignature sig) {
+        final int slot = find(sig);
+        return slot < 0 ? null : table[slot];
+    }
+
+    /**
+     * Registers the given state. No state with an equal signature must be registered.
+     *
+     * @param state
+     *         the state
+     */
+    void put(State state) {
+        if (size >= (table.length >>> 1) + (table.length >>> 2)) {
+            resize();
+        }
+
+        final int hash = state.getSignature().hashCode();
+        final int mask = table.length - 1;
+        int slot = home(hash);
+
+        while (table[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+
+        table[slot] = state;
+        hashes[slot] = hash;
+        size++;
+
+        state.prevRegistered = tail;
+        state.nextRegistered = null;
+        if (tail == null) {
+            head = state;
+        } else {
+            tail.nextRegistered = state;
+        }
+        tail = state;
+    }
+
+    /**
+     * Removes the registered state whose signature equals the given one.
+     *
+     * @param sig
+     *         the signature
+     *
+     * @return the removed state, or {@code null} if no state with an equal signature was registered
+     */
+    @Nullable State remove(StateSignature sig) {
+        int slot = find(sig);
+
+        if (slot < 0) {
+            return null;
+        }
+
+        final State removed = table[slot];
+        assert removed != null;
+
+        // backward-shift deletion, so that we do not need tombstones
+        final int mask = table.length - 1;
+        int probe = slot;
+
+        while (true) {
+            probe = (probe + 1) & mask;
+            final State candidate = table[probe];
+
+            if (candidate == null) {
+                break;
+            }
+
+            final int home = home(hashes[probe]);
+            // move the candidate if its home slot does not lie (cyclically) within (slot, probe]
+            if (slot <= probe ? slot >= home || home > probe : slot >= home && home > probe) {
+                table[slot] = candidate;
+                hashes[slot] = hashes[probe];
+                slot = probe;
+            }
+        }
+
+        table[slot] = null;
+        size--;
+
+        final State prev = removed.prevRegistered;
+        final State next = removed.nextRegistered;
+        if (prev == null) {
+            head = next;
+        } else {
+            prev.nextRegistered = next;
+        }
+        if (next == null) {
+            tail = prev;
+        } else {
+            next.prevRegistered = prev;
+        }
+        removed.prevRegistered = null;
+        removed.nextRegistered = null;
+
+        return removed;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns an unmodifiable view of the registered states, in the order of their registration.
+     *
+     * @return the registered states
+     */
+    Collection<State> values() {
+        return new Values();
+    }
+
+    private int find(StateSignature sig) {
+        final int hash = sig.hashCode();
+        final int mask = table.length - 1;
+        int slot = home(hash);
+
+        State candidate;
+        while ((candidate = table[slot]) != null) {
+            if (hashes[slot] == hash && sig.equals(candidate.getSignature())) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    private int home(int hash) {
+        return (hash * GOLDEN_RATIO) >>> shift;
+    }
+
+    private void resize() {
+        final State[] oldTable = this.table;
+        final int[] oldHashes = this.hashes;
+        final int newCapacity = oldTable.length << 1;
+
+        this.table = new State[newCapacity];
+        this.hashes = new int[newCapacity];
+        this.shift--;
+
+        final int mask = newCapacity - 1;
+        for (int i = 0; i < oldTable.length; i++) {
+            if (oldTable[i] != null) {
+                int slot = home(oldHashes[i]);
+                while (table[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = oldTable[i];
+                hashes[slot] = oldHashes[i];
+            }
+        }
+    }
+
+    private final class Values extends AbstractCollection<State> {
+
+        @Override
+        public Iterator<State> iterator() {
+            return new Iterator<State>() {
+
+                private @Nullable State next = head;
+
+                @Override
+                public boolean hasNext() {
+                    return next != null;
+                }
+
+                @Override
+                public State next() {
+                    final State result = next;
+                    if (result == null) {
+                        throw new NoSuchElementException();
+                    }
+                    next = result.nextRegistered;
+                    return result;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
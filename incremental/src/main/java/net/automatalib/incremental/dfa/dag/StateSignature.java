@@ -43,11 +43,16 @@ final class StateSignature {
         updateHashCode();
     }
 
+    /**
+     * Computes the hash code of this signature from the acceptance and the identifiers of the successors. Contrary to
+     * the (identity) hash codes of the successor objects, this yields the same hash codes in every run.
+     */
     void updateHashCode() {
-        final int prime = 31;
-        int result = 1;
-        result = prime * result + acceptance.hashCode();
-        result = prime * result + Arrays.hashCode(successors.array);
+        final State[] succs = successors.array;
+        int result = acceptance.ordinal();
+        for (State succ : succs) {
+            result = 31 * result + (succ == null ? 0 : succ.id);
+        }
         hashCode = result;
     }
 
@@ -0,0 +1,219 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.dfa.tree;
+
+import java.util.Collection;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.UniversalAutomaton;
+import net.automatalib.automaton.fsa.DFA;
+import net.automatalib.automaton.graph.TransitionEdge;
+import net.automatalib.automaton.graph.UniversalAutomatonGraphView;
+import net.automatalib.common.util.collection.IteratorUtil;
+import net.automatalib.common.util.mapping.MapMapping;
+import net.automatalib.common.util.mapping.MutableMapping;
+import net.automatalib.graph.Graph;
+import net.automatalib.incremental.CompactTrie;
+import net.automatalib.incremental.CompactTrieDFS;
+import net.automatalib.incremental.ConflictException;
+import net.automatalib.incremental.dfa.AbstractIncrementalDFABuilder;
+import net.automatalib.incremental.dfa.AbstractVisualizationHelper;
+import net.automatalib.incremental.dfa.Acceptance;
+import net.automatalib.ts.UniversalDTS;
+import net.automatalib.util.ts.traversal.TSTraversal;
+import net.automatalib.visualization.VisualizationHelper;
+import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A variation of the normal {@link IncrementalDFATreeBuilder} which stores its tree in a {@link CompactTrie}. Each
+ * tree node requires only four {@code int}s (plus its share of a dense child table, if it has many successors). This
+ * significantly reduces the memory consumption of large caches.
+ * <p>
+ * The states (and transitions) of the {@link #asTransitionSystem() transition system view} are the integer identifiers
+ * of the tree nodes, where each transition is identified with its target node.
+ *
+ * @param <I>
+ *         input symbol class
+ */
+public class CompactIncrementalDFATreeBuilder<I> extends AbstractIncrementalDFABuilder<I> {
+
+    private final CompactTrie<Acceptance> trie;
+
+    public CompactIncrementalDFATreeBuilder(Alphabet<I> inputAlphabet) {
+        super(inputAlphabet);
+        this.trie = new CompactTrie<>(alphabetSize, Acceptance.DONT_KNOW);
+    }
+
+    @Override
+    public void addAlphabetSymbol(I symbol) {
+        super.addAlphabetSymbol(symbol);
+        // the trie only needs to know the new size for future dense tables
+        trie.ensureInputCapacity(alphabetSize);
+    }
+
+    @Override
+    public @Nullable Word<I> findSeparatingWord(DFA<?, I> target,
+                                                Collection<? extends I> inputs,
+                                                boolean omitUndefined) {
+        return doFindSeparatingWord(target, inputs, omitUndefined);
+    }
+
+    private <S> @Nullable Word<I> doFindSeparatingWord(DFA<S, I> target,
+                                                       Collection<? extends I> inputs,
+                                                       boolean omitUndefined) {
+        S automatonInit = target.getInitialState();
+
+        if (automatonInit == null) {
+            return omitUndefined ? null : Word.epsilon();
+        }
+
+        if (trie.getProperty(CompactTrie.ROOT).conflicts(target.isAccepting(automatonInit))) {
+            return Word.epsilon();
+        }
+
+        final CompactTrieDFS<@Nullable S, I> dfs = new CompactTrieDFS<>(trie, inputAlphabet, inputs, automatonInit);
+
+        while (dfs.advance()) {
+            @Nullable S state = dfs.getState();
+            @Nullable S automatonSucc = state == null ? null : target.getTransition(state, dfs.getInput());
+            if (automatonSucc == null && omitUndefined) {
+                continue;
+            }
+
+            boolean succAcc = automatonSucc != null && target.isAccepting(automatonSucc);
+
+            if (trie.getProperty(dfs.getNode()).conflicts(succAcc)) {
+                return dfs.getWord();
+            }
+
+            dfs.descend(automatonSucc);
+        }
+
+        return null;
+    }
+
+    @Override
+    public Acceptance lookup(Word<? extends I> inputWord) {
+        int curr = CompactTrie.ROOT;
+
+        for (I sym : inputWord) {
+            int symIdx = inputAlphabet.getSymbolIndex(sym);
+            int succ = trie.getChild(curr, symIdx);
+            if (succ == CompactTrie.NO_NODE) {
+                return Acceptance.DONT_KNOW;
+            }
+            curr = succ;
+        }
+        return trie.getProperty(curr);
+    }
+
+    @Override
+    public void insert(Word<? extends I> word, boolean acceptance) {
+        int curr = CompactTrie.ROOT;
+
+        for (I sym : word) {
+            int inputIdx = inputAlphabet.getSymbolIndex(sym);
+            int succ = trie.getChild(curr, inputIdx);
+            if (succ == CompactTrie.NO_NODE) {
+                succ = trie.addChild(curr, inputIdx, Acceptance.DONT_KNOW);
+            }
+            curr = succ;
+        }
+
+        Acceptance acc = trie.getProperty(curr);
+        Acceptance newWordAcc = Acceptance.fromBoolean(acceptance);
+        if (acc == Acceptance.DONT_KNOW) {
+            trie.setProperty(curr, newWordAcc);
+        } else if (acc != newWordAcc) {
+            throw new ConflictException(
+                    "Conflicting acceptance values for word " + word + ": " + acc + " vs " + newWordAcc);
+        }
+    }
+
+    @Override
+    public UniversalDTS<?, I, ?, Acceptance, Void> asTransitionSystem() {
+        return new TransitionSystemView();
+    }
+
+    @Override
+    public Graph<?, ?> asGraph() {
+        return new GraphView(new TransitionSystemView(), inputAlphabet);
+    }
+
+    private final class GraphView
+            extends UniversalAutomatonGraphView<Integer, I, Integer, Acceptance, Void, TransitionSystemView> {
+
+        GraphView(TransitionSystemView automaton, Collection<? extends I> inputs) {
+            super(automaton, inputs);
+        }
+
+        @Override
+        public VisualizationHelper<Integer, TransitionEdge<I, Integer>> getVisualizationHelper() {
+            return new AbstractVisualizationHelper<Integer, I, Integer, TransitionSystemView>(automaton) {
+
+                @Override
+                public Acceptance getAcceptance(Integer node) {
+                    return trie.getProperty(node);
+                }
+            };
+        }
+    }
+
+    private final class TransitionSystemView implements UniversalDTS<Integer, I, Integer, Acceptance, Void>,
+                                                        UniversalAutomaton<Integer, I, Integer, Acceptance, Void> {
+
+        @Override
+        public Integer getSuccessor(Integer transition) {
+            return transition;
+        }
+
+        @Override
+        public @Nullable Integer getTransition(Integer state, I input) {
+            final int succ = trie.getChild(state, inputAlphabet.getSymbolIndex(input));
+            return succ == CompactTrie.NO_NODE ? null : succ;
+        }
+
+        @Override
+        public Integer getInitialState() {
+            return CompactTrie.ROOT;
+        }
+
+        @Override
+        public Acceptance getStateProperty(Integer state) {
+            return trie.getProperty(state);
+        }
+
+        @Override
+        public Void getTransitionProperty(Integer transition) {
+            return null;
+        }
+
+        @Override
+        public Collection<Integer> getStates() {
+            return IteratorUtil.list(TSTraversal.breadthFirstIterator(this, inputAlphabet));
+        }
+
+        /*
+         * We need to override the default MooreMachine mapping, because its StateIDStaticMapping class requires our
+         * nodeIDs, which requires our states, which requires our nodeIDs, which requires ... infinite loop!
+         */
+        @Override
+        public <@Nullable V> MutableMapping<Integer, V> createStaticStateMapping() {
+            return new MapMapping<>();
+        }
+    }
+}
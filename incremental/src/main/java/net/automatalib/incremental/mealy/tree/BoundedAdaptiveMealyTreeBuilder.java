@@ -0,0 +1,465 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.mealy.tree;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.concept.InputAlphabetHolder;
+import net.automatalib.automaton.graph.TransitionEdge;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.automaton.transducer.MealyMachine.MealyGraphView;
+import net.automatalib.common.util.collection.IteratorUtil;
+import net.automatalib.common.util.mapping.MapMapping;
+import net.automatalib.common.util.mapping.MutableMapping;
+import net.automatalib.graph.Graph;
+import net.automatalib.incremental.mealy.AdaptiveMealyBuilder;
+import net.automatalib.util.ts.traversal.TSTraversal;
+import net.automatalib.visualization.VisualizationHelper;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A memory-bounded variation of the {@link AdaptiveMealyTreeBuilder}.
+ * <p>
+ * The builder keeps track of when (and how often) each node of the tree has been accessed by a
+ * {@link #lookup(Word, List) look-up} or an {@link #insert(Word, Word) insertion}. Whenever an insertion causes the
+ * tree to exceed the configured number of nodes, the least valuable leaves (according to the given
+ * {@link EvictionPolicy}) are removed until the tree fits into its budget again. Since every access to a node is also
+ * an access to all of its ancestors, a node is never considered colder than any node of its subtree, i.e., cold
+ * subtrees are evicted bottom-up while frequently accessed prefixes are retained. The information of the most recent
+ * insertion is never evicted.
+ * <p>
+ * As a consequence, a look-up that returned {@code true} previously may return {@code false} later on. Use
+ * {@link #getHits()}, {@link #getMisses()}, and {@link #getEvictions()} to monitor the effectiveness of the configured
+ * budget.
+ *
+ * @param <I>
+ *         input symbol class
+ * @param <O>
+ *         output symbol class
+ */
+public class BoundedAdaptiveMealyTreeBuilder<I, O> extends AbstractMealyTreeBuilder<BoundedNode<O>, I, O>
+        implements AdaptiveMealyBuilder<I, O>, InputAlphabetHolder<I> {
+
+    /**
+     * The approximate number of bytes occupied by a single tree node (including its incoming edge and book-keeping
+     * data), not counting the array of outgoing edges. Assumes compressed object pointers.
+     */
+    private static final long NODE_BYTES = 112;
+
+    private final Alphabet<I> inputAlphabet;
+    private final EvictionPolicy policy;
+    private final long maxNodes;
+    private final PriorityQueue<BoundedNode<O>> evictionQueue;
+    private final Set<BoundedNode<O>> queries;
+    private int alphabetSize;
+
+    private long numNodes;
+    // the number of queued nodes that have been removed by an overwriting insertion
+    private long numStaleEntries;
+    private long timestamp;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Constructor.
+     *
+     * @param inputAlphabet
+     *         the input alphabet
+     * @param maxNodes
+     *         the maximum number of (non-root) nodes the tree may contain
+     * @param policy
+     *         the policy that determines which nodes to evict
+     */
+    public BoundedAdaptiveMealyTreeBuilder(Alphabet<I> inputAlphabet, long maxNodes, EvictionPolicy policy) {
+        super(new BoundedNode<>());
+
+        if (maxNodes < 1) {
+            throw new IllegalArgumentException("The node budget must be positive, but was " + maxNodes);
+        }
+
+        this.inputAlphabet = inputAlphabet;
+        this.alphabetSize = inputAlphabet.size();
+        this.maxNodes = maxNodes;
+        this.policy = policy;
+        this.evictionQueue = new PriorityQueue<>(policy.comparator);
+        this.queries = new LinkedHashSet<>();
+    }
+
+    /**
+     * Creates a builder whose node budget is derived from the given (approximate) number of bytes. The estimation
+     * assumes compressed object pointers and does not account for the memory occupied by the input and output symbols
+     * themselves.
+     *
+     * @param inputAlphabet
+     *         the input alphabet
+     * @param maxBytes
+     *         the (approximate) maximum number of bytes the tree may occupy
+     * @param policy
+     *         the policy that determines which nodes to evict
+     * @param <I>
+     *         input symbol class
+     * @param <O>
+     *         output symbol class
+     *
+     * @return the builder
+     */
+    public static <I, O> BoundedAdaptiveMealyTreeBuilder<I, O> withByteBudget(Alphabet<I> inputAlphabet,
+                                                                              long maxBytes,
+                                                                              EvictionPolicy policy) {
+        // in a tree, there exist at most as many edge arrays as there are nodes
+        final long bytesPerNode = NODE_BYTES + 16 + 4L * inputAlphabet.size();
+        return new BoundedAdaptiveMealyTreeBuilder<>(inputAlphabet, Math.max(1, maxBytes / bytesPerNode), policy);
+    }
+
+    @Override
+    public boolean lookup(Word<? extends I> word, List<? super O> output) {
+        final long now = ++timestamp;
+        BoundedNode<O> curr = root;
+
+        for (I sym : word) {
+            Edge<BoundedNode<O>, O> edge = getEdge(curr, sym);
+            if (edge == null) {
+                misses++;
+                return false;
+            }
+            output.add(edge.getOutput());
+            curr = edge.getTarget();
+            curr.touch(now);
+        }
+
+        hits++;
+        return true;
+    }
+
+    @Override
+    public boolean insert(Word<? extends I> input, Word<? extends O> outputWord) {
+        final long now = ++timestamp;
+        BoundedNode<O> curr = root;
+        boolean hasOverwritten = false;
+
+        for (int i = 0; i < input.length(); i++) {
+            I sym = input.getSymbol(i);
+            O out = outputWord.getSymbol(i);
+            Edge<BoundedNode<O>, O> edge = getEdge(curr, sym);
+            if (edge == null) {
+                curr = insertNode(curr, sym, out);
+            } else {
+                if (Objects.equals(out, edge.getOutput())) {
+                    curr = edge.getTarget();
+                } else {
+                    hasOverwritten = true;
+                    removeSubtree(edge.getTarget());
+                    curr = insertNode(curr, sym, out);
+                }
+            }
+            curr.touch(now);
+        }
+
+        // Make sure it uses the new ages.
+        queries.remove(curr);
+        queries.add(curr);
+
+        if (curr != root && curr.isLeaf()) {
+            enqueue(curr);
+        }
+
+        evict(curr);
+
+        return hasOverwritten;
+    }
+
+    private void evict(BoundedNode<O> protectedNode) {
+        boolean skippedProtected = false;
+
+        while (numNodes > maxNodes) {
+            final BoundedNode<O> node = evictionQueue.poll();
+
+            if (node == null) {
+                break;
+            }
+
+            node.queued = false;
+
+            if (node.removed) {
+                numStaleEntries--;
+                continue;
+            }
+
+            if (!node.isLeaf()) {
+                // will be re-enqueued once it becomes a leaf again
+                continue;
+            }
+
+            if (policy.isOutdated(node)) {
+                // the node has been accessed since it has been enqueued, so re-insert it with its current statistics
+                enqueue(node);
+                continue;
+            }
+
+            if (node == protectedNode) {
+                skippedProtected = true;
+                continue;
+            }
+
+            final BoundedNode<O> parent = node.parent;
+            assert parent != null;
+
+            parent.removeEdge(node.symIdx);
+            node.removed = true;
+            queries.remove(node);
+            numNodes--;
+            evictions++;
+
+            if (parent != root && parent.isLeaf()) {
+                enqueue(parent);
+            }
+        }
+
+        if (skippedProtected) {
+            enqueue(protectedNode);
+        }
+    }
+
+    private void enqueue(BoundedNode<O> node) {
+        if (!node.queued) {
+            node.queuedAccess = node.lastAccess;
+            node.queuedFrequency = node.frequency;
+            node.queued = true;
+            evictionQueue.add(node);
+        }
+    }
+
+    private void removeSubtree(BoundedNode<O> node) {
+        final BoundedNode<O> parent = node.parent;
+        assert parent != null;
+        parent.removeEdge(node.symIdx);
+
+        final Deque<BoundedNode<O>> stack = new ArrayDeque<>();
+        stack.push(node);
+
+        while (!stack.isEmpty()) {
+            final BoundedNode<O> curr = stack.pop();
+            curr.removed = true;
+            queries.remove(curr);
+            numNodes--;
+
+            if (curr.queued) {
+                numStaleEntries++;
+            }
+
+            for (int i = 0; i < alphabetSize; i++) {
+                final Edge<BoundedNode<O>, O> edge = curr.getEdge(i);
+                if (edge != null) {
+                    stack.push(edge.getTarget());
+                }
+            }
+
+            // do not let removed (but still queued) nodes keep their subtrees reachable
+            curr.clearEdges();
+        }
+
+        // Stale entries are otherwise only discarded when polled, which may never happen for recently accessed nodes
+        // or while the tree stays within its budget. Purge them once they make up a significant part of the queue.
+        if (2 * numStaleEntries > numNodes) {
+            evictionQueue.removeIf(n -> n.removed);
+            numStaleEntries = 0;
+        }
+    }
+
+    @Override
+    public @Nullable Word<I> getOldestInput() {
+        final Iterator<BoundedNode<O>> iter = queries.iterator();
+        return iter.hasNext() ? getInput(iter.next()) : null;
+    }
+
+    private Word<I> getInput(BoundedNode<O> node) {
+        final WordBuilder<I> wb = new WordBuilder<>();
+        BoundedNode<O> curr = node;
+
+        while (curr.parent != null) {
+            wb.append(inputAlphabet.getSymbol(curr.symIdx));
+            curr = curr.parent;
+        }
+
+        return wb.reverse().toWord();
+    }
+
+    /**
+     * Returns the number of look-ups that could be answered by the stored information.
+     *
+     * @return the number of cache hits
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of look-ups that could not be answered by the stored information.
+     *
+     * @return the number of cache misses
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of nodes that have been evicted due to the configured budget. Nodes that have been removed due
+     * to overwriting insertions are not counted.
+     *
+     * @return the number of evicted nodes
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Returns the number of (non-root) nodes that are currently stored in the tree.
+     *
+     * @return the number of nodes
+     */
+    public long getNumNodes() {
+        return numNodes;
+    }
+
+    /**
+     * Returns the maximum number of (non-root) nodes the tree may contain.
+     *
+     * @return the node budget
+     */
+    public long getMaxNodes() {
+        return maxNodes;
+    }
+
+    int getEvictionQueueSize() {
+        return evictionQueue.size();
+    }
+
+    @Override
+    public void addAlphabetSymbol(I symbol) {
+        if (!inputAlphabet.containsSymbol(symbol)) {
+            inputAlphabet.asGrowingAlphabetOrThrowException().addSymbol(symbol);
+        }
+
+        // existing nodes are extended lazily, see BoundedNode#setEdge
+        alphabetSize = Math.max(alphabetSize, inputAlphabet.size());
+    }
+
+    @Override
+    @Nullable Edge<BoundedNode<O>, O> getEdge(BoundedNode<O> node, I symbol) {
+        return node.getEdge(inputAlphabet.getSymbolIndex(symbol));
+    }
+
+    @Override
+    BoundedNode<O> createNode() {
+        return new BoundedNode<>();
+    }
+
+    @Override
+    BoundedNode<O> insertNode(BoundedNode<O> parent, I symIdx, O output) {
+        final int idx = inputAlphabet.getSymbolIndex(symIdx);
+        final BoundedNode<O> succ = new BoundedNode<>(parent, idx);
+        parent.setEdge(idx, new Edge<>(output, succ), alphabetSize);
+        numNodes++;
+        return succ;
+    }
+
+    @Override
+    public Alphabet<I> getInputAlphabet() {
+        return inputAlphabet;
+    }
+
+    @Override
+    public Graph<BoundedNode<O>, ?> asGraph() {
+        return new GraphView(new MealyMachineView(), inputAlphabet);
+    }
+
+    /**
+     * The policy that determines which (leaf) nodes of the tree are evicted first.
+     */
+    public enum EvictionPolicy {
+        /**
+         * Evicts the least recently used nodes first.
+         */
+        LRU(Comparator.comparingLong(n -> n.queuedAccess)) {
+            @Override
+            boolean isOutdated(BoundedNode<?> node) {
+                return node.lastAccess != node.queuedAccess;
+            }
+        },
+        /**
+         * Evicts the least frequently used nodes first. Ties are broken by evicting the least recently used nodes
+         * first.
+         */
+        LFU(Comparator.<BoundedNode<?>>comparingInt(n -> n.queuedFrequency).thenComparingLong(n -> n.queuedAccess)) {
+            @Override
+            boolean isOutdated(BoundedNode<?> node) {
+                return node.frequency != node.queuedFrequency || node.lastAccess != node.queuedAccess;
+            }
+        };
+
+        private final Comparator<BoundedNode<?>> comparator;
+
+        EvictionPolicy(Comparator<BoundedNode<?>> comparator) {
+            this.comparator = comparator;
+        }
+
+        abstract boolean isOutdated(BoundedNode<?> node);
+    }
+
+    private final class GraphView
+            extends MealyGraphView<BoundedNode<O>, I, Edge<BoundedNode<O>, O>, O, MealyMachineView> {
+
+        GraphView(MealyMachineView automaton, Collection<? extends I> inputs) {
+            super(automaton, inputs);
+        }
+
+        @Override
+        public VisualizationHelper<BoundedNode<O>, TransitionEdge<I, Edge<BoundedNode<O>, O>>>
+                getVisualizationHelper() {
+            return new net.automatalib.incremental.mealy.VisualizationHelper<>(automaton);
+        }
+    }
+
+    private final class MealyMachineView extends TransitionSystemView
+            implements MealyMachine<BoundedNode<O>, I, Edge<BoundedNode<O>, O>, O> {
+
+        @Override
+        public Collection<BoundedNode<O>> getStates() {
+            return IteratorUtil.list(TSTraversal.breadthFirstIterator(this, inputAlphabet));
+        }
+
+        /*
+         * See AbstractAlphabetBasedMealyTreeBuilder: the default mapping would require the (not yet computed) states.
+         */
+        @Override
+        public <@Nullable V> MutableMapping<BoundedNode<O>, V> createStaticStateMapping() {
+            return new MapMapping<>();
+        }
+    }
+}
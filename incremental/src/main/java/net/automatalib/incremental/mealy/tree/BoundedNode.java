@@ -0,0 +1,108 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.mealy.tree;
+
+import java.util.Arrays;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A node in the tree internally used by {@link BoundedAdaptiveMealyTreeBuilder}.
+ * <p>
+ * Besides its outgoing edges, each node stores a reference to its parent (so that leaves can be detached and stored
+ * inputs can be reconstructed) as well as the access statistics of the subtree rooted in this node. The edge array is
+ * only allocated once the first successor is added, because the majority of nodes in a tree are leaves.
+ *
+ * @param <O>
+ *         output symbol type
+ */
+final class BoundedNode<O> {
+
+    final @Nullable BoundedNode<O> parent;
+    final int symIdx;
+
+    private @Nullable Edge<BoundedNode<O>, O> @Nullable [] outEdges;
+    private int numChildren;
+
+    // access statistics
+    long lastAccess;
+    int frequency;
+
+    // the statistics at the time the node has been added to the eviction queue
+    long queuedAccess;
+    int queuedFrequency;
+    boolean queued;
+
+    boolean removed;
+
+    BoundedNode() {
+        this(null, -1);
+    }
+
+    BoundedNode(@Nullable BoundedNode<O> parent, int symIdx) {
+        this.parent = parent;
+        this.symIdx = symIdx;
+    }
+
+    @Nullable Edge<BoundedNode<O>, O> getEdge(int idx) {
+        final Edge<BoundedNode<O>, O>[] edges = this.outEdges;
+        return edges == null || idx >= edges.length ? null : edges[idx];
+    }
+
+    @SuppressWarnings("unchecked")
+    void setEdge(int idx, Edge<BoundedNode<O>, O> edge, int capacity) {
+        Edge<BoundedNode<O>, O>[] edges = this.outEdges;
+
+        if (edges == null) {
+            edges = new Edge[Math.max(capacity, idx + 1)];
+            this.outEdges = edges;
+        } else if (idx >= edges.length) {
+            edges = Arrays.copyOf(edges, Math.max(capacity, idx + 1));
+            this.outEdges = edges;
+        }
+
+        if (edges[idx] == null) {
+            numChildren++;
+        }
+        edges[idx] = edge;
+    }
+
+    void removeEdge(int idx) {
+        final Edge<BoundedNode<O>, O>[] edges = this.outEdges;
+        assert edges != null && edges[idx] != null;
+
+        edges[idx] = null;
+        if (--numChildren == 0) {
+            this.outEdges = null;
+        }
+    }
+
+    void clearEdges() {
+        this.outEdges = null;
+        this.numChildren = 0;
+    }
+
+    boolean isLeaf() {
+        return numChildren == 0;
+    }
+
+    void touch(long timestamp) {
+        this.lastAccess = timestamp;
+        if (frequency < Integer.MAX_VALUE) {
+            frequency++;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.mealy.tree;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.concept.InputAlphabetHolder;
+import net.automatalib.automaton.graph.TransitionEdge;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.automaton.transducer.MealyMachine.MealyGraphView;
+import net.automatalib.common.util.collection.IteratorUtil;
+import net.automatalib.common.util.mapping.MapMapping;
+import net.automatalib.common.util.mapping.MutableMapping;
+import net.automatalib.graph.Graph;
+import net.automatalib.incremental.CompactTrie;
+import net.automatalib.incremental.CompactTrieDFS;
+import net.automatalib.incremental.ConflictException;
+import net.automatalib.incremental.mealy.IncrementalMealyBuilder;
+import net.automatalib.ts.output.MealyTransitionSystem;
+import net.automatalib.util.ts.traversal.TSTraversal;
+import net.automatalib.visualization.VisualizationHelper;
+import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A variation of the normal {@link IncrementalMealyTreeBuilder} which stores its tree in a {@link CompactTrie}. Each
+ * tree node requires only four {@code int}s (plus its share of a dense child table, if it has many successors) and
+ * each distinct output symbol is stored only once. This significantly reduces the memory consumption of large caches.
+ * <p>
+ * The states (and transitions) of the {@link #asTransitionSystem() transition system view} are the integer identifiers
+ * of the tree nodes, where each transition is identified with its target node.
+ *
+ * @param <I>
+ *         input symbol class
+ * @param <O>
+ *         output symbol class
+ */
+public class CompactIncrementalMealyTreeBuilder<I, O> implements IncrementalMealyBuilder<I, O>, InputAlphabetHolder<I> {
+
+    protected final Alphabet<I> inputAlphabet;
+    protected final CompactTrie<O> trie;
+
+    public CompactIncrementalMealyTreeBuilder(Alphabet<I> inputAlphabet) {
+        this(inputAlphabet, new CompactTrie<>(inputAlphabet.size(), null));
+    }
+
+    /**
+     * Constructor that uses the given trie (e.g., one that has been
+     * {@link CompactTrie#readFrom(java.nio.channels.FileChannel, java.util.function.Function) read} from a file) to
+     * store the tree.
+     *
+     * @param inputAlphabet
+     *         the input alphabet
+     * @param trie
+     *         the trie, whose transition properties are stored at the respective target nodes
+     */
+    protected CompactIncrementalMealyTreeBuilder(Alphabet<I> inputAlphabet, CompactTrie<O> trie) {
+        this.inputAlphabet = inputAlphabet;
+        this.trie = trie;
+        this.trie.ensureInputCapacity(inputAlphabet.size());
+    }
+
+    @Override
+    public boolean lookup(Word<? extends I> word, List<? super O> output) {
+        int curr = CompactTrie.ROOT;
+
+        for (I sym : word) {
+            int succ = trie.getChild(curr, inputAlphabet.getSymbolIndex(sym));
+            if (succ == CompactTrie.NO_NODE) {
+                return false;
+            }
+            output.add(trie.getProperty(succ));
+            curr = succ;
+        }
+
+        return true;
+    }
+
+    @Override
+    public void insert(Word<? extends I> input, Word<? extends O> outputWord) {
+        int curr = CompactTrie.ROOT;
+
+        for (int i = 0; i < input.length(); i++) {
+            int symIdx = inputAlphabet.getSymbolIndex(input.getSymbol(i));
+            O out = outputWord.getSymbol(i);
+            int succ = trie.getChild(curr, symIdx);
+            if (succ == CompactTrie.NO_NODE) {
+                succ = trie.addChild(curr, symIdx, out);
+            } else if (!Objects.equals(out, trie.getProperty(succ))) {
+                throw new ConflictException();
+            }
+            curr = succ;
+        }
+    }
+
+    @Override
+    public void addAlphabetSymbol(I symbol) {
+        if (!inputAlphabet.containsSymbol(symbol)) {
+            inputAlphabet.asGrowingAlphabetOrThrowException().addSymbol(symbol);
+        }
+
+        // the trie only needs to know the new size for future dense tables
+        trie.ensureInputCapacity(inputAlphabet.size());
+    }
+
+    @Override
+    public Alphabet<I> getInputAlphabet() {
+        return inputAlphabet;
+    }
+
+    @Override
+    public @Nullable Word<I> findSeparatingWord(MealyMachine<?, I, ?, O> target,
+                                                Collection<? extends I> inputs,
+                                                boolean omitUndefined) {
+        return doFindSeparatingWord(target, inputs, omitUndefined);
+    }
+
+    private <S, T> @Nullable Word<I> doFindSeparatingWord(MealyMachine<S, I, T, O> target,
+                                                          Collection<? extends I> inputs,
+                                                          boolean omitUndefined) {
+        S automatonInit = target.getInitialState();
+
+        if (automatonInit == null) {
+            return omitUndefined ? null : Word.epsilon();
+        }
+
+        final CompactTrieDFS<@Nullable S, I> dfs = new CompactTrieDFS<>(trie, inputAlphabet, inputs, automatonInit);
+
+        while (dfs.advance()) {
+            S state = dfs.getState();
+            T trans = state == null ? null : target.getTransition(state, dfs.getInput());
+            if (omitUndefined && trans == null) {
+                continue;
+            }
+            if (trans == null || !Objects.equals(target.getTransitionOutput(trans), trie.getProperty(dfs.getNode()))) {
+                return dfs.getWord();
+            }
+
+            dfs.descend(target.getSuccessor(trans));
+        }
+
+        return null;
+    }
+
+    @Override
+    public MealyTransitionSystem<?, I, ?, O> asTransitionSystem() {
+        return new TransitionSystemView();
+    }
+
+    @Override
+    public Graph<Integer, ?> asGraph() {
+        return new GraphView(new TransitionSystemView(), inputAlphabet);
+    }
+
+    private final class GraphView extends MealyGraphView<Integer, I, Integer, O, TransitionSystemView> {
+
+        GraphView(TransitionSystemView automaton, Collection<? extends I> inputs) {
+            super(automaton, inputs);
+        }
+
+        @Override
+        public VisualizationHelper<Integer, TransitionEdge<I, Integer>> getVisualizationHelper() {
+            return new net.automatalib.incremental.mealy.VisualizationHelper<>(automaton);
+        }
+    }
+
+    private final class TransitionSystemView implements MealyMachine<Integer, I, Integer, O> {
+
+        @Override
+        public Integer getInitialState() {
+            return CompactTrie.ROOT;
+        }
+
+        @Override
+        public @Nullable Integer getTransition(Integer state, I input) {
+            final int succ = trie.getChild(state, inputAlphabet.getSymbolIndex(input));
+            return succ == CompactTrie.NO_NODE ? null : succ;
+        }
+
+        @Override
+        public Integer getSuccessor(Integer transition) {
+            return transition;
+        }
+
+        @Override
+        public O getTransitionOutput(Integer transition) {
+            return trie.getProperty(transition);
+        }
+
+        @Override
+        public Collection<Integer> getStates() {
+            return IteratorUtil.list(TSTraversal.breadthFirstIterator(this, inputAlphabet));
+        }
+
+        /*
+         * We need to override the default MooreMachine mapping, because its StateIDStaticMapping class requires our
+         * nodeIDs, which requires our states, which requires our nodeIDs, which requires ... infinite loop!
+         */
+        @Override
+        public <@Nullable V> MutableMapping<Integer, V> createStaticStateMapping() {
+            return new MapMapping<>();
+        }
+    }
+}
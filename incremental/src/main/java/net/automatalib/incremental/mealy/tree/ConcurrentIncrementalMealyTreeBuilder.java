@@ -0,0 +1,157 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.mealy.tree;
+
+import java.util.Collection;
+import java.util.Objects;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.concept.InputAlphabetHolder;
+import net.automatalib.automaton.graph.TransitionEdge;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.automaton.transducer.MealyMachine.MealyGraphView;
+import net.automatalib.common.util.collection.IteratorUtil;
+import net.automatalib.common.util.mapping.MapMapping;
+import net.automatalib.common.util.mapping.MutableMapping;
+import net.automatalib.graph.Graph;
+import net.automatalib.incremental.ConflictException;
+import net.automatalib.incremental.mealy.IncrementalMealyBuilder;
+import net.automatalib.util.ts.traversal.TSTraversal;
+import net.automatalib.visualization.VisualizationHelper;
+import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A thread-safe variation of the {@link IncrementalMealyTreeBuilder} that allows multiple threads to concurrently
+ * {@link #lookup(Word, java.util.List) look up} and {@link #insert(Word, Word) insert} words.
+ * <p>
+ * Look-ups do not acquire any locks: the outgoing edges of each tree node are stored in atomically published arrays
+ * and edges are never removed. Insertions add missing edges via compare-and-set operations. If two threads race to
+ * insert the same transition, exactly one of them succeeds and the other one continues on the winning edge, i.e., a
+ * {@link ConflictException} is thrown if (and only if) the outputs of both insertions differ. As with the sequential
+ * builder, the prefix of a conflicting word that has been inserted before the conflict was detected remains in the
+ * tree.
+ * <p>
+ * Operations that inspect the complete tree (e.g., {@link #findSeparatingWord(MealyMachine, Collection, boolean)} or
+ * {@link #asGraph()}) are weakly consistent: they reflect all insertions that have completed before the operation
+ * started and may or may not reflect concurrent ones. Since {@link Alphabet}s are generally not thread-safe,
+ * {@link #addAlphabetSymbol(Object) adding alphabet symbols} must not happen concurrently to other operations. The
+ * edge arrays of the tree nodes are lazily extended by the insertions that require the new symbols.
+ *
+ * @param <I>
+ *         input symbol class
+ * @param <O>
+ *         output symbol class
+ */
+public class ConcurrentIncrementalMealyTreeBuilder<I, O> extends AbstractMealyTreeBuilder<ConcurrentNode<O>, I, O>
+        implements IncrementalMealyBuilder<I, O>, InputAlphabetHolder<I> {
+
+    private final Alphabet<I> inputAlphabet;
+    private volatile int alphabetSize;
+
+    public ConcurrentIncrementalMealyTreeBuilder(Alphabet<I> inputAlphabet) {
+        super(new ConcurrentNode<>(inputAlphabet.size()));
+        this.inputAlphabet = inputAlphabet;
+        this.alphabetSize = inputAlphabet.size();
+    }
+
+    @Override
+    public void insert(Word<? extends I> input, Word<? extends O> outputWord) {
+        ConcurrentNode<O> curr = root;
+
+        for (int i = 0; i < input.length(); i++) {
+            I sym = input.getSymbol(i);
+            O out = outputWord.getSymbol(i);
+            int symIdx = inputAlphabet.getSymbolIndex(sym);
+            Edge<ConcurrentNode<O>, O> edge = curr.getEdge(symIdx);
+            if (edge == null) {
+                // if another thread was faster, this returns its edge which may have a different output
+                edge = curr.setEdgeIfAbsent(symIdx, new Edge<>(out, createNode()), alphabetSize);
+            }
+            if (!Objects.equals(out, edge.getOutput())) {
+                throw new ConflictException();
+            }
+            curr = edge.getTarget();
+        }
+    }
+
+    @Override
+    public void addAlphabetSymbol(I symbol) {
+        if (!inputAlphabet.containsSymbol(symbol)) {
+            inputAlphabet.asGrowingAlphabetOrThrowException().addSymbol(symbol);
+        }
+
+        // existing nodes are extended lazily, see ConcurrentNode#setEdgeIfAbsent
+        alphabetSize = Math.max(alphabetSize, inputAlphabet.size());
+    }
+
+    @Override
+    @Nullable Edge<ConcurrentNode<O>, O> getEdge(ConcurrentNode<O> node, I symbol) {
+        return node.getEdge(inputAlphabet.getSymbolIndex(symbol));
+    }
+
+    @Override
+    ConcurrentNode<O> createNode() {
+        return new ConcurrentNode<>(alphabetSize);
+    }
+
+    @Override
+    ConcurrentNode<O> insertNode(ConcurrentNode<O> parent, I symIdx, O output) {
+        Edge<ConcurrentNode<O>, O> edge = new Edge<>(output, createNode());
+        return parent.setEdgeIfAbsent(inputAlphabet.getSymbolIndex(symIdx), edge, alphabetSize).getTarget();
+    }
+
+    @Override
+    public Alphabet<I> getInputAlphabet() {
+        return inputAlphabet;
+    }
+
+    @Override
+    public Graph<ConcurrentNode<O>, ?> asGraph() {
+        return new GraphView(new MealyMachineView(), inputAlphabet);
+    }
+
+    private final class GraphView
+            extends MealyGraphView<ConcurrentNode<O>, I, Edge<ConcurrentNode<O>, O>, O, MealyMachineView> {
+
+        GraphView(MealyMachineView automaton, Collection<? extends I> inputs) {
+            super(automaton, inputs);
+        }
+
+        @Override
+        public VisualizationHelper<ConcurrentNode<O>, TransitionEdge<I, Edge<ConcurrentNode<O>, O>>>
+                getVisualizationHelper() {
+            return new net.automatalib.incremental.mealy.VisualizationHelper<>(automaton);
+        }
+    }
+
+    private final class MealyMachineView extends TransitionSystemView
+            implements MealyMachine<ConcurrentNode<O>, I, Edge<ConcurrentNode<O>, O>, O> {
+
+        @Override
+        public Collection<ConcurrentNode<O>> getStates() {
+            return IteratorUtil.list(TSTraversal.breadthFirstIterator(this, inputAlphabet));
+        }
+
+        /*
+         * See AbstractAlphabetBasedMealyTreeBuilder: the default mapping would require the (not yet computed) states.
+         */
+        @Override
+        public <@Nullable V> MutableMapping<ConcurrentNode<O>, V> createStaticStateMapping() {
+            return new MapMapping<>();
+        }
+    }
+}
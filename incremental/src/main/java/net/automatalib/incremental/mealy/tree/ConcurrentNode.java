@@ -0,0 +1,125 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.mealy.tree;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A node in the tree internally used by {@link ConcurrentIncrementalMealyTreeBuilder}.
+ * <p>
+ * The outgoing edges are stored in an atomically published {@link AtomicReferenceArray}. Edges are only ever added (via
+ * CAS), so readers never need to lock. If the array needs to grow (due to an extended alphabet), all empty slots of the
+ * old array are first marked as {@link #MOVED}, before a copy is published. This prevents concurrent insertions into
+ * the outdated array from getting lost.
+ *
+ * @param <O>
+ *         output symbol type
+ */
+final class ConcurrentNode<O> {
+
+    @SuppressWarnings("nullness") // the sentinel is never exposed
+    private static final Edge<?, ?> MOVED = new Edge<>(null, null);
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ConcurrentNode, AtomicReferenceArray> OUT_EDGES =
+            AtomicReferenceFieldUpdater.newUpdater(ConcurrentNode.class, AtomicReferenceArray.class, "outEdges");
+
+    private volatile AtomicReferenceArray<@Nullable Edge<ConcurrentNode<O>, O>> outEdges;
+
+    ConcurrentNode(int alphabetSize) {
+        this.outEdges = new AtomicReferenceArray<>(alphabetSize);
+    }
+
+    @Nullable Edge<ConcurrentNode<O>, O> getEdge(int idx) {
+        while (true) {
+            final AtomicReferenceArray<@Nullable Edge<ConcurrentNode<O>, O>> edges = this.outEdges;
+
+            if (idx >= edges.length()) {
+                return null;
+            }
+
+            final Edge<ConcurrentNode<O>, O> edge = edges.get(idx);
+
+            if (edge != MOVED) {
+                return edge;
+            }
+
+            // the array is about to be replaced, wait for the new one to be published
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Atomically sets the edge for the given index, if no edge has been set before.
+     *
+     * @param idx
+     *         the index of the input symbol
+     * @param edge
+     *         the edge to set
+     * @param capacity
+     *         the capacity to use if the edge array needs to grow
+     *
+     * @return the edge that is stored for the given index after the operation, i.e., either the given edge or the one
+     * that has been set previously
+     */
+    Edge<ConcurrentNode<O>, O> setEdgeIfAbsent(int idx, Edge<ConcurrentNode<O>, O> edge, int capacity) {
+        while (true) {
+            final AtomicReferenceArray<@Nullable Edge<ConcurrentNode<O>, O>> edges = this.outEdges;
+
+            if (idx >= edges.length()) {
+                grow(edges, Math.max(idx + 1, capacity));
+                continue;
+            }
+
+            final Edge<ConcurrentNode<O>, O> current = edges.get(idx);
+
+            if (current == MOVED) {
+                Thread.yield();
+            } else if (current != null) {
+                return current;
+            } else if (edges.compareAndSet(idx, null, edge)) {
+                return edge;
+            }
+        }
+    }
+
+    private void grow(AtomicReferenceArray<@Nullable Edge<ConcurrentNode<O>, O>> edges, int capacity) {
+        final int length = edges.length();
+
+        @SuppressWarnings("unchecked")
+        final Edge<ConcurrentNode<O>, O> moved = (Edge<ConcurrentNode<O>, O>) MOVED;
+
+        // freeze all empty slots so that no concurrent insertion can succeed on the old array
+        for (int i = 0; i < length; i++) {
+            edges.compareAndSet(i, null, moved);
+        }
+
+        final AtomicReferenceArray<@Nullable Edge<ConcurrentNode<O>, O>> copy = new AtomicReferenceArray<>(capacity);
+
+        for (int i = 0; i < length; i++) {
+            final Edge<ConcurrentNode<O>, O> edge = edges.get(i);
+            if (edge != MOVED) {
+                copy.lazySet(i, edge);
+            }
+        }
+
+        // if this fails, another thread has already published a copy of the (frozen) array
+        OUT_EDGES.compareAndSet(this, edges, copy);
+    }
+}
@@ -0,0 +1,540 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.mealy.tree;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.incremental.CompactTrie;
+import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link CompactIncrementalMealyTreeBuilder} whose content is persisted in a directory, so that (long-running) query
+ * caches survive restarts of the JVM.
+ * <p>
+ * Each insertion that adds new information to the tree is appended to a log file. Each log record is protected by a
+ * CRC-32 checksum, so that incomplete records (e.g., due to a crash while writing) are detected and discarded when the
+ * cache is {@link #open(Path, Alphabet, Function, Function) re-opened}. Periodically (and on request via
+ * {@link #snapshot()}), the complete trie is written to a snapshot file and the log is restarted. Snapshots are
+ * memory-mapped and bulk-copied when re-opening the cache, so only the inserts since the last snapshot need to be
+ * replayed. Snapshots and new logs are first written to temporary files which are then atomically moved to their
+ * final location, so that a crash at any point leaves a consistent state on the disk.
+ * <p>
+ * Input symbols are stored by their index in the input alphabet. Hence, the cache needs to be re-opened with an
+ * alphabet that (at least) contains the same symbols in the same order. Output symbols are stored via the given
+ * (de-)serialization functions, where each distinct output symbol is serialized only once per file.
+ * <p>
+ * Appended records are buffered. Only {@link #flush() flushing} (and {@link #close() closing}) the builder guarantees
+ * that all previous insertions are written to the disk.
+ *
+ * @param <I>
+ *         input symbol class
+ * @param <O>
+ *         output symbol class
+ */
+public class PersistentIncrementalMealyTreeBuilder<I, O> extends CompactIncrementalMealyTreeBuilder<I, O>
+        implements Closeable, Flushable {
+
+    /**
+     * The default number of logged insertions after which a new snapshot is created.
+     */
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 100_000;
+
+    static final String SNAPSHOT_FILE = "snapshot.bin";
+    static final String LOG_FILE = "inserts.log";
+
+    private static final String TMP_SUFFIX = ".tmp";
+
+    private static final int SNAPSHOT_MAGIC = 0x414C5353; // "ALSS"
+    private static final int LOG_MAGIC = 0x414C4C47; // "ALLG"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 2 * Integer.BYTES + Long.BYTES;
+
+    private static final byte OUTPUT_RECORD = 1;
+    private static final byte WORD_RECORD = 2;
+    private static final int NULL_OUTPUT = -1;
+
+    private final Path directory;
+    private final Function<? super O, String> serializer;
+    private final int snapshotInterval;
+
+    // the output symbols of the current log file and their codes
+    private final Map<@Nullable O, Integer> outputCodes;
+    private final CRC32 crc;
+    private final RecordBuffer record;
+
+    private long generation;
+    private int numLoggedWords;
+    private DataOutputStream log;
+    private FileChannel logChannel;
+
+    @SuppressWarnings("initialization") // log and logChannel are initialized by openLog() in open()
+    private PersistentIncrementalMealyTreeBuilder(Path directory,
+                                                  Alphabet<I> inputAlphabet,
+                                                  CompactTrie<O> trie,
+                                                  long generation,
+                                                  Function<? super O, String> serializer,
+                                                  int snapshotInterval) {
+        super(inputAlphabet, trie);
+        this.directory = directory;
+        this.serializer = serializer;
+        this.snapshotInterval = snapshotInterval;
+        this.generation = generation;
+        this.outputCodes = new HashMap<>();
+        this.crc = new CRC32();
+        this.record = new RecordBuffer();
+    }
+
+    /**
+     * Opens the cache stored in the given directory, using the {@link #DEFAULT_SNAPSHOT_INTERVAL default snapshot
+     * interval}. If the directory does not contain any cache, an empty cache is created.
+     *
+     * @param directory
+     *         the directory of the cache
+     * @param inputAlphabet
+     *         the input alphabet
+     * @param serializer
+     *         the function for serializing output symbols
+     * @param deserializer
+     *         the function for deserializing output symbols
+     * @param <I>
+     *         input symbol class
+     * @param <O>
+     *         output symbol class
+     *
+     * @return the (restored) cache
+     *
+     * @throws IOException
+     *         if the files of the cache cannot be read or written
+     */
+    public static <I, O> PersistentIncrementalMealyTreeBuilder<I, O> open(Path directory,
+                                                                          Alphabet<I> inputAlphabet,
+                                                                          Function<? super O, String> serializer,
+                                                                          Function<String, ? extends O> deserializer)
+            throws IOException {
+        return open(directory, inputAlphabet, serializer, deserializer, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * Opens the cache stored in the given directory. If the directory does not contain any cache, an empty cache is
+     * created.
+     *
+     * @param directory
+     *         the directory of the cache
+     * @param inputAlphabet
+     *         the input alphabet
+     * @param serializer
+     *         the function for serializing output symbols
+     * @param deserializer
+     *         the function for deserializing output symbols
+     * @param snapshotInterval
+     *         the number of logged insertions after which a new snapshot is created automatically, or a non-positive
+     *         value to only create snapshots via {@link #snapshot()}
+     * @param <I>
+     *         input symbol class
+     * @param <O>
+     *         output symbol class
+     *
+     * @return the (restored) cache
+     *
+     * @throws IOException
+     *         if the files of the cache cannot be read or written, or if the snapshot is corrupt
+     */
+    public static <I, O> PersistentIncrementalMealyTreeBuilder<I, O> open(Path directory,
+                                                                          Alphabet<I> inputAlphabet,
+                                                                          Function<? super O, String> serializer,
+                                                                          Function<String, ? extends O> deserializer,
+                                                                          int snapshotInterval) throws IOException {
+        Files.createDirectories(directory);
+
+        final Path snapshotFile = directory.resolve(SNAPSHOT_FILE);
+        final CompactTrie<O> trie;
+        final long generation;
+
+        if (Files.exists(snapshotFile)) {
+            try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+                generation = readHeader(channel, SNAPSHOT_MAGIC);
+                if (generation < 0) {
+                    throw new IOException("Invalid snapshot header: " + snapshotFile);
+                }
+                trie = CompactTrie.readFrom(channel, deserializer);
+            }
+        } else {
+            trie = new CompactTrie<>(inputAlphabet.size(), null);
+            generation = 0;
+        }
+
+        final PersistentIncrementalMealyTreeBuilder<I, O> result =
+                new PersistentIncrementalMealyTreeBuilder<>(directory,
+                                                            inputAlphabet,
+                                                            trie,
+                                                            generation,
+                                                            serializer,
+                                                            snapshotInterval);
+        result.recover(deserializer);
+        return result;
+    }
+
+    @Override
+    public void insert(Word<? extends I> input, Word<? extends O> outputWord) {
+        final int oldSize = trie.size();
+
+        super.insert(input, outputWord);
+
+        // only log insertions that actually added information
+        if (trie.size() != oldSize) {
+            try {
+                appendWord(input, outputWord);
+                if (snapshotInterval > 0 && ++numLoggedWords >= snapshotInterval) {
+                    snapshot();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Writes a snapshot of the current trie and restarts the log.
+     *
+     * @throws IOException
+     *         if writing the snapshot fails
+     */
+    public void snapshot() throws IOException {
+        log.flush();
+
+        final long newGeneration = generation + 1;
+        final Path snapshotFile = directory.resolve(SNAPSHOT_FILE);
+        final Path tmpFile = directory.resolve(SNAPSHOT_FILE + TMP_SUFFIX);
+
+        try (FileChannel channel = FileChannel.open(tmpFile,
+                                                    StandardOpenOption.CREATE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING,
+                                                    StandardOpenOption.WRITE)) {
+            writeHeader(channel, SNAPSHOT_MAGIC, newGeneration);
+            trie.writeTo(channel, serializer);
+            channel.force(true);
+        }
+
+        // if we crash after this move, the outdated log is detected by its generation
+        Files.move(tmpFile, snapshotFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        log.close();
+        generation = newGeneration;
+        createLog();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        log.flush();
+        logChannel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        log.close();
+    }
+
+    private void recover(Function<String, ? extends O> deserializer) throws IOException {
+        final Path logFile = directory.resolve(LOG_FILE);
+        final long validLength = Files.exists(logFile) ? replay(logFile, deserializer) : -1;
+
+        if (validLength < 0) {
+            createLog();
+        } else {
+            // discard incomplete records of a previous crash
+            try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.WRITE)) {
+                channel.truncate(validLength);
+            }
+            openLog(logFile);
+        }
+    }
+
+    /**
+     * Replays the given log file on the current trie.
+     *
+     * @return the length of the valid prefix of the log, or {@code -1} if the log does not belong to the current
+     * snapshot
+     */
+    private long replay(Path logFile, Function<String, ? extends O> deserializer) throws IOException {
+        final List<@Nullable O> outputs = new ArrayList<>();
+
+        try (InputStream is = Files.newInputStream(logFile);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(is))) {
+
+            final byte[] header = new byte[HEADER_BYTES];
+            try {
+                in.readFully(header);
+            } catch (EOFException e) {
+                return -1;
+            }
+
+            final ByteBuffer headerBuffer = ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN);
+            if (headerBuffer.getInt() != LOG_MAGIC || headerBuffer.getInt() != VERSION ||
+                headerBuffer.getLong() != generation) {
+                return -1;
+            }
+
+            final long fileLength = Files.size(logFile);
+            long validLength = HEADER_BYTES;
+            byte[] data = new byte[0];
+
+            while (true) {
+                final int length;
+                final int checksum;
+                try {
+                    length = in.readInt();
+                    // a corrupted length must not cause a (huge) allocation, so treat it like a torn record
+                    if (length <= 0 || length > fileLength - validLength - 2 * Integer.BYTES) {
+                        break;
+                    }
+                    if (data.length < length) {
+                        data = new byte[length];
+                    }
+                    in.readFully(data, 0, length);
+                    checksum = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+
+                crc.reset();
+                crc.update(data, 0, length);
+                if (checksum != (int) crc.getValue()) {
+                    break;
+                }
+
+                final ByteBuffer payload = ByteBuffer.wrap(data, 0, length).order(ByteOrder.LITTLE_ENDIAN);
+                final byte type = payload.get();
+
+                if (type == OUTPUT_RECORD) {
+                    final int strLength = payload.getInt();
+                    final O output;
+                    if (strLength == NULL_OUTPUT) {
+                        output = null;
+                    } else {
+                        output = deserializer.apply(new String(data,
+                                                               payload.position(),
+                                                               strLength,
+                                                               StandardCharsets.UTF_8));
+                    }
+                    outputs.add(output);
+                    outputCodes.put(output, outputCodes.size());
+                } else if (type == WORD_RECORD) {
+                    replayWord(payload, outputs);
+                    numLoggedWords++;
+                } else {
+                    throw new IOException("Unknown record type: " + type);
+                }
+
+                validLength += 2 * Integer.BYTES + length;
+            }
+
+            return validLength;
+        }
+    }
+
+    private void replayWord(ByteBuffer payload, List<@Nullable O> outputs) throws IOException {
+        final int length = payload.getInt();
+        final int alphabetSize = inputAlphabet.size();
+        final int outputOffset = payload.position() + length * Integer.BYTES;
+
+        int curr = CompactTrie.ROOT;
+        for (int i = 0; i < length; i++) {
+            final int symIdx = payload.getInt();
+            final int code = payload.getInt(outputOffset + i * Integer.BYTES);
+
+            if (symIdx < 0 || symIdx >= alphabetSize || code < 0 || code >= outputs.size()) {
+                throw new IOException("The log does not match the given input alphabet");
+            }
+
+            final O out = outputs.get(code);
+            int succ = trie.getChild(curr, symIdx);
+            if (succ == CompactTrie.NO_NODE) {
+                succ = trie.addChild(curr, symIdx, out);
+            } else if (!Objects.equals(out, trie.getProperty(succ))) {
+                throw new IOException("The log conflicts with the snapshot");
+            }
+            curr = succ;
+        }
+    }
+
+    private void appendWord(Word<? extends I> input, Word<? extends O> outputWord) throws IOException {
+        final int length = input.length();
+        final int[] codes = new int[length];
+
+        for (int i = 0; i < length; i++) {
+            codes[i] = getOutputCode(outputWord.getSymbol(i));
+        }
+
+        record.begin(WORD_RECORD);
+        record.putInt(length);
+        for (int i = 0; i < length; i++) {
+            record.putInt(inputAlphabet.getSymbolIndex(input.getSymbol(i)));
+        }
+        for (int code : codes) {
+            record.putInt(code);
+        }
+        writeRecord();
+    }
+
+    private int getOutputCode(@Nullable O output) throws IOException {
+        final Integer code = outputCodes.get(output);
+
+        if (code != null) {
+            return code;
+        }
+
+        record.begin(OUTPUT_RECORD);
+        if (output == null) {
+            record.putInt(NULL_OUTPUT);
+        } else {
+            final byte[] bytes = serializer.apply(output).getBytes(StandardCharsets.UTF_8);
+            record.putInt(bytes.length);
+            record.putBytes(bytes);
+        }
+        writeRecord();
+
+        final int newCode = outputCodes.size();
+        outputCodes.put(output, newCode);
+        return newCode;
+    }
+
+    private void writeRecord() throws IOException {
+        crc.reset();
+        crc.update(record.data, 0, record.length);
+
+        log.writeInt(record.length);
+        log.write(record.data, 0, record.length);
+        log.writeInt((int) crc.getValue());
+    }
+
+    private void createLog() throws IOException {
+        final Path logFile = directory.resolve(LOG_FILE);
+        final Path tmpFile = directory.resolve(LOG_FILE + TMP_SUFFIX);
+
+        try (FileChannel channel = FileChannel.open(tmpFile,
+                                                    StandardOpenOption.CREATE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING,
+                                                    StandardOpenOption.WRITE)) {
+            writeHeader(channel, LOG_MAGIC, generation);
+            channel.force(true);
+        }
+
+        Files.move(tmpFile, logFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        outputCodes.clear();
+        numLoggedWords = 0;
+        openLog(logFile);
+    }
+
+    private void openLog(Path logFile) throws IOException {
+        final FileOutputStream fos = new FileOutputStream(logFile.toFile(), true);
+        this.logChannel = fos.getChannel();
+        this.log = new DataOutputStream(new BufferedOutputStream(fos));
+    }
+
+    private static void writeHeader(FileChannel channel, int magic, long generation) throws IOException {
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(magic).putInt(VERSION).putLong(generation).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+    }
+
+    /**
+     * Reads the header of the given channel.
+     *
+     * @return the generation stored in the header, or {@code -1} if the header is invalid
+     */
+    private static long readHeader(FileChannel channel, int magic) throws IOException {
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining()) {
+            if (channel.read(header) < 0) {
+                return -1;
+            }
+        }
+        header.flip();
+
+        if (header.getInt() != magic || header.getInt() != VERSION) {
+            return -1;
+        }
+
+        return header.getLong();
+    }
+
+    /**
+     * A growable buffer for the payload of a single log record.
+     */
+    private static final class RecordBuffer {
+
+        private byte[] data = new byte[64];
+        private int length;
+
+        void begin(byte type) {
+            length = 0;
+            ensureCapacity(1);
+            data[length++] = type;
+        }
+
+        void putInt(int value) {
+            ensureCapacity(Integer.BYTES);
+            data[length++] = (byte) value;
+            data[length++] = (byte) (value >>> 8);
+            data[length++] = (byte) (value >>> 16);
+            data[length++] = (byte) (value >>> 24);
+        }
+
+        void putBytes(byte[] bytes) {
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, data, length, bytes.length);
+            length += bytes.length;
+        }
+
+        private void ensureCapacity(int additional) {
+            if (length + additional > data.length) {
+                data = Arrays.copyOf(data, Math.max(2 * data.length, length + additional));
+            }
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.moore.tree;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.graph.TransitionEdge;
+import net.automatalib.automaton.transducer.MooreMachine;
+import net.automatalib.automaton.transducer.MooreMachine.MooreGraphView;
+import net.automatalib.automaton.visualization.MooreVisualizationHelper;
+import net.automatalib.common.util.collection.IteratorUtil;
+import net.automatalib.common.util.mapping.MapMapping;
+import net.automatalib.common.util.mapping.MutableMapping;
+import net.automatalib.graph.Graph;
+import net.automatalib.incremental.CompactTrie;
+import net.automatalib.incremental.CompactTrieDFS;
+import net.automatalib.incremental.ConflictException;
+import net.automatalib.incremental.moore.IncrementalMooreBuilder;
+import net.automatalib.ts.output.MooreTransitionSystem;
+import net.automatalib.util.ts.traversal.TSTraversal;
+import net.automatalib.visualization.VisualizationHelper;
+import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A variation of the normal {@link IncrementalMooreTreeBuilder} which stores its tree in a {@link CompactTrie}. Each
+ * tree node requires only four {@code int}s (plus its share of a dense child table, if it has many successors) and
+ * each distinct output symbol is stored only once. This significantly reduces the memory consumption of large caches.
+ * <p>
+ * The states (and transitions) of the {@link #asTransitionSystem() transition system view} are the integer identifiers
+ * of the tree nodes, where each transition is identified with its target node.
+ *
+ * @param <I>
+ *         input symbol class
+ * @param <O>
+ *         output symbol class
+ */
+public class CompactIncrementalMooreTreeBuilder<I, O> implements IncrementalMooreBuilder<I, O> {
+
+    private final Alphabet<I> alphabet;
+    private int alphabetSize;
+    private @Nullable CompactTrie<O> trie;
+
+    public CompactIncrementalMooreTreeBuilder(Alphabet<I> alphabet) {
+        this.alphabet = alphabet;
+        this.alphabetSize = alphabet.size();
+    }
+
+    @Override
+    public void addAlphabetSymbol(I symbol) {
+        if (!this.alphabet.containsSymbol(symbol)) {
+            this.alphabet.asGrowingAlphabetOrThrowException().addSymbol(symbol);
+        }
+
+        alphabetSize = this.alphabet.size();
+
+        // the trie only needs to know the new size for future dense tables
+        if (trie != null) {
+            trie.ensureInputCapacity(alphabetSize);
+        }
+    }
+
+    @Override
+    public @Nullable Word<I> findSeparatingWord(MooreMachine<?, I, ?, O> target,
+                                                Collection<? extends I> inputs,
+                                                boolean omitUndefined) {
+        return doFindSeparatingWord(target, inputs, omitUndefined);
+    }
+
+    private <S, T> @Nullable Word<I> doFindSeparatingWord(MooreMachine<S, I, T, O> target,
+                                                          Collection<? extends I> inputs,
+                                                          boolean omitUndefined) {
+        final CompactTrie<O> trie = this.trie;
+        S init2 = target.getInitialState();
+
+        if (trie == null && init2 == null) {
+            return null;
+        } else if (trie == null || init2 == null) {
+            return omitUndefined ? null : Word.epsilon();
+        }
+
+        if (!Objects.equals(trie.getProperty(CompactTrie.ROOT), target.getStateOutput(init2))) {
+            return Word.epsilon();
+        }
+
+        final CompactTrieDFS<@Nullable S, I> dfs = new CompactTrieDFS<>(trie, alphabet, inputs, init2);
+
+        while (dfs.advance()) {
+            @Nullable S state = dfs.getState();
+            @Nullable S automatonSucc = state == null ? null : target.getSuccessor(state, dfs.getInput());
+            if (automatonSucc == null && omitUndefined) {
+                continue;
+            }
+
+            if (automatonSucc == null ||
+                !Objects.equals(target.getStateOutput(automatonSucc), trie.getProperty(dfs.getNode()))) {
+                return dfs.getWord();
+            }
+
+            dfs.descend(automatonSucc);
+        }
+
+        return null;
+    }
+
+    @Override
+    public boolean lookup(Word<? extends I> inputWord, List<? super O> output) {
+        final CompactTrie<O> trie = this.trie;
+
+        if (trie == null) {
+            return false;
+        }
+
+        int curr = CompactTrie.ROOT;
+        output.add(trie.getProperty(curr));
+
+        for (I sym : inputWord) {
+            int symIdx = alphabet.getSymbolIndex(sym);
+            int succ = trie.getChild(curr, symIdx);
+            if (succ == CompactTrie.NO_NODE) {
+                return false;
+            }
+            output.add(trie.getProperty(succ));
+            curr = succ;
+        }
+        return true;
+    }
+
+    @Override
+    public void insert(Word<? extends I> word, Word<? extends O> output) {
+        assert word.size() + 1 == output.size();
+
+        final Iterator<? extends O> outIter = output.iterator();
+        final O rootOut = outIter.next();
+
+        CompactTrie<O> trie = this.trie;
+
+        if (trie == null) {
+            trie = new CompactTrie<>(alphabetSize, rootOut);
+            this.trie = trie;
+        }
+
+        int curr = CompactTrie.ROOT;
+        for (I sym : word) {
+            int inputIdx = alphabet.getSymbolIndex(sym);
+            int succ = trie.getChild(curr, inputIdx);
+            if (succ == CompactTrie.NO_NODE) {
+                succ = trie.addChild(curr, inputIdx, outIter.next());
+            } else if (!Objects.equals(trie.getProperty(succ), outIter.next())) {
+                throw new ConflictException();
+            }
+            curr = succ;
+        }
+    }
+
+    @Override
+    public MooreTransitionSystem<?, I, ?, O> asTransitionSystem() {
+        return new TransitionSystemView();
+    }
+
+    @Override
+    public Graph<?, ?> asGraph() {
+        return new MooreGraphView<Integer, I, Integer, O, TransitionSystemView>(new TransitionSystemView(), alphabet) {
+
+            @Override
+            public VisualizationHelper<Integer, TransitionEdge<I, Integer>> getVisualizationHelper() {
+                return new MooreVisualizationHelper<Integer, I, Integer, O>(automaton) {
+
+                    @Override
+                    public boolean getNodeProperties(Integer node, Map<String, String> properties) {
+                        super.getNodeProperties(node, properties);
+                        properties.put(NodeAttrs.LABEL, String.valueOf(automaton.getStateOutput(node)));
+                        return true;
+                    }
+                };
+            }
+        };
+    }
+
+    private final class TransitionSystemView implements MooreMachine<Integer, I, Integer, O> {
+
+        @Override
+        public @Nullable Integer getInitialState() {
+            return trie == null ? null : CompactTrie.ROOT;
+        }
+
+        @Override
+        @SuppressWarnings("nullness") // states only exist if the trie exists
+        public O getStateOutput(Integer state) {
+            return trie.getProperty(state);
+        }
+
+        @Override
+        @SuppressWarnings("nullness") // states only exist if the trie exists
+        public @Nullable Integer getTransition(Integer state, I input) {
+            final int succ = trie.getChild(state, alphabet.getSymbolIndex(input));
+            return succ == CompactTrie.NO_NODE ? null : succ;
+        }
+
+        @Override
+        public Integer getSuccessor(Integer transition) {
+            return transition;
+        }
+
+        @Override
+        public Collection<Integer> getStates() {
+            return IteratorUtil.list(TSTraversal.breadthFirstIterator(this, alphabet));
+        }
+
+        /*
+         * We need to override the default MooreMachine mapping, because its StateIDStaticMapping class requires our
+         * nodeIDs, which requires our states, which requires our nodeIDs, which requires ... infinite loop!
+         */
+        @Override
+        public <@Nullable V> MutableMapping<Integer, V> createStaticStateMapping() {
+            return new MapMapping<>();
+        }
+    }
+}
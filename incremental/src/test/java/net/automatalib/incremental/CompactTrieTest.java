@@ -0,0 +1,222 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class CompactTrieTest {
+
+    @Test
+    public void testSparseChildren() {
+        final CompactTrie<String> trie = new CompactTrie<>(100, "root");
+
+        final int c5 = trie.addChild(CompactTrie.ROOT, 5, "a");
+        final int c1 = trie.addChild(CompactTrie.ROOT, 1, "b");
+        final int c3 = trie.addChild(CompactTrie.ROOT, 3, "a");
+
+        Assert.assertEquals(trie.getChild(CompactTrie.ROOT, 1), c1);
+        Assert.assertEquals(trie.getChild(CompactTrie.ROOT, 3), c3);
+        Assert.assertEquals(trie.getChild(CompactTrie.ROOT, 5), c5);
+        Assert.assertEquals(trie.getChild(CompactTrie.ROOT, 0), CompactTrie.NO_NODE);
+        Assert.assertEquals(trie.getChild(CompactTrie.ROOT, 4), CompactTrie.NO_NODE);
+        Assert.assertEquals(trie.getChild(CompactTrie.ROOT, 99), CompactTrie.NO_NODE);
+        Assert.assertEquals(trie.getChild(c1, 1), CompactTrie.NO_NODE);
+
+        Assert.assertEquals(trie.getProperty(CompactTrie.ROOT), "root");
+        Assert.assertEquals(trie.getProperty(c1), "b");
+        Assert.assertEquals(trie.getProperty(c3), "a");
+        Assert.assertEquals(trie.getProperty(c5), "a");
+
+        Assert.assertEquals(trie.size(), 4);
+        Assert.assertEquals(trie.getNumProperties(), 3);
+
+        trie.setProperty(c1, null);
+        Assert.assertNull(trie.getProperty(c1));
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> trie.addChild(CompactTrie.ROOT, 3, "c"));
+    }
+
+    @Test
+    public void testDenseChildren() {
+        final int alphabetSize = 4 * CompactTrie.DENSE_THRESHOLD;
+        final CompactTrie<Integer> trie = new CompactTrie<>(alphabetSize, null);
+        final Map<Integer, Integer> children = new HashMap<>();
+
+        // add more children than the threshold (in reverse order) to trigger the conversion
+        for (int i = alphabetSize - 1; i >= 0; i -= 2) {
+            children.put(i, trie.addChild(CompactTrie.ROOT, i, i));
+        }
+
+        for (int i = 0; i < alphabetSize; i++) {
+            final int child = trie.getChild(CompactTrie.ROOT, i);
+            if (children.containsKey(i)) {
+                Assert.assertEquals(child, children.get(i).intValue());
+                Assert.assertEquals(trie.getProperty(child), Integer.valueOf(i));
+            } else {
+                Assert.assertEquals(child, CompactTrie.NO_NODE);
+            }
+        }
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> trie.addChild(CompactTrie.ROOT, 1, 1));
+
+        // dense tables are extended lazily
+        trie.ensureInputCapacity(alphabetSize + 10);
+        Assert.assertEquals(trie.getChild(CompactTrie.ROOT, alphabetSize + 5), CompactTrie.NO_NODE);
+
+        final int newChild = trie.addChild(CompactTrie.ROOT, alphabetSize + 5, -1);
+        Assert.assertEquals(trie.getChild(CompactTrie.ROOT, alphabetSize + 5), newChild);
+        Assert.assertEquals(trie.getChild(CompactTrie.ROOT, alphabetSize + 4), CompactTrie.NO_NODE);
+        Assert.assertEquals(trie.getChild(CompactTrie.ROOT, alphabetSize - 1),
+                            children.get(alphabetSize - 1).intValue());
+    }
+
+    @Test
+    public void testRandomTrie() {
+        final Random random = new Random(42);
+        final int alphabetSize = 20;
+        final CompactTrie<Integer> trie = new CompactTrie<>(alphabetSize, 0);
+        final Map<Long, Integer> reference = new HashMap<>();
+
+        for (int i = 0; i < 10000; i++) {
+            final int node = random.nextInt(trie.size());
+            final int sym = random.nextInt(alphabetSize);
+            final long key = (long) node * alphabetSize + sym;
+
+            if (!reference.containsKey(key)) {
+                Assert.assertEquals(trie.getChild(node, sym), CompactTrie.NO_NODE);
+                reference.put(key, trie.addChild(node, sym, sym % 3));
+            }
+        }
+
+        for (int node = 0; node < trie.size(); node++) {
+            for (int sym = 0; sym < alphabetSize; sym++) {
+                final Integer expected = reference.get((long) node * alphabetSize + sym);
+                final int actual = trie.getChild(node, sym);
+                Assert.assertEquals(actual, expected == null ? CompactTrie.NO_NODE : expected.intValue());
+                if (expected != null) {
+                    Assert.assertEquals(trie.getProperty(actual), Integer.valueOf(sym % 3));
+                }
+            }
+        }
+
+        Assert.assertEquals(trie.getNumProperties(), 3);
+    }
+
+    @Test
+    public void testWriteAndRead() throws IOException {
+        final Random random = new Random(42);
+        final int alphabetSize = 20;
+        final CompactTrie<String> trie = new CompactTrie<>(alphabetSize, null);
+
+        for (int i = 0; i < 5000; i++) {
+            final int node = random.nextInt(trie.size());
+            final int sym = random.nextInt(alphabetSize);
+            if (trie.getChild(node, sym) == CompactTrie.NO_NODE) {
+                trie.addChild(node, sym, "p" + (sym % 4));
+            }
+        }
+
+        final Path file = Files.createTempFile("trie", ".bin");
+
+        try {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                trie.writeTo(channel, s -> s);
+            }
+
+            final CompactTrie<String> copy;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                copy = CompactTrie.readFrom(channel, s -> s);
+                Assert.assertEquals(channel.position(), channel.size());
+            }
+
+            Assert.assertEquals(copy.size(), trie.size());
+            Assert.assertEquals(copy.getNumProperties(), trie.getNumProperties());
+
+            for (int node = 0; node < trie.size(); node++) {
+                Assert.assertEquals(copy.getProperty(node), trie.getProperty(node));
+                for (int sym = 0; sym < alphabetSize; sym++) {
+                    Assert.assertEquals(copy.getChild(node, sym), trie.getChild(node, sym));
+                }
+            }
+
+            // the copy remains modifiable
+            final int child = copy.addChild(copy.size() - 1, 0, "p0");
+            Assert.assertEquals(copy.getChild(copy.size() - 2, 0), child);
+            Assert.assertEquals(copy.getNumProperties(), trie.getNumProperties());
+
+            // corrupt data is detected
+            final byte[] data = Files.readAllBytes(file);
+            data[data.length / 3] ^= 1;
+            Files.write(file, data);
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                Assert.assertThrows(IOException.class, () -> CompactTrie.readFrom(channel, s -> s));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testCorruptLengths() throws IOException {
+        final CompactTrie<String> trie = new CompactTrie<>(4, null);
+        trie.addChild(trie.addChild(0, 1, "a"), 2, "b");
+
+        final Path file = Files.createTempFile("trie", ".bin");
+
+        try {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                trie.writeTo(channel, s -> s);
+            }
+
+            final byte[] data = Files.readAllBytes(file);
+
+            // a node count that would require allocating several GB
+            final byte[] hugeSize = data.clone();
+            ByteBuffer.wrap(hugeSize).order(ByteOrder.LITTLE_ENDIAN).putInt(0, Integer.MAX_VALUE);
+            Files.write(file, hugeSize);
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                Assert.assertThrows(IOException.class, () -> CompactTrie.readFrom(channel, s -> s));
+            }
+
+            // a property length that exceeds the file (the last property is followed by the checksum only)
+            final byte[] hugeProperty = data.clone();
+            ByteBuffer.wrap(hugeProperty)
+                      .order(ByteOrder.LITTLE_ENDIAN)
+                      .putInt(data.length - 2 * Integer.BYTES - 1, Integer.MAX_VALUE - 1);
+            Files.write(file, hugeProperty);
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                Assert.assertThrows(IOException.class, () -> CompactTrie.readFrom(channel, s -> s));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
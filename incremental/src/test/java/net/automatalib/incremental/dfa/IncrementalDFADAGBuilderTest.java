@@ -16,15 +16,23 @@
 package net.automatalib.incremental.dfa;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.common.util.Pair;
+import net.automatalib.common.util.comparison.CmpUtil;
+import net.automatalib.incremental.ConflictException;
 import net.automatalib.incremental.IntegrationUtil;
 import net.automatalib.incremental.IntegrationUtil.ParsedTraces;
 import net.automatalib.incremental.dfa.dag.IncrementalDFADAGBuilder;
 import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -84,6 +92,95 @@ public class IncrementalDFADAGBuilderTest extends AbstractIncrementalDFABuilderT
         validateTraces("/learnlib76/dfa.gz");
     }
 
+    @Test
+    public void testInsertAll() {
+        final Alphabet<Character> alphabet = Alphabets.characters('a', 'c');
+        final Random random = new Random(42);
+
+        final List<Word<Character>> accepted = new ArrayList<>();
+        final List<Word<Character>> rejected = new ArrayList<>();
+
+        for (int i = 0; i < 500; i++) {
+            final Word<Character> word = randomWord(random, alphabet);
+            // keep the sets disjoint
+            if (word.length() % 2 == 0) {
+                accepted.add(word);
+            } else {
+                rejected.add(word);
+            }
+        }
+
+        final IncrementalDFADAGBuilder<Character> single = new IncrementalDFADAGBuilder<>(alphabet);
+        final IncrementalDFADAGBuilder<Character> batch = new IncrementalDFADAGBuilder<>(alphabet);
+
+        // some unsorted pre-existing information
+        for (Word<Character> w : accepted.subList(0, 50)) {
+            single.insert(w, true);
+            batch.insert(w, true);
+        }
+
+        final Comparator<Word<Character>> lexOrder = CmpUtil.lexComparator();
+        accepted.sort(lexOrder);
+        rejected.sort(lexOrder);
+
+        for (Word<Character> w : accepted) {
+            single.insert(w, true);
+        }
+        for (Word<Character> w : rejected) {
+            single.insert(w, false);
+        }
+        batch.insertAll(accepted, true);
+        batch.insertAll(rejected, false);
+
+        // unsorted batches work as well
+        final List<Word<Character>> shuffled = new ArrayList<>(accepted.subList(0, 100));
+        Collections.shuffle(shuffled, random);
+        batch.insertAll(shuffled, true);
+
+        for (int i = 0; i < 1000; i++) {
+            final Word<Character> word = randomWord(random, alphabet);
+            Assert.assertEquals(batch.lookup(word), single.lookup(word));
+        }
+        for (Word<Character> w : accepted) {
+            Assert.assertEquals(batch.lookup(w), Acceptance.TRUE);
+        }
+        for (Word<Character> w : rejected) {
+            Assert.assertEquals(batch.lookup(w), Acceptance.FALSE);
+        }
+
+        Assert.assertEquals(batch.asGraph().size(), single.asGraph().size());
+    }
+
+    @Test
+    public void testInsertAllConflict() {
+        final Alphabet<Character> alphabet = Alphabets.characters('a', 'c');
+        final IncrementalDFADAGBuilder<Character> builder = new IncrementalDFADAGBuilder<>(alphabet);
+
+        builder.insert(Word.fromString("abc"), false);
+
+        final List<Word<Character>> words =
+                Arrays.asList(Word.fromString("ab"), Word.fromString("abc"), Word.fromString("b"));
+
+        Assert.assertThrows(ConflictException.class, () -> builder.insertAll(words, true));
+
+        Assert.assertEquals(builder.lookup(Word.fromString("ab")), Acceptance.TRUE);
+        Assert.assertEquals(builder.lookup(Word.fromString("abc")), Acceptance.FALSE);
+        Assert.assertEquals(builder.lookup(Word.fromString("b")), Acceptance.DONT_KNOW);
+
+        // the builder remains usable
+        builder.insertAll(Collections.singletonList(Word.fromString("b")), true);
+        Assert.assertEquals(builder.lookup(Word.fromString("b")), Acceptance.TRUE);
+    }
+
+    private static Word<Character> randomWord(Random random, Alphabet<Character> alphabet) {
+        final int length = random.nextInt(12);
+        final WordBuilder<Character> wb = new WordBuilder<>(length);
+        for (int i = 0; i < length; i++) {
+            wb.append(alphabet.getSymbol(random.nextInt(alphabet.size())));
+        }
+        return wb.toWord();
+    }
+
     private void validateTraces(String pathToTraces) throws IOException {
         final ParsedTraces<Integer, Boolean> parsedData = IntegrationUtil.parseDFATraces(pathToTraces);
         final Alphabet<Integer> alphabet = parsedData.alphabet;
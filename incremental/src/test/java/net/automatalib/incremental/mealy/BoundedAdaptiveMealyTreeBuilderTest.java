@@ -0,0 +1,225 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.mealy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.incremental.mealy.tree.AdaptiveMealyTreeBuilder;
+import net.automatalib.incremental.mealy.tree.BoundedAdaptiveMealyTreeBuilder;
+import net.automatalib.incremental.mealy.tree.BoundedAdaptiveMealyTreeBuilder.EvictionPolicy;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class BoundedAdaptiveMealyTreeBuilderTest {
+
+    private static final Alphabet<Character> TEST_ALPHABET = Alphabets.characters('a', 'c');
+
+    @Test
+    public void testAges() {
+        final BoundedAdaptiveMealyTreeBuilder<Character, Character> builder =
+                new BoundedAdaptiveMealyTreeBuilder<>(TEST_ALPHABET, 100, EvictionPolicy.LRU);
+
+        final Word<Character> w1 = Word.fromString("abc");
+        final Word<Character> w2 = Word.fromString("ac");
+        final Word<Character> w3 = Word.fromString("acb");
+
+        Assert.assertNull(builder.getOldestInput());
+
+        Assert.assertFalse(builder.insert(w2, Word.fromString("xyz")));
+        Assert.assertFalse(builder.insert(w1, Word.fromString("xwu")));
+        Assert.assertTrue(builder.insert(w1, Word.fromString("xyz")));
+        Assert.assertTrue(builder.insert(w2, Word.fromString("xw")));
+        Assert.assertFalse(builder.insert(w3, Word.fromString("xwu")));
+
+        Assert.assertEquals(builder.getOldestInput(), w1);
+        builder.insert(w1, Word.fromString("xyz"));
+        Assert.assertEquals(builder.getOldestInput(), w2);
+        builder.insert(w2, Word.fromString("xw"));
+        Assert.assertEquals(builder.getOldestInput(), w3);
+
+        Assert.assertEquals(builder.getNumNodes(), 5L);
+        Assert.assertEquals(builder.getEvictions(), 0L);
+    }
+
+    @Test
+    public void testLRU() {
+        final BoundedAdaptiveMealyTreeBuilder<Character, Character> builder = prepareEviction(EvictionPolicy.LRU);
+
+        // "aa" has been used less recently than "bb"
+        Assert.assertEquals(builder.getNumNodes(), 4L);
+        Assert.assertEquals(builder.getEvictions(), 2L);
+        Assert.assertFalse(builder.hasDefinitiveInformation(Word.fromString("a")));
+        Assert.assertTrue(builder.hasDefinitiveInformation(Word.fromString("bb")));
+        Assert.assertTrue(builder.hasDefinitiveInformation(Word.fromString("cc")));
+        Assert.assertEquals(builder.getOldestInput(), Word.fromString("bb"));
+    }
+
+    @Test
+    public void testLFU() {
+        final BoundedAdaptiveMealyTreeBuilder<Character, Character> builder = prepareEviction(EvictionPolicy.LFU);
+
+        // "bb" has been used less frequently than "aa"
+        Assert.assertEquals(builder.getNumNodes(), 4L);
+        Assert.assertEquals(builder.getEvictions(), 2L);
+        Assert.assertTrue(builder.hasDefinitiveInformation(Word.fromString("aa")));
+        Assert.assertFalse(builder.hasDefinitiveInformation(Word.fromString("b")));
+        Assert.assertTrue(builder.hasDefinitiveInformation(Word.fromString("cc")));
+        Assert.assertEquals(builder.getOldestInput(), Word.fromString("aa"));
+    }
+
+    private static BoundedAdaptiveMealyTreeBuilder<Character, Character> prepareEviction(EvictionPolicy policy) {
+        final BoundedAdaptiveMealyTreeBuilder<Character, Character> builder =
+                new BoundedAdaptiveMealyTreeBuilder<>(TEST_ALPHABET, 4, policy);
+
+        builder.insert(Word.fromString("aa"), Word.fromString("xx"));
+        builder.insert(Word.fromString("bb"), Word.fromString("yy"));
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(builder.hasDefinitiveInformation(Word.fromString("aa")));
+        }
+        Assert.assertTrue(builder.hasDefinitiveInformation(Word.fromString("bb")));
+        Assert.assertEquals(builder.getEvictions(), 0L);
+
+        builder.insert(Word.fromString("cc"), Word.fromString("zz"));
+        return builder;
+    }
+
+    @Test
+    public void testHotPrefixIsRetained() {
+        final BoundedAdaptiveMealyTreeBuilder<Character, Character> builder =
+                new BoundedAdaptiveMealyTreeBuilder<>(TEST_ALPHABET, 3, EvictionPolicy.LRU);
+        final WordBuilder<Character> wb = new WordBuilder<>();
+
+        builder.insert(Word.fromString("abc"), Word.fromString("xyz"));
+        Assert.assertTrue(builder.lookup(Word.fromString("ab"), wb));
+        Assert.assertEquals(wb.toWord(), Word.fromString("xy"));
+
+        builder.insert(Word.fromString("b"), Word.fromString("u"));
+
+        Assert.assertEquals(builder.getNumNodes(), 3L);
+        Assert.assertEquals(builder.getEvictions(), 1L);
+        Assert.assertTrue(builder.hasDefinitiveInformation(Word.fromString("ab")));
+        Assert.assertFalse(builder.hasDefinitiveInformation(Word.fromString("abc")));
+        Assert.assertEquals(builder.getOldestInput(), Word.fromString("b"));
+    }
+
+    @Test
+    public void testMostRecentInsertIsRetained() {
+        final BoundedAdaptiveMealyTreeBuilder<Character, Character> builder =
+                new BoundedAdaptiveMealyTreeBuilder<>(TEST_ALPHABET, 2, EvictionPolicy.LFU);
+
+        // the budget is temporarily exceeded
+        builder.insert(Word.fromString("aaaa"), Word.fromString("xxxx"));
+        Assert.assertEquals(builder.getNumNodes(), 4L);
+        Assert.assertTrue(builder.hasDefinitiveInformation(Word.fromString("aaaa")));
+
+        builder.insert(Word.fromString("b"), Word.fromString("y"));
+        Assert.assertEquals(builder.getNumNodes(), 2L);
+        Assert.assertEquals(builder.getEvictions(), 3L);
+        Assert.assertTrue(builder.hasDefinitiveInformation(Word.fromString("a")));
+        Assert.assertFalse(builder.hasDefinitiveInformation(Word.fromString("aa")));
+        Assert.assertTrue(builder.hasDefinitiveInformation(Word.fromString("b")));
+        Assert.assertEquals(builder.getOldestInput(), Word.fromString("b"));
+    }
+
+    @Test
+    public void testCounters() {
+        final BoundedAdaptiveMealyTreeBuilder<Character, Character> builder =
+                new BoundedAdaptiveMealyTreeBuilder<>(TEST_ALPHABET, 10, EvictionPolicy.LRU);
+
+        builder.insert(Word.fromString("ab"), Word.fromString("xy"));
+        Assert.assertTrue(builder.insert(Word.fromString("ab"), Word.fromString("xz")));
+        Assert.assertEquals(builder.getNumNodes(), 2L);
+
+        Assert.assertTrue(builder.hasDefinitiveInformation(Word.epsilon()));
+        Assert.assertTrue(builder.hasDefinitiveInformation(Word.fromString("ab")));
+        Assert.assertFalse(builder.hasDefinitiveInformation(Word.fromString("abc")));
+        Assert.assertFalse(builder.hasDefinitiveInformation(Word.fromString("b")));
+
+        Assert.assertEquals(builder.getHits(), 2L);
+        Assert.assertEquals(builder.getMisses(), 2L);
+        Assert.assertEquals(builder.getEvictions(), 0L);
+    }
+
+    @Test
+    public void testByteBudget() {
+        final BoundedAdaptiveMealyTreeBuilder<Character, Character> small =
+                BoundedAdaptiveMealyTreeBuilder.withByteBudget(TEST_ALPHABET, 1, EvictionPolicy.LRU);
+        final BoundedAdaptiveMealyTreeBuilder<Character, Character> large =
+                BoundedAdaptiveMealyTreeBuilder.withByteBudget(TEST_ALPHABET, 1L << 30, EvictionPolicy.LRU);
+
+        Assert.assertEquals(small.getMaxNodes(), 1L);
+        Assert.assertTrue(large.getMaxNodes() > 1_000_000);
+        Assert.assertTrue(large.getMaxNodes() < 1L << 30);
+
+        Assert.assertThrows(IllegalArgumentException.class,
+                            () -> new BoundedAdaptiveMealyTreeBuilder<>(TEST_ALPHABET, 0, EvictionPolicy.LRU));
+    }
+
+    @Test
+    public void testRandomConsistency() {
+        for (EvictionPolicy policy : EvictionPolicy.values()) {
+            final Random random = new Random(42);
+            final int budget = 50;
+            final BoundedAdaptiveMealyTreeBuilder<Character, Character> bounded =
+                    new BoundedAdaptiveMealyTreeBuilder<>(TEST_ALPHABET, budget, policy);
+            final AdaptiveMealyTreeBuilder<Character, Character> reference =
+                    new AdaptiveMealyTreeBuilder<>(TEST_ALPHABET);
+
+            for (int i = 0; i < 2000; i++) {
+                final Word<Character> input = randomWord(random, 1 + random.nextInt(8));
+
+                if (random.nextBoolean()) {
+                    // occasionally simulate non-deterministic behavior of the system
+                    final char offset = random.nextInt(10) == 0 ? 'y' : 'x';
+                    final Word<Character> output = input.transform(c -> (char) (c - 'a' + offset));
+                    bounded.insert(input, output);
+                    reference.insert(input, output);
+                    Assert.assertTrue(bounded.getNumNodes() <= budget);
+                    Assert.assertTrue(bounded.hasDefinitiveInformation(input));
+                } else {
+                    final List<Character> boundedOutput = new ArrayList<>();
+                    final List<Character> referenceOutput = new ArrayList<>();
+
+                    if (bounded.lookup(input, boundedOutput)) {
+                        Assert.assertTrue(reference.lookup(input, referenceOutput));
+                        Assert.assertEquals(boundedOutput, referenceOutput);
+                    }
+                }
+            }
+
+            Assert.assertTrue(bounded.getEvictions() > 0);
+            Assert.assertTrue(bounded.getHits() > 0);
+            Assert.assertTrue(bounded.getMisses() > 0);
+            Assert.assertEquals((long) bounded.asGraph().size(), bounded.getNumNodes() + 1);
+        }
+    }
+
+    private static Word<Character> randomWord(Random random, int length) {
+        final WordBuilder<Character> wb = new WordBuilder<>(length);
+        for (int i = 0; i < length; i++) {
+            wb.append(TEST_ALPHABET.getSymbol(random.nextInt(TEST_ALPHABET.size())));
+        }
+        return wb.toWord();
+    }
+}
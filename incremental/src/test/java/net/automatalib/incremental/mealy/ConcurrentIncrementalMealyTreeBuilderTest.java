@@ -0,0 +1,173 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.mealy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.GrowingAlphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.alphabet.impl.GrowingMapAlphabet;
+import net.automatalib.incremental.ConflictException;
+import net.automatalib.incremental.mealy.tree.ConcurrentIncrementalMealyTreeBuilder;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class ConcurrentIncrementalMealyTreeBuilderTest extends AbstractIncrementalMealyBuilderTest {
+
+    private static final int NUM_THREADS = 8;
+
+    @Override
+    protected <I, O> IncrementalMealyBuilder<I, O> createIncrementalMealyBuilder(Alphabet<I> alphabet) {
+        return new ConcurrentIncrementalMealyTreeBuilder<>(alphabet);
+    }
+
+    @Override
+    protected String getDOTResource() {
+        return "/mealy/tree.dot";
+    }
+
+    @Test
+    public void testConcurrentInsertAndLookup() throws Exception {
+        final GrowingAlphabet<Integer> alphabet = new GrowingMapAlphabet<>(Alphabets.integers(0, 1));
+        final ConcurrentIncrementalMealyTreeBuilder<Integer, Integer> builder =
+                new ConcurrentIncrementalMealyTreeBuilder<>(alphabet);
+        final Random random = new Random(42);
+
+        // pre-populate the tree with nodes that need to grow once the new symbols are used
+        for (int i = 0; i < 100; i++) {
+            final Word<Integer> input = randomWord(random, 2, 8);
+            builder.insert(input, expectedOutput(input));
+        }
+
+        builder.addAlphabetSymbol(2);
+        builder.addAlphabetSymbol(3);
+
+        final List<Word<Integer>> words = new ArrayList<>();
+        for (int i = 0; i < 4000; i++) {
+            words.add(randomWord(random, alphabet.size(), 12));
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+        final List<Future<?>> futures = new ArrayList<>(NUM_THREADS);
+
+        for (int t = 0; t < NUM_THREADS; t++) {
+            final int offset = t;
+            futures.add(executor.submit(() -> {
+                for (int i = offset; i < words.size(); i += NUM_THREADS) {
+                    final Word<Integer> input = words.get(i);
+                    builder.insert(input, expectedOutput(input));
+
+                    // look up a word that is concurrently inserted by a different thread
+                    final Word<Integer> other = words.get(words.size() - 1 - i);
+                    final Word<Integer> output = builder.lookup(other);
+                    Assert.assertEquals(output, expectedOutput(other.prefix(output.length())));
+                }
+            }));
+        }
+
+        try {
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (Word<Integer> input : words) {
+            Assert.assertTrue(builder.hasDefinitiveInformation(input));
+            Assert.assertEquals(builder.lookup(input), expectedOutput(input));
+        }
+    }
+
+    @Test
+    public void testConcurrentConflicts() throws Exception {
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, 1);
+        final Word<Integer> input = Word.fromSymbols(0, 1, 0, 1);
+        final ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+
+        try {
+            for (int i = 0; i < 50; i++) {
+                checkConflictRace(executor, alphabet, input);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void checkConflictRace(ExecutorService executor, Alphabet<Integer> alphabet, Word<Integer> input)
+            throws Exception {
+        final ConcurrentIncrementalMealyTreeBuilder<Integer, Integer> builder =
+                new ConcurrentIncrementalMealyTreeBuilder<>(alphabet);
+        final CyclicBarrier barrier = new CyclicBarrier(NUM_THREADS);
+        final List<Future<Boolean>> futures = new ArrayList<>(NUM_THREADS);
+
+        for (int t = 0; t < NUM_THREADS; t++) {
+            final Word<Integer> output = Word.fromSymbols(t, t, t, t);
+            futures.add(executor.submit(() -> {
+                barrier.await();
+                try {
+                    builder.insert(input, output);
+                    return true;
+                } catch (ConflictException ce) {
+                    return false;
+                }
+            }));
+        }
+
+        int successes = 0;
+        for (Future<Boolean> f : futures) {
+            if (f.get()) {
+                successes++;
+            }
+        }
+
+        Assert.assertEquals(successes, 1);
+        Assert.assertTrue(builder.hasDefinitiveInformation(input));
+    }
+
+    private static Word<Integer> randomWord(Random random, int alphabetSize, int maxLength) {
+        final int length = random.nextInt(maxLength + 1);
+        final WordBuilder<Integer> wb = new WordBuilder<>(length);
+
+        for (int i = 0; i < length; i++) {
+            wb.append(random.nextInt(alphabetSize));
+        }
+
+        return wb.toWord();
+    }
+
+    private static Word<Integer> expectedOutput(Word<Integer> input) {
+        final WordBuilder<Integer> wb = new WordBuilder<>(input.length());
+        int sum = 0;
+
+        for (Integer i : input) {
+            sum = (sum * 31 + i) % 7;
+            wb.append(sum);
+        }
+
+        return wb.toWord();
+    }
+}
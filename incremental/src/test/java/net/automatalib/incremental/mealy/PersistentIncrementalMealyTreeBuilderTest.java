@@ -0,0 +1,243 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.mealy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.incremental.mealy.tree.PersistentIncrementalMealyTreeBuilder;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class PersistentIncrementalMealyTreeBuilderTest {
+
+    private static final Alphabet<Integer> ALPHABET = Alphabets.integers(0, 4);
+    private static final Function<String, String> IDENTITY = Function.identity();
+
+    @Test
+    public void testReopen() throws IOException {
+        final Path dir = Files.createTempDirectory("cache");
+        final Random random = new Random(42);
+        final List<Word<Integer>> words = randomWords(random, 500);
+
+        try {
+            // use a small interval, so that the data is spread over a snapshot and the log
+            try (PersistentIncrementalMealyTreeBuilder<Integer, String> cache = open(dir, 200)) {
+                for (Word<Integer> w : words) {
+                    cache.insert(w, output(w));
+                }
+            }
+
+            try (PersistentIncrementalMealyTreeBuilder<Integer, String> cache = open(dir, 200)) {
+                checkContains(cache, words);
+
+                // continue with the restored cache
+                final List<Word<Integer>> moreWords = randomWords(random, 100);
+                for (Word<Integer> w : moreWords) {
+                    cache.insert(w, output(w));
+                }
+                cache.snapshot();
+                words.addAll(moreWords);
+            }
+
+            try (PersistentIncrementalMealyTreeBuilder<Integer, String> cache = open(dir, 0)) {
+                checkContains(cache, words);
+                Assert.assertFalse(cache.hasDefinitiveInformation(Word.fromSymbols(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0)));
+            }
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    @Test
+    public void testIncompleteLog() throws IOException {
+        final Path dir = Files.createTempDirectory("cache");
+        final Path log = dir.resolve("inserts.log");
+        final Random random = new Random(42);
+        final List<Word<Integer>> words = randomWords(random, 100);
+        final Word<Integer> lastWord = Word.fromSymbols(4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4);
+
+        try {
+            try (PersistentIncrementalMealyTreeBuilder<Integer, String> cache = open(dir, 0)) {
+                for (Word<Integer> w : words) {
+                    cache.insert(w, output(w));
+                }
+                cache.insert(lastWord, output(lastWord));
+            }
+
+            // simulate a crash while writing the last record
+            try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+                channel.truncate(channel.size() - 3);
+            }
+
+            try (PersistentIncrementalMealyTreeBuilder<Integer, String> cache = open(dir, 0)) {
+                checkContains(cache, words);
+                Assert.assertFalse(cache.hasDefinitiveInformation(lastWord));
+                cache.insert(lastWord, output(lastWord));
+            }
+
+            // the truncated record has been discarded and the new one has been appended properly
+            try (PersistentIncrementalMealyTreeBuilder<Integer, String> cache = open(dir, 0)) {
+                checkContains(cache, words);
+                Assert.assertTrue(cache.hasDefinitiveInformation(lastWord));
+            }
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    @Test
+    public void testCorruptRecordLength() throws IOException {
+        final Path dir = Files.createTempDirectory("cache");
+        final Path log = dir.resolve("inserts.log");
+        final Random random = new Random(42);
+        final List<Word<Integer>> words = randomWords(random, 100);
+
+        try {
+            try (PersistentIncrementalMealyTreeBuilder<Integer, String> cache = open(dir, 0)) {
+                for (Word<Integer> w : words) {
+                    cache.insert(w, output(w));
+                }
+            }
+
+            // simulate a garbage tail whose length field would require an allocation of almost 2GB
+            try (FileChannel channel = FileChannel.open(log, StandardOpenOption.APPEND)) {
+                channel.write(ByteBuffer.wrap(new byte[] {0x7F, (byte) 0xFF, (byte) 0xFF, (byte) 0xF0, 1, 2, 3}));
+            }
+
+            try (PersistentIncrementalMealyTreeBuilder<Integer, String> cache = open(dir, 0)) {
+                checkContains(cache, words);
+            }
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    @Test
+    public void testOutdatedLog() throws IOException {
+        final Path dir = Files.createTempDirectory("cache");
+        final Path log = dir.resolve("inserts.log");
+        final Path backup = dir.resolve("backup.log");
+        final Random random = new Random(42);
+        final List<Word<Integer>> words = randomWords(random, 100);
+        final Word<Integer> lastWord = Word.fromSymbols(4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 4);
+
+        try {
+            try (PersistentIncrementalMealyTreeBuilder<Integer, String> cache = open(dir, 0)) {
+                for (Word<Integer> w : words) {
+                    cache.insert(w, output(w));
+                }
+                cache.flush();
+                Files.copy(log, backup);
+                cache.snapshot();
+                cache.insert(lastWord, output(lastWord));
+            }
+
+            // simulate a crash after writing the snapshot but before restarting the log
+            Files.move(backup, log, StandardCopyOption.REPLACE_EXISTING);
+
+            try (PersistentIncrementalMealyTreeBuilder<Integer, String> cache = open(dir, 0)) {
+                checkContains(cache, words);
+                Assert.assertFalse(cache.hasDefinitiveInformation(lastWord));
+            }
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    @Test
+    public void testCorruptSnapshot() throws IOException {
+        final Path dir = Files.createTempDirectory("cache");
+        final Path snapshot = dir.resolve("snapshot.bin");
+
+        try {
+            try (PersistentIncrementalMealyTreeBuilder<Integer, String> cache = open(dir, 0)) {
+                for (Word<Integer> w : randomWords(new Random(42), 100)) {
+                    cache.insert(w, output(w));
+                }
+                cache.snapshot();
+            }
+
+            final byte[] data = Files.readAllBytes(snapshot);
+            data[data.length / 2] ^= 1;
+            Files.write(snapshot, data);
+
+            Assert.assertThrows(IOException.class, () -> open(dir, 0));
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    private static PersistentIncrementalMealyTreeBuilder<Integer, String> open(Path dir, int interval)
+            throws IOException {
+        return PersistentIncrementalMealyTreeBuilder.open(dir, ALPHABET, IDENTITY, IDENTITY, interval);
+    }
+
+    private static void checkContains(IncrementalMealyBuilder<Integer, String> cache, List<Word<Integer>> words) {
+        for (Word<Integer> w : words) {
+            Assert.assertTrue(cache.hasDefinitiveInformation(w));
+            Assert.assertEquals(cache.lookup(w), output(w));
+        }
+    }
+
+    private static List<Word<Integer>> randomWords(Random random, int num) {
+        final List<Word<Integer>> result = new ArrayList<>(num);
+
+        for (int i = 0; i < num; i++) {
+            final int length = random.nextInt(10);
+            final WordBuilder<Integer> wb = new WordBuilder<>(length);
+            for (int j = 0; j < length; j++) {
+                wb.append(random.nextInt(ALPHABET.size()));
+            }
+            result.add(wb.toWord());
+        }
+
+        return result;
+    }
+
+    private static Word<String> output(Word<Integer> input) {
+        final WordBuilder<String> wb = new WordBuilder<>(input.length());
+        int sum = 0;
+
+        for (Integer i : input) {
+            sum += i;
+            wb.append(sum % 2 == 0 ? "even" : "odd");
+        }
+
+        return wb.toWord();
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.incremental.mealy.tree;
+
+import java.util.Random;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.incremental.mealy.tree.BoundedAdaptiveMealyTreeBuilder.EvictionPolicy;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class BoundedAdaptiveMealyTreeBuilderEvictionQueueTest {
+
+    private static final Alphabet<Character> TEST_ALPHABET = Alphabets.characters('a', 'c');
+
+    @Test
+    public void testOverwrittenSubtreesAreDequeued() {
+        for (EvictionPolicy policy : EvictionPolicy.values()) {
+            final Random random = new Random(42);
+            // large enough to never evict, so that stale entries are never polled from the queue
+            final BoundedAdaptiveMealyTreeBuilder<Character, Character> builder =
+                    new BoundedAdaptiveMealyTreeBuilder<>(TEST_ALPHABET, 1_000_000, policy);
+
+            for (int i = 0; i < 10_000; i++) {
+                final WordBuilder<Character> input = new WordBuilder<>();
+                final WordBuilder<Character> output = new WordBuilder<>();
+
+                // every 50 insertions, the output of the first symbol changes and overwrites the complete tree
+                input.append('a');
+                output.append((i / 50) % 2 == 0 ? 'x' : 'y');
+
+                for (int j = 0; j < 6; j++) {
+                    input.append(TEST_ALPHABET.getSymbol(random.nextInt(TEST_ALPHABET.size())));
+                    output.append('z');
+                }
+
+                builder.insert(input.toWord(), output.toWord());
+
+                Assert.assertTrue(builder.getEvictionQueueSize() <= 2 * builder.getNumNodes() + 1);
+            }
+
+            Assert.assertEquals(builder.getEvictions(), 0L);
+            Assert.assertTrue(builder.hasDefinitiveInformation(Word.fromString("a")));
+        }
+    }
+}
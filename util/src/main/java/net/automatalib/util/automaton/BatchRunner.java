@@ -0,0 +1,350 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.UniversalDeterministicAutomaton.FullIntAbstraction;
+import net.automatalib.automaton.fsa.DFA;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Utility class for executing many words at once on deterministic automata. Compared to executing each word
+ * individually (e.g., via {@link DFA#accepts(Iterable)} or {@link MealyMachine#computeOutput(Iterable)}), symbols are
+ * resolved to their indices only once and the words are processed in lexicographic order, so that the states (and
+ * outputs) reached by common prefixes are computed only once, similar to a depth-first traversal of the prefix tree of
+ * the batch. The automata are accessed via their {@link FullIntAbstraction}, which for compact automata directly
+ * operates on the underlying transition arrays.
+ * <p>
+ * All methods return their results in the order of the given words. The parallel variants additionally split the
+ * (sorted) batch into chunks that are processed by the threads of a given {@link ForkJoinPool}.
+ */
+public final class BatchRunner {
+
+    private static final int SEQUENTIAL_THRESHOLD = 1024;
+
+    private BatchRunner() {
+        // prevent instantiation
+    }
+
+    /**
+     * Computes for each of the given words whether it is accepted by the given DFA.
+     *
+     * @param dfa
+     *         the DFA
+     * @param alphabet
+     *         the input alphabet used for resolving the symbols of the words
+     * @param words
+     *         the words to execute
+     * @param <I>
+     *         input symbol type
+     *
+     * @return an array whose {@code i}-th entry denotes whether the {@code i}-th word is accepted
+     */
+    public static <I> boolean[] accepts(DFA<?, I> dfa, Alphabet<I> alphabet, List<? extends Word<? extends I>> words) {
+        return accepts(dfa, alphabet, words, null);
+    }
+
+    /**
+     * Computes for each of the given words whether it is accepted by the given DFA, using the given pool for
+     * processing the batch in parallel.
+     *
+     * @param dfa
+     *         the DFA
+     * @param alphabet
+     *         the input alphabet used for resolving the symbols of the words
+     * @param words
+     *         the words to execute
+     * @param pool
+     *         the pool used for processing the batch. If {@code null}, the batch is processed sequentially
+     * @param <I>
+     *         input symbol type
+     *
+     * @return an array whose {@code i}-th entry denotes whether the {@code i}-th word is accepted
+     */
+    public static <I> boolean[] accepts(DFA<?, I> dfa,
+                                        Alphabet<I> alphabet,
+                                        List<? extends Word<? extends I>> words,
+                                        @Nullable ForkJoinPool pool) {
+        final FullIntAbstraction<?, Boolean, ?> abs = dfa.fullIntAbstraction(alphabet);
+        final boolean[] result = new boolean[words.size()];
+
+        if (abs.getIntInitialState() < 0) {
+            return result;
+        }
+
+        run(abs, resolve(alphabet, words), false, pool, (idx, traversal, length, defined) -> {
+            result[idx] = defined == length && abs.getStateProperty(traversal.states[length]);
+        });
+
+        return result;
+    }
+
+    /**
+     * Computes the outputs of the given Mealy machine for each of the given words. Consistent with {@link
+     * MealyMachine#computeOutput(Iterable)}, outputs are truncated at the first undefined transition.
+     *
+     * @param mealy
+     *         the Mealy machine
+     * @param alphabet
+     *         the input alphabet used for resolving the symbols of the words
+     * @param words
+     *         the words to execute
+     * @param <I>
+     *         input symbol type
+     * @param <O>
+     *         output symbol type
+     *
+     * @return a list whose {@code i}-th element is the output of the {@code i}-th word
+     */
+    public static <I, O> List<Word<O>> computeOutputs(MealyMachine<?, I, ?, O> mealy,
+                                                      Alphabet<I> alphabet,
+                                                      List<? extends Word<? extends I>> words) {
+        return computeOutputs(mealy, alphabet, words, null);
+    }
+
+    /**
+     * Computes the outputs of the given Mealy machine for each of the given words, using the given pool for processing
+     * the batch in parallel. Consistent with {@link MealyMachine#computeOutput(Iterable)}, outputs are truncated at the
+     * first undefined transition.
+     *
+     * @param mealy
+     *         the Mealy machine
+     * @param alphabet
+     *         the input alphabet used for resolving the symbols of the words
+     * @param words
+     *         the words to execute
+     * @param pool
+     *         the pool used for processing the batch. If {@code null}, the batch is processed sequentially
+     * @param <I>
+     *         input symbol type
+     * @param <O>
+     *         output symbol type
+     *
+     * @return a list whose {@code i}-th element is the output of the {@code i}-th word
+     */
+    public static <I, O> List<Word<O>> computeOutputs(MealyMachine<?, I, ?, O> mealy,
+                                                      Alphabet<I> alphabet,
+                                                      List<? extends Word<? extends I>> words,
+                                                      @Nullable ForkJoinPool pool) {
+        final FullIntAbstraction<?, ?, O> abs = mealy.fullIntAbstraction(alphabet);
+        @SuppressWarnings("unchecked")
+        final Word<O>[] result = new Word[words.size()];
+
+        if (abs.getIntInitialState() < 0) {
+            Arrays.fill(result, Word.epsilon());
+            return Arrays.asList(result);
+        }
+
+        run(abs, resolve(alphabet, words), true, pool, (idx, traversal, length, defined) -> {
+            @SuppressWarnings({"unchecked", "nullness"}) // we only read the outputs of defined transitions
+            final O[] outputs = (O[]) traversal.outputs;
+            result[idx] = Word.fromArray(outputs, 0, defined);
+        });
+
+        return Arrays.asList(result);
+    }
+
+    private static <I> int[][] resolve(Alphabet<I> alphabet, List<? extends Word<? extends I>> words) {
+        final int[][] result = new int[words.size()][];
+
+        for (int i = 0; i < result.length; i++) {
+            final Word<? extends I> word = words.get(i);
+            final int[] indices = new int[word.length()];
+            int j = 0;
+            for (I sym : word) {
+                indices[j++] = alphabet.getSymbolIndex(sym);
+            }
+            result[i] = indices;
+        }
+
+        return result;
+    }
+
+    private static void run(FullIntAbstraction<?, ?, ?> automaton,
+                            int[][] words,
+                            boolean collectOutputs,
+                            @Nullable ForkJoinPool pool,
+                            ResultWriter writer) {
+        final Integer[] boxedOrder = new Integer[words.length];
+        for (int i = 0; i < boxedOrder.length; i++) {
+            boxedOrder[i] = i;
+        }
+
+        final int[] order = new int[words.length];
+        final BatchTask task = new BatchTask(automaton, words, order, 0, order.length, collectOutputs, writer);
+
+        if (pool == null) {
+            Arrays.sort(boxedOrder, (w1, w2) -> compare(words[w1], words[w2]));
+            unbox(boxedOrder, order);
+            task.compute();
+        } else {
+            // sorting from within the pool makes the parallel sort use the threads of the pool
+            pool.invoke(ForkJoinTask.adapt(() -> Arrays.parallelSort(boxedOrder,
+                                                                     (w1, w2) -> compare(words[w1], words[w2]))));
+            unbox(boxedOrder, order);
+            pool.invoke(task);
+        }
+    }
+
+    private static void unbox(Integer[] boxed, int[] unboxed) {
+        for (int i = 0; i < boxed.length; i++) {
+            unboxed[i] = boxed[i];
+        }
+    }
+
+    private static int compare(int[] w1, int[] w2) {
+        final int len = Math.min(w1.length, w2.length);
+        for (int i = 0; i < len; i++) {
+            final int cmp = Integer.compare(w1[i], w2[i]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(w1.length, w2.length);
+    }
+
+    @FunctionalInterface
+    private interface ResultWriter {
+
+        void write(int wordIdx, Traversal traversal, int length, int defined);
+    }
+
+    private static final class BatchTask extends RecursiveAction {
+
+        private final FullIntAbstraction<?, ?, ?> automaton;
+        private final int[][] words;
+        private final int[] order;
+        private final int low;
+        private final int high;
+        private final boolean collectOutputs;
+        private final ResultWriter writer;
+
+        BatchTask(FullIntAbstraction<?, ?, ?> automaton,
+                  int[][] words,
+                  int[] order,
+                  int low,
+                  int high,
+                  boolean collectOutputs,
+                  ResultWriter writer) {
+            this.automaton = automaton;
+            this.words = words;
+            this.order = order;
+            this.low = low;
+            this.high = high;
+            this.collectOutputs = collectOutputs;
+            this.writer = writer;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low > SEQUENTIAL_THRESHOLD && getPool() != null) {
+                final int mid = (low + high) >>> 1;
+                invokeAll(new BatchTask(automaton, words, order, low, mid, collectOutputs, writer),
+                          new BatchTask(automaton, words, order, mid, high, collectOutputs, writer));
+                return;
+            }
+
+            int maxLength = 0;
+            for (int i = low; i < high; i++) {
+                maxLength = Math.max(maxLength, words[order[i]].length);
+            }
+
+            final Traversal traversal = new Traversal(automaton, maxLength, collectOutputs);
+
+            for (int i = low; i < high; i++) {
+                final int wordIdx = order[i];
+                final int[] word = words[wordIdx];
+                writer.write(wordIdx, traversal, word.length, traversal.advance(word));
+            }
+        }
+    }
+
+    /*
+     * Keeps track of the states (and outputs) along the path of the previously executed word, so that the common
+     * prefix of the next word does not need to be re-executed.
+     */
+    private static final class Traversal {
+
+        private final FullIntAbstraction<?, ?, ?> automaton;
+        private final int[] states;
+        private final @Nullable Object @Nullable [] outputs;
+
+        private int[] previous;
+        // the number of defined transitions along the path of the previous word
+        private int defined;
+
+        Traversal(FullIntAbstraction<?, ?, ?> automaton, int maxLength, boolean collectOutputs) {
+            this.automaton = automaton;
+            this.states = new int[maxLength + 1];
+            this.outputs = collectOutputs ? new Object[maxLength] : null;
+            this.previous = new int[0];
+            this.defined = 0;
+
+            this.states[0] = automaton.getIntInitialState();
+        }
+
+        /**
+         * Executes the given word and returns the number of its (leading) defined transitions.
+         */
+        int advance(int[] word) {
+            final int lcp = commonPrefixLength(previous, word);
+            previous = word;
+
+            // the shared prefix already runs into an undefined transition
+            if (lcp > defined) {
+                return defined;
+            }
+
+            int state = states[lcp];
+            for (int i = lcp; i < word.length; i++) {
+                final int input = word[i];
+                final int succ = automaton.getSuccessor(state, input);
+
+                if (succ < 0) {
+                    defined = i;
+                    return i;
+                }
+
+                if (outputs != null) {
+                    outputs[i] = automaton.getTransitionProperty(state, input);
+                }
+
+                states[i + 1] = succ;
+                state = succ;
+            }
+
+            defined = word.length;
+            return defined;
+        }
+
+        private static int commonPrefixLength(int[] w1, int[] w2) {
+            final int len = Math.min(w1.length, w2.length);
+            int i = 0;
+            while (i < len && w1[i] == w2[i]) {
+                i++;
+            }
+            return i;
+        }
+    }
+}
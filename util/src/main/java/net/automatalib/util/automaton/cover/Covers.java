@@ -25,6 +25,8 @@ import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
 import net.automatalib.automaton.DeterministicAutomaton;
+import net.automatalib.automaton.simple.SimpleDeterministicAutomaton.StateIntAbstraction;
+import net.automatalib.common.smartcollection.IntDeque;
 import net.automatalib.common.util.HashUtil;
 import net.automatalib.common.util.mapping.MutableMapping;
 import net.automatalib.word.Word;
@@ -175,6 +177,12 @@ public final class Covers {
                                      Consumer<? super Word<I>> states,
                                      Consumer<? super Word<I>> transitions) {
 
+        if (automaton instanceof StateIntAbstraction) {
+            // the automaton natively operates on integer states, so we can skip the boxing overhead
+            cover(automaton.stateIntAbstraction(), inputs, states, transitions);
+            return;
+        }
+
         S init = automaton.getInitialState();
 
         if (init == null) {
@@ -213,6 +221,49 @@ public final class Covers {
         }
     }
 
+    private static <I> void cover(StateIntAbstraction<I> automaton,
+                                  Collection<? extends I> inputs,
+                                  Consumer<? super Word<I>> states,
+                                  Consumer<? super Word<I>> transitions) {
+
+        final int init = automaton.getIntInitialState();
+
+        if (init < 0) {
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        final @Nullable Word<I>[] reach = new Word[automaton.size()];
+        reach[init] = Word.epsilon();
+
+        final IntDeque bfsQueue = new IntDeque();
+        bfsQueue.addLast(init);
+
+        states.accept(Word.epsilon());
+
+        while (!bfsQueue.isEmpty()) {
+            final int curr = bfsQueue.removeFirst();
+            final Word<I> as = reach[curr];
+            assert as != null;
+
+            for (I in : inputs) {
+                final int succ = automaton.getSuccessor(curr, in);
+                if (succ < 0) {
+                    continue;
+                }
+
+                final Word<I> succAs = as.append(in);
+
+                if (reach[succ] == null) {
+                    reach[succ] = succAs;
+                    states.accept(succAs);
+                    bfsQueue.addLast(succ);
+                }
+                transitions.accept(succAs);
+            }
+        }
+    }
+
     /**
      * Computes an incremental state cover for a given automaton, i.e. a cover that only contains the missing sequences
      * for obtaining a complete state cover.
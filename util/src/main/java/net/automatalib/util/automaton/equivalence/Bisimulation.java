@@ -15,13 +15,17 @@
  */
 package net.automatalib.util.automaton.equivalence;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import net.automatalib.automaton.Automaton;
+import net.automatalib.automaton.base.AbstractCompactSimpleNondet;
 import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.automaton.simple.SimpleDeterministicAutomaton;
+import net.automatalib.automaton.simple.SimpleDeterministicAutomaton.StateIntAbstraction;
 import net.automatalib.common.util.Pair;
 import net.automatalib.common.util.collection.CollectionUtil;
 import net.automatalib.util.partitionrefinement.Valmari;
@@ -45,16 +49,7 @@ public final class Bisimulation {
         final int n1 = a.size();
         final int n2 = b.size();
         final int k = alphabet.size();
-        int m = 0;
-
-        for (I i : alphabet) {
-            for (AS as : a) {
-                m += a.getTransitions(as, i).size();
-            }
-            for (BS bs : b) {
-                m += b.getTransitions(bs, i).size();
-            }
-        }
+        final int m = countTransitions(a, alphabet) + countTransitions(b, alphabet);
 
         final int[] tail = new int[m];
         final int[] label = new int[m];
@@ -63,24 +58,8 @@ public final class Bisimulation {
         int cnt = 0;
         for (int i = 0; i < k; i++) {
             final I sym = alphabet.get(i);
-            for (int j = 0; j < n1; j++) {
-                final AS as = aIDs.getState(j);
-                for (AT t : a.getTransitions(as, sym)) {
-                    tail[cnt] = j;
-                    label[cnt] = i;
-                    head[cnt] = aIDs.getStateId(a.getSuccessor(t));
-                    cnt++;
-                }
-            }
-            for (int j = 0; j < n2; j++) {
-                final BS bs = bIDs.getState(j);
-                for (BT t : b.getTransitions(bs, sym)) {
-                    tail[cnt] = j + n1;
-                    label[cnt] = i;
-                    head[cnt] = bIDs.getStateId(b.getSuccessor(t)) + n1;
-                    cnt++;
-                }
-            }
+            cnt = collectTransitions(a, aIDs, sym, i, 0, cnt, tail, label, head);
+            cnt = collectTransitions(b, bIDs, sym, i, n1, cnt, tail, label, head);
         }
 
         // compute bisimulation relation
@@ -117,4 +96,98 @@ public final class Bisimulation {
 
         return result;
     }
+
+    private static <S, I, T> int countTransitions(Automaton<S, I, T> automaton, List<? extends I> alphabet) {
+        int m = 0;
+
+        if (automaton instanceof SimpleDeterministicAutomaton && automaton instanceof StateIntAbstraction) {
+            @SuppressWarnings("unchecked")
+            final StateIntAbstraction<I> abs =
+                    ((SimpleDeterministicAutomaton<S, I>) automaton).stateIntAbstraction();
+            final int n = abs.size();
+            for (I i : alphabet) {
+                for (int s = 0; s < n; s++) {
+                    if (abs.getSuccessor(s, i) >= 0) {
+                        m++;
+                    }
+                }
+            }
+        } else if (automaton instanceof AbstractCompactSimpleNondet) {
+            @SuppressWarnings("unchecked")
+            final AbstractCompactSimpleNondet<I, ?> compact = (AbstractCompactSimpleNondet<I, ?>) automaton;
+            final int n = compact.size();
+            for (I i : alphabet) {
+                final int idx = compact.getInputAlphabet().getSymbolIndex(i);
+                for (int s = 0; s < n; s++) {
+                    final BitSet succs = compact.getSuccessorBits(s, idx);
+                    if (succs != null) {
+                        m += succs.cardinality();
+                    }
+                }
+            }
+        } else {
+            for (I i : alphabet) {
+                for (S s : automaton) {
+                    m += automaton.getTransitions(s, i).size();
+                }
+            }
+        }
+
+        return m;
+    }
+
+    private static <S, I, T> int collectTransitions(Automaton<S, I, T> automaton,
+                                                    StateIDs<S> ids,
+                                                    I sym,
+                                                    int symIdx,
+                                                    int offset,
+                                                    int cnt,
+                                                    int[] tail,
+                                                    int[] label,
+                                                    int[] head) {
+        final int n = automaton.size();
+        int result = cnt;
+
+        if (automaton instanceof SimpleDeterministicAutomaton && automaton instanceof StateIntAbstraction) {
+            @SuppressWarnings("unchecked")
+            final StateIntAbstraction<I> abs =
+                    ((SimpleDeterministicAutomaton<S, I>) automaton).stateIntAbstraction();
+            for (int j = 0; j < n; j++) {
+                final int succ = abs.getSuccessor(j, sym);
+                if (succ >= 0) {
+                    tail[result] = j + offset;
+                    label[result] = symIdx;
+                    head[result] = succ + offset;
+                    result++;
+                }
+            }
+        } else if (automaton instanceof AbstractCompactSimpleNondet) {
+            @SuppressWarnings("unchecked")
+            final AbstractCompactSimpleNondet<I, ?> compact = (AbstractCompactSimpleNondet<I, ?>) automaton;
+            final int idx = compact.getInputAlphabet().getSymbolIndex(sym);
+            for (int j = 0; j < n; j++) {
+                final BitSet succs = compact.getSuccessorBits(j, idx);
+                if (succs != null) {
+                    for (int succ = succs.nextSetBit(0); succ >= 0; succ = succs.nextSetBit(succ + 1)) {
+                        tail[result] = j + offset;
+                        label[result] = symIdx;
+                        head[result] = succ + offset;
+                        result++;
+                    }
+                }
+            }
+        } else {
+            for (int j = 0; j < n; j++) {
+                final S s = ids.getState(j);
+                for (T t : automaton.getTransitions(s, sym)) {
+                    tail[result] = j + offset;
+                    label[result] = symIdx;
+                    head[result] = ids.getStateId(automaton.getSuccessor(t)) + offset;
+                    result++;
+                }
+            }
+        }
+
+        return result;
+    }
 }
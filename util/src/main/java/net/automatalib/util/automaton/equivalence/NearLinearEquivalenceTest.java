@@ -22,6 +22,8 @@ import java.util.Queue;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.automaton.UniversalDeterministicAutomaton;
+import net.automatalib.automaton.base.EncodedProperties;
+import net.automatalib.automaton.base.PropertyDictionary;
 import net.automatalib.automaton.concept.InputAlphabetHolder;
 import net.automatalib.automaton.concept.StateIDs;
 import net.automatalib.common.util.IntDisjointSets;
@@ -319,6 +321,10 @@ public final class NearLinearEquivalenceTest {
         UniversalDeterministicAutomaton.FullIntAbstraction<T, SP, TP> absTarget = target.fullIntAbstraction(inputs);
         UniversalDeterministicAutomaton.FullIntAbstraction<T2, SP2, TP2> absOther = other.fullIntAbstraction(inputs);
 
+        // if both automata encode their properties with the same dictionaries, we can simply compare codes
+        final boolean spByCodes = sharesDictionary(absTarget, absOther, true);
+        final boolean tpByCodes = sharesDictionary(absTarget, absOther, false);
+
         int init1 = absTarget.getIntInitialState();
         int init2 = absOther.getIntInitialState();
 
@@ -328,10 +334,7 @@ public final class NearLinearEquivalenceTest {
             return ignoreUndefinedTransitions ? null : Word.epsilon();
         }
 
-        SP sprop1 = absTarget.getStateProperty(init1);
-        SP2 sprop2 = absOther.getStateProperty(init2);
-
-        if (!Objects.equals(sprop1, sprop2)) {
+        if (!equalStateProperties(absTarget, init1, absOther, init2, spByCodes)) {
             return Word.epsilon();
         }
 
@@ -374,12 +377,20 @@ public final class NearLinearEquivalenceTest {
                     break explore;
                 }
 
-                TP tprop1 = target.getTransitionProperty(trans1);
-                TP2 tprop2 = other.getTransitionProperty(trans2);
+                if (tpByCodes) {
+                    if (((EncodedProperties) absTarget).getTransitionPropertyCode(state1, sym) !=
+                        ((EncodedProperties) absOther).getTransitionPropertyCode(state2, sym)) {
+                        lastSym = sym;
+                        break explore;
+                    }
+                } else {
+                    TP tprop1 = target.getTransitionProperty(trans1);
+                    TP2 tprop2 = other.getTransitionProperty(trans2);
 
-                if (!Objects.equals(tprop1, tprop2)) {
-                    lastSym = sym;
-                    break explore;
+                    if (!Objects.equals(tprop1, tprop2)) {
+                        lastSym = sym;
+                        break explore;
+                    }
                 }
 
                 int succ1 = absTarget.getIntSuccessor(trans1);
@@ -392,10 +403,7 @@ public final class NearLinearEquivalenceTest {
                     continue;
                 }
 
-                sprop1 = absTarget.getStateProperty(succ1);
-                sprop2 = absOther.getStateProperty(succ2);
-
-                if (!Objects.equals(sprop1, sprop2)) {
+                if (!equalStateProperties(absTarget, succ1, absOther, succ2, spByCodes)) {
                     lastSym = sym;
                     break explore;
                 }
@@ -422,6 +430,35 @@ public final class NearLinearEquivalenceTest {
         return wb.toWord();
     }
 
+    private static boolean sharesDictionary(UniversalDeterministicAutomaton.FullIntAbstraction<?, ?, ?> target,
+                                            UniversalDeterministicAutomaton.FullIntAbstraction<?, ?, ?> other,
+                                            boolean stateProperties) {
+        if (!(target instanceof EncodedProperties) || !(other instanceof EncodedProperties)) {
+            return false;
+        }
+
+        final EncodedProperties encTarget = (EncodedProperties) target;
+        final EncodedProperties encOther = (EncodedProperties) other;
+        final PropertyDictionary<?> dictTarget =
+                stateProperties ? encTarget.getStatePropertyDictionary() : encTarget.getTransitionPropertyDictionary();
+        final PropertyDictionary<?> dictOther =
+                stateProperties ? encOther.getStatePropertyDictionary() : encOther.getTransitionPropertyDictionary();
+
+        return dictTarget != null && dictTarget == dictOther;
+    }
+
+    private static boolean equalStateProperties(UniversalDeterministicAutomaton.FullIntAbstraction<?, ?, ?> target,
+                                                int targetState,
+                                                UniversalDeterministicAutomaton.FullIntAbstraction<?, ?, ?> other,
+                                                int otherState,
+                                                boolean byCodes) {
+        if (byCodes) {
+            return ((EncodedProperties) target).getStatePropertyCode(targetState) ==
+                   ((EncodedProperties) other).getStatePropertyCode(otherState);
+        }
+        return Objects.equals(target.getStateProperty(targetState), other.getStateProperty(otherState));
+    }
+
     private static final class Record<S, S2, I> {
 
         private final S state1;
@@ -0,0 +1,144 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.fsa;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.fsa.MutableDFA;
+import net.automatalib.automaton.fsa.impl.CompactNFA;
+
+/**
+ * A specialized subset construction for {@link CompactNFA}s that directly operates on their {@link BitSet}-based
+ * transition storage. Subsets are represented as bit vectors of {@code long} words which are interned (hash-consed)
+ * in a {@link LongVectorTable}. This avoids the allocation of a fresh set object (and the computation of its hash code)
+ * for every successor lookup of the generic {@link CompactNFA#powersetView() powerset view}.
+ * <p>
+ * The construction explores the subsets in the same order as the generic construction of {@link NFAs} and therefore
+ * produces identical (i.e., also identically numbered) DFAs.
+ */
+final class CompactNFADeterminizer {
+
+    private CompactNFADeterminizer() {
+        // prevent instantiation
+    }
+
+    static <I, SO> void determinize(CompactNFA<I> nfa, Collection<? extends I> inputs, MutableDFA<SO, I> out) {
+
+        final int numStates = nfa.size();
+        final int numWords = numWords(numStates);
+
+        final Alphabet<I> alphabet = nfa.getInputAlphabet();
+        final List<I> symbols = new ArrayList<>(inputs);
+        final int numSymbols = symbols.size();
+        final int[] symbolIndices = new int[numSymbols];
+
+        for (int i = 0; i < numSymbols; i++) {
+            symbolIndices[i] = alphabet.getSymbolIndex(symbols.get(i));
+        }
+
+        final long[] accepting = new long[numWords];
+        for (int s = 0; s < numStates; s++) {
+            if (nfa.isAccepting(s)) {
+                set(accepting, s);
+            }
+        }
+
+        final LongVectorTable table = new LongVectorTable(numWords);
+        final long[] scratch = new long[numWords];
+
+        for (Integer init : nfa.getInitialStates()) {
+            set(scratch, init);
+        }
+
+        final List<SO> outStates = new ArrayList<>();
+        int[] stack = new int[16];
+        int stackSize = 0;
+
+        final int initId = table.intern(scratch);
+        outStates.add(out.addInitialState(intersects(table, initId, accepting)));
+        stack[stackSize++] = initId;
+
+        while (stackSize > 0) {
+            final int curr = stack[--stackSize];
+            final SO currOut = outStates.get(curr);
+
+            for (int i = 0; i < numSymbols; i++) {
+                final int inputIdx = symbolIndices[i];
+
+                Arrays.fill(scratch, 0L);
+
+                final long[] arena = table.arena;
+                final int offset = curr * numWords;
+
+                for (int w = 0; w < numWords; w++) {
+                    long word = arena[offset + w];
+                    while (word != 0) {
+                        final int s = (w << 6) + Long.numberOfTrailingZeros(word);
+                        final BitSet succs = nfa.getSuccessorBits(s, inputIdx);
+                        if (succs != null) {
+                            for (int t = succs.nextSetBit(0); t >= 0; t = succs.nextSetBit(t + 1)) {
+                                set(scratch, t);
+                            }
+                        }
+                        word &= word - 1;
+                    }
+                }
+
+                final int size = table.size();
+                final int succ = table.intern(scratch);
+                final SO succOut;
+
+                if (succ == size) {
+                    // new subset
+                    succOut = out.addState(intersects(table, succ, accepting));
+                    outStates.add(succOut);
+                    if (stackSize == stack.length) {
+                        stack = Arrays.copyOf(stack, stackSize * 2);
+                    }
+                    stack[stackSize++] = succ;
+                } else {
+                    succOut = outStates.get(succ);
+                }
+
+                out.setTransition(currOut, symbols.get(i), succOut);
+            }
+        }
+    }
+
+    private static int numWords(int numStates) {
+        return Math.max(1, (numStates + Long.SIZE - 1) >>> 6);
+    }
+
+    private static void set(long[] words, int bit) {
+        words[bit >>> 6] |= 1L << bit;
+    }
+
+    private static boolean intersects(LongVectorTable table, int id, long[] words) {
+        final long[] arena = table.arena;
+        final int offset = id * words.length;
+        for (int i = 0; i < words.length; i++) {
+            if ((arena[offset + i] & words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -15,8 +15,12 @@
  */
 package net.automatalib.util.automaton.fsa;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
 
 import net.automatalib.alphabet.Alphabet;
@@ -35,6 +39,9 @@ import net.automatalib.util.ts.acceptor.Acceptors;
 import net.automatalib.util.ts.copy.TSCopy;
 import net.automatalib.util.ts.traversal.TSTraversal;
 import net.automatalib.util.ts.traversal.TSTraversalMethod;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Operations on {@link DFA}s.
@@ -109,6 +116,170 @@ public final class DFAs {
         return out;
     }
 
+    /**
+     * Combines an arbitrary number of DFAs via a single product construction. Contrary to repeatedly combining two
+     * DFAs via {@link #combine(DFA, DFA, Alphabet, AcceptanceCombiner)}, no intermediate products are constructed. The
+     * tuples of states are encoded in a compact (primitive) arena which avoids allocating objects for each product
+     * state.
+     * <p>
+     * The acceptance of a product state is determined by folding the acceptance values of its component states (in the
+     * iteration order of the given collection) via the given {@link AcceptanceCombiner}. For example,
+     * {@link AcceptanceCombiner#AND} computes the intersection and {@link AcceptanceCombiner#OR} computes the union of
+     * the languages of all DFAs. Undefined transitions are treated as transitions into an implicit rejecting sink, so
+     * the resulting DFA is always complete.
+     *
+     * @param dfas
+     *         the DFAs to combine
+     * @param inputAlphabet
+     *         the input alphabet
+     * @param combiner
+     *         combination method for acceptance values
+     * @param minimize
+     *         whether to minimize the product
+     * @param <I>
+     *         input symbol type
+     *
+     * @return a new DFA representing the combination of the specified DFAs
+     *
+     * @throws IllegalArgumentException
+     *         if no DFAs are given
+     */
+    public static <I> CompactDFA<I> combine(Collection<? extends DFA<?, I>> dfas,
+                                            Alphabet<I> inputAlphabet,
+                                            AcceptanceCombiner combiner,
+                                            boolean minimize) {
+        final CompactDFA<I> result = new NaryDFAProduct<>(dfas, inputAlphabet, combiner).construct();
+        if (minimize) {
+            HopcroftMinimizer.minimizeDFAInvasive(result, inputAlphabet);
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the conjunction ("and") of an arbitrary number of DFAs via a single product construction and returns
+     * the result as a new DFA.
+     *
+     * @param dfas
+     *         the DFAs
+     * @param inputAlphabet
+     *         the input alphabet
+     * @param <I>
+     *         input symbol type
+     *
+     * @return a new DFA representing the conjunction of the specified DFAs
+     *
+     * @see #combine(Collection, Alphabet, AcceptanceCombiner, boolean)
+     */
+    public static <I> CompactDFA<I> and(Collection<? extends DFA<?, I>> dfas, Alphabet<I> inputAlphabet) {
+        return combine(dfas, inputAlphabet, AcceptanceCombiner.AND, false);
+    }
+
+    /**
+     * Calculates the disjunction ("or") of an arbitrary number of DFAs via a single product construction and returns
+     * the result as a new DFA.
+     *
+     * @param dfas
+     *         the DFAs
+     * @param inputAlphabet
+     *         the input alphabet
+     * @param <I>
+     *         input symbol type
+     *
+     * @return a new DFA representing the disjunction of the specified DFAs
+     *
+     * @see #combine(Collection, Alphabet, AcceptanceCombiner, boolean)
+     */
+    public static <I> CompactDFA<I> or(Collection<? extends DFA<?, I>> dfas, Alphabet<I> inputAlphabet) {
+        return combine(dfas, inputAlphabet, AcceptanceCombiner.OR, false);
+    }
+
+    /**
+     * Searches for a word that is accepted by the combination of the given DFAs (see {@link #combine(Collection,
+     * Alphabet, AcceptanceCombiner, boolean)}). The product is explored on-the-fly (in breadth-first order) and the
+     * exploration stops as soon as the first accepting product state is discovered. For example, this allows for
+     * checking the emptiness of the intersection of the given DFAs without constructing the (full) product.
+     *
+     * @param dfas
+     *         the DFAs to combine
+     * @param inputAlphabet
+     *         the input alphabet
+     * @param combiner
+     *         combination method for acceptance values
+     * @param <I>
+     *         input symbol type
+     *
+     * @return a shortest word accepted by the combination of the given DFAs, or {@code null} if the combination accepts
+     * the empty language
+     *
+     * @throws IllegalArgumentException
+     *         if no DFAs are given
+     */
+    public static <I> @Nullable Word<I> findAcceptedWord(Collection<? extends DFA<?, I>> dfas,
+                                                         Alphabet<I> inputAlphabet,
+                                                         AcceptanceCombiner combiner) {
+        return new NaryDFAProduct<>(dfas, inputAlphabet, combiner).findWord(true);
+    }
+
+    /**
+     * Searches for a word that is rejected by the combination of the given DFAs (see {@link #combine(Collection,
+     * Alphabet, AcceptanceCombiner, boolean)}). The product is explored on-the-fly (in breadth-first order) and the
+     * exploration stops as soon as the first rejecting product state is discovered. For example, this allows for
+     * checking the universality of the union of the given DFAs without constructing the (full) product.
+     *
+     * @param dfas
+     *         the DFAs to combine
+     * @param inputAlphabet
+     *         the input alphabet
+     * @param combiner
+     *         combination method for acceptance values
+     * @param <I>
+     *         input symbol type
+     *
+     * @return a shortest word rejected by the combination of the given DFAs, or {@code null} if the combination accepts
+     * all words
+     *
+     * @throws IllegalArgumentException
+     *         if no DFAs are given
+     */
+    public static <I> @Nullable Word<I> findRejectedWord(Collection<? extends DFA<?, I>> dfas,
+                                                         Alphabet<I> inputAlphabet,
+                                                         AcceptanceCombiner combiner) {
+        return new NaryDFAProduct<>(dfas, inputAlphabet, combiner).findWord(false);
+    }
+
+    /**
+     * Returns a lazy view on the product of two DFAs. Contrary to {@link #combine(DFA, DFA, Alphabet,
+     * AcceptanceCombiner)}, no states are materialized upon construction and product states are only computed when
+     * they are queried. Product states are represented by {@code long}s which pack the (integer) ids of the two
+     * component states.
+     * <p>
+     * Undefined transitions of the given DFAs are treated as transitions into an implicit rejecting sink, i.e., the
+     * product behaves like the product of the completed DFAs. The view can be combined with
+     * {@link #findAcceptedWord(DeterministicAcceptorTS, Collection)} or {@link #isEmpty(DeterministicAcceptorTS,
+     * Collection)} to, e.g., check language inclusion without constructing the product.
+     * <p>
+     * <b>Note:</b> the view is backed by the given DFAs, which must not be modified while the view is in use.
+     *
+     * @param dfa1
+     *         the first DFA
+     * @param dfa2
+     *         the second DFA
+     * @param inputAlphabet
+     *         the input alphabet
+     * @param combiner
+     *         combination method for acceptance values
+     * @param <I>
+     *         input symbol type
+     *
+     * @return a lazy view on the product of the given DFAs
+     */
+    public static <I> DeterministicAcceptorTS<Long, I> productView(DFA<?, I> dfa1,
+                                                                   DFA<?, I> dfa2,
+                                                                   Alphabet<I> inputAlphabet,
+                                                                   AcceptanceCombiner combiner) {
+        return new ProductDFAView<>(dfa1, dfa2, inputAlphabet, combiner);
+    }
+
     /**
      * Calculates the conjunction ("and") of two DFAs via product construction and returns the result as a new DFA.
      *
@@ -566,4 +737,120 @@ public final class DFAs {
         }
         return true;
     }
+
+    /**
+     * Searches for a word accepted by the given (deterministic) acceptor. The acceptor is explored in breadth-first
+     * order, only visiting its reachable states, and the search terminates as soon as the first accepting state has
+     * been discovered. This makes this method suitable for (potentially large) lazy views such as the ones returned by
+     * {@link #productView(DFA, DFA, Alphabet, AcceptanceCombiner)}, for which a specialized, allocation-light search is
+     * used.
+     *
+     * @param acceptor
+     *         the acceptor to search
+     * @param inputs
+     *         the input symbols to consider
+     * @param <S>
+     *         state type
+     * @param <I>
+     *         input symbol type
+     *
+     * @return a shortest word accepted by the given acceptor, or {@code null} if the acceptor (restricted to the given
+     * inputs) accepts the empty language
+     */
+    public static <S, I> @Nullable Word<I> findAcceptedWord(DeterministicAcceptorTS<S, I> acceptor,
+                                                            Collection<? extends I> inputs) {
+
+        if (acceptor instanceof ProductDFAView) {
+            @SuppressWarnings("unchecked")
+            final ProductDFAView<I> product = (ProductDFAView<I>) acceptor;
+            return product.findAcceptedWord(inputs);
+        }
+
+        final S init = acceptor.getInitialState();
+
+        if (init == null) {
+            return null;
+        } else if (acceptor.isAccepting(init)) {
+            return Word.epsilon();
+        }
+
+        final Map<S, SearchRecord<S, I>> records = new HashMap<>();
+        final Queue<SearchRecord<S, I>> queue = new ArrayDeque<>();
+        final SearchRecord<S, I> initRecord = new SearchRecord<>(init, null, null);
+
+        records.put(init, initRecord);
+        queue.add(initRecord);
+
+        SearchRecord<S, I> curr;
+
+        while ((curr = queue.poll()) != null) {
+            for (I i : inputs) {
+                final S succ = acceptor.getSuccessor(curr.state, i);
+
+                if (succ == null || records.containsKey(succ)) {
+                    continue;
+                }
+
+                final SearchRecord<S, I> succRecord = new SearchRecord<>(succ, curr, i);
+
+                if (acceptor.isAccepting(succ)) {
+                    return succRecord.toWord();
+                }
+
+                records.put(succ, succRecord);
+                queue.add(succRecord);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks whether the given (deterministic) acceptor accepts the empty language. Contrary to
+     * {@link #acceptsEmptyLanguage(DFA)}, this method does not require that all states are reachable and only explores
+     * the reachable states until the first accepting one is found.
+     *
+     * @param acceptor
+     *         the acceptor to check
+     * @param inputs
+     *         the input symbols to consider
+     * @param <I>
+     *         input symbol type
+     *
+     * @return whether the given acceptor (restricted to the given inputs) accepts the empty language
+     *
+     * @see #findAcceptedWord(DeterministicAcceptorTS, Collection)
+     */
+    public static <I> boolean isEmpty(DeterministicAcceptorTS<?, I> acceptor, Collection<? extends I> inputs) {
+        return findAcceptedWord(acceptor, inputs) == null;
+    }
+
+    private static final class SearchRecord<S, I> {
+
+        private final S state;
+        private final @Nullable SearchRecord<S, I> reachedFrom;
+        private final @Nullable I reachedBy;
+        private final int depth;
+
+        SearchRecord(S state, @Nullable SearchRecord<S, I> reachedFrom, @Nullable I reachedBy) {
+            this.state = state;
+            this.reachedFrom = reachedFrom;
+            this.reachedBy = reachedBy;
+            this.depth = reachedFrom == null ? 0 : reachedFrom.depth + 1;
+        }
+
+        @SuppressWarnings("nullness") // only the initial record has no predecessor
+        Word<I> toWord() {
+            final WordBuilder<I> wb = new WordBuilder<>(null, depth);
+            int position = depth;
+
+            SearchRecord<S, I> curr = this;
+            while (curr.reachedFrom != null) {
+                wb.setSymbol(--position, curr.reachedBy);
+                curr = curr.reachedFrom;
+            }
+
+            return wb.toWord();
+        }
+    }
 }
@@ -0,0 +1,134 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.fsa;
+
+import java.util.Arrays;
+
+/**
+ * A hash-consing table for fixed-length vectors of {@code long} words (e.g., subsets represented as bit vectors or
+ * tuples of packed state ids) that assigns consecutive ids to all interned vectors. The vectors are stored in a single
+ * arena and looked up via a primitive open-addressing table.
+ */
+final class LongVectorTable {
+
+    private static final int EMPTY = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int numWords;
+
+    // the interned vectors, vector i occupies the words [i * numWords, (i + 1) * numWords)
+    long[] arena;
+    // the cached hash codes of the interned vectors
+    private int[] hashes;
+    // open-addressing (linear probing) table from hash slots to vector ids
+    private int[] slots;
+    private int size;
+
+    LongVectorTable(int numWords) {
+        this.numWords = numWords;
+        this.arena = new long[INITIAL_CAPACITY * numWords];
+        this.hashes = new int[INITIAL_CAPACITY];
+        this.slots = new int[INITIAL_CAPACITY * 2];
+        Arrays.fill(this.slots, EMPTY);
+    }
+
+    static int hash(long[] words) {
+        long h = 1;
+        for (long w : words) {
+            h = 31 * h + w;
+        }
+        // spread the bits, so that the lower bits (used for indexing) are well mixed
+        final int x = (int) (h ^ (h >>> 32));
+        return x ^ (x >>> 16);
+    }
+
+    int size() {
+        return size;
+    }
+
+    long getWord(int id, int wordIdx) {
+        return arena[id * numWords + wordIdx];
+    }
+
+    /**
+     * Returns the id of the given vector, interning (a copy of) it if it has not been interned before. Newly interned
+     * vectors receive the id {@link #size()} (before the call).
+     *
+     * @param vector
+     *         the vector
+     *
+     * @return the id of the vector
+     */
+    int intern(long[] vector) {
+        final int hash = hash(vector);
+        final int mask = slots.length - 1;
+
+        int slot = hash & mask;
+        int id;
+        while ((id = slots[slot]) != EMPTY) {
+            if (hashes[id] == hash && equalsInterned(id, vector)) {
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        id = size++;
+        ensureCapacity();
+        System.arraycopy(vector, 0, arena, id * numWords, numWords);
+        hashes[id] = hash;
+        slots[slot] = id;
+
+        if (size * 2 > slots.length) {
+            rehash();
+        }
+
+        return id;
+    }
+
+    private boolean equalsInterned(int id, long[] vector) {
+        final int offset = id * numWords;
+        for (int i = 0; i < numWords; i++) {
+            if (arena[offset + i] != vector[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ensureCapacity() {
+        if (size > hashes.length) {
+            final int newCapacity = hashes.length * 2;
+            hashes = Arrays.copyOf(hashes, newCapacity);
+            arena = Arrays.copyOf(arena, newCapacity * numWords);
+        }
+    }
+
+    private void rehash() {
+        final int[] newSlots = new int[slots.length * 2];
+        final int mask = newSlots.length - 1;
+        Arrays.fill(newSlots, EMPTY);
+
+        for (int id = 0; id < size; id++) {
+            int slot = hashes[id] & mask;
+            while (newSlots[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            newSlots[slot] = id;
+        }
+
+        this.slots = newSlots;
+    }
+}
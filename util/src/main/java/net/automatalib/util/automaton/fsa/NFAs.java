@@ -16,22 +16,27 @@
 package net.automatalib.util.automaton.fsa;
 
 import java.util.ArrayDeque;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.MapAlphabet;
+import net.automatalib.automaton.base.AbstractCompactSimpleNondet;
 import net.automatalib.automaton.concept.InputAlphabetHolder;
 import net.automatalib.automaton.fsa.MutableDFA;
 import net.automatalib.automaton.fsa.MutableNFA;
 import net.automatalib.automaton.fsa.NFA;
 import net.automatalib.automaton.fsa.impl.CompactDFA;
 import net.automatalib.automaton.fsa.impl.CompactNFA;
+import net.automatalib.common.smartcollection.IntDeque;
 import net.automatalib.common.util.HashUtil;
+import net.automatalib.common.util.collection.PositiveIntSet;
 import net.automatalib.common.util.mapping.Mapping;
 import net.automatalib.common.util.mapping.MutableMapping;
 import net.automatalib.ts.AcceptorPowersetViewTS;
@@ -308,6 +313,14 @@ public final class NFAs {
      */
     public static <S, I> Set<S> accessibleStates(NFA<S, I> nfa, Collection<? extends I> inputs) {
 
+        if (nfa instanceof AbstractCompactSimpleNondet) {
+            @SuppressWarnings("unchecked")
+            final AbstractCompactSimpleNondet<I, ?> compact = (AbstractCompactSimpleNondet<I, ?>) nfa;
+            @SuppressWarnings("unchecked")
+            final Set<S> result = (Set<S>) compactAccessibleStates(compact, inputs);
+            return result;
+        }
+
         final Set<S> inits = nfa.getInitialStates();
         final Deque<S> deque = new ArrayDeque<>(inits);
         final Set<S> found = new HashSet<>(inits);
@@ -326,6 +339,47 @@ public final class NFAs {
         return found;
     }
 
+    /*
+     * Specialized version of the above method that operates directly on the successor bitsets of compact NFAs and
+     * therefore avoids boxing (and hashing) the visited states.
+     */
+    private static <I> Set<Integer> compactAccessibleStates(AbstractCompactSimpleNondet<I, ?> nfa,
+                                                            Collection<? extends I> inputs) {
+
+        final Alphabet<I> alphabet = nfa.getInputAlphabet();
+        final int[] symbols = new int[inputs.size()];
+
+        int idx = 0;
+        for (I sym : inputs) {
+            symbols[idx++] = alphabet.getSymbolIndex(sym);
+        }
+
+        final BitSet found = new BitSet(nfa.size());
+        final IntDeque deque = new IntDeque();
+
+        for (Integer init : nfa.getInitialStates()) {
+            found.set(init);
+            deque.addLast(init);
+        }
+
+        while (!deque.isEmpty()) {
+            final int curr = deque.removeLast();
+            for (int sym : symbols) {
+                final BitSet succs = nfa.getSuccessorBits(curr, sym);
+                if (succs != null) {
+                    for (int succ = succs.nextSetBit(0); succ >= 0; succ = succs.nextSetBit(succ + 1)) {
+                        if (!found.get(succ)) {
+                            found.set(succ);
+                            deque.addLast(succ);
+                        }
+                    }
+                }
+            }
+        }
+
+        return new PositiveIntSet(found, false);
+    }
+
     /**
      * Returns for a given NFA the set of co-accessible states. A state is co-accessible if it reaches an accepting
      * state.
@@ -418,7 +472,14 @@ public final class NFAs {
                                        MutableDFA<?, I> out,
                                        boolean partial,
                                        boolean minimize) {
-        doDeterminize(nfa.powersetView(), inputs, out, partial);
+        if (nfa instanceof CompactNFA) {
+            @SuppressWarnings("unchecked")
+            final CompactNFA<I> compact = (CompactNFA<I>) nfa;
+            // the powerset view of compact NFAs never yields undefined transitions, so partiality is irrelevant here
+            CompactNFADeterminizer.determinize(compact, inputs, out);
+        } else {
+            doDeterminize(nfa.powersetView(), inputs, out, partial);
+        }
         if (minimize) {
             HopcroftMinimizer.minimizeDFAInvasive(out, inputs);
         }
@@ -478,6 +539,97 @@ public final class NFAs {
         determinize(nfa, inputs, out, false, true);
     }
 
+    /**
+     * Determinizes the given NFA in parallel (using the {@link ForkJoinPool#commonPool() common pool}), and returns the
+     * result as a new complete (and minimized) DFA.
+     *
+     * @param nfa
+     *         the original NFA
+     * @param inputAlphabet
+     *         the input alphabet
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the determinized NFA
+     *
+     * @see #determinizeParallel(NFA, Alphabet, boolean, boolean, boolean, ForkJoinPool)
+     */
+    public static <I> CompactDFA<I> determinizeParallel(NFA<?, I> nfa, Alphabet<I> inputAlphabet) {
+        return determinizeParallel(nfa, inputAlphabet, false, true, false);
+    }
+
+    /**
+     * Determinizes the given NFA in parallel (using the {@link ForkJoinPool#commonPool() common pool}), and returns the
+     * result as a new DFA.
+     *
+     * @param nfa
+     *         the original NFA
+     * @param inputAlphabet
+     *         the input alphabet
+     * @param partial
+     *         allows the new DFA to be partial
+     * @param minimize
+     *         whether to minimize the DFA
+     * @param canonical
+     *         whether to number the states of the DFA in the same way as {@link #determinize(NFA, Alphabet, boolean,
+     *         boolean)}
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the determinized NFA
+     *
+     * @see #determinizeParallel(NFA, Alphabet, boolean, boolean, boolean, ForkJoinPool)
+     */
+    public static <I> CompactDFA<I> determinizeParallel(NFA<?, I> nfa,
+                                                        Alphabet<I> inputAlphabet,
+                                                        boolean partial,
+                                                        boolean minimize,
+                                                        boolean canonical) {
+        return determinizeParallel(nfa, inputAlphabet, partial, minimize, canonical, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Determinizes the given NFA in parallel, and returns the result as a new DFA. The powerset is explored level by
+     * level, where the subsets of each level are expanded concurrently by the tasks of the given {@link ForkJoinPool}.
+     * <p>
+     * The resulting DFA accepts the same language as the DFA constructed by {@link #determinize(NFA, Alphabet, boolean,
+     * boolean)}. However, its state numbering depends on the scheduling of the tasks unless {@code canonical} is set,
+     * in which case the states are renumbered (sequentially) to match the numbering of the sequential construction.
+     * <p>
+     * <b>Note:</b> the given NFA must not be modified during the construction.
+     *
+     * @param nfa
+     *         the original NFA
+     * @param inputAlphabet
+     *         the input alphabet
+     * @param partial
+     *         allows the new DFA to be partial
+     * @param minimize
+     *         whether to minimize the DFA
+     * @param canonical
+     *         whether to number the states of the DFA in the same way as {@link #determinize(NFA, Alphabet, boolean,
+     *         boolean)}
+     * @param pool
+     *         the pool whose threads are used for the construction
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the determinized NFA
+     */
+    public static <I> CompactDFA<I> determinizeParallel(NFA<?, I> nfa,
+                                                        Alphabet<I> inputAlphabet,
+                                                        boolean partial,
+                                                        boolean minimize,
+                                                        boolean canonical,
+                                                        ForkJoinPool pool) {
+        final CompactDFA<I> result =
+                ParallelNFADeterminizer.determinize(nfa.powersetView(), inputAlphabet, partial, canonical, pool);
+        if (minimize) {
+            HopcroftMinimizer.minimizeDFAInvasive(result, inputAlphabet);
+        }
+        return result;
+    }
+
     private static <I, SI, SO> void doDeterminize(AcceptorPowersetViewTS<SI, I, ?> powerset,
                                                   Collection<? extends I> inputs,
                                                   MutableDFA<SO, I> out,
@@ -0,0 +1,205 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.fsa;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.UniversalDeterministicAutomaton.FullIntAbstraction;
+import net.automatalib.automaton.fsa.DFA;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.util.ts.acceptor.AcceptanceCombiner;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A product construction over an arbitrary number of {@link DFA}s. The tuples of component states are packed (two
+ * state ids per {@code long} word) and interned in a {@link LongVectorTable}, so that the tuple space is explored only
+ * once and without allocating an object per tuple.
+ * <p>
+ * The acceptance of a tuple is determined by folding the acceptance values of its components (from left to right) via
+ * the given {@link AcceptanceCombiner}, i.e., {@link AcceptanceCombiner#AND} yields the intersection and
+ * {@link AcceptanceCombiner#OR} yields the union of the languages. Undefined transitions of the component DFAs are
+ * treated as transitions into an implicit, rejecting sink.
+ *
+ * @param <I>
+ *         input symbol type
+ */
+final class NaryDFAProduct<I> {
+
+    private static final long LOWER_MASK = 0xFFFFFFFFL;
+
+    private final Alphabet<I> alphabet;
+    private final FullIntAbstraction<?, Boolean, Void>[] abstractions;
+    private final AcceptanceCombiner combiner;
+    private final int numWords;
+
+    @SuppressWarnings("unchecked")
+    NaryDFAProduct(Collection<? extends DFA<?, I>> dfas, Alphabet<I> alphabet, AcceptanceCombiner combiner) {
+        if (dfas.isEmpty()) {
+            throw new IllegalArgumentException("At least one DFA is required");
+        }
+
+        this.alphabet = alphabet;
+        this.abstractions = new FullIntAbstraction[dfas.size()];
+        this.combiner = combiner;
+        this.numWords = (dfas.size() + 1) >>> 1;
+
+        int idx = 0;
+        for (DFA<?, I> dfa : dfas) {
+            this.abstractions[idx++] = dfa.fullIntAbstraction(alphabet);
+        }
+    }
+
+    /**
+     * Constructs the (reachable part of the) product. The states of the returned DFA are numbered in breadth-first
+     * order.
+     *
+     * @return the product DFA
+     */
+    CompactDFA<I> construct() {
+        final int numInputs = alphabet.size();
+        final CompactDFA<I> result = new CompactDFA<>(alphabet);
+        final LongVectorTable table = new LongVectorTable(numWords);
+        final long[] tuple = new long[numWords];
+
+        initialTuple(tuple);
+        table.intern(tuple);
+        result.addInitialState(isAccepting(table, 0));
+
+        for (int curr = 0; curr < table.size(); curr++) {
+            for (int i = 0; i < numInputs; i++) {
+                successorTuple(table, curr, i, tuple);
+
+                final int size = table.size();
+                final int succ = table.intern(tuple);
+
+                if (succ == size) {
+                    result.addState(isAccepting(table, succ));
+                }
+
+                result.setTransition(curr, i, succ);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Explores the product (in breadth-first order) until a tuple with the given acceptance value is discovered.
+     *
+     * @param accepting
+     *         the acceptance value of the tuple to search for
+     *
+     * @return a shortest word reaching a tuple with the given acceptance value, or {@code null} if no such tuple is
+     * reachable
+     */
+    @Nullable Word<I> findWord(boolean accepting) {
+        final int numInputs = alphabet.size();
+        final LongVectorTable table = new LongVectorTable(numWords);
+        final long[] tuple = new long[numWords];
+
+        initialTuple(tuple);
+        table.intern(tuple);
+
+        if (isAccepting(table, 0) == accepting) {
+            return Word.epsilon();
+        }
+
+        int[] parents = new int[16];
+        int[] symbols = new int[16];
+
+        for (int curr = 0; curr < table.size(); curr++) {
+            for (int i = 0; i < numInputs; i++) {
+                successorTuple(table, curr, i, tuple);
+
+                final int size = table.size();
+                final int succ = table.intern(tuple);
+
+                if (succ == size) {
+                    if (succ == parents.length) {
+                        parents = Arrays.copyOf(parents, succ * 2);
+                        symbols = Arrays.copyOf(symbols, succ * 2);
+                    }
+
+                    parents[succ] = curr;
+                    symbols[succ] = i;
+
+                    if (isAccepting(table, succ) == accepting) {
+                        return buildWord(parents, symbols, succ);
+                    }
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private void initialTuple(long[] tuple) {
+        Arrays.fill(tuple, 0L);
+        for (int k = 0; k < abstractions.length; k++) {
+            setComponent(tuple, k, abstractions[k].getIntInitialState());
+        }
+    }
+
+    private void successorTuple(LongVectorTable table, int id, int inputIdx, long[] tuple) {
+        Arrays.fill(tuple, 0L);
+        for (int k = 0; k < abstractions.length; k++) {
+            final int state = getComponent(table, id, k);
+            setComponent(tuple, k, state < 0 ? state : abstractions[k].getSuccessor(state, inputIdx));
+        }
+    }
+
+    private boolean isAccepting(LongVectorTable table, int id) {
+        boolean result = isAccepting(table, id, 0);
+        for (int k = 1; k < abstractions.length; k++) {
+            result = combiner.combine(result, isAccepting(table, id, k));
+        }
+        return result;
+    }
+
+    private boolean isAccepting(LongVectorTable table, int id, int component) {
+        final int state = getComponent(table, id, component);
+        return state >= 0 && abstractions[component].getStateProperty(state);
+    }
+
+    private int getComponent(LongVectorTable table, int id, int component) {
+        final long word = table.getWord(id, component >>> 1);
+        return (int) (word >>> ((component & 1) * Integer.SIZE));
+    }
+
+    private static void setComponent(long[] tuple, int component, int state) {
+        tuple[component >>> 1] |= (state & LOWER_MASK) << ((component & 1) * Integer.SIZE);
+    }
+
+    private Word<I> buildWord(int[] parents, int[] symbols, int target) {
+        int length = 0;
+        for (int s = target; s > 0; s = parents[s]) {
+            length++;
+        }
+
+        @SuppressWarnings("nullness") // we make sure to set each index to a value of type I
+        final WordBuilder<I> wb = new WordBuilder<>(null, length);
+
+        for (int s = target; s > 0; s = parents[s]) {
+            wb.setSymbol(--length, alphabet.getSymbol(symbols[s]));
+        }
+
+        return wb.toWord();
+    }
+}
@@ -0,0 +1,245 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.fsa;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.ts.AcceptorPowersetViewTS;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A parallel subset construction that explores the powerset of an NFA level by level (i.e., in breadth-first order).
+ * The subsets of each level are expanded concurrently by the tasks of a {@link ForkJoinPool} and registered in a
+ * {@link ConcurrentHashMap} so that every subset is discovered exactly once.
+ * <p>
+ * Since the discovery order within a level depends on the scheduling of the tasks, the state numbering of the
+ * constructed DFA is not deterministic. Optionally, the states can be renumbered in the order in which the sequential
+ * construction of {@link NFAs#determinize(net.automatalib.automaton.fsa.NFA, java.util.Collection,
+ * net.automatalib.automaton.fsa.MutableDFA, boolean, boolean)} discovers them, yielding an identical DFA.
+ * <p>
+ * <b>Note:</b> the construction requires that the powerset view can be queried concurrently, which is the case for
+ * all (unmodified) NFA implementations of AutomataLib.
+ */
+final class ParallelNFADeterminizer {
+
+    // the number of subsets a single task expands sequentially before forking
+    private static final int SEQUENTIAL_THRESHOLD = 32;
+
+    private ParallelNFADeterminizer() {
+        // prevent instantiation
+    }
+
+    static <SI, I> CompactDFA<I> determinize(AcceptorPowersetViewTS<SI, I, ?> powerset,
+                                             Alphabet<I> alphabet,
+                                             boolean partial,
+                                             boolean canonical,
+                                             ForkJoinPool pool) {
+
+        final CompactDFA<I> out = new CompactDFA<>(alphabet);
+        final SI init = powerset.getInitialState();
+
+        if (init == null) {
+            return out;
+        }
+
+        final ConcurrentMap<SI, Node<SI>> registry = new ConcurrentHashMap<>();
+        final Node<SI> initNode = new Node<>(init, powerset.isAccepting(init), alphabet.size());
+        registry.put(init, initNode);
+
+        final List<Node<SI>> nodes = new ArrayList<>();
+        List<Node<SI>> frontier = Collections.singletonList(initNode);
+
+        while (!frontier.isEmpty()) {
+            nodes.addAll(frontier);
+            final ExpandTask<SI, I> task = new ExpandTask<>(powerset, alphabet, partial, registry, frontier);
+            frontier = pool.invoke(task);
+        }
+
+        if (canonical) {
+            renumberCanonically(nodes.get(0), nodes.size(), alphabet.size());
+        } else {
+            for (int i = 0; i < nodes.size(); i++) {
+                nodes.get(i).id = i;
+            }
+        }
+
+        final int numStates = nodes.size();
+        final int numInputs = alphabet.size();
+        @SuppressWarnings("unchecked")
+        final Node<SI>[] ordered = new Node[numStates];
+
+        for (Node<SI> n : nodes) {
+            ordered[n.id] = n;
+        }
+
+        out.addInitialState(ordered[0].accepting);
+        for (int i = 1; i < numStates; i++) {
+            out.addState(ordered[i].accepting);
+        }
+
+        for (int i = 0; i < numStates; i++) {
+            final Node<SI> n = ordered[i];
+            for (int j = 0; j < numInputs; j++) {
+                final Node<SI> succ = n.successors[j];
+                if (succ != null) {
+                    out.setTransition(i, j, succ.id);
+                }
+            }
+        }
+
+        return out;
+    }
+
+    /**
+     * Assigns the ids in the order in which the (stack-based) sequential construction discovers the subsets.
+     */
+    private static <SI> void renumberCanonically(Node<SI> init, int numNodes, int numInputs) {
+        @SuppressWarnings("unchecked")
+        final Node<SI>[] stack = new Node[numNodes];
+        int stackSize = 0;
+        int nextId = 0;
+
+        init.id = nextId++;
+        stack[stackSize++] = init;
+
+        while (stackSize > 0) {
+            final Node<SI> curr = stack[--stackSize];
+            for (int i = 0; i < numInputs; i++) {
+                final Node<SI> succ = curr.successors[i];
+                if (succ != null && succ.id < 0) {
+                    succ.id = nextId++;
+                    stack[stackSize++] = succ;
+                }
+            }
+        }
+    }
+
+    private static final class Node<SI> {
+
+        private final SI subset;
+        private final boolean accepting;
+        private final @Nullable Node<SI>[] successors;
+        private int id = -1;
+
+        @SuppressWarnings("unchecked")
+        Node(SI subset, boolean accepting, int numInputs) {
+            this.subset = subset;
+            this.accepting = accepting;
+            this.successors = new Node[numInputs];
+        }
+    }
+
+    /**
+     * Expands a range of the current frontier and returns the newly discovered subsets (in a deterministic order
+     * w.r.t. the range, but not w.r.t. concurrently running tasks).
+     */
+    private static final class ExpandTask<SI, I> extends RecursiveTask<List<Node<SI>>> {
+
+        private final AcceptorPowersetViewTS<SI, I, ?> powerset;
+        private final Alphabet<I> alphabet;
+        private final boolean partial;
+        private final ConcurrentMap<SI, Node<SI>> registry;
+        private final List<Node<SI>> frontier;
+        private final int low;
+        private final int high;
+
+        ExpandTask(AcceptorPowersetViewTS<SI, I, ?> powerset,
+                   Alphabet<I> alphabet,
+                   boolean partial,
+                   ConcurrentMap<SI, Node<SI>> registry,
+                   List<Node<SI>> frontier) {
+            this(powerset, alphabet, partial, registry, frontier, 0, frontier.size());
+        }
+
+        private ExpandTask(AcceptorPowersetViewTS<SI, I, ?> powerset,
+                           Alphabet<I> alphabet,
+                           boolean partial,
+                           ConcurrentMap<SI, Node<SI>> registry,
+                           List<Node<SI>> frontier,
+                           int low,
+                           int high) {
+            this.powerset = powerset;
+            this.alphabet = alphabet;
+            this.partial = partial;
+            this.registry = registry;
+            this.frontier = frontier;
+            this.low = low;
+            this.high = high;
+        }
+
+        @Override
+        protected List<Node<SI>> compute() {
+            if (high - low <= SEQUENTIAL_THRESHOLD) {
+                return expand();
+            }
+
+            final int mid = (low + high) >>> 1;
+            final ExpandTask<SI, I> left =
+                    new ExpandTask<>(powerset, alphabet, partial, registry, frontier, low, mid);
+            final ExpandTask<SI, I> right =
+                    new ExpandTask<>(powerset, alphabet, partial, registry, frontier, mid, high);
+
+            left.fork();
+            final List<Node<SI>> rightResult = right.compute();
+            final List<Node<SI>> leftResult = left.join();
+
+            leftResult.addAll(rightResult);
+            return leftResult;
+        }
+
+        private List<Node<SI>> expand() {
+            final List<Node<SI>> discovered = new ArrayList<>();
+            final int numInputs = alphabet.size();
+
+            for (int i = low; i < high; i++) {
+                final Node<SI> curr = frontier.get(i);
+
+                for (int j = 0; j < numInputs; j++) {
+                    final SI succ = powerset.getSuccessor(curr.subset, alphabet.getSymbol(j));
+
+                    if (succ == null) {
+                        if (!partial) {
+                            throw new IllegalStateException("Cannot create a total DFA from a partial powerset view");
+                        }
+                        continue;
+                    }
+
+                    Node<SI> succNode = registry.get(succ);
+                    if (succNode == null) {
+                        final Node<SI> newNode = new Node<>(succ, powerset.isAccepting(succ), numInputs);
+                        succNode = registry.putIfAbsent(succ, newNode);
+                        if (succNode == null) {
+                            succNode = newNode;
+                            discovered.add(newNode);
+                        }
+                    }
+
+                    curr.successors[j] = succNode;
+                }
+            }
+
+            return discovered;
+        }
+    }
+}
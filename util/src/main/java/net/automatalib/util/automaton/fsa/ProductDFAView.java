@@ -0,0 +1,255 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.fsa;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.UniversalDeterministicAutomaton.FullIntAbstraction;
+import net.automatalib.automaton.fsa.DFA;
+import net.automatalib.ts.acceptor.DeterministicAcceptorTS;
+import net.automatalib.util.ts.acceptor.AcceptanceCombiner;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A lazy view on the product of two {@link DFA}s. The states of the product are represented by {@code long}s that pack
+ * the (integer) ids of the two component states. Product states are only computed on demand, i.e., nothing is
+ * materialized upon construction.
+ * <p>
+ * Undefined transitions of the component DFAs are treated as transitions into an implicit, rejecting sink (represented
+ * by the id {@link FullIntAbstraction#INVALID_STATE}). Hence, the product itself is always complete and behaves like
+ * the product of the completed DFAs.
+ *
+ * @param <I>
+ *         input symbol type
+ */
+final class ProductDFAView<I> implements DeterministicAcceptorTS<Long, I> {
+
+    private final Alphabet<I> alphabet;
+    private final FullIntAbstraction<?, Boolean, Void> abs1;
+    private final FullIntAbstraction<?, Boolean, Void> abs2;
+    private final AcceptanceCombiner combiner;
+
+    ProductDFAView(DFA<?, I> dfa1, DFA<?, I> dfa2, Alphabet<I> alphabet, AcceptanceCombiner combiner) {
+        this.alphabet = alphabet;
+        this.abs1 = dfa1.fullIntAbstraction(alphabet);
+        this.abs2 = dfa2.fullIntAbstraction(alphabet);
+        this.combiner = combiner;
+    }
+
+    static long pack(int s1, int s2) {
+        return ((long) s1 << Integer.SIZE) | (s2 & 0xFFFFFFFFL);
+    }
+
+    static int first(long state) {
+        return (int) (state >> Integer.SIZE);
+    }
+
+    static int second(long state) {
+        return (int) state;
+    }
+
+    @Override
+    public Long getInitialState() {
+        return getIntInitialState();
+    }
+
+    @Override
+    public Long getTransition(Long state, I input) {
+        return getSuccessor(state.longValue(), alphabet.getSymbolIndex(input));
+    }
+
+    @Override
+    public boolean isAccepting(Long state) {
+        return isAccepting(state.longValue());
+    }
+
+    long getIntInitialState() {
+        return pack(abs1.getIntInitialState(), abs2.getIntInitialState());
+    }
+
+    long getSuccessor(long state, int inputIdx) {
+        final int s1 = first(state);
+        final int s2 = second(state);
+        final int succ1 = s1 < 0 ? FullIntAbstraction.INVALID_STATE : abs1.getSuccessor(s1, inputIdx);
+        final int succ2 = s2 < 0 ? FullIntAbstraction.INVALID_STATE : abs2.getSuccessor(s2, inputIdx);
+        return pack(succ1, succ2);
+    }
+
+    boolean isAccepting(long state) {
+        final int s1 = first(state);
+        final int s2 = second(state);
+        final boolean acc1 = s1 >= 0 && abs1.getStateProperty(s1);
+        final boolean acc2 = s2 >= 0 && abs2.getStateProperty(s2);
+        return combiner.combine(acc1, acc2);
+    }
+
+    /**
+     * Searches (in breadth-first order) for an accepted word of this product. Only the reachable product states are
+     * explored and the search terminates as soon as the first accepting product state has been discovered.
+     *
+     * @param inputs
+     *         the input symbols to consider
+     *
+     * @return a shortest accepted word, or {@code null} if the product (restricted to the given inputs) accepts the
+     * empty language
+     */
+    @Nullable Word<I> findAcceptedWord(Collection<? extends I> inputs) {
+
+        final long init = getIntInitialState();
+
+        if (isAccepting(init)) {
+            return Word.epsilon();
+        }
+
+        final int numInputs = inputs.size();
+        final int[] inputIndices = new int[numInputs];
+
+        int idx = 0;
+        for (I i : inputs) {
+            inputIndices[idx++] = alphabet.getSymbolIndex(i);
+        }
+
+        final StateIndex index = new StateIndex();
+        long[] states = new long[16];
+        int[] parents = new int[16];
+        int[] symbols = new int[16];
+        int size = 0;
+
+        index.putIfAbsent(init, size);
+        states[size++] = init;
+
+        for (int head = 0; head < size; head++) {
+            final long curr = states[head];
+
+            for (int i = 0; i < numInputs; i++) {
+                final long succ = getSuccessor(curr, inputIndices[i]);
+
+                if (index.putIfAbsent(succ, size) >= 0) {
+                    continue;
+                }
+
+                if (size == states.length) {
+                    final int newCapacity = size * 2;
+                    states = Arrays.copyOf(states, newCapacity);
+                    parents = Arrays.copyOf(parents, newCapacity);
+                    symbols = Arrays.copyOf(symbols, newCapacity);
+                }
+
+                states[size] = succ;
+                parents[size] = head;
+                symbols[size] = inputIndices[i];
+
+                if (isAccepting(succ)) {
+                    return buildWord(parents, symbols, size);
+                }
+
+                size++;
+            }
+        }
+
+        return null;
+    }
+
+    private Word<I> buildWord(int[] parents, int[] symbols, int target) {
+        int length = 0;
+        for (int s = target; s > 0; s = parents[s]) {
+            length++;
+        }
+
+        @SuppressWarnings("nullness") // we make sure to set each index to a value of type I
+        final WordBuilder<I> wb = new WordBuilder<>(null, length);
+
+        for (int s = target; s > 0; s = parents[s]) {
+            wb.setSymbol(--length, alphabet.getSymbol(symbols[s]));
+        }
+
+        return wb.toWord();
+    }
+
+    /**
+     * A primitive (open-addressing) hash index from packed product states to their discovery index.
+     */
+    private static final class StateIndex {
+
+        private static final int EMPTY = -1;
+
+        private long[] keys = new long[32];
+        private int[] values = new int[32];
+        private int size;
+
+        StateIndex() {
+            Arrays.fill(values, EMPTY);
+        }
+
+        /**
+         * Stores the given value for the given key, unless the key is already contained.
+         *
+         * @return the previously stored value, or {@code -1} if the key has been newly added
+         */
+        int putIfAbsent(long key, int value) {
+            final int mask = keys.length - 1;
+            int slot = hash(key) & mask;
+
+            int existing;
+            while ((existing = values[slot]) != EMPTY) {
+                if (keys[slot] == key) {
+                    return existing;
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            keys[slot] = key;
+            values[slot] = value;
+
+            if (++size * 2 > keys.length) {
+                rehash();
+            }
+
+            return EMPTY;
+        }
+
+        private void rehash() {
+            final long[] oldKeys = keys;
+            final int[] oldValues = values;
+            final int newCapacity = oldKeys.length * 2;
+            final int mask = newCapacity - 1;
+
+            keys = new long[newCapacity];
+            values = new int[newCapacity];
+            Arrays.fill(values, EMPTY);
+
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] != EMPTY) {
+                    int slot = hash(oldKeys[i]) & mask;
+                    while (values[slot] != EMPTY) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+
+        private static int hash(long key) {
+            final long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
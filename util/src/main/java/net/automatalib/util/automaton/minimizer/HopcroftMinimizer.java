@@ -16,6 +16,7 @@
 package net.automatalib.util.automaton.minimizer;
 
 import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
@@ -43,6 +44,7 @@ import net.automatalib.util.partitionrefinement.HopcroftExtractors;
 import net.automatalib.util.partitionrefinement.HopcroftInitializers;
 import net.automatalib.util.partitionrefinement.PruningMode;
 import net.automatalib.util.partitionrefinement.StateSignature;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Hopcroft's minimization algorithm for deterministic finite automata.
@@ -65,6 +67,12 @@ import net.automatalib.util.partitionrefinement.StateSignature;
  * {@link #minimizePartialDFA(DFA) minimizePartial...} methods may result in the artificial sink state being included in
  * the final automaton. For methods that do not provide a {@code pruningMode} parameter, the default is
  * {@link PruningMode#PRUNE_AFTER}.
+ * <p>
+ * For very large automata, the {@code ...Parallel} methods (as well as the methods that accept a {@link ForkJoinPool})
+ * compute the state equivalences in parallel (see {@link Hopcroft#computeCoarsestStablePartition(ForkJoinPool)}).
+ * Since the coarsest stable partition is unique, the parallel computation yields the same state equivalences as the
+ * sequential one. With {@link PruningMode#PRUNE_AFTER}, the resulting automata are even identical (including the
+ * numbering of their states), with the other pruning modes they may only differ in the numbering of their states.
  */
 public final class HopcroftMinimizer {
 
@@ -149,6 +157,29 @@ public final class HopcroftMinimizer {
         return minimizeUniversal(dfa, alphabet, pruningMode, AutomatonInitialPartitioning.BY_STATE_PROPERTY, creator);
     }
 
+    /**
+     * Minimizes the given, complete DFA. The result is returned in the form of a {@link CompactDFA}, and pruning is
+     * performed after computing state equivalences. The state equivalences are computed in parallel, using the
+     * {@link ForkJoinPool#commonPool() common pool}. The result is identical to {@link #minimizeDFA(DFA, Alphabet)}.
+     *
+     * @param dfa
+     *         the DFA to minimize
+     * @param alphabet
+     *         the input alphabet (this will be the input alphabet of the returned DFA)
+     * @param <I>
+     *         input symbol type
+     *
+     * @return a minimized version of the specified DFA
+     */
+    public static <I> CompactDFA<I> minimizeDFAParallel(DFA<?, I> dfa, Alphabet<I> alphabet) {
+        return minimizeUniversal(dfa,
+                                 alphabet,
+                                 PruningMode.PRUNE_AFTER,
+                                 AutomatonInitialPartitioning.BY_STATE_PROPERTY,
+                                 new CompactDFA.Creator<>(),
+                                 ForkJoinPool.commonPool());
+    }
+
     /**
      * Minimizes the given, complete DFA. The result is written directly to the input DFA.
      *
@@ -348,6 +379,33 @@ public final class HopcroftMinimizer {
                                  creator);
     }
 
+    /**
+     * Minimizes the given, complete Mealy machine. The result is returned in the form of a {@link CompactMealy}, and
+     * pruning is performed after computing state equivalences. The state equivalences are computed in parallel, using
+     * the {@link ForkJoinPool#commonPool() common pool}. The result is identical to
+     * {@link #minimizeMealy(MealyMachine, Alphabet)}.
+     *
+     * @param mealy
+     *         the Mealy machine to minimize
+     * @param alphabet
+     *         the input alphabet (this will be the input alphabet of the resulting Mealy machine)
+     * @param <I>
+     *         input symbol type
+     * @param <O>
+     *         output symbol type
+     *
+     * @return a minimized version of the specified Mealy machine
+     */
+    public static <I, O> CompactMealy<I, O> minimizeMealyParallel(MealyMachine<?, I, ?, O> mealy,
+                                                                  Alphabet<I> alphabet) {
+        return minimizeUniversal(mealy,
+                                 alphabet,
+                                 PruningMode.PRUNE_AFTER,
+                                 AutomatonInitialPartitioning.BY_TRANSITION_PROPERTIES,
+                                 new CompactMealy.Creator<>(),
+                                 ForkJoinPool.commonPool());
+    }
+
     /**
      * Minimizes the given, complete Mealy machine. The result is written directly to the input Mealy machine.
      *
@@ -573,12 +631,51 @@ public final class HopcroftMinimizer {
             PruningMode pruningMode,
             AutomatonInitialPartitioning ip,
             AutomatonCreator<A, I> creator) {
+        return minimizeUniversal(automaton, alphabet, pruningMode, ip, creator, null);
+    }
+
+    /**
+     * Minimizes the given, complete automaton depending on the given partitioning function. The result is returned in
+     * the form of the automaton created by the given creator. If a {@link ForkJoinPool} is given, the state
+     * equivalences are computed in parallel.
+     *
+     * @param automaton
+     *         the automaton to minimize
+     * @param alphabet
+     *         the input alphabet (this will be the input alphabet of the resulting Mealy machine)
+     * @param pruningMode
+     *         the pruning mode
+     * @param ip
+     *         the initial partitioning function, determining how states will be distinguished
+     * @param creator
+     *         the creator for constructing the automata instance to return
+     * @param pool
+     *         the pool used for computing the state equivalences in parallel, or {@code null} if the state equivalences
+     *         should be computed sequentially
+     * @param <I>
+     *         input symbol type
+     * @param <SP>
+     *         state property type
+     * @param <TP>
+     *         transition property type
+     * @param <A>
+     *         automaton type
+     *
+     * @return the minimized automaton, initially constructed from the given {@code creator}.
+     */
+    public static <I, SP, TP, A extends MutableDeterministic<?, I, ?, SP, TP>> A minimizeUniversal(
+            UniversalDeterministicAutomaton<?, I, ?, SP, TP> automaton,
+            Alphabet<I> alphabet,
+            PruningMode pruningMode,
+            AutomatonInitialPartitioning ip,
+            AutomatonCreator<A, I> creator,
+            @Nullable ForkJoinPool pool) {
 
         final FullIntAbstraction<?, SP, TP> abs = automaton.fullIntAbstraction(alphabet);
         final Hopcroft hopcroft =
                 HopcroftInitializers.initializeComplete(abs, ip, pruningMode == PruningMode.PRUNE_BEFORE);
 
-        hopcroft.computeCoarsestStablePartition();
+        computeCoarsestStablePartition(hopcroft, pool);
 
         return HopcroftExtractors.toDeterministic(hopcroft,
                                                   creator,
@@ -762,6 +859,48 @@ public final class HopcroftMinimizer {
             AutomatonInitialPartitioning ip,
             Object sinkClassification,
             AutomatonCreator<A, I> creator) {
+        return minimizePartialUniversal(automaton, alphabet, pruningMode, ip, sinkClassification, creator, null);
+    }
+
+    /**
+     * Minimizes the given, potentially partial automaton depending on the given partitioning function. The result is
+     * returned in the form of the automaton created by the given creator. If a {@link ForkJoinPool} is given, the state
+     * equivalences are computed in parallel.
+     *
+     * @param automaton
+     *         the automaton to minimize
+     * @param alphabet
+     *         the input alphabet (this will be the input alphabet of the resulting Mealy machine)
+     * @param pruningMode
+     *         the pruning mode
+     * @param ip
+     *         the initial partitioning function, determining how states will be distinguished
+     * @param sinkClassification
+     *         the signature identifying the artificial sink state
+     * @param creator
+     *         the creator for constructing the automata instance to return
+     * @param pool
+     *         the pool used for computing the state equivalences in parallel, or {@code null} if the state equivalences
+     *         should be computed sequentially
+     * @param <I>
+     *         input symbol type
+     * @param <SP>
+     *         state property type
+     * @param <TP>
+     *         transition property type
+     * @param <A>
+     *         automaton type
+     *
+     * @return the minimized automaton, initially constructed from the given {@code creator}.
+     */
+    public static <I, SP, TP, A extends MutableDeterministic<?, I, ?, SP, TP>> A minimizePartialUniversal(
+            UniversalDeterministicAutomaton<?, I, ?, SP, TP> automaton,
+            Alphabet<I> alphabet,
+            PruningMode pruningMode,
+            AutomatonInitialPartitioning ip,
+            Object sinkClassification,
+            AutomatonCreator<A, I> creator,
+            @Nullable ForkJoinPool pool) {
 
         final FullIntAbstraction<?, SP, TP> abs = automaton.fullIntAbstraction(alphabet);
         final Hopcroft hopcroft = HopcroftInitializers.initializePartial(abs,
@@ -769,7 +908,7 @@ public final class HopcroftMinimizer {
                                                                          sinkClassification,
                                                                          pruningMode == PruningMode.PRUNE_BEFORE);
 
-        hopcroft.computeCoarsestStablePartition();
+        computeCoarsestStablePartition(hopcroft, pool);
 
         return HopcroftExtractors.toDeterministic(hopcroft,
                                                   creator,
@@ -781,6 +920,14 @@ public final class HopcroftMinimizer {
 
     }
 
+    private static void computeCoarsestStablePartition(Hopcroft hopcroft, @Nullable ForkJoinPool pool) {
+        if (pool == null) {
+            hopcroft.computeCoarsestStablePartition();
+        } else {
+            hopcroft.computeCoarsestStablePartition(pool);
+        }
+    }
+
     private static <I, SP, TP, A extends MutableDeterministic<?, I, ?, SP, TP>> A minimizeInvasive(A automaton,
                                                                                                    Collection<? extends I> alphabet,
                                                                                                    AutomatonInitialPartitioning ip,
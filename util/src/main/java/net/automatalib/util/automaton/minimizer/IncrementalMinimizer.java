@@ -0,0 +1,840 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.minimizer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.AutomatonCreator;
+import net.automatalib.automaton.MutableDeterministic;
+import net.automatalib.automaton.UniversalDeterministicAutomaton;
+import net.automatalib.automaton.UniversalDeterministicAutomaton.FullIntAbstraction;
+import net.automatalib.common.util.collection.CollectionUtil;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An incremental minimizer for deterministic automata. This class maintains the coarsest stable partition (i.e., the
+ * classes of equivalent states) of a (mutable) deterministic automaton and allows to update it after the automaton has
+ * been modified, such that the minimal automaton does not have to be re-computed from scratch after each modification.
+ * <p>
+ * After modifying the automaton (e.g., redirecting transitions, changing state or transition properties, or adding
+ * states), {@link #update(int...)} needs to be called with the IDs of all states whose outgoing transitions or
+ * properties have changed (states that have been added since the last update are detected automatically). The update
+ * then
+ * <ul>
+ * <li>re-splits only the blocks that (transitively) depend on the modified states, and</li>
+ * <li>re-merges blocks that became equivalent. Merge candidates are determined by means of fingerprints that
+ * summarize the behavior of a state up to a fixed depth, and are subsequently verified by a Hopcroft-Karp-style
+ * equivalence check on the current partition.</li>
+ * </ul>
+ * As a result, the effort of an update is typically proportional to the (backwards) neighborhood of the modified
+ * states rather than to the size of the automaton. Note, however, that single modifications may cause arbitrarily
+ * large changes of the minimal automaton.
+ * <p>
+ * The partition covers all states of the automaton, including unreachable ones. The minimal automaton can be accessed
+ * either via a {@link #getQuotient() live view} or {@link #toQuotient(AutomatonCreator) copied} to a new automaton.
+ * <p>
+ * Note that the partition (and therefore the quotient) only reflects modifications of the automaton once
+ * {@link #update(int...)} has been called. Removing states from the automaton is not supported.
+ *
+ * @param <I>
+ *         input symbol type
+ * @param <T>
+ *         transition type
+ * @param <SP>
+ *         state property type
+ * @param <TP>
+ *         transition property type
+ */
+public final class IncrementalMinimizer<I, T, SP, TP> {
+
+    private static final int FINGERPRINT_DEPTH = 3;
+    private static final int FINGERPRINT_UNDEFINED = 0x2545F491;
+    private static final int FINGERPRINT_FACTOR = 0x9E3779B9;
+
+    private final FullIntAbstraction<T, SP, TP> automaton;
+    private final Alphabet<I> alphabet;
+    private final int numInputs;
+
+    private int numStates;
+    private int[] successors;
+    private int[][] predecessors;
+    private int[] numPredecessors;
+    // fingerprints[d][s] summarizes the behavior of state s up to depth d
+    private final int[][] fingerprints;
+
+    private Block[] blockForState;
+    private int[] posInBlock;
+    private final List<Block> blocks;
+    private final Map<Integer, List<Block>> register;
+
+    private final ArrayDeque<Block> splitQueue;
+    private final ArrayDeque<Block> mergeQueue;
+    private final List<Block> dirtyBlocks;
+
+    /**
+     * Constructor. Computes the initial partition of the given automaton.
+     *
+     * @param automaton
+     *         the automaton whose states should be partitioned. Subsequent modifications of the automaton need to be
+     *         reported via {@link #update(int...)}
+     * @param alphabet
+     *         the input symbols to consider
+     */
+    public IncrementalMinimizer(UniversalDeterministicAutomaton<?, I, T, SP, TP> automaton, Alphabet<I> alphabet) {
+        this.automaton = automaton.fullIntAbstraction(alphabet);
+        this.alphabet = alphabet;
+        this.numInputs = alphabet.size();
+
+        this.successors = new int[0];
+        this.predecessors = new int[0][];
+        this.numPredecessors = new int[0];
+        this.fingerprints = new int[FINGERPRINT_DEPTH + 1][0];
+        this.blockForState = new Block[0];
+        this.posInBlock = new int[0];
+        this.blocks = new ArrayList<>();
+        this.register = new HashMap<>();
+        this.splitQueue = new ArrayDeque<>();
+        this.mergeQueue = new ArrayDeque<>();
+        this.dirtyBlocks = new ArrayList<>();
+
+        final int size = this.automaton.size();
+        ensureCapacity(size);
+        this.numStates = size;
+
+        if (size > 0) {
+            final Block initial = createBlock();
+            final int[] states = new int[size];
+            for (int s = 0; s < size; s++) {
+                addToBlock(initial, s);
+                updateSuccessors(s);
+                states[s] = s;
+            }
+            for (int s = 0; s < size; s++) {
+                touch(s);
+            }
+
+            refine();
+            updateFingerprints(states, size);
+
+            for (Block b : blocks) {
+                registerBlock(b);
+            }
+        }
+
+        clearDirtyBlocks();
+    }
+
+    /**
+     * Updates the partition after the automaton has been modified.
+     *
+     * @param modifiedStates
+     *         the IDs of the states whose state property or outgoing transitions (successors or transition properties)
+     *         have been modified since the last update. States that have been added to the automaton since the last
+     *         update do not need to be included
+     */
+    public void update(int... modifiedStates) {
+        final int oldSize = this.numStates;
+        final int newSize = automaton.size();
+
+        ensureCapacity(newSize);
+        this.numStates = newSize;
+
+        final BitSet isChanged = new BitSet(newSize);
+        int[] changed = new int[modifiedStates.length + newSize - oldSize];
+        int numChanged = 0;
+
+        for (int s = oldSize; s < newSize; s++) {
+            addToBlock(createBlock(), s);
+            isChanged.set(s);
+            changed[numChanged++] = s;
+        }
+
+        for (int s : modifiedStates) {
+            if (s < 0 || s >= newSize) {
+                throw new IllegalArgumentException("Invalid state: " + s);
+            }
+            if (!isChanged.get(s)) {
+                isChanged.set(s);
+                changed[numChanged++] = s;
+            }
+        }
+
+        changed = Arrays.copyOf(changed, numChanged);
+
+        // split phase
+        for (int s : changed) {
+            updateSuccessors(s);
+        }
+        for (int s : changed) {
+            touch(s);
+        }
+        refine();
+
+        // the partition is stable now, so all states of a block share the same fingerprint
+        for (int s : updateFingerprints(changed, numChanged)) {
+            markDirty(blockForState[s]);
+        }
+        for (Block b : dirtyBlocks) {
+            if (b.id >= 0) {
+                registerBlock(b);
+            }
+        }
+        clearDirtyBlocks();
+
+        // merge phase
+        for (int s : changed) {
+            enqueueMerge(blockForState[s]);
+        }
+        merge();
+    }
+
+    /**
+     * Returns the number of blocks (i.e., the number of states of the quotient automaton).
+     *
+     * @return the number of blocks
+     */
+    public int getNumBlocks() {
+        return blocks.size();
+    }
+
+    /**
+     * Returns the ID of the block (i.e., the state of the quotient automaton) the given state belongs to. Block IDs
+     * range from {@code 0} (inclusive) to {@link #getNumBlocks()} (exclusive) and may change upon {@link
+     * #update(int...) updates}.
+     *
+     * @param state
+     *         the state ID
+     *
+     * @return the ID of the block of the given state
+     */
+    public int getBlockId(int state) {
+        return blockForState[state].id;
+    }
+
+    /**
+     * Returns a live view on the quotient (i.e., minimal) automaton induced by the current partition. States of the
+     * view are block IDs and transitions are transitions of the original automaton. The view reflects the partition
+     * after the latest {@link #update(int...) update}, and is therefore not valid anymore once the automaton has been
+     * modified (until the next update).
+     *
+     * @return a view on the quotient automaton
+     */
+    public UniversalDeterministicAutomaton<Integer, I, T, SP, TP> getQuotient() {
+        return new QuotientView();
+    }
+
+    /**
+     * Copies the quotient (i.e., minimal) automaton induced by the current partition into a new automaton. The state
+     * with ID {@code i} of the returned automaton corresponds to the block with ID {@code i}.
+     *
+     * @param creator
+     *         the creator for constructing the automata instance to return
+     * @param <A>
+     *         automaton type
+     *
+     * @return the quotient automaton
+     */
+    public <A extends MutableDeterministic<?, I, ?, SP, TP>> A toQuotient(AutomatonCreator<A, I> creator) {
+        final int numBlocks = blocks.size();
+        final A result = creator.createAutomaton(alphabet, numBlocks);
+        final MutableDeterministic.FullIntAbstraction<?, SP, TP> resultAbs = result.fullIntAbstraction(alphabet);
+
+        for (Block b : blocks) {
+            resultAbs.addIntState(automaton.getStateProperty(b.states[0]));
+        }
+
+        for (Block b : blocks) {
+            final int rep = b.states[0];
+            for (int i = 0; i < numInputs; i++) {
+                final T trans = automaton.getTransition(rep, i);
+                if (trans != null) {
+                    final int succ = blockForState[automaton.getIntSuccessor(trans)].id;
+                    resultAbs.setTransition(b.id, i, succ, automaton.getTransitionProperty(trans));
+                }
+            }
+        }
+
+        final int init = automaton.getIntInitialState();
+        if (init >= 0) {
+            resultAbs.setInitialState(blockForState[init].id);
+        }
+
+        return result;
+    }
+
+    private void ensureCapacity(int size) {
+        final int oldCapacity = blockForState.length;
+        if (size <= oldCapacity) {
+            return;
+        }
+
+        final int newCapacity = Math.max(size, oldCapacity + (oldCapacity >> 1));
+        this.blockForState = Arrays.copyOf(blockForState, newCapacity);
+        this.posInBlock = Arrays.copyOf(posInBlock, newCapacity);
+        this.predecessors = Arrays.copyOf(predecessors, newCapacity);
+        this.numPredecessors = Arrays.copyOf(numPredecessors, newCapacity);
+        for (int d = 0; d <= FINGERPRINT_DEPTH; d++) {
+            fingerprints[d] = Arrays.copyOf(fingerprints[d], newCapacity);
+        }
+
+        final int oldLength = successors.length;
+        this.successors = Arrays.copyOf(successors, newCapacity * numInputs);
+        Arrays.fill(successors, oldLength, successors.length, FullIntAbstraction.INVALID_STATE);
+    }
+
+    /*
+     * Synchronizes the stored successors (and therefore predecessors) of the given state with the automaton.
+     */
+    private void updateSuccessors(int state) {
+        final int base = state * numInputs;
+        for (int i = 0; i < numInputs; i++) {
+            final int oldSucc = successors[base + i];
+            final int newSucc = automaton.getSuccessor(state, i);
+            if (oldSucc != newSucc) {
+                if (oldSucc >= 0) {
+                    removePredecessor(oldSucc, state);
+                }
+                if (newSucc >= 0) {
+                    addPredecessor(newSucc, state);
+                }
+                successors[base + i] = newSucc;
+            }
+        }
+    }
+
+    private void addPredecessor(int state, int pred) {
+        int[] preds = predecessors[state];
+        final int num = numPredecessors[state];
+        if (preds == null) {
+            preds = new int[2];
+            predecessors[state] = preds;
+        } else if (num == preds.length) {
+            preds = Arrays.copyOf(preds, num * 2);
+            predecessors[state] = preds;
+        }
+        preds[num] = pred;
+        numPredecessors[state] = num + 1;
+    }
+
+    private void removePredecessor(int state, int pred) {
+        final int[] preds = predecessors[state];
+        final int last = numPredecessors[state] - 1;
+        for (int i = 0; i <= last; i++) {
+            if (preds[i] == pred) {
+                preds[i] = preds[last];
+                numPredecessors[state] = last;
+                return;
+            }
+        }
+    }
+
+    /*
+     * Re-computes the fingerprints of the given states and all states that may be affected by them, i.e., all states
+     * whose fingerprint depends on the fingerprint of a given state. Returns the states whose fingerprints were
+     * re-computed.
+     */
+    private int[] updateFingerprints(int[] states, int num) {
+        final BitSet contained = new BitSet(numStates);
+        int[] affected = Arrays.copyOf(states, Math.max(num, 1));
+        int numAffected = num;
+
+        for (int i = 0; i < num; i++) {
+            contained.set(states[i]);
+        }
+
+        for (int d = 0; d <= FINGERPRINT_DEPTH; d++) {
+            final int[] fps = fingerprints[d];
+            for (int i = 0; i < numAffected; i++) {
+                fps[affected[i]] = computeFingerprint(affected[i], d);
+            }
+
+            if (d < FINGERPRINT_DEPTH) {
+                final int limit = numAffected;
+                for (int i = 0; i < limit; i++) {
+                    final int s = affected[i];
+                    final int[] preds = predecessors[s];
+                    for (int j = 0; j < numPredecessors[s]; j++) {
+                        final int p = preds[j];
+                        if (!contained.get(p)) {
+                            contained.set(p);
+                            if (numAffected == affected.length) {
+                                affected = Arrays.copyOf(affected, numAffected * 2);
+                            }
+                            affected[numAffected++] = p;
+                        }
+                    }
+                }
+            }
+        }
+
+        return Arrays.copyOf(affected, numAffected);
+    }
+
+    private int computeFingerprint(int state, int depth) {
+        int hash = Objects.hashCode(automaton.getStateProperty(state));
+
+        if (depth > 0) {
+            final int[] succFps = fingerprints[depth - 1];
+            for (int i = 0; i < numInputs; i++) {
+                final T trans = automaton.getTransition(state, i);
+                if (trans == null) {
+                    hash = hash * 31 + FINGERPRINT_UNDEFINED;
+                } else {
+                    hash = hash * 31 + Objects.hashCode(automaton.getTransitionProperty(trans));
+                    hash = hash * 31 + succFps[automaton.getIntSuccessor(trans)];
+                }
+            }
+        }
+
+        hash *= FINGERPRINT_FACTOR;
+        return hash ^ (hash >>> 16);
+    }
+
+    private int fingerprint(Block block) {
+        return fingerprints[FINGERPRINT_DEPTH][block.states[0]];
+    }
+
+    private Block createBlock() {
+        final Block b = new Block(blocks.size());
+        blocks.add(b);
+        markDirty(b);
+        return b;
+    }
+
+    private void removeBlock(Block block) {
+        final Block last = blocks.remove(blocks.size() - 1);
+        if (last != block) {
+            blocks.set(block.id, last);
+            last.id = block.id;
+        }
+        block.id = -1;
+    }
+
+    private void addToBlock(Block block, int state) {
+        if (block.size == block.states.length) {
+            block.states = Arrays.copyOf(block.states, block.size * 2);
+        }
+        posInBlock[state] = block.size;
+        block.states[block.size++] = state;
+        blockForState[state] = block;
+    }
+
+    private void removeFromBlock(Block block, int state) {
+        final int pos = posInBlock[state];
+        final int last = block.states[--block.size];
+        block.states[pos] = last;
+        posInBlock[last] = pos;
+    }
+
+    private void markDirty(Block block) {
+        if (!block.dirty) {
+            block.dirty = true;
+            dirtyBlocks.add(block);
+        }
+    }
+
+    private void clearDirtyBlocks() {
+        for (Block b : dirtyBlocks) {
+            b.dirty = false;
+        }
+        dirtyBlocks.clear();
+    }
+
+    private void registerBlock(Block block) {
+        final int fp = fingerprint(block);
+        if (block.registered) {
+            if (block.fingerprint == fp) {
+                return;
+            }
+            unregisterBlock(block);
+        }
+        block.fingerprint = fp;
+        block.registered = true;
+        register.computeIfAbsent(fp, k -> new ArrayList<>()).add(block);
+    }
+
+    private void unregisterBlock(Block block) {
+        final List<Block> bucket = register.get(block.fingerprint);
+        bucket.remove(block);
+        if (bucket.isEmpty()) {
+            register.remove(block.fingerprint);
+        }
+        block.registered = false;
+    }
+
+    /*
+     * Marks the given state as potentially having a different signature than the other states of its block. Within
+     * each block, touched states are kept at the front of the block's states array.
+     */
+    private void touch(int state) {
+        final Block block = blockForState[state];
+        final int pos = posInBlock[state];
+        final int numTouched = block.numTouched;
+
+        if (pos >= numTouched) {
+            final int other = block.states[numTouched];
+            block.states[numTouched] = state;
+            block.states[pos] = other;
+            posInBlock[state] = numTouched;
+            posInBlock[other] = pos;
+            block.numTouched = numTouched + 1;
+
+            if (!block.inSplitQueue) {
+                block.inSplitQueue = true;
+                splitQueue.add(block);
+            }
+        }
+    }
+
+    private void refine() {
+        Block block;
+        while ((block = splitQueue.poll()) != null) {
+            split(block);
+        }
+    }
+
+    /*
+     * Splits the given block according to the signatures of its touched states. Untouched states share the same
+     * signature and therefore remain in the block. If all states are touched, the largest group of states remains in
+     * the block. The predecessors of states that are moved to new blocks are touched in turn.
+     */
+    private void split(Block block) {
+        final int numTouched = block.numTouched;
+        block.numTouched = 0;
+        block.inSplitQueue = false;
+        markDirty(block);
+
+        final int[] touched = Arrays.copyOf(block.states, numTouched);
+        final Map<Signature, Integer> groupIds = new HashMap<>();
+        final int[] groupOf = new int[numTouched];
+        final int[] groupSizes = new int[numTouched + 1];
+        int numGroups = 0;
+
+        // group 0 (if existent) is the group of untouched states
+        if (numTouched < block.size) {
+            groupIds.put(signature(block.states[numTouched]), numGroups++);
+        }
+
+        for (int i = 0; i < numTouched; i++) {
+            final Signature sig = signature(touched[i]);
+            Integer group = groupIds.get(sig);
+            if (group == null) {
+                group = numGroups++;
+                groupIds.put(sig, group);
+            }
+            groupOf[i] = group;
+            groupSizes[group]++;
+        }
+
+        if (numGroups == 1) {
+            return;
+        }
+
+        int remaining = 0;
+        if (numTouched == block.size) {
+            for (int g = 1; g < numGroups; g++) {
+                if (groupSizes[g] > groupSizes[remaining]) {
+                    remaining = g;
+                }
+            }
+        }
+
+        final Block[] newBlocks = new Block[numGroups];
+        for (int i = 0; i < numTouched; i++) {
+            final int group = groupOf[i];
+            if (group != remaining) {
+                Block newBlock = newBlocks[group];
+                if (newBlock == null) {
+                    newBlock = createBlock();
+                    newBlocks[group] = newBlock;
+                }
+                removeFromBlock(block, touched[i]);
+                addToBlock(newBlock, touched[i]);
+            }
+        }
+
+        for (int i = 0; i < numTouched; i++) {
+            if (groupOf[i] != remaining) {
+                final int s = touched[i];
+                final int[] preds = predecessors[s];
+                for (int j = 0; j < numPredecessors[s]; j++) {
+                    touch(preds[j]);
+                }
+            }
+        }
+    }
+
+    private Signature signature(int state) {
+        final @Nullable Object[] properties = new Object[numInputs];
+        final int[] succBlocks = new int[numInputs];
+
+        for (int i = 0; i < numInputs; i++) {
+            final T trans = automaton.getTransition(state, i);
+            if (trans == null) {
+                succBlocks[i] = -1;
+            } else {
+                properties[i] = automaton.getTransitionProperty(trans);
+                succBlocks[i] = blockForState[automaton.getIntSuccessor(trans)].id;
+            }
+        }
+
+        return new Signature(automaton.getStateProperty(state), properties, succBlocks);
+    }
+
+    private void enqueueMerge(Block block) {
+        if (!block.inMergeQueue) {
+            block.inMergeQueue = true;
+            mergeQueue.add(block);
+        }
+    }
+
+    /*
+     * Checks the queued blocks for equivalent blocks (among the blocks with the same fingerprint) and merges them.
+     * Merging blocks changes the signatures of the predecessors of the absorbed states, whose blocks are queued in turn.
+     */
+    private void merge() {
+        Block block;
+        while ((block = mergeQueue.poll()) != null) {
+            block.inMergeQueue = false;
+            if (block.id < 0) {
+                continue;
+            }
+
+            for (Block candidate : new ArrayList<>(register.get(block.fingerprint))) {
+                if (candidate != block && candidate.id >= 0) {
+                    final Map<Block, Block> equivalences = checkEquivalence(block, candidate);
+                    if (equivalences != null) {
+                        mergeAll(equivalences);
+                        // re-check the merged block against the remaining candidates
+                        enqueueMerge(blockForState[candidate.states[0]]);
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /*
+     * Checks whether the given blocks are equivalent using a union-find-based (Hopcroft-Karp) equivalence check on the
+     * quotient. If so, returns the union-find structure that identifies the equivalent blocks, otherwise returns null.
+     */
+    private @Nullable Map<Block, Block> checkEquivalence(Block b1, Block b2) {
+        final Map<Block, Block> parents = new HashMap<>();
+        final ArrayDeque<Block> pairs = new ArrayDeque<>();
+
+        parents.put(b1, b2);
+        pairs.add(b1);
+        pairs.add(b2);
+
+        Block left;
+        while ((left = pairs.poll()) != null) {
+            final Block right = pairs.poll();
+            final int l = left.states[0], r = right.states[0];
+
+            if (!Objects.equals(automaton.getStateProperty(l), automaton.getStateProperty(r))) {
+                return null;
+            }
+
+            for (int i = 0; i < numInputs; i++) {
+                final T lTrans = automaton.getTransition(l, i);
+                final T rTrans = automaton.getTransition(r, i);
+
+                if (lTrans == null || rTrans == null) {
+                    if (lTrans != rTrans) {
+                        return null;
+                    }
+                    continue;
+                }
+
+                if (!Objects.equals(automaton.getTransitionProperty(lTrans), automaton.getTransitionProperty(rTrans))) {
+                    return null;
+                }
+
+                final Block lSucc = blockForState[automaton.getIntSuccessor(lTrans)];
+                final Block rSucc = blockForState[automaton.getIntSuccessor(rTrans)];
+                final Block lRoot = find(parents, lSucc), rRoot = find(parents, rSucc);
+
+                if (lRoot != rRoot) {
+                    // equivalent blocks necessarily share the same fingerprint
+                    if (fingerprint(lSucc) != fingerprint(rSucc)) {
+                        return null;
+                    }
+                    parents.put(lRoot, rRoot);
+                    pairs.add(lSucc);
+                    pairs.add(rSucc);
+                }
+            }
+        }
+
+        return parents;
+    }
+
+    private static Block find(Map<Block, Block> parents, Block block) {
+        Block root = block, parent;
+        while ((parent = parents.get(root)) != null) {
+            root = parent;
+        }
+
+        // path compression
+        Block curr = block;
+        while (curr != root) {
+            final Block next = parents.get(curr);
+            parents.put(curr, root);
+            curr = next;
+        }
+
+        return root;
+    }
+
+    private void mergeAll(Map<Block, Block> parents) {
+        final Map<Block, List<Block>> classes = new HashMap<>();
+        for (Block b : parents.keySet()) {
+            classes.computeIfAbsent(find(parents, b), k -> new ArrayList<>()).add(b);
+        }
+
+        for (Map.Entry<Block, List<Block>> e : classes.entrySet()) {
+            final List<Block> members = e.getValue();
+            members.add(e.getKey());
+
+            Block target = members.get(0);
+            for (Block b : members) {
+                if (b.size > target.size) {
+                    target = b;
+                }
+            }
+
+            for (Block b : members) {
+                if (b != target) {
+                    absorb(target, b);
+                }
+            }
+        }
+    }
+
+    private void absorb(Block target, Block source) {
+        for (int i = 0; i < source.size; i++) {
+            addToBlock(target, source.states[i]);
+        }
+
+        for (int i = 0; i < source.size; i++) {
+            final int s = source.states[i];
+            final int[] preds = predecessors[s];
+            for (int j = 0; j < numPredecessors[s]; j++) {
+                enqueueMerge(blockForState[preds[j]]);
+            }
+        }
+
+        unregisterBlock(source);
+        removeBlock(source);
+    }
+
+    private static final class Block {
+
+        int id;
+        int[] states;
+        int size;
+        int numTouched;
+        int fingerprint;
+        boolean registered;
+        boolean dirty;
+        boolean inSplitQueue;
+        boolean inMergeQueue;
+
+        Block(int id) {
+            this.id = id;
+            this.states = new int[2];
+        }
+    }
+
+    private static final class Signature {
+
+        private final @Nullable Object property;
+        private final @Nullable Object[] transitionProperties;
+        private final int[] successors;
+        private final int hashCode;
+
+        Signature(@Nullable Object property, @Nullable Object[] transitionProperties, int[] successors) {
+            this.property = property;
+            this.transitionProperties = transitionProperties;
+            this.successors = successors;
+            this.hashCode = 31 * (31 * Objects.hashCode(property) + Arrays.hashCode(transitionProperties)) +
+                            Arrays.hashCode(successors);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Signature)) {
+                return false;
+            }
+
+            final Signature that = (Signature) obj;
+            return hashCode == that.hashCode && Arrays.equals(successors, that.successors) &&
+                   Objects.equals(property, that.property) &&
+                   Arrays.equals(transitionProperties, that.transitionProperties);
+        }
+    }
+
+    private final class QuotientView implements UniversalDeterministicAutomaton<Integer, I, T, SP, TP> {
+
+        @Override
+        public Collection<Integer> getStates() {
+            return CollectionUtil.intRange(0, blocks.size());
+        }
+
+        @Override
+        public @Nullable Integer getInitialState() {
+            final int init = automaton.getIntInitialState();
+            return init < 0 ? null : blockForState[init].id;
+        }
+
+        @Override
+        public @Nullable T getTransition(Integer state, I input) {
+            return automaton.getTransition(blocks.get(state).states[0], alphabet.getSymbolIndex(input));
+        }
+
+        @Override
+        public Integer getSuccessor(T transition) {
+            return blockForState[automaton.getIntSuccessor(transition)].id;
+        }
+
+        @Override
+        public SP getStateProperty(Integer state) {
+            return automaton.getStateProperty(blocks.get(state).states[0]);
+        }
+
+        @Override
+        public TP getTransitionProperty(T transition) {
+            return automaton.getTransitionProperty(transition);
+        }
+    }
+}
@@ -15,9 +15,13 @@
  */
 package net.automatalib.util.graph.scc;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Iterator;
 import java.util.List;
 
 import net.automatalib.graph.Graph;
+import net.automatalib.graph.concept.NodeIDs;
 import net.automatalib.util.graph.traversal.GraphTraversal;
 
 /**
@@ -67,6 +71,13 @@ public final class SCCs {
      * @see TarjanSCCVisitor
      */
     public static <N, E> void findSCCs(Graph<N, E> graph, SCCListener<N> listener) {
+        if (graph instanceof Graph.IntAbstraction) {
+            @SuppressWarnings("unchecked")
+            final Graph.IntAbstraction<E> abs = (Graph.IntAbstraction<E>) graph;
+            findSCCs(abs, graph.nodeIDs(), listener);
+            return;
+        }
+
         TarjanSCCVisitor<N, E> vis = new TarjanSCCVisitor<>(graph, listener);
         for (N node : graph) {
             if (!vis.hasVisited(node)) {
@@ -75,4 +86,82 @@ public final class SCCs {
         }
     }
 
+    /*
+     * Specialized (iterative) version of Tarjan's algorithm for graphs that natively operate on integer nodes. All
+     * book-keeping is done in plain arrays, so that neither per-node records nor node mappings need to be allocated.
+     */
+    private static <N, E> void findSCCs(Graph.IntAbstraction<E> graph, NodeIDs<N> nodeIDs, SCCListener<N> listener) {
+        final int n = graph.size();
+
+        // 0 marks unvisited nodes
+        final int[] number = new int[n];
+        final int[] low = new int[n];
+        final BitSet onStack = new BitSet(n);
+        final int[] sccStack = new int[n];
+        final int[] dfsStack = new int[n];
+        @SuppressWarnings("unchecked")
+        final Iterator<E>[] edgeStack = new Iterator[n];
+        final List<N> scc = new ArrayList<>();
+
+        int counter = 0;
+        int sccTop = 0;
+
+        for (int root = 0; root < n; root++) {
+            if (number[root] != 0) {
+                continue;
+            }
+
+            number[root] = ++counter;
+            low[root] = counter;
+            sccStack[sccTop++] = root;
+            onStack.set(root);
+            dfsStack[0] = root;
+            edgeStack[0] = graph.getOutgoingEdgesIterator(root);
+            int dfsTop = 1;
+
+            while (dfsTop > 0) {
+                final int node = dfsStack[dfsTop - 1];
+                final Iterator<E> edges = edgeStack[dfsTop - 1];
+
+                if (edges.hasNext()) {
+                    final int tgt = graph.getIntTarget(edges.next());
+                    if (number[tgt] == 0) {
+                        number[tgt] = ++counter;
+                        low[tgt] = counter;
+                        sccStack[sccTop++] = tgt;
+                        onStack.set(tgt);
+                        dfsStack[dfsTop] = tgt;
+                        edgeStack[dfsTop] = graph.getOutgoingEdgesIterator(tgt);
+                        dfsTop++;
+                    } else if (onStack.get(tgt) && number[tgt] < low[node]) {
+                        low[node] = number[tgt];
+                    }
+                    continue;
+                }
+
+                dfsTop--;
+
+                if (low[node] == number[node]) {
+                    int start = sccTop;
+                    do {
+                        start--;
+                    } while (sccStack[start] != node);
+
+                    for (int i = start; i < sccTop; i++) {
+                        onStack.clear(sccStack[i]);
+                        scc.add(nodeIDs.getNode(sccStack[i]));
+                    }
+                    sccTop = start;
+
+                    listener.foundSCC(scc);
+                    scc.clear();
+                } else {
+                    final int parent = dfsStack[dfsTop - 1];
+                    if (low[node] < low[parent]) {
+                        low[parent] = low[node];
+                    }
+                }
+            }
+        }
+    }
 }
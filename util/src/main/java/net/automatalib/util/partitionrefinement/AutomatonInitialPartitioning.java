@@ -20,6 +20,7 @@ import java.util.function.IntFunction;
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.automaton.UniversalDeterministicAutomaton;
 import net.automatalib.automaton.UniversalDeterministicAutomaton.FullIntAbstraction;
+import net.automatalib.automaton.base.EncodedProperties;
 
 /**
  * This enum allows to conveniently specify how the states of a deterministic automaton are initially partitioned when
@@ -42,6 +43,9 @@ public enum AutomatonInitialPartitioning {
      * symbol/transition property combinations are initially placed in the same partition class. Note that if
      * transitions are missing, a {@code null} property is assumed.
      * <p>
+     * If the automaton stores its transition properties {@link EncodedProperties dictionary-encoded}, states are
+     * classified by their property codes.
+     * <p>
      * For constructing custom sink classifications required by the partial {@link HopcroftInitializers}, please
      * refer to the {@link StateSignature} methods.
      *
@@ -52,6 +56,10 @@ public enum AutomatonInitialPartitioning {
     BY_TRANSITION_PROPERTIES {
         @Override
         public IntFunction<?> initialClassifier(UniversalDeterministicAutomaton.FullIntAbstraction<?, ?, ?> automaton) {
+            if (automaton instanceof EncodedProperties &&
+                ((EncodedProperties) automaton).getTransitionPropertyDictionary() != null) {
+                return byCodes(automaton, false);
+            }
             return s -> StateSignature.byTransitionProperties(automaton, s);
         }
     },
@@ -61,6 +69,9 @@ public enum AutomatonInitialPartitioning {
      * regarded as a combination of {@link #BY_STATE_PROPERTY} and {@link #BY_TRANSITION_PROPERTIES}, resulting in the
      * coarsest initial partition that refines both partitions obtained using the other modes.
      * <p>
+     * If the automaton stores both its state and transition properties {@link EncodedProperties dictionary-encoded},
+     * states are classified by their property codes.
+     * <p>
      * For constructing custom sink classifications required by the partial {@link HopcroftInitializers}, please
      * refer to the {@link StateSignature} methods.
      *
@@ -71,10 +82,24 @@ public enum AutomatonInitialPartitioning {
     BY_FULL_SIGNATURE {
         @Override
         public IntFunction<?> initialClassifier(UniversalDeterministicAutomaton.FullIntAbstraction<?, ?, ?> automaton) {
+            if (automaton instanceof EncodedProperties &&
+                ((EncodedProperties) automaton).getStatePropertyDictionary() != null &&
+                ((EncodedProperties) automaton).getTransitionPropertyDictionary() != null) {
+                return byCodes(automaton, true);
+            }
             return s -> StateSignature.byFullSignature(automaton, s);
         }
     };
 
     public abstract IntFunction<?> initialClassifier(UniversalDeterministicAutomaton.FullIntAbstraction<?, ?, ?> automaton);
 
+    private static <A extends FullIntAbstraction<?, ?, ?> & EncodedProperties> IntFunction<?> byCodes(FullIntAbstraction<?, ?, ?> automaton,
+                                                                                                       boolean full) {
+        @SuppressWarnings("unchecked")
+        final A encoded = (A) automaton;
+        return full ?
+                s -> StateSignature.byFullSignatureCodes(encoded, s) :
+                s -> StateSignature.byTransitionPropertyCodes(encoded, s);
+    }
+
 }
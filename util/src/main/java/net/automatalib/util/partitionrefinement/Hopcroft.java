@@ -20,6 +20,7 @@ import java.util.Iterator;
 import java.util.PrimitiveIterator;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -257,6 +258,54 @@ public class Hopcroft {
         }
     }
 
+    /**
+     * Refines the partition until it stabilizes, distributing the work among the threads of the given
+     * {@link ForkJoinPool}.
+     * <p>
+     * Contrary to {@link #computeCoarsestStablePartition()}, this method does not process splitters, but refines the
+     * partition in rounds: in each round, the states of every block are re-grouped (in parallel) by the blocks of their
+     * successors until no more blocks are split. The resulting partition is the same (unique) coarsest stable partition
+     * as computed by {@link #computeCoarsestStablePartition()}, however the {@link Block#id IDs} of the blocks (and
+     * their order in the {@link #blockList() block list}) may differ. Blocks are numbered in the order of the initial
+     * blocks, such that the numbering is deterministic and does not depend on the scheduling of the threads.
+     * <p>
+     * Note that the number of rounds is determined by the length of the shortest words that distinguish the states of
+     * the automaton, which makes this method particularly suited for large automata whose states can be distinguished
+     * by short words.
+     *
+     * @param pool
+     *         the pool used for parallelizing the computation
+     */
+    public void computeCoarsestStablePartition(ForkJoinPool pool) {
+        final SignatureRefinement refinement = new SignatureRefinement(this, pool);
+        refinement.refine();
+
+        final int[] order = refinement.getOrder();
+        final int[] blockStarts = refinement.getBlockStarts();
+        final int newNumBlocks = refinement.getNumBlocks();
+        final int[] newPosData = new int[numStates];
+
+        Block head = null;
+        for (int i = newNumBlocks - 1; i >= 0; i--) {
+            final int low = blockStarts[i], high = blockStarts[i + 1];
+            final Block b = new Block(low, high, i, head);
+            for (int j = low; j < high; j++) {
+                final int state = order[j];
+                blockForState[state] = b;
+                newPosData[state] = j;
+            }
+            head = b;
+        }
+
+        this.blockData = order;
+        this.posData = newPosData;
+        this.posDataLow = 0;
+        this.blocklistHead = head;
+        this.numBlocks = newNumBlocks;
+        this.worklistHead = null;
+        this.worklistTail = null;
+    }
+
     private @Nullable Block poll() {
         if (worklistHead == null) {
             return null;
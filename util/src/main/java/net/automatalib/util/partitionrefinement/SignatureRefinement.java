@@ -0,0 +1,334 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.partitionrefinement;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A round-based (Moore-style) partition refinement that operates on the data of an initialized {@link Hopcroft}
+ * instance and distributes the work of each round among the threads of a {@link ForkJoinPool}.
+ * <p>
+ * In each round, the states of every block are grouped by their signatures (i.e., the blocks of their successors).
+ * Blocks are processed independently of each other, using thread-local hash tables, and new blocks are numbered in the
+ * order of their originating blocks and (within a block) in the order of their first occurrence, which makes the
+ * result independent of the scheduling of the threads.
+ */
+final class SignatureRefinement {
+
+    private static final int SEQUENTIAL_THRESHOLD = 4096;
+    private static final int EMPTY = -1;
+
+    private final ForkJoinPool pool;
+    private final int numStates;
+    private final int numInputs;
+
+    // the successors of each state, succData[state * numInputs + input]
+    private final int[] succData;
+    // the current block of each state, -1 for states that are not part of the partition
+    private final int[] blockOf;
+
+    // the states, grouped by their blocks
+    private int[] order;
+    // the start of each block in the order array (plus the total number of states at the end)
+    private int[] blockStarts;
+    private int numBlocks;
+
+    // per-round scratch data
+    private int[] nextOrder;
+    private int[] localIds;
+    private int[] subBlockStarts;
+    private int[] subBlockCounts;
+
+    SignatureRefinement(Hopcroft hopcroft, ForkJoinPool pool) {
+        this.pool = pool;
+        this.numStates = hopcroft.numStates;
+        this.numInputs = hopcroft.numInputs;
+        this.blockOf = new int[numStates];
+        Arrays.fill(blockOf, -1);
+
+        int size = 0;
+        for (Block b : hopcroft.blockList()) {
+            if (b.isEmpty()) {
+                continue;
+            }
+            for (int i = b.low; i < b.high; i++) {
+                blockOf[hopcroft.blockData[i]] = numBlocks;
+            }
+            size += b.size();
+            numBlocks++;
+        }
+
+        // order the states of each block by their IDs, so that (potentially artificial) states with higher IDs never
+        // become the representatives of blocks that contain other states as well
+        this.order = new int[size];
+        this.blockStarts = new int[numBlocks + 1];
+
+        for (int state = 0; state < numStates; state++) {
+            if (blockOf[state] >= 0) {
+                blockStarts[blockOf[state] + 1]++;
+            }
+        }
+        for (int b = 0; b < numBlocks; b++) {
+            blockStarts[b + 1] += blockStarts[b];
+        }
+
+        final int[] fill = Arrays.copyOf(blockStarts, numBlocks);
+        for (int state = 0; state < numStates; state++) {
+            final int block = blockOf[state];
+            if (block >= 0) {
+                order[fill[block]++] = state;
+            }
+        }
+
+        this.succData = new int[numStates * numInputs];
+        Arrays.fill(succData, -1);
+        pool.invoke(new InvertTask(hopcroft, 0, numInputs));
+
+        this.nextOrder = new int[size];
+        this.localIds = new int[size];
+        this.subBlockStarts = new int[size];
+    }
+
+    void refine() {
+        while (true) {
+            this.subBlockCounts = new int[numBlocks];
+            pool.invoke(new SplitTask(0, numBlocks));
+
+            final int[] newBase = new int[numBlocks];
+            int newNumBlocks = 0;
+            for (int i = 0; i < numBlocks; i++) {
+                newBase[i] = newNumBlocks;
+                newNumBlocks += subBlockCounts[i];
+            }
+
+            if (newNumBlocks == numBlocks) {
+                return;
+            }
+
+            final int[] newBlockStarts = new int[newNumBlocks + 1];
+            newBlockStarts[newNumBlocks] = order.length;
+            pool.invoke(new UpdateTask(0, numBlocks, newBase, newBlockStarts));
+
+            final int[] tmp = order;
+            this.order = nextOrder;
+            this.nextOrder = tmp;
+            this.blockStarts = newBlockStarts;
+            this.numBlocks = newNumBlocks;
+        }
+    }
+
+    int[] getOrder() {
+        return order;
+    }
+
+    int[] getBlockStarts() {
+        return blockStarts;
+    }
+
+    int getNumBlocks() {
+        return numBlocks;
+    }
+
+    private int succBlock(int state, int input) {
+        final int succ = succData[state * numInputs + input];
+        return succ < 0 ? -1 : blockOf[succ];
+    }
+
+    private int signatureHash(int state) {
+        int hash = 1;
+        for (int i = 0; i < numInputs; i++) {
+            hash = 31 * hash + succBlock(state, i);
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private boolean sameSignature(int s1, int s2) {
+        for (int i = 0; i < numInputs; i++) {
+            if (succBlock(s1, i) != succBlock(s2, i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * Groups the states of the given block by their signatures, writes them (grouped) to nextOrder and returns the
+     * number of groups. The arrays passed as scratch space must be at least as large as the block (the table twice as
+     * large).
+     */
+    private int splitBlock(int block, int[] table, int[] reps, int[] counts, int[] groups) {
+        final int low = blockStarts[block], high = blockStarts[block + 1];
+        final int size = high - low;
+
+        if (size == 1) {
+            nextOrder[low] = order[low];
+            localIds[low] = 0;
+            subBlockStarts[low] = low;
+            return 1;
+        }
+
+        int mask = Integer.highestOneBit(2 * size - 1) * 2 - 1;
+        Arrays.fill(table, 0, mask + 1, EMPTY);
+
+        int numGroups = 0;
+        for (int i = low; i < high; i++) {
+            final int state = order[i];
+            int slot = signatureHash(state) & mask;
+            int group;
+
+            while ((group = table[slot]) != EMPTY && !sameSignature(reps[group], state)) {
+                slot = (slot + 1) & mask;
+            }
+
+            if (group == EMPTY) {
+                group = numGroups++;
+                table[slot] = group;
+                reps[group] = state;
+                counts[group] = 0;
+            }
+
+            counts[group]++;
+            groups[i - low] = group;
+        }
+
+        // counting sort by group (stable w.r.t. the current order)
+        int offset = low;
+        for (int g = 0; g < numGroups; g++) {
+            subBlockStarts[low + g] = offset;
+            final int count = counts[g];
+            counts[g] = offset;
+            offset += count;
+        }
+
+        for (int i = low; i < high; i++) {
+            final int group = groups[i - low];
+            final int pos = counts[group]++;
+            nextOrder[pos] = order[i];
+            localIds[pos] = group;
+        }
+
+        return numGroups;
+    }
+
+    private final class InvertTask extends RecursiveAction {
+
+        private final Hopcroft hopcroft;
+        private final int low;
+        private final int high;
+
+        InvertTask(Hopcroft hopcroft, int low, int high) {
+            this.hopcroft = hopcroft;
+            this.low = low;
+            this.high = high;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low > 1) {
+                final int mid = (low + high) >>> 1;
+                invokeAll(new InvertTask(hopcroft, low, mid), new InvertTask(hopcroft, mid, high));
+                return;
+            }
+
+            final int[] predOfsData = hopcroft.predOfsData;
+            final int[] predData = hopcroft.predData;
+
+            for (int input = low; input < high; input++) {
+                final int base = hopcroft.predOfsDataLow + input * numStates;
+                for (int state = 0; state < numStates; state++) {
+                    final int predLow = predOfsData[base + state], predHigh = predOfsData[base + state + 1];
+                    for (int i = predLow; i < predHigh; i++) {
+                        succData[predData[i] * numInputs + input] = state;
+                    }
+                }
+            }
+        }
+    }
+
+    private final class SplitTask extends RecursiveAction {
+
+        private final int low;
+        private final int high;
+
+        SplitTask(int low, int high) {
+            this.low = low;
+            this.high = high;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low > 1 && blockStarts[high] - blockStarts[low] > SEQUENTIAL_THRESHOLD) {
+                final int mid = (low + high) >>> 1;
+                invokeAll(new SplitTask(low, mid), new SplitTask(mid, high));
+                return;
+            }
+
+            int maxSize = 0;
+            for (int b = low; b < high; b++) {
+                maxSize = Math.max(maxSize, blockStarts[b + 1] - blockStarts[b]);
+            }
+
+            final int[] table = new int[Integer.highestOneBit(Math.max(1, 2 * maxSize - 1)) * 2];
+            final int[] reps = new int[maxSize];
+            final int[] counts = new int[maxSize];
+            final int[] groups = new int[maxSize];
+
+            for (int b = low; b < high; b++) {
+                subBlockCounts[b] = splitBlock(b, table, reps, counts, groups);
+            }
+        }
+    }
+
+    private final class UpdateTask extends RecursiveAction {
+
+        private final int low;
+        private final int high;
+        private final int[] newBase;
+        private final int[] newBlockStarts;
+
+        UpdateTask(int low, int high, int[] newBase, int[] newBlockStarts) {
+            this.low = low;
+            this.high = high;
+            this.newBase = newBase;
+            this.newBlockStarts = newBlockStarts;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low > 1 && blockStarts[high] - blockStarts[low] > SEQUENTIAL_THRESHOLD) {
+                final int mid = (low + high) >>> 1;
+                invokeAll(new UpdateTask(low, mid, newBase, newBlockStarts),
+                          new UpdateTask(mid, high, newBase, newBlockStarts));
+                return;
+            }
+
+            for (int b = low; b < high; b++) {
+                final int base = newBase[b];
+                final int start = blockStarts[b];
+
+                for (int g = 0; g < subBlockCounts[b]; g++) {
+                    newBlockStarts[base + g] = subBlockStarts[start + g];
+                }
+
+                for (int i = start; i < blockStarts[b + 1]; i++) {
+                    blockOf[nextOrder[i]] = base + localIds[i];
+                }
+            }
+        }
+    }
+}
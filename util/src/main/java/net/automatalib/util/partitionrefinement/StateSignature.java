@@ -16,20 +16,60 @@
 package net.automatalib.util.partitionrefinement;
 
 import java.util.Arrays;
+import java.util.Objects;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.automaton.UniversalDeterministicAutomaton;
+import net.automatalib.automaton.base.EncodedProperties;
+import net.automatalib.automaton.base.PropertyDictionary;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Utility class for constructing state signatures used for classifying states during minimization / bisimulation,.
+ * <p>
+ * For automata that store their properties {@link EncodedProperties dictionary-encoded}, signatures can be constructed
+ * from the property codes, which avoids decoding the properties and allows comparing signatures (of automata sharing
+ * the same dictionaries) without calling {@link Object#equals(Object)}. Code-based signatures are nonetheless equal to
+ * (and have the same hash code as) the respective object-based signatures, so both kinds can be mixed, e.g., for custom
+ * sink classifications.
  */
 public final class StateSignature {
 
-    private final @Nullable Object[] properties;
+    // object-based signature
+    private final @Nullable Object @Nullable [] properties;
+
+    // code-based signature
+    private final int @Nullable [] codes;
+    private final @Nullable PropertyDictionary<?> transitionDictionary;
+    private final @Nullable PropertyDictionary<?> stateDictionary;
+    private final int hashCode;
 
     private StateSignature(@Nullable Object[] properties) {
         this.properties = properties;
+        this.codes = null;
+        this.transitionDictionary = null;
+        this.stateDictionary = null;
+        this.hashCode = Arrays.hashCode(properties);
+    }
+
+    private StateSignature(int[] codes,
+                           PropertyDictionary<?> transitionDictionary,
+                           @Nullable PropertyDictionary<?> stateDictionary) {
+        this.properties = null;
+        this.codes = codes;
+        this.transitionDictionary = transitionDictionary;
+        this.stateDictionary = stateDictionary;
+
+        // mirror Arrays#hashCode(Object[]) to be consistent with object-based signatures
+        final int numTrans = stateDictionary == null ? codes.length : codes.length - 1;
+        int hash = 1;
+        for (int i = 0; i < numTrans; i++) {
+            hash = 31 * hash + transitionDictionary.hashCodeOf(codes[i]);
+        }
+        if (stateDictionary != null) {
+            hash = 31 * hash + stateDictionary.hashCodeOf(codes[numTrans]);
+        }
+        this.hashCode = hash;
     }
 
     @SafeVarargs
@@ -59,6 +99,39 @@ public final class StateSignature {
         return new StateSignature(properties);
     }
 
+    /**
+     * Constructs a full signature (see {@link #byFullSignature(FullIntAbstraction, int)}) from the property codes of
+     * the given automaton. Requires both the state and the transition properties to be encoded.
+     *
+     * @param automaton
+     *         the automaton
+     * @param state
+     *         the state
+     * @param <A>
+     *         automaton type
+     *
+     * @return the signature of the state
+     *
+     * @throws IllegalArgumentException
+     *         if the state or transition properties of the automaton are not encoded
+     */
+    public static <A extends UniversalDeterministicAutomaton.FullIntAbstraction<?, ?, ?> & EncodedProperties> StateSignature byFullSignatureCodes(
+            A automaton,
+            int state) {
+        final PropertyDictionary<?> stateDictionary = automaton.getStatePropertyDictionary();
+        final PropertyDictionary<?> transitionDictionary = automaton.getTransitionPropertyDictionary();
+
+        if (stateDictionary == null || transitionDictionary == null) {
+            throw new IllegalArgumentException("Automaton does not encode its state and transition properties");
+        }
+
+        final int numInputs = automaton.numInputs();
+        final int[] codes = new int[numInputs + 1];
+        fillTransitionPropertyCodes(automaton, state, codes);
+        codes[numInputs] = automaton.getStatePropertyCode(state);
+        return new StateSignature(codes, transitionDictionary, stateDictionary);
+    }
+
     @SafeVarargs
     public static <TP> StateSignature byTransitionProperties(TP... properties) {
         return new StateSignature(properties);
@@ -81,6 +154,46 @@ public final class StateSignature {
         return new StateSignature(properties);
     }
 
+    /**
+     * Constructs a transition signature (see {@link #byTransitionProperties(FullIntAbstraction, int)}) from the
+     * property codes of the given automaton. Requires the transition properties to be encoded.
+     *
+     * @param automaton
+     *         the automaton
+     * @param state
+     *         the state
+     * @param <A>
+     *         automaton type
+     *
+     * @return the signature of the state
+     *
+     * @throws IllegalArgumentException
+     *         if the transition properties of the automaton are not encoded
+     */
+    public static <A extends UniversalDeterministicAutomaton.FullIntAbstraction<?, ?, ?> & EncodedProperties> StateSignature byTransitionPropertyCodes(
+            A automaton,
+            int state) {
+        final PropertyDictionary<?> transitionDictionary = automaton.getTransitionPropertyDictionary();
+
+        if (transitionDictionary == null) {
+            throw new IllegalArgumentException("Automaton does not encode its transition properties");
+        }
+
+        final int[] codes = new int[automaton.numInputs()];
+        fillTransitionPropertyCodes(automaton, state, codes);
+        return new StateSignature(codes, transitionDictionary, null);
+    }
+
+    private static <A extends UniversalDeterministicAutomaton.FullIntAbstraction<?, ?, ?> & EncodedProperties> void fillTransitionPropertyCodes(
+            A automaton,
+            int state,
+            int[] codes) {
+        int numInputs = automaton.numInputs();
+        for (int i = 0; i < numInputs; i++) {
+            codes[i] = automaton.getTransitionPropertyCode(state, i);
+        }
+    }
+
     private static void fillTransitionProperties(UniversalDeterministicAutomaton.FullIntAbstraction<?, ?, ?> automaton,
                                                  int state,
                                                  @Nullable Object[] properties) {
@@ -111,11 +224,52 @@ public final class StateSignature {
         }
 
         final StateSignature that = (StateSignature) o;
-        return Arrays.equals(properties, that.properties);
+
+        if (hashCode != that.hashCode) {
+            return false;
+        }
+
+        if (properties != null && that.properties != null) {
+            return Arrays.equals(properties, that.properties);
+        }
+
+        if (codes != null && that.codes != null && transitionDictionary == that.transitionDictionary &&
+            stateDictionary == that.stateDictionary) {
+            return Arrays.equals(codes, that.codes);
+        }
+
+        final int length = length();
+        if (length != that.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++) {
+            if (!Objects.equals(get(i), that.get(i))) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return Arrays.hashCode(properties);
+        return hashCode;
+    }
+
+    private int length() {
+        return properties != null ? properties.length : codes.length;
+    }
+
+    private @Nullable Object get(int idx) {
+        if (properties != null) {
+            return properties[idx];
+        }
+
+        if (stateDictionary != null && idx == codes.length - 1) {
+            return stateDictionary.decode(codes[idx]);
+        }
+
+        return transitionDictionary.decode(codes[idx]);
     }
 }
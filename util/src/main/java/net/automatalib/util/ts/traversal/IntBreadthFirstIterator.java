@@ -0,0 +1,82 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.ts.traversal;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.automaton.simple.SimpleDeterministicAutomaton.StateIntAbstraction;
+import net.automatalib.common.smartcollection.IntDeque;
+
+/**
+ * A specialized version of {@link BreadthFirstIterator} for deterministic automata that natively operate on integer
+ * states. The exploration is performed on state ids only, states are only looked up (and potentially boxed) when they
+ * are returned.
+ *
+ * @param <S>
+ *         state type
+ * @param <I>
+ *         input symbol type
+ */
+final class IntBreadthFirstIterator<S, I> implements Iterator<S> {
+
+    private final IntDeque bfsQueue = new IntDeque();
+    private final BitSet seen;
+    private final StateIntAbstraction<I> automaton;
+    private final StateIDs<S> stateIDs;
+    private final Collection<? extends I> inputs;
+
+    IntBreadthFirstIterator(StateIntAbstraction<I> automaton, StateIDs<S> stateIDs, Collection<? extends I> inputs) {
+        this.automaton = automaton;
+        this.stateIDs = stateIDs;
+        this.inputs = inputs;
+        this.seen = new BitSet(automaton.size());
+
+        final int init = automaton.getIntInitialState();
+        if (init >= 0) {
+            bfsQueue.addLast(init);
+            seen.set(init);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !bfsQueue.isEmpty();
+    }
+
+    @Override
+    public S next() {
+        if (bfsQueue.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+
+        final int state = bfsQueue.removeFirst();
+
+        for (I input : inputs) {
+            final int succ = automaton.getSuccessor(state, input);
+            if (succ >= 0 && !seen.get(succ)) {
+                seen.set(succ);
+                bfsQueue.addLast(succ);
+            }
+        }
+
+        return stateIDs.getState(state);
+    }
+
+}
@@ -20,6 +20,8 @@ import java.util.Collection;
 import java.util.Deque;
 import java.util.Iterator;
 
+import net.automatalib.automaton.simple.SimpleDeterministicAutomaton;
+import net.automatalib.automaton.simple.SimpleDeterministicAutomaton.StateIntAbstraction;
 import net.automatalib.common.util.Holder;
 import net.automatalib.ts.TransitionSystem;
 import net.automatalib.util.traversal.TraversalOrder;
@@ -200,6 +202,11 @@ public final class TSTraversal {
      * @return an {@link Iterator} for the (reachable) states of the given transition system in breadth-first order
      */
     public static <S, I> Iterator<S> breadthFirstIterator(TransitionSystem<S, I, ?> ts, Collection<? extends I> inputs) {
+        if (ts instanceof SimpleDeterministicAutomaton && ts instanceof StateIntAbstraction) {
+            @SuppressWarnings("unchecked")
+            final SimpleDeterministicAutomaton<S, I> automaton = (SimpleDeterministicAutomaton<S, I>) ts;
+            return new IntBreadthFirstIterator<>(automaton.stateIntAbstraction(), automaton.stateIDs(), inputs);
+        }
         return new BreadthFirstIterator<>(ts, inputs);
     }
 
@@ -0,0 +1,163 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.fsa.DFA;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.fsa.impl.FastDFA;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class BatchRunnerTest {
+
+    private static final int SIZE = 50;
+    private static final int NUM_WORDS = 5000;
+
+    private final Alphabet<Character> alphabet = Alphabets.characters('a', 'd');
+
+    private ForkJoinPool pool;
+    private List<Word<Character>> words;
+
+    @BeforeClass
+    public void setUp() {
+        this.pool = new ForkJoinPool(4);
+        this.words = generateWords(new Random(42));
+    }
+
+    @AfterClass
+    public void tearDown() {
+        this.pool.shutdown();
+    }
+
+    @Test
+    public void testDFA() {
+        final Random random = new Random(42);
+        final CompactDFA<Character> dfa = RandomAutomata.randomDFA(random, SIZE, alphabet);
+        checkDFA(dfa);
+
+        // make the automaton partial
+        for (int i = 0; i < SIZE; i++) {
+            final Character input = alphabet.getSymbol(random.nextInt(alphabet.size()));
+            dfa.removeAllTransitions(random.nextInt(dfa.size()), input);
+        }
+        checkDFA(dfa);
+
+        // automata other than compact ones should work as well
+        final FastDFA<Character> fastDFA = RandomAutomata.randomDeterministic(random,
+                                                                              SIZE,
+                                                                              alphabet,
+                                                                              DFA.STATE_PROPERTIES,
+                                                                              DFA.TRANSITION_PROPERTIES,
+                                                                              new FastDFA<>(alphabet),
+                                                                              false);
+        final boolean[] accepted = BatchRunner.accepts(fastDFA, alphabet, words, pool);
+        for (int i = 0; i < words.size(); i++) {
+            Assert.assertEquals(accepted[i], fastDFA.accepts(words.get(i)));
+        }
+    }
+
+    @Test
+    public void testMealy() {
+        final Random random = new Random(42);
+        final CompactMealy<Character, Integer> mealy =
+                RandomAutomata.randomMealy(random, SIZE, alphabet, Arrays.asList(1, 2, 3));
+        checkMealy(mealy);
+
+        // make the automaton partial
+        for (int i = 0; i < SIZE; i++) {
+            final Character input = alphabet.getSymbol(random.nextInt(alphabet.size()));
+            mealy.removeAllTransitions(random.nextInt(mealy.size()), input);
+        }
+        checkMealy(mealy);
+    }
+
+    @Test
+    public void testEmpty() {
+        final CompactDFA<Character> dfa = new CompactDFA<>(alphabet);
+        final CompactMealy<Character, Integer> mealy = new CompactMealy<>(alphabet);
+
+        final boolean[] accepted = BatchRunner.accepts(dfa, alphabet, words);
+        final List<Word<Integer>> outputs = BatchRunner.computeOutputs(mealy, alphabet, words);
+
+        for (int i = 0; i < words.size(); i++) {
+            Assert.assertFalse(accepted[i]);
+            Assert.assertEquals(outputs.get(i), Word.epsilon());
+        }
+
+        Assert.assertEquals(BatchRunner.accepts(dfa, alphabet, Collections.emptyList()).length, 0);
+        Assert.assertTrue(BatchRunner.computeOutputs(mealy, alphabet, Collections.emptyList(), pool).isEmpty());
+    }
+
+    private void checkDFA(CompactDFA<Character> dfa) {
+        final boolean[] sequential = BatchRunner.accepts(dfa, alphabet, words);
+        final boolean[] parallel = BatchRunner.accepts(dfa, alphabet, words, pool);
+
+        for (int i = 0; i < words.size(); i++) {
+            final boolean expected = dfa.accepts(words.get(i));
+            Assert.assertEquals(sequential[i], expected);
+            Assert.assertEquals(parallel[i], expected);
+        }
+    }
+
+    private void checkMealy(CompactMealy<Character, Integer> mealy) {
+        final List<Word<Integer>> sequential = BatchRunner.computeOutputs(mealy, alphabet, words);
+        final List<Word<Integer>> parallel = BatchRunner.computeOutputs(mealy, alphabet, words, pool);
+
+        for (int i = 0; i < words.size(); i++) {
+            final Word<Integer> expected = mealy.computeOutput(words.get(i));
+            Assert.assertEquals(sequential.get(i), expected);
+            Assert.assertEquals(parallel.get(i), expected);
+        }
+    }
+
+    private List<Word<Character>> generateWords(Random random) {
+        final List<Word<Character>> result = new ArrayList<>(NUM_WORDS);
+        final WordBuilder<Character> wb = new WordBuilder<>();
+
+        for (int i = 0; i < NUM_WORDS; i++) {
+            // extend previous words (or their prefixes) to obtain shared prefixes and duplicates
+            if (!result.isEmpty() && random.nextBoolean()) {
+                final Word<Character> base = result.get(random.nextInt(result.size()));
+                wb.append(base.prefix(random.nextInt(base.length() + 1)));
+            }
+
+            final int length = random.nextInt(10);
+            for (int j = 0; j < length; j++) {
+                wb.append(alphabet.getSymbol(random.nextInt(alphabet.size())));
+            }
+
+            result.add(wb.toWord());
+            wb.clear();
+        }
+
+        return result;
+    }
+}
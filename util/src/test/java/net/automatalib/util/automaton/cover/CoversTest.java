@@ -29,11 +29,15 @@ import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.automaton.UniversalDeterministicAutomaton;
 import net.automatalib.automaton.fsa.DFA;
 import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.fsa.impl.FastDFA;
 import net.automatalib.common.util.collection.IteratorUtil;
 import net.automatalib.common.util.mapping.Mapping;
 import net.automatalib.util.automaton.Automata;
+import net.automatalib.util.automaton.copy.AutomatonCopyMethod;
+import net.automatalib.util.automaton.copy.AutomatonLowLevelCopy;
 import net.automatalib.util.automaton.random.RandomAutomata;
 import net.automatalib.util.graph.Graphs;
+import net.automatalib.util.ts.traversal.TSTraversal;
 import net.automatalib.word.Word;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.testng.Assert;
@@ -140,6 +144,39 @@ public class CoversTest {
         testTransitionCover(dfa, alphabet, Automata.transitionCover(dfa, alphabet));
     }
 
+    /*
+     * Check that the specialized cover computation of compact automata yields the same covers as the generic one.
+     */
+    @Test
+    public void testCompactCovers() {
+        final Random random = new Random(42);
+        final CompactDFA<Integer> compact = RandomAutomata.randomDFA(random, 50, alphabet, false);
+        final FastDFA<Integer> fast = new FastDFA<>(alphabet);
+
+        // make the automaton partial
+        for (int s = 0; s < compact.size(); s++) {
+            if (random.nextBoolean()) {
+                compact.removeAllTransitions(s, random.nextInt(alphabet.size()));
+            }
+        }
+        AutomatonLowLevelCopy.copy(AutomatonCopyMethod.STATE_BY_STATE, compact, alphabet, fast);
+
+        final List<Word<Integer>> expectedStates = new ArrayList<>();
+        final List<Word<Integer>> expectedTransitions = new ArrayList<>();
+        Covers.cover(fast, alphabet, expectedStates, expectedTransitions);
+
+        final List<Word<Integer>> actualStates = new ArrayList<>();
+        final List<Word<Integer>> actualTransitions = new ArrayList<>();
+        Covers.cover(compact, alphabet, actualStates, actualTransitions);
+
+        Assert.assertEquals(actualStates, expectedStates);
+        Assert.assertEquals(actualTransitions, expectedTransitions);
+
+        final List<Integer> expectedOrder = new ArrayList<>();
+        TSTraversal.breadthFirstOrder(fast, alphabet).forEach(s -> expectedOrder.add(s.getId()));
+        Assert.assertEquals(IteratorUtil.list(TSTraversal.breadthFirstIterator(compact, alphabet)), expectedOrder);
+    }
+
     @Test
     public void testPartialIterators() {
         final Random random = new Random(42);
@@ -23,9 +23,17 @@ import java.util.Set;
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.automaton.Automaton;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
 import net.automatalib.automaton.fsa.impl.CompactNFA;
+import net.automatalib.automaton.fsa.impl.FastDFA;
+import net.automatalib.automaton.fsa.impl.FastDFAState;
+import net.automatalib.automaton.fsa.impl.FastNFA;
+import net.automatalib.automaton.fsa.impl.FastNFAState;
 import net.automatalib.common.util.Pair;
 import net.automatalib.ts.modal.impl.CompactMTS;
+import net.automatalib.util.automaton.copy.AutomatonCopyMethod;
+import net.automatalib.util.automaton.copy.AutomatonLowLevelCopy;
+import net.automatalib.util.automaton.random.RandomAutomata;
 import net.automatalib.util.automaton.random.TabakovVardiRandomAutomata;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -48,6 +56,33 @@ public class BisimulationTest {
         }
     }
 
+    /*
+     * Check that the specialized transition extraction of compact automata yields the same relation as the generic one.
+     */
+    @Test
+    public void testCompactAutomata() {
+
+        final Random random = new Random(42);
+        final Alphabet<String> alphabet = Alphabets.closedCharStringRange('a', 'c');
+
+        final CompactNFA<String> nfa = TabakovVardiRandomAutomata.generateNFA(random, 50, 1.5f, 0.5f, alphabet);
+        final FastNFA<String> fastNFA = new FastNFA<>(alphabet);
+        AutomatonLowLevelCopy.copy(AutomatonCopyMethod.STATE_BY_STATE, nfa, alphabet, fastNFA);
+
+        final CompactDFA<String> dfa = RandomAutomata.randomDFA(random, 50, alphabet, false);
+        final FastDFA<String> fastDFA = new FastDFA<>(alphabet);
+        AutomatonLowLevelCopy.copy(AutomatonCopyMethod.STATE_BY_STATE, dfa, alphabet, fastDFA);
+
+        final Set<Pair<Integer, Integer>> expected = new HashSet<>();
+        for (Pair<FastNFAState, FastDFAState> p : Bisimulation.bisimulationEquivalenceRelation(fastNFA,
+                                                                                              fastDFA,
+                                                                                              alphabet)) {
+            expected.add(Pair.of(p.getFirst().getId(), p.getSecond().getId()));
+        }
+
+        Assert.assertEquals(Bisimulation.bisimulationEquivalenceRelation(nfa, dfa, alphabet), expected);
+    }
+
     @Test
     public void bisimTestDiff() {
 
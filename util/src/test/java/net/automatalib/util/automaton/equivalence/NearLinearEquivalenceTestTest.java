@@ -15,6 +15,7 @@
  */
 package net.automatalib.util.automaton.equivalence;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Random;
@@ -23,8 +24,10 @@ import java.util.Set;
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.automaton.UniversalDeterministicAutomaton;
+import net.automatalib.automaton.base.PropertyDictionary;
 import net.automatalib.automaton.fsa.impl.CompactDFA;
 import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.automaton.transducer.impl.CompactMoore;
 import net.automatalib.util.automaton.random.RandomAutomata;
 import net.automatalib.word.Word;
 import org.testng.Assert;
@@ -178,6 +181,69 @@ public class NearLinearEquivalenceTestTest {
         testForEmptySepWord(empty, uninit, inputSet);
     }
 
+    @Test
+    public void testEncodedAutomata() {
+        final Random r = new Random(0);
+        final PropertyDictionary<String> dictionary = new PropertyDictionary<>();
+        final CompactMealy<Integer, String> mealy =
+                RandomAutomata.randomMealy(r, AUTOMATON_SIZE, ALPHABET, Arrays.asList("a", "b", "c"), false);
+        final CompactMealy<Integer, String> encoded1 = new CompactMealy<>(ALPHABET, dictionary);
+        final CompactMealy<Integer, String> encoded2 = new CompactMealy<>(ALPHABET, dictionary);
+        final PropertyDictionary<String> otherDictionary = new PropertyDictionary<>();
+        final CompactMealy<Integer, String> encoded3 = new CompactMealy<>(ALPHABET, otherDictionary);
+
+        // use different encodings of the same outputs
+        otherDictionary.encode("c");
+        otherDictionary.encode("b");
+
+        for (CompactMealy<Integer, String> m : Arrays.asList(encoded1, encoded2, encoded3)) {
+            for (int s = 0; s < mealy.size(); s++) {
+                m.addState();
+            }
+            for (int s = 0; s < mealy.size(); s++) {
+                for (int i = 0; i < ALPHABET.size(); i++) {
+                    m.setTransition(s, i, mealy.getSuccessor(s, i), mealy.getTransitionProperty(s, i));
+                }
+            }
+            m.setInitialState(mealy.getIntInitialState());
+        }
+
+        Assert.assertNull(NearLinearEquivalenceTest.findSeparatingWord(mealy, encoded1, ALPHABET));
+        Assert.assertNull(NearLinearEquivalenceTest.findSeparatingWord(encoded1, encoded2, ALPHABET));
+        Assert.assertNull(NearLinearEquivalenceTest.findSeparatingWord(encoded1, encoded3, ALPHABET));
+
+        final int state = encoded2.getSuccessor(mealy.getIntInitialState(), 1);
+        final String output = encoded2.getTransitionProperty(state, 2);
+        encoded2.setTransition(state, 2, encoded2.getSuccessor(state, 2), "a".equals(output) ? "b" : "a");
+
+        final Word<Integer> sepWord = NearLinearEquivalenceTest.findSeparatingWord(encoded1, encoded2, ALPHABET);
+        Assert.assertNotNull(sepWord);
+        Assert.assertNotEquals(encoded1.computeOutput(sepWord), encoded2.computeOutput(sepWord));
+
+        final PropertyDictionary<Boolean> mooreDictionary = new PropertyDictionary<>();
+        final CompactMoore<Integer, Boolean> moore1 = new CompactMoore<>(ALPHABET, mooreDictionary);
+        final CompactMoore<Integer, Boolean> moore2 = new CompactMoore<>(ALPHABET, mooreDictionary);
+
+        for (CompactMoore<Integer, Boolean> m : Arrays.asList(moore1, moore2)) {
+            for (int s = 0; s < DFA_1.size(); s++) {
+                m.addState(DFA_1.isAccepting(s));
+            }
+            for (int s = 0; s < DFA_1.size(); s++) {
+                for (int i = 0; i < ALPHABET.size(); i++) {
+                    m.setTransition(s, i, DFA_1.getSuccessor(s, i));
+                }
+            }
+            m.setInitialState(DFA_1.getIntInitialState());
+        }
+
+        Assert.assertNull(NearLinearEquivalenceTest.findSeparatingWord(moore1, moore2, ALPHABET));
+        Assert.assertNull(NearLinearEquivalenceTest.findSeparatingWord(moore1, DFA_1, ALPHABET));
+
+        final int init = moore2.getIntInitialState();
+        moore2.setStateOutput(init, !DFA_1.isAccepting(init));
+        Assert.assertEquals(NearLinearEquivalenceTest.findSeparatingWord(moore1, moore2, ALPHABET), Word.epsilon());
+    }
+
     /**
      * Test equivalence of very large automata which have previously resulted in integer overflows. See <a
      * href="https://github.com/LearnLib/automatalib/issues/84">Issue 84</a> for details. While the issue hasn't been
@@ -15,12 +15,22 @@
  */
 package net.automatalib.util.automaton.fsa;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.automaton.fsa.DFA;
 import net.automatalib.automaton.fsa.impl.CompactDFA;
 import net.automatalib.util.automaton.Automata;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.ts.acceptor.DeterministicAcceptorTS;
 import net.automatalib.util.ts.acceptor.AcceptanceCombiner;
+import net.automatalib.util.ts.acceptor.Acceptors;
+import net.automatalib.word.Word;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -167,4 +177,140 @@ public class DFAsTest {
 
         Assert.assertFalse(DFAs.acceptsEmptyLanguage(forVector(true)));
     }
+
+    @Test
+    public void testProductView() {
+        final AcceptanceCombiner[] combiners = {AcceptanceCombiner.AND,
+                                                AcceptanceCombiner.OR,
+                                                AcceptanceCombiner.XOR,
+                                                AcceptanceCombiner.EQUIV,
+                                                AcceptanceCombiner.IMPL};
+        final boolean[][] results = {AND_RESULT, OR_RESULT, XOR_RESULT, EQUIV_RESULT, IMPL_RESULT};
+
+        for (int i = 0; i < combiners.length; i++) {
+            final DeterministicAcceptorTS<Long, Integer> view =
+                    DFAs.productView(testDfa1, testDfa2, testAlphabet, combiners[i]);
+
+            Word<Integer> w = Word.epsilon();
+            for (boolean b : results[i]) {
+                Assert.assertEquals(view.accepts(w), b);
+                w = w.append(0);
+            }
+        }
+    }
+
+    @Test
+    public void testFindAcceptedWord() {
+        // the conjunction of VECTOR_1_NEG and VECTOR_2 first accepts a word of length 2
+        final DeterministicAcceptorTS<Long, Integer> and =
+                DFAs.productView(forVector(VECTOR_1_NEG), testDfa2, testAlphabet, AcceptanceCombiner.AND);
+        Assert.assertEquals(DFAs.findAcceptedWord(and, testAlphabet), Word.fromSymbols(0, 0));
+        Assert.assertFalse(DFAs.isEmpty(and, testAlphabet));
+
+        // inclusion: L(VECTOR_1 AND VECTOR_2) is a subset of L(VECTOR_1)
+        final DFA<?, Integer> conjunction = DFAs.and(testDfa1, testDfa2, testAlphabet);
+        final DeterministicAcceptorTS<Long, Integer> inclusion =
+                DFAs.productView(conjunction, testDfa1, testAlphabet, (a1, a2) -> a1 && !a2);
+        Assert.assertNull(DFAs.findAcceptedWord(inclusion, testAlphabet));
+        Assert.assertTrue(DFAs.isEmpty(inclusion, testAlphabet));
+
+        // the generic search should behave identically
+        final DeterministicAcceptorTS<?, Integer> generic =
+                Acceptors.combine(forVector(VECTOR_1_NEG), testDfa2, AcceptanceCombiner.AND);
+        Assert.assertEquals(DFAs.findAcceptedWord(generic, testAlphabet), Word.fromSymbols(0, 0));
+        Assert.assertTrue(DFAs.isEmpty(Acceptors.combine(conjunction, testDfa1, (a1, a2) -> a1 && !a2),
+                                       testAlphabet));
+    }
+
+    @Test
+    public void testFindAcceptedWordPartial() {
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, 1);
+
+        // accepts exactly the word 0 1
+        final CompactDFA<Integer> dfa1 = new CompactDFA<>(alphabet);
+        final int q0 = dfa1.addInitialState(false);
+        final int q1 = dfa1.addState(false);
+        final int q2 = dfa1.addState(true);
+        dfa1.addTransition(q0, 0, q1);
+        dfa1.addTransition(q1, 1, q2);
+
+        // accepts no word
+        final CompactDFA<Integer> dfa2 = new CompactDFA<>(alphabet);
+        dfa2.addInitialState(false);
+
+        // undefined transitions lead to an implicit rejecting sink
+        Assert.assertEquals(DFAs.findAcceptedWord(DFAs.productView(dfa1, dfa2, alphabet, (a1, a2) -> a1 && !a2),
+                                                  alphabet), Word.fromSymbols(0, 1));
+        Assert.assertEquals(DFAs.findAcceptedWord(DFAs.productView(dfa1, dfa2, alphabet, AcceptanceCombiner.EQUIV),
+                                                  alphabet), Word.epsilon());
+        Assert.assertTrue(DFAs.isEmpty(DFAs.productView(dfa1, dfa2, alphabet, AcceptanceCombiner.AND), alphabet));
+
+        Assert.assertTrue(DFAs.isEmpty(DFAs.productView(dfa1, dfa1, alphabet, AcceptanceCombiner.XOR), alphabet));
+
+        // accepts exactly the empty word
+        final CompactDFA<Integer> dfa3 = new CompactDFA<>(alphabet);
+        dfa3.addInitialState(true);
+
+        // the common sink of both DFAs is accepting if the combiner accepts two rejecting states
+        final DeterministicAcceptorTS<Long, Integer> nor =
+                DFAs.productView(dfa3, dfa3, alphabet, (a1, a2) -> !a1 && !a2);
+        Assert.assertEquals(DFAs.findAcceptedWord(nor, alphabet), Word.fromSymbols(0));
+    }
+
+    @Test
+    public void testCombineMultiple() {
+        final Random r = new Random(42);
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, 2);
+        final List<CompactDFA<Integer>> dfas = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            final CompactDFA<Integer> dfa = RandomAutomata.randomDFA(r, 5, alphabet, false);
+            // make the DFAs partial
+            dfa.removeTransition(i, i % alphabet.size(), dfa.getTransition(i, i % alphabet.size()));
+            dfas.add(dfa);
+        }
+
+        for (AcceptanceCombiner combiner : Arrays.asList(AcceptanceCombiner.AND,
+                                                         AcceptanceCombiner.OR,
+                                                         AcceptanceCombiner.XOR)) {
+            DFA<?, Integer> expected = DFAs.complete(dfas.get(0), alphabet);
+            for (int i = 1; i < dfas.size(); i++) {
+                expected = DFAs.combine(expected, DFAs.complete(dfas.get(i), alphabet), alphabet, combiner);
+            }
+
+            final CompactDFA<Integer> actual = DFAs.combine(dfas, alphabet, combiner, false);
+            final CompactDFA<Integer> minimized = DFAs.combine(dfas, alphabet, combiner, true);
+
+            Assert.assertTrue(Automata.testEquivalence(actual, expected, alphabet));
+            Assert.assertTrue(Automata.testEquivalence(minimized, expected, alphabet));
+            Assert.assertEquals(minimized.size(), DFAs.minimize(expected, alphabet).size());
+
+            final Word<Integer> accepted = DFAs.findAcceptedWord(dfas, alphabet, combiner);
+            final Word<Integer> rejected = DFAs.findRejectedWord(dfas, alphabet, combiner);
+
+            Assert.assertEquals(accepted == null, DFAs.isEmpty(expected, alphabet));
+            if (accepted != null) {
+                Assert.assertTrue(expected.accepts(accepted));
+            }
+            if (rejected != null) {
+                Assert.assertFalse(expected.accepts(rejected));
+            }
+        }
+
+        Assert.assertTrue(Automata.testEquivalence(DFAs.and(dfas, alphabet),
+                                                   DFAs.combine(dfas, alphabet, AcceptanceCombiner.AND, false),
+                                                   alphabet));
+        Assert.assertTrue(Automata.testEquivalence(DFAs.or(dfas, alphabet),
+                                                   DFAs.combine(dfas, alphabet, AcceptanceCombiner.OR, false),
+                                                   alphabet));
+
+        // the intersection of a DFA with its complement is empty, their union universal
+        final List<DFA<?, Integer>> complementary =
+                Arrays.asList(dfas.get(0), DFAs.complement(dfas.get(0), alphabet), dfas.get(1));
+        Assert.assertNull(DFAs.findAcceptedWord(complementary, alphabet, AcceptanceCombiner.AND));
+        Assert.assertNull(DFAs.findRejectedWord(complementary.subList(0, 2), alphabet, AcceptanceCombiner.OR));
+
+        Assert.assertThrows(IllegalArgumentException.class,
+                            () -> DFAs.combine(Collections.emptyList(), alphabet, AcceptanceCombiner.AND, false));
+    }
 }
@@ -15,8 +15,11 @@
  */
 package net.automatalib.util.automaton.fsa;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
@@ -32,6 +35,8 @@ import net.automatalib.automaton.fsa.impl.CompactNFA;
 import net.automatalib.automaton.fsa.impl.FastDFA;
 import net.automatalib.automaton.fsa.impl.FastNFA;
 import net.automatalib.util.automaton.Automata;
+import net.automatalib.util.automaton.copy.AutomatonCopyMethod;
+import net.automatalib.util.automaton.copy.AutomatonLowLevelCopy;
 import net.automatalib.util.automaton.random.RandomAutomata;
 import net.automatalib.util.automaton.random.TabakovVardiRandomAutomata;
 import net.automatalib.util.ts.acceptor.AcceptanceCombiner;
@@ -138,6 +143,30 @@ public class NFAsTest {
         Assert.assertEquals(NFAs.trim(nfa, alphabet).size(), 2);
     }
 
+    /*
+     * Check that the specialized reachability analysis of CompactNFAs yields the same states as the generic one.
+     */
+    @Test
+    public void testAccessibleStatesCompactNFA() {
+        final Random r = new Random(42);
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, 2);
+
+        for (int size : new int[] {3, 10, 65, 130}) {
+            final CompactNFA<Integer> compact = TabakovVardiRandomAutomata.generateNFA(r, size, 0.5f, 0.5f, alphabet);
+            final FastNFA<Integer> fast = new FastNFA<>(alphabet);
+            AutomatonLowLevelCopy.copy(AutomatonCopyMethod.STATE_BY_STATE, compact, alphabet, fast);
+
+            final Set<Integer> expectedAccessible = new HashSet<>();
+            NFAs.accessibleStates(fast, alphabet).forEach(s -> expectedAccessible.add(s.getId()));
+            final Set<Integer> expectedCoaccessible = new HashSet<>();
+            NFAs.coaccessibleStates(fast, alphabet).forEach(s -> expectedCoaccessible.add(s.getId()));
+
+            Assert.assertEquals(NFAs.accessibleStates(compact, alphabet), expectedAccessible);
+            Assert.assertEquals(NFAs.coaccessibleStates(compact, alphabet), expectedCoaccessible);
+            Assert.assertEquals(NFAs.trim(compact, alphabet).size(), NFAs.trim(fast, alphabet).size());
+        }
+    }
+
     @Test
     public void testDeterminizeDFA() {
         determinizeDFA(new CompactDFA.Creator<>());
@@ -150,6 +179,93 @@ public class NFAsTest {
         determinizeNFA(FastNFA::new);
     }
 
+    /*
+     * Check that the specialized determinization of CompactNFAs yields the same DFA as the generic subset construction.
+     */
+    @Test
+    public void testDeterminizeCompactNFA() {
+        final Random r = new Random(42);
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, 2);
+
+        for (int size : new int[] {3, 10, 63, 64, 65, 130}) {
+            final CompactNFA<Integer> compact = TabakovVardiRandomAutomata.generateNFA(r, size, 3f, 0.5f, alphabet);
+            final FastNFA<Integer> fast = new FastNFA<>(alphabet);
+            AutomatonLowLevelCopy.copy(AutomatonCopyMethod.STATE_BY_STATE, compact, alphabet, fast);
+
+            final CompactDFA<Integer> expected = NFAs.determinize(fast, alphabet, false, false);
+            final CompactDFA<Integer> actual = NFAs.determinize(compact, alphabet, false, false);
+
+            assertIdentical(actual, expected, alphabet);
+        }
+
+        // NFAs without initial states determinize to a single rejecting sink
+        final CompactNFA<Integer> empty = new CompactNFA<>(alphabet);
+        empty.addState(true);
+
+        final CompactDFA<Integer> dfa = NFAs.determinize(empty, alphabet, false, false);
+        Assert.assertEquals(dfa.size(), 1);
+        Assert.assertFalse(dfa.accepts(Word.epsilon()));
+        Assert.assertFalse(dfa.accepts(Word.fromSymbols(0, 1, 2)));
+    }
+
+    /*
+     * Check that the parallel determinization yields the same DFA as the sequential one.
+     */
+    @Test
+    public void testDeterminizeParallel() {
+        final Random r = new Random(42);
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, 2);
+        final ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            for (int size : new int[] {3, 10, 65, 130}) {
+                final CompactNFA<Integer> compact = TabakovVardiRandomAutomata.generateNFA(r, size, 3f, 0.5f, alphabet);
+                final FastNFA<Integer> fast = new FastNFA<>(alphabet);
+                AutomatonLowLevelCopy.copy(AutomatonCopyMethod.STATE_BY_STATE, compact, alphabet, fast);
+
+                final CompactDFA<Integer> expected = NFAs.determinize(compact, alphabet, false, false);
+
+                for (NFA<?, Integer> nfa : Arrays.asList(compact, fast)) {
+                    final CompactDFA<Integer> canonical =
+                            NFAs.determinizeParallel(nfa, alphabet, false, false, true, pool);
+                    assertIdentical(canonical, expected, alphabet);
+
+                    final CompactDFA<Integer> arbitrary =
+                            NFAs.determinizeParallel(nfa, alphabet, false, false, false, pool);
+                    Assert.assertEquals(arbitrary.size(), expected.size());
+                    Assert.assertTrue(Automata.testEquivalence(arbitrary, expected, alphabet));
+
+                    final CompactDFA<Integer> minimized = NFAs.determinizeParallel(nfa, alphabet);
+                    Assert.assertTrue(Automata.testEquivalence(minimized, expected, alphabet));
+                    Assert.assertEquals(minimized.size(), NFAs.determinize(nfa, alphabet).size());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        // NFAs without initial states determinize to a single rejecting sink
+        final CompactNFA<Integer> empty = new CompactNFA<>(alphabet);
+        empty.addState(true);
+
+        final CompactDFA<Integer> dfa = NFAs.determinizeParallel(empty, alphabet, false, false, true);
+        Assert.assertEquals(dfa.size(), 1);
+        Assert.assertFalse(dfa.accepts(Word.epsilon()));
+        Assert.assertFalse(dfa.accepts(Word.fromSymbols(0, 1, 2)));
+    }
+
+    private static <I> void assertIdentical(CompactDFA<I> actual, CompactDFA<I> expected, Alphabet<I> alphabet) {
+        Assert.assertEquals(actual.size(), expected.size());
+        Assert.assertEquals(actual.getIntInitialState(), expected.getIntInitialState());
+
+        for (int s = 0; s < actual.size(); s++) {
+            Assert.assertEquals(actual.isAccepting(s), expected.isAccepting(s));
+            for (int i = 0; i < alphabet.size(); i++) {
+                Assert.assertEquals(actual.getSuccessor(s, i), expected.getSuccessor(s, i));
+            }
+        }
+    }
+
     /*
      * Check that determinization is idempotent.
      */
@@ -0,0 +1,185 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.minimizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.util.automaton.Automata;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.util.partitionrefinement.PruningMode;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class IncrementalMinimizerTest {
+
+    private static final int A = 0;
+    private static final int B = 1;
+
+    @Test
+    public void testRandomModifications() {
+        final Random random = new Random(42);
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, 2);
+        final List<String> outputs = Arrays.asList("a", "a", "a", "b");
+        final CompactMealy<Integer, String> mealy = RandomAutomata.randomMealy(random, 200, alphabet, outputs, false);
+
+        final IncrementalMinimizer<Integer, ?, Void, String> minimizer =
+                new IncrementalMinimizer<>(mealy, alphabet);
+        checkMinimal(minimizer, mealy, alphabet);
+
+        for (int round = 0; round < 200; round++) {
+            final int numModifications = 1 + random.nextInt(3);
+            final int[] modified = new int[numModifications];
+
+            for (int i = 0; i < numModifications; i++) {
+                final int state;
+                if (random.nextInt(10) == 0) {
+                    state = mealy.addState();
+                    for (Integer sym : alphabet) {
+                        mealy.setTransition(state, sym, random.nextInt(mealy.size()), randomOutput(random, outputs));
+                    }
+                } else {
+                    state = random.nextInt(mealy.size());
+                    final Integer sym = alphabet.getSymbol(random.nextInt(alphabet.size()));
+                    mealy.setTransition(state, sym, random.nextInt(mealy.size()), randomOutput(random, outputs));
+                }
+                modified[i] = state;
+            }
+
+            minimizer.update(modified);
+            checkMinimal(minimizer, mealy, alphabet);
+        }
+    }
+
+    @Test
+    public void testCyclicMerge() {
+        final Alphabet<Character> alphabet = Alphabets.characters('a', 'b');
+        final CompactDFA<Character> dfa = new CompactDFA<>(alphabet);
+
+        // two loops of length 2 and 3 (with distinct exits) that are initially distinguishable
+        final int q0 = dfa.addInitialState(false);
+        final int q1 = dfa.addState(true);
+        final int p0 = dfa.addState(false);
+        final int p1 = dfa.addState(true);
+        final int p2 = dfa.addState(false);
+        final int acc = dfa.addState(true);
+        final int rej = dfa.addState(false);
+
+        dfa.setTransition(q0, A, q1);
+        dfa.setTransition(q1, A, q0);
+        dfa.setTransition(p0, A, p1);
+        dfa.setTransition(p1, A, p2);
+        dfa.setTransition(p2, A, p0);
+        dfa.setTransition(q0, B, acc);
+        dfa.setTransition(q1, B, acc);
+        dfa.setTransition(p0, B, acc);
+        dfa.setTransition(p1, B, acc);
+        dfa.setTransition(p2, B, rej);
+        dfa.setTransition(acc, A, acc);
+        dfa.setTransition(acc, B, acc);
+        dfa.setTransition(rej, A, rej);
+        dfa.setTransition(rej, B, rej);
+
+        final IncrementalMinimizer<Character, Integer, Boolean, Void> minimizer =
+                new IncrementalMinimizer<>(dfa, alphabet);
+        Assert.assertEquals(minimizer.getNumBlocks(), 7);
+        checkMinimal(minimizer, dfa, alphabet);
+
+        // turning the 3-loop into a 2-loop makes the loops equivalent, which can only be justified cyclically
+        dfa.setTransition(p1, A, p0);
+        dfa.setTransition(p2, B, acc);
+        minimizer.update(p1, p2);
+
+        Assert.assertEquals(minimizer.getBlockId(p0), minimizer.getBlockId(q0));
+        Assert.assertEquals(minimizer.getBlockId(p1), minimizer.getBlockId(q1));
+        checkMinimal(minimizer, dfa, alphabet);
+
+        // splitting them again
+        dfa.setAccepting(p1, false);
+        minimizer.update(p1);
+
+        Assert.assertNotEquals(minimizer.getBlockId(p0), minimizer.getBlockId(q0));
+        checkMinimal(minimizer, dfa, alphabet);
+    }
+
+    @Test
+    public void testPartialAutomaton() {
+        final Random random = new Random(1337);
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, 1);
+        final CompactDFA<Integer> dfa = new CompactDFA<>(alphabet);
+
+        dfa.addInitialState(false);
+        final IncrementalMinimizer<Integer, Integer, Boolean, Void> minimizer =
+                new IncrementalMinimizer<>(dfa, alphabet);
+
+        // undefined transitions, encoded as state * 2 + input
+        final List<Integer> undefined = new ArrayList<>(Arrays.asList(0, 1));
+
+        // grow a partial (but initially connected) automaton state by state
+        for (int i = 1; i < 100; i++) {
+            final int state = dfa.addState(random.nextBoolean());
+            final int slot = undefined.remove(random.nextInt(undefined.size()));
+            final int pred = slot / 2;
+            dfa.setTransition(pred, slot % 2, state);
+
+            final int input = random.nextInt(2);
+            if (random.nextBoolean()) {
+                dfa.setTransition(state, input, random.nextInt(state + 1));
+                undefined.add(state * 2 + 1 - input);
+            } else {
+                undefined.add(state * 2);
+                undefined.add(state * 2 + 1);
+            }
+
+            minimizer.update(pred);
+            Assert.assertTrue(Automata.testEquivalence(dfa, minimizer.getQuotient(), alphabet));
+            Assert.assertEquals(minimizer.getNumBlocks(),
+                                Automata.minimize(dfa, alphabet, new CompactDFA<>(alphabet)).size());
+        }
+    }
+
+    private static <I, O> void checkMinimal(IncrementalMinimizer<I, ?, Void, O> minimizer,
+                                            CompactMealy<I, O> mealy,
+                                            Alphabet<I> alphabet) {
+        final CompactMealy<I, O> expected = HopcroftMinimizer.minimizeMealy(mealy, alphabet, PruningMode.DONT_PRUNE);
+        final CompactMealy<I, O> quotient = minimizer.toQuotient(new CompactMealy.Creator<>());
+
+        Assert.assertEquals(minimizer.getNumBlocks(), expected.size());
+        Assert.assertEquals(quotient.size(), expected.size());
+        Assert.assertTrue(Automata.testEquivalence(mealy, quotient, alphabet));
+        Assert.assertTrue(Automata.testEquivalence(mealy, minimizer.getQuotient(), alphabet));
+    }
+
+    private static <I> void checkMinimal(IncrementalMinimizer<I, ?, Boolean, Void> minimizer,
+                                         CompactDFA<I> dfa,
+                                         Alphabet<I> alphabet) {
+        final CompactDFA<I> expected = HopcroftMinimizer.minimizeDFA(dfa, alphabet, PruningMode.DONT_PRUNE);
+        final CompactDFA<I> quotient = minimizer.toQuotient(new CompactDFA.Creator<>());
+
+        Assert.assertEquals(minimizer.getNumBlocks(), expected.size());
+        Assert.assertTrue(Automata.testEquivalence(dfa, quotient, alphabet));
+    }
+
+    private static String randomOutput(Random random, List<String> outputs) {
+        return outputs.get(random.nextInt(outputs.size()));
+    }
+}
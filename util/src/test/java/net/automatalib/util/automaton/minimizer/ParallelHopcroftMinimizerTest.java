@@ -0,0 +1,209 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.minimizer;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.MutableDeterministic;
+import net.automatalib.automaton.UniversalDeterministicAutomaton;
+import net.automatalib.automaton.fsa.DFA;
+import net.automatalib.automaton.fsa.MutableDFA;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.impl.UniversalCompactDet;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.automaton.transducer.MutableMealyMachine;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.util.automaton.Automata;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.util.partitionrefinement.AutomatonInitialPartitioning;
+import net.automatalib.util.partitionrefinement.PruningMode;
+import net.automatalib.util.partitionrefinement.StateSignature;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Factory;
+import org.testng.annotations.Test;
+
+public class ParallelHopcroftMinimizerTest extends AbstractMinimizationTest {
+
+    private static final int COPIES = 40;
+
+    private final PruningMode pruningMode;
+    private final ForkJoinPool pool;
+
+    @Factory(dataProvider = "pruningModes")
+    public ParallelHopcroftMinimizerTest(PruningMode pruningMode) {
+        this.pruningMode = pruningMode;
+        this.pool = new ForkJoinPool(4);
+    }
+
+    @DataProvider(name = "pruningModes")
+    public static Object[][] pruningModes() {
+        return new Object[][] {{PruningMode.PRUNE_BEFORE}, {PruningMode.PRUNE_AFTER}, {PruningMode.DONT_PRUNE}};
+    }
+
+    @AfterClass
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testRedundantDFA() {
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, 2);
+        final CompactDFA<Integer> minimal = RandomAutomata.randomDFA(new Random(42), 500, alphabet);
+        final CompactDFA<Integer> dfa = blowUp(minimal, alphabet);
+
+        final CompactDFA<Integer> sequential =
+                HopcroftMinimizer.minimizeDFA(dfa, alphabet, pruningMode, new CompactDFA.Creator<>());
+        final CompactDFA<Integer> parallel = HopcroftMinimizer.minimizeUniversal(dfa,
+                                                                                 alphabet,
+                                                                                 pruningMode,
+                                                                                 AutomatonInitialPartitioning.BY_STATE_PROPERTY,
+                                                                                 new CompactDFA.Creator<>(),
+                                                                                 pool);
+
+        Assert.assertEquals(parallel.size(), minimal.size());
+        Assert.assertTrue(Automata.testEquivalence(parallel, minimal, alphabet));
+        checkResult(sequential, parallel, alphabet);
+
+        if (pruningMode == PruningMode.PRUNE_AFTER) {
+            checkResult(HopcroftMinimizer.minimizeDFA(dfa, alphabet),
+                        HopcroftMinimizer.minimizeDFAParallel(dfa, alphabet),
+                        alphabet);
+        }
+    }
+
+    @Test
+    public void testRandomMealy() {
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, 3);
+        final CompactMealy<Integer, String> mealy =
+                RandomAutomata.randomMealy(new Random(42), 20000, alphabet, Arrays.asList("a", "a", "a", "b"), false);
+
+        final CompactMealy<Integer, String> sequential =
+                HopcroftMinimizer.minimizeMealy(mealy, alphabet, pruningMode, new CompactMealy.Creator<>());
+        final CompactMealy<Integer, String> parallel = HopcroftMinimizer.minimizeUniversal(mealy,
+                                                                                           alphabet,
+                                                                                           pruningMode,
+                                                                                           AutomatonInitialPartitioning.BY_TRANSITION_PROPERTIES,
+                                                                                           new CompactMealy.Creator<>(),
+                                                                                           pool);
+
+        checkResult(sequential, parallel, alphabet);
+
+        if (pruningMode == PruningMode.PRUNE_AFTER) {
+            checkResult(HopcroftMinimizer.minimizeMealy(mealy, alphabet),
+                        HopcroftMinimizer.minimizeMealyParallel(mealy, alphabet),
+                        alphabet);
+        }
+    }
+
+    @Override
+    protected <I> DFA<?, I> minimizeDFA(MutableDFA<?, I> dfa, Alphabet<I> alphabet) {
+        return HopcroftMinimizer.minimizePartialUniversal(dfa,
+                                                          alphabet,
+                                                          pruningMode,
+                                                          AutomatonInitialPartitioning.BY_STATE_PROPERTY,
+                                                          Boolean.FALSE,
+                                                          new CompactDFA.Creator<>(),
+                                                          pool);
+    }
+
+    @Override
+    protected <I, O> MealyMachine<?, I, ?, O> minimizeMealy(MutableMealyMachine<?, I, ?, O> mealy,
+                                                            Alphabet<I> alphabet) {
+        return HopcroftMinimizer.minimizePartialUniversal(mealy,
+                                                          alphabet,
+                                                          pruningMode,
+                                                          AutomatonInitialPartitioning.BY_TRANSITION_PROPERTIES,
+                                                          StateSignature.byTransitionProperties(new Object[alphabet.size()]),
+                                                          new CompactMealy.Creator<>(),
+                                                          pool);
+    }
+
+    @Override
+    protected <I, SP, TP> UniversalDeterministicAutomaton<?, I, ?, SP, TP> minimizeUniversal(MutableDeterministic<?, I, ?, SP, TP> automaton,
+                                                                                             Alphabet<I> alphabet) {
+        return HopcroftMinimizer.minimizePartialUniversal(automaton,
+                                                          alphabet,
+                                                          pruningMode,
+                                                          AutomatonInitialPartitioning.BY_FULL_SIGNATURE,
+                                                          StateSignature.byFullSignature(null,
+                                                                                         new Object[alphabet.size()]),
+                                                          new UniversalCompactDet.Creator<>(),
+                                                          pool);
+    }
+
+    @Override
+    protected boolean isPruned() {
+        return this.pruningMode != PruningMode.DONT_PRUNE;
+    }
+
+    @Override
+    protected boolean supportsPartial() {
+        return true;
+    }
+
+    private <I, T1, T2, SP, TP> void checkResult(UniversalDeterministicAutomaton<Integer, I, T1, SP, TP> sequential,
+                                                 UniversalDeterministicAutomaton<Integer, I, T2, SP, TP> parallel,
+                                                 Alphabet<I> alphabet) {
+        Assert.assertEquals(parallel.size(), sequential.size());
+        Assert.assertTrue(Automata.testEquivalence(sequential, parallel, alphabet));
+
+        if (pruningMode == PruningMode.PRUNE_AFTER) {
+            // the resulting automata should be identical
+            Assert.assertEquals(parallel.getInitialState(), sequential.getInitialState());
+            for (Integer s : sequential.getStates()) {
+                Assert.assertEquals(parallel.getStateProperty(s), sequential.getStateProperty(s));
+                for (I i : alphabet) {
+                    Assert.assertEquals(parallel.getSuccessor(s, i), sequential.getSuccessor(s, i));
+                    Assert.assertEquals(parallel.getTransitionProperty(parallel.getTransition(s, i)),
+                                        sequential.getTransitionProperty(sequential.getTransition(s, i)));
+                }
+            }
+        }
+    }
+
+    /*
+     * Creates a (non-minimal) DFA that consists of several interleaved copies of the given DFA.
+     */
+    private static CompactDFA<Integer> blowUp(CompactDFA<Integer> dfa, Alphabet<Integer> alphabet) {
+        final int n = dfa.size();
+        final CompactDFA<Integer> result = new CompactDFA<>(alphabet, n * COPIES);
+
+        for (int c = 0; c < COPIES; c++) {
+            for (int q = 0; q < n; q++) {
+                result.addState(dfa.isAccepting(q));
+            }
+        }
+
+        for (int c = 0; c < COPIES; c++) {
+            for (int q = 0; q < n; q++) {
+                for (int i = 0; i < alphabet.size(); i++) {
+                    final int succ = dfa.getSuccessor(q, i);
+                    final int succCopy = (c * 7 + i + q) % COPIES;
+                    result.setTransition(c * n + q, i, succCopy * n + succ);
+                }
+            }
+        }
+
+        result.setInitialState(dfa.getIntInitialState());
+        return result;
+    }
+}
@@ -17,6 +17,7 @@ package net.automatalib.util.automaton.minimizer;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.base.PropertyDictionary;
 import net.automatalib.automaton.fsa.impl.CompactDFA;
 import net.automatalib.automaton.transducer.impl.CompactMealy;
 import net.automatalib.util.automaton.Automata;
@@ -150,6 +151,58 @@ public class StateSignaturesTest {
         testMealyConfiguration(AutomatonInitialPartitioning.BY_FULL_SIGNATURE, null, 7, true);
     }
 
+    @Test
+    public void testEncodedMealyMinimization() {
+        final CompactMealy<Integer, String> mealy = getMealy();
+        final CompactMealy<Integer, String> encoded = encode(mealy, new PropertyDictionary<>());
+
+        // code-based signatures should be interchangeable with object-based ones
+        for (int s = 0; s < mealy.size(); s++) {
+            final StateSignature byCodes = StateSignature.byTransitionPropertyCodes(encoded, s);
+            final StateSignature byObjects = StateSignature.byTransitionProperties(mealy, s);
+            Assert.assertEquals(byCodes, byObjects);
+            Assert.assertEquals(byObjects, byCodes);
+            Assert.assertEquals(byCodes.hashCode(), byObjects.hashCode());
+        }
+
+        final CompactMealy<Integer, String> minimized =
+                HopcroftMinimizer.minimizePartialUniversal(encoded,
+                                                           encoded.getInputAlphabet(),
+                                                           PruningMode.PRUNE_AFTER,
+                                                           AutomatonInitialPartitioning.BY_TRANSITION_PROPERTIES,
+                                                           StateSignature.byTransitionProperties(SINK_OUTPUT,
+                                                                                                 SINK_OUTPUT,
+                                                                                                 SINK_OUTPUT,
+                                                                                                 SINK_OUTPUT),
+                                                           new CompactMealy.Creator<>());
+
+        Assert.assertEquals(minimized.size(), 7);
+        Assert.assertTrue(Automata.testEquivalence(encoded, minimized, encoded.getInputAlphabet()));
+        Assert.assertTrue(Automata.testEquivalence(mealy, minimized, mealy.getInputAlphabet()));
+    }
+
+    private static CompactMealy<Integer, String> encode(CompactMealy<Integer, String> mealy,
+                                                        PropertyDictionary<String> dictionary) {
+        final Alphabet<Integer> alphabet = mealy.getInputAlphabet();
+        final CompactMealy<Integer, String> result = new CompactMealy<>(alphabet, dictionary);
+
+        for (int s = 0; s < mealy.size(); s++) {
+            result.addState();
+        }
+
+        for (int s = 0; s < mealy.size(); s++) {
+            for (int i = 0; i < alphabet.size(); i++) {
+                final int succ = mealy.getSuccessor(s, i);
+                if (succ >= 0) {
+                    result.setTransition(s, i, succ, mealy.getTransitionProperty(s, i));
+                }
+            }
+        }
+
+        result.setInitialState(mealy.getIntInitialState());
+        return result;
+    }
+
     private void testMealyConfiguration(AutomatonInitialPartitioning ap,
                                         Object sinkClassification,
                                         int expectedSize,
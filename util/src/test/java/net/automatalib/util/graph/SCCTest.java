@@ -17,10 +17,12 @@ package net.automatalib.util.graph;
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Random;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import net.automatalib.graph.impl.CompactSimpleGraph;
+import net.automatalib.graph.impl.SimpleMapGraph;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -259,6 +261,35 @@ public class SCCTest {
         Assert.assertEquals(computedSCCs, expectedSCCs);
     }
 
+    /*
+     * Check that the specialized search for integer-based graphs yields the same SCCs as the generic one.
+     */
+    @Test
+    public void testIntAbstraction() {
+        final Random random = new Random(42);
+        final int size = 500;
+
+        final CompactSimpleGraph<Void> compact = new CompactSimpleGraph<>();
+        final SimpleMapGraph<Integer> map = new SimpleMapGraph<>();
+
+        for (int i = 0; i < size; i++) {
+            compact.addNode();
+            map.addNode(i);
+        }
+
+        for (int i = 0; i < size * 3 / 2; i++) {
+            final int src = random.nextInt(size);
+            final int tgt = random.nextInt(size);
+            compact.connect(src, tgt);
+            map.connect(src, tgt);
+        }
+
+        final Set<Set<Integer>> expectedSCCs =
+                Graphs.collectSCCs(map).stream().map(HashSet::new).collect(Collectors.toSet());
+
+        Assert.assertEquals(computeSCCs(compact), expectedSCCs);
+    }
+
     private Set<Set<Integer>> computeSCCs(CompactSimpleGraph<Void> graph) {
         return Graphs.collectSCCs(graph).stream().map(HashSet::new).collect(Collectors.toSet());
     }